@@ -258,6 +258,72 @@ public final class Citrus {
     public static final String JAVA_TEST_FILE_NAME_PATTERN = System.getProperty(JAVA_TEST_FILE_NAME_PATTERN_PROPERTY, System.getenv(JAVA_TEST_FILE_NAME_PATTERN_ENV) != null ?
             System.getenv(JAVA_TEST_FILE_NAME_PATTERN_ENV) : "/**/*Test.java,/**/*IT.java");
 
+    /** Load XML test cases from cached bean definitions without creating a Spring application context per test */
+    public static final String XML_TEST_FAST_LOADING_PROPERTY = "citrus.xml.test.fast.loading";
+    public static final String XML_TEST_FAST_LOADING_ENV = "CITRUS_XML_TEST_FAST_LOADING";
+    public static final String XML_TEST_FAST_LOADING = System.getProperty(XML_TEST_FAST_LOADING_PROPERTY, System.getenv(XML_TEST_FAST_LOADING_ENV) != null ?
+            System.getenv(XML_TEST_FAST_LOADING_ENV) : Boolean.FALSE.toString());
+
+    /** Maximum number of cached XML test case files per application context when fast loading is enabled */
+    public static final String XML_TEST_CACHE_SIZE_PROPERTY = "citrus.xml.test.cache.size";
+    public static final String XML_TEST_CACHE_SIZE_ENV = "CITRUS_XML_TEST_CACHE_SIZE";
+    public static final String XML_TEST_CACHE_SIZE = System.getProperty(XML_TEST_CACHE_SIZE_PROPERTY, System.getenv(XML_TEST_CACHE_SIZE_ENV) != null ?
+            System.getenv(XML_TEST_CACHE_SIZE_ENV) : "1000");
+
+    /** Record performance metrics for endpoints and test actions and export metrics report */
+    public static final String METRICS_ENABLED_PROPERTY = "citrus.metrics.enabled";
+    public static final String METRICS_ENABLED_ENV = "CITRUS_METRICS_ENABLED";
+    public static final String METRICS_ENABLED = System.getProperty(METRICS_ENABLED_PROPERTY, System.getenv(METRICS_ENABLED_ENV) != null ?
+            System.getenv(METRICS_ENABLED_ENV) : Boolean.FALSE.toString());
+
+    /** Maximum number of characters held in file resource content cache, zero disables the cache */
+    public static final String FILE_CACHE_SIZE_PROPERTY = "citrus.file.cache.size";
+    public static final String FILE_CACHE_SIZE_ENV = "CITRUS_FILE_CACHE_SIZE";
+    public static final String FILE_CACHE_SIZE = System.getProperty(FILE_CACHE_SIZE_PROPERTY, System.getenv(FILE_CACHE_SIZE_ENV) != null ?
+            System.getenv(FILE_CACHE_SIZE_ENV) : "33554432");
+
+    /** Number of threads in shared scheduler used by wait conditions and timer containers */
+    public static final String SCHEDULER_POOL_SIZE_PROPERTY = "citrus.scheduler.pool.size";
+    public static final String SCHEDULER_POOL_SIZE_ENV = "CITRUS_SCHEDULER_POOL_SIZE";
+    public static final String SCHEDULER_POOL_SIZE = System.getProperty(SCHEDULER_POOL_SIZE_PROPERTY, System.getenv(SCHEDULER_POOL_SIZE_ENV) != null ?
+            System.getenv(SCHEDULER_POOL_SIZE_ENV) : String.valueOf(Math.max(4, Runtime.getRuntime().availableProcessors() * 2)));
+
+    /** Run shared scheduler and condition checks on virtual threads when supported by the Java runtime */
+    public static final String SCHEDULER_VIRTUAL_THREADS_PROPERTY = "citrus.scheduler.virtual.threads";
+    public static final String SCHEDULER_VIRTUAL_THREADS_ENV = "CITRUS_SCHEDULER_VIRTUAL_THREADS";
+    public static final String SCHEDULER_VIRTUAL_THREADS = System.getProperty(SCHEDULER_VIRTUAL_THREADS_PROPERTY, System.getenv(SCHEDULER_VIRTUAL_THREADS_ENV) != null ?
+            System.getenv(SCHEDULER_VIRTUAL_THREADS_ENV) : Boolean.FALSE.toString());
+
+    /** Notify test, test action and message listeners asynchronously on a dedicated event thread */
+    public static final String LISTENER_ASYNC_DISPATCH_PROPERTY = "citrus.listener.async.dispatch";
+    public static final String LISTENER_ASYNC_DISPATCH_ENV = "CITRUS_LISTENER_ASYNC_DISPATCH";
+    public static final String LISTENER_ASYNC_DISPATCH = System.getProperty(LISTENER_ASYNC_DISPATCH_PROPERTY, System.getenv(LISTENER_ASYNC_DISPATCH_ENV) != null ?
+            System.getenv(LISTENER_ASYNC_DISPATCH_ENV) : Boolean.FALSE.toString());
+
+    /** Maximum number of pending listener events in asynchronous dispatch mode */
+    public static final String LISTENER_ASYNC_BUFFER_SIZE_PROPERTY = "citrus.listener.async.buffer.size";
+    public static final String LISTENER_ASYNC_BUFFER_SIZE_ENV = "CITRUS_LISTENER_ASYNC_BUFFER_SIZE";
+    public static final String LISTENER_ASYNC_BUFFER_SIZE = System.getProperty(LISTENER_ASYNC_BUFFER_SIZE_PROPERTY, System.getenv(LISTENER_ASYNC_BUFFER_SIZE_ENV) != null ?
+            System.getenv(LISTENER_ASYNC_BUFFER_SIZE_ENV) : "8192");
+
+    /** Maximum time in milliseconds to wait for pending listener events in asynchronous dispatch mode */
+    public static final String LISTENER_ASYNC_FLUSH_TIMEOUT_PROPERTY = "citrus.listener.async.flush.timeout";
+    public static final String LISTENER_ASYNC_FLUSH_TIMEOUT_ENV = "CITRUS_LISTENER_ASYNC_FLUSH_TIMEOUT";
+    public static final String LISTENER_ASYNC_FLUSH_TIMEOUT = System.getProperty(LISTENER_ASYNC_FLUSH_TIMEOUT_PROPERTY, System.getenv(LISTENER_ASYNC_FLUSH_TIMEOUT_ENV) != null ?
+            System.getenv(LISTENER_ASYNC_FLUSH_TIMEOUT_ENV) : "30000");
+
+    /** Maximum number of characters of message payloads written to logs, negative value disables truncation */
+    public static final String LOG_PAYLOAD_MAX_LENGTH_PROPERTY = "citrus.log.payload.max.length";
+    public static final String LOG_PAYLOAD_MAX_LENGTH_ENV = "CITRUS_LOG_PAYLOAD_MAX_LENGTH";
+    public static final String LOG_PAYLOAD_MAX_LENGTH = System.getProperty(LOG_PAYLOAD_MAX_LENGTH_PROPERTY, System.getenv(LOG_PAYLOAD_MAX_LENGTH_ENV) != null ?
+            System.getenv(LOG_PAYLOAD_MAX_LENGTH_ENV) : "-1");
+
+    /** Pretty print message payloads in logs, disable for raw log output - message content is not affected */
+    public static final String LOG_PAYLOAD_FORMATTING_PROPERTY = "citrus.log.payload.formatting";
+    public static final String LOG_PAYLOAD_FORMATTING_ENV = "CITRUS_LOG_PAYLOAD_FORMATTING";
+    public static final String LOG_PAYLOAD_FORMATTING = System.getProperty(LOG_PAYLOAD_FORMATTING_PROPERTY, System.getenv(LOG_PAYLOAD_FORMATTING_ENV) != null ?
+            System.getenv(LOG_PAYLOAD_FORMATTING_ENV) : Boolean.TRUE.toString());
+
     /** Default message type used in message validation mechanism */
     public static final String DEFAULT_MESSAGE_TYPE_PROPERTY = "citrus.default.message.type";
     public static final String DEFAULT_MESSAGE_TYPE_ENV = "CITRUS_DEFAULT_MESSAGE_TYPE";
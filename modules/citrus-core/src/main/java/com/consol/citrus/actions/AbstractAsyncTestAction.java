@@ -45,7 +45,7 @@ public abstract class AbstractAsyncTestAction extends AbstractTestAction impleme
     public final void doExecute(TestContext context) {
         CompletableFuture<Void> result = new CompletableFuture<>();
         SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
-        finished = executor.submit(() -> {
+        finished = executor.submit(context.bindVariableScope(() -> {
             try {
                 doExecuteAsync(context);
                 result.complete(null);
@@ -60,7 +60,7 @@ public abstract class AbstractAsyncTestAction extends AbstractTestAction impleme
 
                 result.completeExceptionally(e);
             }
-        });
+        }));
 
         result.whenComplete((nothing, throwable) -> {
             if (throwable != null) {
@@ -20,12 +20,18 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Test action execute SQL statements. Use this action when executing
  * database altering statements like UPDATE, INSERT, ALTER, DELETE. Statements are either
  * embedded inline in the test case description or given by an external file resource.
  * 
  * When executing SQL query statements (SELECT) see {@link ExecuteSQLQueryAction}.
+ *
+ * With a positive batch size statements are grouped and sent to the database as JDBC batch updates. By default
+ * all batches share one transaction when a transaction manager is set. Optionally each batch is committed in its own transaction.
  * 
  * @author Christoph Deppisch, Jan Szczepanski
  * @since 2006
@@ -34,6 +40,12 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
     /** boolean flag marking that possible SQL errors will be ignored */
     private boolean ignoreErrors = false;
 
+    /** Number of statements per JDBC batch, zero or negative values execute each statement separately */
+    private int batchSize = 0;
+
+    /** Commit each batch in a separate transaction instead of one transaction for all statements */
+    private boolean transactionPerBatch = false;
+
     /**
      * Default constructor.
      */
@@ -47,15 +59,8 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
             statements = createStatementsFromFileResource(context);
         }
 
-        if (getTransactionManager() != null) {
-            if (log.isDebugEnabled()) {
-                log.debug("Using transaction manager: " + getTransactionManager().getClass().getName());
-            }
-
-            TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
-            transactionTemplate.setTimeout(Integer.valueOf(context.replaceDynamicContentInString(getTransactionTimeout())));
-            transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
-            transactionTemplate.execute(status -> {
+        if (getTransactionManager() != null && !(isBatchMode() && transactionPerBatch)) {
+            createTransactionTemplate(context).execute(status -> {
                 executeStatements(context);
                 return null;
             });
@@ -69,15 +74,14 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
      * @param context
      */
     protected void executeStatements(TestContext context) {
+        if (isBatchMode()) {
+            executeBatchStatements(context);
+            return;
+        }
+
         for (String stmt : statements)  {
             try {
-                final String toExecute;
-
-                if (stmt.trim().endsWith(";")) {
-                    toExecute = context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
-                } else {
-                    toExecute = context.replaceDynamicContentInString(stmt.trim());
-                }
+                final String toExecute = prepareStatement(stmt, context);
 
                 if (log.isDebugEnabled()) {
                     log.debug("Executing SQL statement: " + toExecute);
@@ -97,6 +101,80 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         }
     }
 
+    /**
+     * Run all SQL statements as JDBC batch updates with respect to the batch size.
+     * @param context
+     */
+    protected void executeBatchStatements(TestContext context) {
+        List<String> batch = new ArrayList<>(Math.min(batchSize, statements.size()));
+        for (String stmt : statements) {
+            batch.add(prepareStatement(stmt, context));
+
+            if (batch.size() == batchSize) {
+                executeBatch(batch, context);
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            executeBatch(batch, context);
+        }
+    }
+
+    /**
+     * Sends given statements as single JDBC batch update. Uses separate transaction for the batch when
+     * transaction per batch is enabled.
+     * @param batch
+     * @param context
+     */
+    private void executeBatch(List<String> batch, TestContext context) {
+        String[] toExecute = batch.toArray(new String[batch.size()]);
+
+        try {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Executing SQL batch of %s statements", toExecute.length));
+            }
+
+            if (getTransactionManager() != null && transactionPerBatch) {
+                createTransactionTemplate(context).execute(status -> getJdbcTemplate().batchUpdate(toExecute));
+            } else {
+                getJdbcTemplate().batchUpdate(toExecute);
+            }
+
+            log.info(String.format("SQL batch execution successful (%s statements)", toExecute.length));
+        } catch (Exception e) {
+            if (ignoreErrors) {
+                log.error("Ignoring error while executing SQL batch: " + e.getLocalizedMessage());
+            } else {
+                throw new CitrusRuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Creates transaction template with transaction settings of this action.
+     * @param context
+     * @return
+     */
+    private TransactionTemplate createTransactionTemplate(TestContext context) {
+        if (log.isDebugEnabled()) {
+            log.debug("Using transaction manager: " + getTransactionManager().getClass().getName());
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
+        transactionTemplate.setTimeout(Integer.valueOf(context.replaceDynamicContentInString(getTransactionTimeout())));
+        transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
+        return transactionTemplate;
+    }
+
+    /**
+     * Checks if statements are sent as JDBC batch updates.
+     * @return
+     */
+    private boolean isBatchMode() {
+        return batchSize > 0;
+    }
+
     /**
      * Ignore errors during execution.
      * @param ignoreErrors boolean flag to set
@@ -113,4 +191,38 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
     public boolean isIgnoreErrors() {
         return ignoreErrors;
     }
+
+    /**
+     * Sets the number of statements per JDBC batch.
+     * @param batchSize
+     */
+    public ExecuteSQLAction setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Gets the batchSize.
+     * @return the batchSize
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Enables separate transaction for each batch.
+     * @param transactionPerBatch
+     */
+    public ExecuteSQLAction setTransactionPerBatch(boolean transactionPerBatch) {
+        this.transactionPerBatch = transactionPerBatch;
+        return this;
+    }
+
+    /**
+     * Gets the transactionPerBatch.
+     * @return the transactionPerBatch
+     */
+    public boolean isTransactionPerBatch() {
+        return transactionPerBatch;
+    }
 }
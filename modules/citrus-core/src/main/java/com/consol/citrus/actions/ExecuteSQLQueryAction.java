@@ -28,11 +28,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
 
 /**
  * Action executes SQL queries and offers result set validation.
@@ -40,6 +46,10 @@ import java.util.Map.Entry;
  * The class enables you to query data result sets from a
  * database. Validation will happen on column basis inside the result set.
  *
+ * In streaming mode result rows are validated one by one while reading the result set. Only values of columns
+ * that get extracted as variables are kept in memory. Streaming mode is not available in combination with script validation
+ * as validation scripts need access to all result rows.
+ *
  * @author Christoph Deppisch, Jan Zahalka
  * @since 2008
  */
@@ -53,6 +63,9 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     /** Script validation context */
     private ScriptValidationContext scriptValidationContext;
 
+    /** Validate result rows while reading the result set instead of loading all rows into memory */
+    private boolean streaming = false;
+
     /** SQL result set script validator */
     @Autowired(required = false)
     private SqlResultSetScriptValidator validator;
@@ -76,6 +89,15 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
             statements = createStatementsFromFileResource(context);
         }
 
+        if (streaming) {
+            if (scriptValidationContext == null) {
+                doExecuteStreaming(context);
+                return;
+            }
+
+            log.warn("Streaming SQL result set validation is not supported with validation scripts - loading all result rows");
+        }
+
         try {
             //for control result set validation
             final Map<String, List<String>> columnValuesMap = new HashMap<String, List<String>>();
@@ -115,27 +137,83 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         }
     }
 
-    protected void executeStatements(List<Map<String, Object>> allResultRows, Map<String, List<String>> columnValuesMap, TestContext context) {
-        for (String stmt : statements) {
-            validateSqlStatement(stmt);
-            final String toExecute;
+    /**
+     * Executes all SQL query statements validating each result row as it is read from the result set.
+     * @param context
+     */
+    private void doExecuteStreaming(TestContext context) {
+        try {
+            StreamingResultSetValidator resultSetValidator = new StreamingResultSetValidator(context);
+
+            if (getTransactionManager() != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Using transaction manager: " + getTransactionManager().getClass().getName());
+                }
 
-            if (stmt.trim().endsWith(";")) {
-                toExecute = context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
+                TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
+                transactionTemplate.setTimeout(Integer.valueOf(context.replaceDynamicContentInString(getTransactionTimeout())));
+                transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
+                transactionTemplate.execute(status -> {
+                    executeStatements(resultSetValidator, context);
+                    return null;
+                });
             } else {
-                toExecute = context.replaceDynamicContentInString(stmt.trim());
+                executeStatements(resultSetValidator, context);
             }
 
-            if (log.isDebugEnabled()) {
-                log.debug("Executing SQL query: " + toExecute);
+            resultSetValidator.finish();
+
+            if (!CollectionUtils.isEmpty(controlResultSet)) {
+                log.info("SQL query validation successful: All values OK");
             }
 
-            List<Map<String, Object>> results = getJdbcTemplate().queryForList(toExecute);
+            // fill the request test context variables (extract tag)
+            fillContextVariables(resultSetValidator.extractedValues, context);
+
+            // legacy: save all columns as variables TODO: remove in major version upgrade
+            for (Entry<String, String> column : resultSetValidator.firstRowValues.entrySet()) {
+                context.setVariable(column.getKey().toUpperCase(), column.getValue() == null ? NULL_VALUE : column.getValue());
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to execute SQL statement", e);
+            throw new CitrusRuntimeException(e);
+        }
+    }
 
-            log.info("SQL query execution successful");
+    /**
+     * Executes all SQL query statements passing result rows to given row callback handler.
+     * @param rowCallbackHandler
+     * @param context
+     */
+    protected void executeStatements(RowCallbackHandler rowCallbackHandler, TestContext context) {
+        executeQueries(query -> getJdbcTemplate().query(query, rowCallbackHandler), context);
+    }
 
+    protected void executeStatements(List<Map<String, Object>> allResultRows, Map<String, List<String>> columnValuesMap, TestContext context) {
+        executeQueries(query -> {
+            List<Map<String, Object>> results = getJdbcTemplate().queryForList(query);
             allResultRows.addAll(results);
             fillColumnValuesMap(results, columnValuesMap);
+        }, context);
+    }
+
+    /**
+     * Validates and prepares all SQL query statements and passes them to given query executor.
+     * @param queryExecutor
+     * @param context
+     */
+    private void executeQueries(Consumer<String> queryExecutor, TestContext context) {
+        for (String stmt : statements) {
+            validateSqlStatement(stmt);
+            final String toExecute = prepareStatement(stmt, context);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Executing SQL query: " + toExecute);
+            }
+
+            queryExecutor.accept(toExecute);
+
+            log.info("SQL query execution successful");
         }
     }
 
@@ -175,17 +253,26 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
                     columnValuesMap.put(columnName, new ArrayList<String>());
                 }
 
-                if (column.getValue() instanceof byte[]) {
-                    columnValue = Base64.encodeBase64String((byte[]) column.getValue());
-                } else {
-                    columnValue = column.getValue() == null ? null : column.getValue().toString();
-                }
+                columnValue = toColumnValue(column.getValue());
 
                 columnValuesMap.get(columnName).add((columnValue));
             }
         }
     }
 
+    /**
+     * Converts column value from result set to its string representation.
+     * @param value
+     * @return
+     */
+    private static String toColumnValue(Object value) {
+        if (value instanceof byte[]) {
+            return Base64.encodeBase64String((byte[]) value);
+        } else {
+            return value == null ? null : value.toString();
+        }
+    }
+
     /**
      * Gets the script validator implementation either autowired from application context
      * or if not set here a default implementation.
@@ -344,6 +431,121 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         return controlValue.equalsIgnoreCase(NULL_VALUE) || controlValue.length() == 0;
     }
 
+    /**
+     * Row callback handler validating control values row by row. Keeps the values of the first row, the values
+     * of columns to extract as variables and the number of values per column.
+     */
+    private class StreamingResultSetValidator implements RowCallbackHandler {
+        private final TestContext context;
+
+        /** Control values with dynamic content already resolved */
+        private final Map<String, List<String>> controlValues = new HashMap<>();
+
+        /** Number of values per result column */
+        private final Map<String, Integer> columnValueCounts = new HashMap<>();
+
+        /** Values of first result row used as legacy variables */
+        private final Map<String, String> firstRowValues = new LinkedHashMap<>();
+
+        /** Values of columns to extract as variables */
+        private final Map<String, List<String>> extractedValues = new HashMap<>();
+
+        /** Column names of current result set */
+        private ResultSet currentResultSet;
+        private String[] columnNames;
+
+        StreamingResultSetValidator(TestContext context) {
+            this.context = context;
+
+            for (Entry<String, List<String>> controlEntry : controlResultSet.entrySet()) {
+                List<String> resolved = new ArrayList<>(controlEntry.getValue().size());
+                for (String controlValue : controlEntry.getValue()) {
+                    resolved.add(context.replaceDynamicContentInString(controlValue));
+                }
+                controlValues.put(controlEntry.getKey(), resolved);
+            }
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            if (resultSet != currentResultSet) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                columnNames = new String[metaData.getColumnCount()];
+                for (int i = 0; i < columnNames.length; i++) {
+                    columnNames[i] = JdbcUtils.lookupColumnName(metaData, i + 1);
+                }
+                currentResultSet = resultSet;
+            }
+
+            Map<String, String> row = new HashMap<>(columnNames.length);
+            for (int i = 0; i < columnNames.length; i++) {
+                String columnName = columnNames[i];
+                String columnValue = toColumnValue(JdbcUtils.getResultSetValue(resultSet, i + 1));
+                row.put(columnName, columnValue);
+
+                if (!columnValueCounts.containsKey(columnName)) {
+                    firstRowValues.put(columnName, columnValue);
+                }
+
+                columnValueCounts.merge(columnName, 1, Integer::sum);
+
+                for (String extractColumn : extractVariables.keySet()) {
+                    if (columnName.equals(extractColumn.toLowerCase()) || columnName.equals(extractColumn.toUpperCase())) {
+                        extractedValues.computeIfAbsent(columnName, key -> new ArrayList<>()).add(columnValue);
+                    }
+                }
+            }
+
+            for (Entry<String, List<String>> controlEntry : controlValues.entrySet()) {
+                String columnName = resolveColumnName(controlEntry.getKey(), row.keySet());
+                if (columnName == null) {
+                    continue;
+                }
+
+                int rowIndex = columnValueCounts.get(columnName) - 1;
+                if (rowIndex < controlEntry.getValue().size()) {
+                    validateSingleValue(columnName, controlEntry.getValue().get(rowIndex), row.get(columnName), context);
+                }
+            }
+        }
+
+        /**
+         * Verifies that all control columns are present with expected number of rows.
+         */
+        void finish() {
+            for (Entry<String, List<String>> controlEntry : controlValues.entrySet()) {
+                String columnName = resolveColumnName(controlEntry.getKey(), columnValueCounts.keySet());
+                if (columnName == null) {
+                    throw new CitrusRuntimeException("Could not find column '" + controlEntry.getKey() + "' in SQL result set");
+                }
+
+                int rowCount = columnValueCounts.get(columnName);
+                if (rowCount != controlEntry.getValue().size()) {
+                    throw new CitrusRuntimeException("Validation failed for column: '" +  columnName + "' " +
+                            "expected rows count: " + controlEntry.getValue().size() + " but was " + rowCount);
+                }
+            }
+        }
+
+        /**
+         * Finds result column name for given control column name preferring lower case and upper case names.
+         * @param columnName
+         * @param resultColumns
+         * @return
+         */
+        private String resolveColumnName(String columnName, Set<String> resultColumns) {
+            if (resultColumns.contains(columnName.toLowerCase())) {
+                return columnName.toLowerCase();
+            } else if (resultColumns.contains(columnName.toUpperCase())) {
+                return columnName.toUpperCase();
+            } else if (resultColumns.contains(columnName)) {
+                return columnName;
+            }
+
+            return null;
+        }
+    }
+
     /**
      * Set expected control result set. Keys represent the column names, values
      * the expected values.
@@ -416,4 +618,21 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     public ScriptValidationContext getScriptValidationContext() {
         return scriptValidationContext;
     }
+
+    /**
+     * Enables streaming result set validation.
+     * @param streaming
+     */
+    public ExecuteSQLQueryAction setStreaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
+    /**
+     * Gets the streaming.
+     * @return the streaming
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
 }
@@ -23,6 +23,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageSelectorBuilder;
 import com.consol.citrus.messaging.Consumer;
+import com.consol.citrus.messaging.PurgeableConsumer;
 import com.consol.citrus.messaging.SelectiveConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +37,9 @@ import java.util.*;
 /**
  * Action purges all messages from a message endpoint. Action receives
  * a list of endpoint objects or a list of endpoint names that are resolved dynamically at runtime.
+ *
+ * Endpoints providing a {@link PurgeableConsumer} are purged with the consumer's native bulk operation. All other
+ * endpoints are purged by receiving messages one by one until no more messages are available.
  * 
  * @author Christoph Deppisch
  * @since 2.4
@@ -101,12 +105,24 @@ public class PurgeEndpointAction extends AbstractTestAction implements BeanFacto
             log.debug("Try to purge message endpoint " + endpoint.getName());
         }
 
-        int messagesPurged = 0;
         Consumer messageConsumer = endpoint.createConsumer();
+        String selector = MessageSelectorBuilder.build(messageSelector, messageSelectorMap, context);
+
+        if (messageConsumer instanceof PurgeableConsumer) {
+            long messagesPurged = ((PurgeableConsumer) messageConsumer).purge(selector,
+                    receiveTimeout >= 0 ? receiveTimeout : endpoint.getEndpointConfiguration().getTimeout(), context);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Purged " + messagesPurged + " messages from endpoint");
+            }
+
+            return;
+        }
+
+        int messagesPurged = 0;
         Message message;
         do {
             try {
-                String selector = MessageSelectorBuilder.build(messageSelector, messageSelectorMap, context);
                 if (StringUtils.hasText(selector) && messageConsumer instanceof SelectiveConsumer) {
                     message = (receiveTimeout >= 0) ? ((SelectiveConsumer) messageConsumer).receive(selector, context, receiveTimeout) : ((SelectiveConsumer) messageConsumer).receive(selector, context);
                 } else {
@@ -23,6 +23,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.*;
 import com.consol.citrus.messaging.Consumer;
 import com.consol.citrus.messaging.SelectiveConsumer;
+import com.consol.citrus.metrics.PerformanceMetrics;
 import com.consol.citrus.validation.DefaultMessageHeaderValidator;
 import com.consol.citrus.validation.MessageValidator;
 import com.consol.citrus.validation.builder.MessageContentBuilder;
@@ -113,6 +114,10 @@ public class ReceiveMessageAction extends AbstractTestAction {
             Message receivedMessage;
             String selector = MessageSelectorBuilder.build(messageSelector, messageSelectorMap, context);
 
+            PerformanceMetrics metrics = context.getPerformanceMetrics();
+            boolean recordMetrics = metrics != null && metrics.isEnabled();
+            long startNanos = recordMetrics ? System.nanoTime() : 0L;
+
             //receive message either selected or plain with message receiver
             if (StringUtils.hasText(selector)) {
                 receivedMessage = receiveSelected(context, selector);
@@ -124,8 +129,19 @@ public class ReceiveMessageAction extends AbstractTestAction {
                 throw new CitrusRuntimeException("Failed to receive message - message is not available");
             }
 
+            String endpointName = recordMetrics ? getOrCreateEndpoint(context).getName() : null;
+            if (recordMetrics) {
+                metrics.recordTime(PerformanceMetrics.ENDPOINT, endpointName, PerformanceMetrics.RECEIVE_WAIT, startNanos);
+                metrics.recordPayloadSize(PerformanceMetrics.ENDPOINT, endpointName, PerformanceMetrics.RECEIVED_PAYLOAD_SIZE, receivedMessage);
+                startNanos = System.nanoTime();
+            }
+
             //validate the message
             validateMessage(receivedMessage, context);
+
+            if (recordMetrics) {
+                metrics.recordTime(PerformanceMetrics.ENDPOINT, endpointName, PerformanceMetrics.VALIDATION_TIME, startNanos);
+            }
         } catch (IOException e) {
             throw new CitrusRuntimeException(e);
         }
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.actions;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.MessageDirection;
+import com.consol.citrus.message.replay.MessageRecord;
+import com.consol.citrus.message.replay.MessageRecordReader;
+import com.consol.citrus.messaging.Producer;
+import com.consol.citrus.messaging.ReplyConsumer;
+import com.consol.citrus.util.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Action streams messages from a message record file through a message endpoint. Messages are sent at their original
+ * rate, at a scaled rate or as fast as possible. Record files are memory mapped so large recordings do not have to fit
+ * into heap memory.
+ *
+ * By default only outbound messages are replayed as recorded inbound messages usually are replies to those requests.
+ * Replies of synchronous endpoints are consumed and discarded by default.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class ReplayMessagesAction extends AbstractTestAction {
+
+    /** Message endpoint instance */
+    private Endpoint endpoint;
+
+    /** Message endpoint uri - either bean name or dynamic uri */
+    private String endpointUri;
+
+    /** Message record file path */
+    private String recordFile;
+
+    /** Replay only messages of given direction, unbound replays all messages including recorded replies */
+    private MessageDirection direction = MessageDirection.OUTBOUND;
+
+    /** Replay rate mode */
+    private ReplayRate rate = ReplayRate.ORIGINAL;
+
+    /** Speed factor used with scaled replay rate */
+    private double speed = 1.0D;
+
+    /** Consume and discard replies of synchronous endpoints */
+    private boolean consumeReplies = true;
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(ReplayMessagesAction.class);
+
+    /**
+     * Replay rate modes.
+     */
+    public enum ReplayRate {
+        ORIGINAL,
+        SCALED,
+        MAXIMUM
+    }
+
+    /**
+     * Default constructor.
+     */
+    public ReplayMessagesAction() {
+        setName("replay");
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        if (!StringUtils.hasText(recordFile)) {
+            throw new CitrusRuntimeException("Missing message record file for replay");
+        }
+
+        if (rate == ReplayRate.SCALED && speed <= 0) {
+            throw new CitrusRuntimeException("Invalid replay speed factor: " + speed);
+        }
+
+        Endpoint replayEndpoint = getOrCreateEndpoint(context);
+        Producer producer = replayEndpoint.createProducer();
+        long replyTimeout = replayEndpoint.getEndpointConfiguration().getTimeout();
+
+        long messageCount = 0;
+        long start = System.nanoTime();
+        long firstTimestamp = -1L;
+
+        try (MessageRecordReader reader = new MessageRecordReader(resolveRecordFile(context))) {
+            log.info("Replaying messages from file: " + recordFile);
+
+            while (reader.hasNext()) {
+                MessageRecord record = reader.next();
+                if (direction != MessageDirection.UNBOUND && record.getDirection() != direction) {
+                    continue;
+                }
+
+                if (firstTimestamp < 0) {
+                    firstTimestamp = record.getTimestamp();
+                }
+
+                if (rate != ReplayRate.MAXIMUM) {
+                    awaitSchedule(start + (long) ((record.getTimestamp() - firstTimestamp) / getSpeedFactor()));
+                }
+
+                producer.send(record.getMessage(), context);
+
+                if (consumeReplies && producer instanceof ReplyConsumer) {
+                    ((ReplyConsumer) producer).receive(context, replyTimeout);
+                }
+
+                messageCount++;
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read message record file: " + recordFile, e);
+        }
+
+        log.info(String.format("Replayed %s messages in %s ms", messageCount, (System.nanoTime() - start) / 1000000L));
+    }
+
+    /**
+     * Resolves record file as file resource supporting classpath and file system paths.
+     * @param context
+     * @return
+     * @throws IOException
+     */
+    private File resolveRecordFile(TestContext context) throws IOException {
+        Resource resource = FileUtils.getFileResource(recordFile, context);
+        return resource.exists() ? resource.getFile() : new File(context.replaceDynamicContentInString(recordFile));
+    }
+
+    /**
+     * Waits until given scheduled time in nanoseconds is reached.
+     * @param scheduledTime
+     */
+    private void awaitSchedule(long scheduledTime) {
+        long remaining;
+        while ((remaining = scheduledTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CitrusRuntimeException("Interrupted during message replay");
+            }
+        }
+    }
+
+    /**
+     * Gets the effective speed factor for current replay rate.
+     * @return
+     */
+    private double getSpeedFactor() {
+        return rate == ReplayRate.SCALED ? speed : 1.0D;
+    }
+
+    /**
+     * Creates or gets the message endpoint instance.
+     * @return the message endpoint
+     */
+    public Endpoint getOrCreateEndpoint(TestContext context) {
+        if (endpoint != null) {
+            return endpoint;
+        } else if (StringUtils.hasText(endpointUri)) {
+            return context.getEndpointFactory().create(endpointUri, context);
+        } else {
+            throw new CitrusRuntimeException("Neither endpoint nor endpoint uri is set properly!");
+        }
+    }
+
+    /**
+     * Gets the message endpoint.
+     * @return
+     */
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Sets the message endpoint.
+     * @param endpoint
+     * @return
+     */
+    public ReplayMessagesAction setEndpoint(Endpoint endpoint) {
+        this.endpoint = endpoint;
+        return this;
+    }
+
+    /**
+     * Gets the endpoint uri.
+     * @return
+     */
+    public String getEndpointUri() {
+        return endpointUri;
+    }
+
+    /**
+     * Sets the endpoint uri.
+     * @param endpointUri
+     * @return
+     */
+    public ReplayMessagesAction setEndpointUri(String endpointUri) {
+        this.endpointUri = endpointUri;
+        return this;
+    }
+
+    /**
+     * Gets the message record file.
+     * @return
+     */
+    public String getRecordFile() {
+        return recordFile;
+    }
+
+    /**
+     * Sets the message record file.
+     * @param recordFile
+     * @return
+     */
+    public ReplayMessagesAction setRecordFile(String recordFile) {
+        this.recordFile = recordFile;
+        return this;
+    }
+
+    /**
+     * Gets the replayed message direction.
+     * @return
+     */
+    public MessageDirection getDirection() {
+        return direction;
+    }
+
+    /**
+     * Sets the replayed message direction.
+     * @param direction
+     * @return
+     */
+    public ReplayMessagesAction setDirection(MessageDirection direction) {
+        this.direction = direction;
+        return this;
+    }
+
+    /**
+     * Gets the replay rate.
+     * @return
+     */
+    public ReplayRate getRate() {
+        return rate;
+    }
+
+    /**
+     * Sets the replay rate.
+     * @param rate
+     * @return
+     */
+    public ReplayMessagesAction setRate(ReplayRate rate) {
+        this.rate = rate;
+        return this;
+    }
+
+    /**
+     * Gets the replay speed factor.
+     * @return
+     */
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Sets the replay speed factor used with scaled replay rate.
+     * @param speed
+     * @return
+     */
+    public ReplayMessagesAction setSpeed(double speed) {
+        this.speed = speed;
+        return this;
+    }
+
+    /**
+     * Gets the consume replies flag.
+     * @return
+     */
+    public boolean isConsumeReplies() {
+        return consumeReplies;
+    }
+
+    /**
+     * Sets the consume replies flag.
+     * @param consumeReplies
+     * @return
+     */
+    public ReplayMessagesAction setConsumeReplies(boolean consumeReplies) {
+        this.consumeReplies = consumeReplies;
+        return this;
+    }
+}
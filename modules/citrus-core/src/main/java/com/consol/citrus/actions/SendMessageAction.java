@@ -23,6 +23,7 @@ import com.consol.citrus.endpoint.Endpoint;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageDirection;
+import com.consol.citrus.metrics.PerformanceMetrics;
 import com.consol.citrus.validation.builder.MessageContentBuilder;
 import com.consol.citrus.validation.builder.PayloadTemplateMessageBuilder;
 import com.consol.citrus.variable.VariableExtractor;
@@ -107,9 +108,9 @@ public class SendMessageAction extends AbstractTestAction implements Completable
             log.debug("Forking message sending action ...");
 
             SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
-            taskExecutor.execute(() -> {
+            taskExecutor.execute(context.bindVariableScope(() -> {
                 try {
-                    messageEndpoint.createProducer().send(message, context);
+                    send(messageEndpoint, message, context);
                 } catch (Exception e) {
                     if (e instanceof CitrusRuntimeException) {
                         context.addException((CitrusRuntimeException) e);
@@ -119,16 +120,37 @@ public class SendMessageAction extends AbstractTestAction implements Completable
                 } finally {
                     finished.complete(null);
                 }
-            });
+            }));
         } else {
             try {
-                messageEndpoint.createProducer().send(message, context);
+                send(messageEndpoint, message, context);
             } finally {
                 finished.complete(null);
             }
         }
     }
     
+    /**
+     * Sends message with endpoint producer and records send latency and payload size metrics for the endpoint when
+     * performance metrics are enabled.
+     * @param messageEndpoint
+     * @param message
+     * @param context
+     */
+    private void send(Endpoint messageEndpoint, Message message, TestContext context) {
+        PerformanceMetrics metrics = context.getPerformanceMetrics();
+        if (metrics == null || !metrics.isEnabled()) {
+            messageEndpoint.createProducer().send(message, context);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        messageEndpoint.createProducer().send(message, context);
+
+        metrics.recordTime(PerformanceMetrics.ENDPOINT, messageEndpoint.getName(), PerformanceMetrics.SEND_LATENCY, startNanos);
+        metrics.recordPayloadSize(PerformanceMetrics.ENDPOINT, messageEndpoint.getName(), PerformanceMetrics.SENT_PAYLOAD_SIZE, message);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -21,10 +21,12 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
+import com.consol.citrus.messaging.PurgeableConsumer;
 import com.consol.citrus.message.Message;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.core.MessageSelector;
 import org.springframework.messaging.PollableChannel;
 import org.springframework.integration.support.channel.BeanFactoryChannelResolver;
@@ -34,7 +36,7 @@ import org.springframework.util.StringUtils;
  * @author Christoph Deppisch
  * @since 1.4
  */
-public class ChannelConsumer extends AbstractSelectiveMessageConsumer {
+public class ChannelConsumer extends AbstractSelectiveMessageConsumer implements PurgeableConsumer {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(ChannelConsumer.class);
@@ -102,6 +104,38 @@ public class ChannelConsumer extends AbstractSelectiveMessageConsumer {
         return message;
     }
 
+    @Override
+    public long purge(String selector, long timeout, TestContext context) {
+        MessageChannel destinationChannel = getDestinationChannel(context);
+
+        long purged;
+        if (StringUtils.hasText(selector)) {
+            if (!(destinationChannel instanceof MessageSelectingQueueChannel)) {
+                throw new CitrusRuntimeException("Message channel type '" + destinationChannel.getClass() +
+                        "' does not support selective purge operations.");
+            }
+
+            MessageSelector messageSelector = new DispatchingMessageSelector(selector, endpointConfiguration.getBeanFactory(), context);
+            purged = ((MessageSelectingQueueChannel) destinationChannel).clear(messageSelector).size();
+        } else if (destinationChannel instanceof QueueChannel) {
+            purged = ((QueueChannel) destinationChannel).clear().size();
+        } else if (destinationChannel instanceof PollableChannel) {
+            purged = 0;
+            while (((PollableChannel) destinationChannel).receive(timeout) != null) {
+                purged++;
+            }
+        } else {
+            throw new CitrusRuntimeException("Invalid destination channel type " + destinationChannel.getClass().getName() +
+                    " - must be of type PollableChannel");
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Purged " + purged + " messages from channel: " + getDestinationChannelName());
+        }
+
+        return purged;
+    }
+
     /**
      * Get the destination channel depending on settings in this message sender.
      * Either a direct channel object is set or a channel name which will be resolved
@@ -22,6 +22,8 @@ import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.core.MessageSelector;
 import org.springframework.util.Assert;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
@@ -37,6 +39,10 @@ public class MessageSelectingQueueChannel extends QueueChannel {
     /** Blocking in memory message store */
     private final BlockingQueue<Message<?>> queue;
     
+    /** Monitor notified on each new message so selective receive operations do not need to sleep */
+    private final Object arrivalMonitor = new Object();
+    private long arrivals = 0L;
+
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500;
 
@@ -88,7 +94,7 @@ public class MessageSelectingQueueChannel extends QueueChannel {
     
     /**
      * Consume messages on the channel via message selector. Timeout forces several retries
-     * with polling interval setting.
+     * with polling interval setting. Retries are triggered early as soon as new messages arrive on the channel.
      * 
      * @param selector
      * @param timeout
@@ -96,27 +102,105 @@ public class MessageSelectingQueueChannel extends QueueChannel {
      */
     public Message<?> receive(MessageSelector selector, long timeout) {
         long timeLeft = timeout;
+        long arrivalCount = getArrivalCount();
         Message<?> message = receive(selector);
 
         while (message == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
-            
+            long waitTime = timeLeft > pollingInterval ? pollingInterval : timeLeft;
+
             if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("No message received with message selector - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
+                RETRY_LOG.debug("No message received with message selector - retrying in " + waitTime + "ms");
             }
-            
+
+            long waitStart = System.currentTimeMillis();
             try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
+                if (waitForArrival(arrivalCount, waitTime)) {
+                    timeLeft -= System.currentTimeMillis() - waitStart;
+                } else {
+                    timeLeft -= pollingInterval;
+                }
             } catch (InterruptedException e) {
                 RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+                timeLeft -= pollingInterval;
             }
-            
+
+            arrivalCount = getArrivalCount();
             message = receive(selector);
         }
         
         return message;
     }
 
+    /**
+     * Removes all messages accepted by given message selector from the channel in a single pass.
+     *
+     * @param selector
+     * @return list of removed messages
+     */
+    public List<Message<?>> clear(MessageSelector selector) {
+        List<Message<?>> removed = new ArrayList<>();
+        this.queue.removeIf(message -> {
+            if (selector.accept(message)) {
+                removed.add(message);
+                return true;
+            }
+
+            return false;
+        });
+
+        return removed;
+    }
+
+    @Override
+    protected boolean doSend(Message<?> message, long timeout) {
+        boolean sent = super.doSend(message, timeout);
+
+        if (sent) {
+            synchronized (arrivalMonitor) {
+                arrivals++;
+                arrivalMonitor.notifyAll();
+            }
+        }
+
+        return sent;
+    }
+
+    /**
+     * Waits for new messages to arrive on this channel. Returns true when new messages have arrived since
+     * given arrival count was read, false when wait time has elapsed without any new message.
+     *
+     * @param arrivalCount
+     * @param waitTime
+     * @return
+     * @throws InterruptedException
+     */
+    private boolean waitForArrival(long arrivalCount, long waitTime) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + waitTime;
+
+        synchronized (arrivalMonitor) {
+            while (arrivals == arrivalCount) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+
+                arrivalMonitor.wait(remaining);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the number of messages that have arrived on this channel so far.
+     * @return
+     */
+    private long getArrivalCount() {
+        synchronized (arrivalMonitor) {
+            return arrivals;
+        }
+    }
+
     /**
      * Gets the pollingInterval.
      * @return the pollingInterval the pollingInterval to get.
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.common;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
+import org.springframework.beans.support.ResourceEditorRegistrar;
+import org.springframework.context.*;
+import org.springframework.context.annotation.CommonAnnotationBeanPostProcessor;
+import org.springframework.context.annotation.ContextAnnotationAutowireCandidateResolver;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.expression.StandardBeanExpressionResolver;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Cache of parsed XML test case bean definitions. Test case XML files are parsed once with the Citrus namespace handlers
+ * and the resulting bean definitions are reused for each test load. Loading a test from cached definitions creates a
+ * lightweight bean factory as child of the Citrus application context instead of bootstrapping a complete Spring application
+ * context per test. Test files can be pre-parsed in parallel before the test suite starts.
+ *
+ * Definitions are cached per parent application context and dropped once the application context is closed. The number of cached
+ * test files per application context is limited, least recently used definitions get evicted first.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public final class XmlTestDefinitionCache {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(XmlTestDefinitionCache.class);
+
+    /** Shared cache instance */
+    private static final XmlTestDefinitionCache INSTANCE = new XmlTestDefinitionCache(Integer.valueOf(Citrus.XML_TEST_CACHE_SIZE));
+
+    /** Maximum number of cached test files per application context */
+    private final int maxSize;
+
+    /** Parsed test definitions by parent application context and context file */
+    private final Map<ApplicationContext, Map<String, Future<TestDefinitions>>> definitions = new WeakHashMap<>();
+
+    /**
+     * Constructor using maximum number of cached test files per application context.
+     * @param maxSize
+     */
+    XmlTestDefinitionCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the shared cache instance.
+     * @return
+     */
+    public static XmlTestDefinitionCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates new bean factory holding the parsed test definitions of given context file. Bean factory uses the given
+     * application context as parent. Returns null in case the test definitions need a complete Spring application context
+     * because of custom bean (factory) post processors defined in the test file.
+     * @param contextFile
+     * @param parentContext
+     * @return
+     */
+    public DefaultListableBeanFactory createBeanFactory(String contextFile, ApplicationContext parentContext) {
+        TestDefinitions testDefinitions = getDefinitions(contextFile, parentContext);
+
+        if (testDefinitions.requiresApplicationContext) {
+            return null;
+        }
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory(parentContext);
+        beanFactory.setBeanClassLoader(parentContext.getClassLoader());
+        beanFactory.setBeanExpressionResolver(new StandardBeanExpressionResolver(parentContext.getClassLoader()));
+        beanFactory.setAutowireCandidateResolver(new ContextAnnotationAutowireCandidateResolver());
+        beanFactory.addPropertyEditorRegistrar(new ResourceEditorRegistrar(parentContext, parentContext.getEnvironment()));
+
+        AutowiredAnnotationBeanPostProcessor autowiredProcessor = new AutowiredAnnotationBeanPostProcessor();
+        autowiredProcessor.setBeanFactory(beanFactory);
+        beanFactory.addBeanPostProcessor(autowiredProcessor);
+
+        CommonAnnotationBeanPostProcessor commonProcessor = new CommonAnnotationBeanPostProcessor();
+        commonProcessor.setBeanFactory(beanFactory);
+        beanFactory.addBeanPostProcessor(commonProcessor);
+
+        for (String beanName : testDefinitions.registry.getBeanDefinitionNames()) {
+            BeanDefinition beanDefinition = testDefinitions.registry.getBeanDefinition(beanName);
+            if (beanDefinition instanceof AbstractBeanDefinition) {
+                beanDefinition = ((AbstractBeanDefinition) beanDefinition).cloneBeanDefinition();
+            }
+
+            beanFactory.registerBeanDefinition(beanName, beanDefinition);
+
+            for (String alias : testDefinitions.registry.getAliases(beanName)) {
+                beanFactory.registerAlias(beanName, alias);
+            }
+        }
+
+        return beanFactory;
+    }
+
+    /**
+     * Parses all given context files in parallel and caches the test definitions. Parsing errors are not raised here
+     * but reported later on when the test is actually loaded.
+     * @param contextFiles
+     * @param parentContext
+     */
+    public void preParse(Collection<String> contextFiles, ApplicationContext parentContext) {
+        if (contextFiles.isEmpty()) {
+            return;
+        }
+
+        int threads = Math.min(contextFiles.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "CitrusXmlTestParser");
+            thread.setDaemon(true);
+            thread.setContextClassLoader(parentContext.getClassLoader());
+            return thread;
+        });
+
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (String contextFile : contextFiles) {
+                results.add(executor.submit(() -> getDefinitions(contextFile, parentContext)));
+            }
+
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException e) {
+                    log.debug("Failed to pre-parse XML test case", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while pre-parsing XML test cases", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Pre-parsed %s XML test case files", contextFiles.size()));
+        }
+    }
+
+    /**
+     * Gets parsed test definitions for given context file. Parses the context file when not cached yet. Concurrent
+     * requests for the same context file wait for the first parse operation to complete.
+     * @param contextFile
+     * @param parentContext
+     * @return
+     */
+    private TestDefinitions getDefinitions(String contextFile, ApplicationContext parentContext) {
+        String cacheKey = getCacheKey(contextFile, parentContext);
+
+        Future<TestDefinitions> cached;
+        FutureTask<TestDefinitions> parseTask = null;
+        synchronized (definitions) {
+            Map<String, Future<TestDefinitions>> contextDefinitions = getContextDefinitions(parentContext);
+            cached = contextDefinitions.get(cacheKey);
+            if (cached == null) {
+                parseTask = new FutureTask<>(() -> parse(contextFile, parentContext));
+                contextDefinitions.put(cacheKey, parseTask);
+                cached = parseTask;
+            }
+        }
+
+        if (parseTask != null) {
+            parseTask.run();
+        }
+
+        try {
+            return cached.get();
+        } catch (ExecutionException e) {
+            synchronized (definitions) {
+                Map<String, Future<TestDefinitions>> contextDefinitions = definitions.get(parentContext);
+                if (contextDefinitions != null) {
+                    contextDefinitions.remove(cacheKey, cached);
+                }
+            }
+
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new CitrusRuntimeException("Failed to parse XML test case: " + contextFile, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while parsing XML test case: " + contextFile, e);
+        }
+    }
+
+    /**
+     * Gets cached test definitions of given application context. Creates new bounded cache for the application context if
+     * not present yet and removes the cache when the application context is closed. Callers must hold the lock on the
+     * definitions map.
+     * @param parentContext
+     * @return
+     */
+    private Map<String, Future<TestDefinitions>> getContextDefinitions(ApplicationContext parentContext) {
+        Map<String, Future<TestDefinitions>> contextDefinitions = definitions.get(parentContext);
+
+        if (contextDefinitions == null) {
+            contextDefinitions = new LinkedHashMap<String, Future<TestDefinitions>>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Future<TestDefinitions>> eldest) {
+                    return size() > maxSize;
+                }
+            };
+            definitions.put(parentContext, contextDefinitions);
+
+            if (parentContext instanceof ConfigurableApplicationContext) {
+                ((ConfigurableApplicationContext) parentContext).addApplicationListener((ApplicationListener<ContextClosedEvent>) event -> {
+                    if (event.getApplicationContext() == parentContext) {
+                        synchronized (definitions) {
+                            definitions.remove(parentContext);
+                        }
+                    }
+                });
+            }
+        }
+
+        return contextDefinitions;
+    }
+
+    /**
+     * Builds cache key for context file using the active profiles of the parent application context.
+     * @param contextFile
+     * @param parentContext
+     * @return
+     */
+    private static String getCacheKey(String contextFile, ApplicationContext parentContext) {
+        return Arrays.toString(parentContext.getEnvironment().getActiveProfiles()) + contextFile;
+    }
+
+    /**
+     * Parses context file with Citrus namespace handlers into bean definitions.
+     * @param contextFile
+     * @param parentContext
+     * @return
+     */
+    private TestDefinitions parse(String contextFile, ApplicationContext parentContext) {
+        DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+        registry.setBeanClassLoader(parentContext.getClassLoader());
+
+        XmlBeanDefinitionReader reader = new XmlBeanDefinitionReader(registry);
+        reader.setEnvironment(parentContext.getEnvironment());
+        reader.setResourceLoader(new PathMatchingResourcePatternResolver(parentContext.getClassLoader()));
+        reader.setBeanClassLoader(parentContext.getClassLoader());
+        reader.loadBeanDefinitions(contextFile);
+
+        boolean requiresApplicationContext = registry.getBeanNamesForType(BeanFactoryPostProcessor.class, true, false).length > 0 ||
+                registry.getBeanNamesForType(BeanPostProcessor.class, true, false).length > 0 ||
+                registry.getBeanNamesForType(ApplicationContextAware.class, true, false).length > 0 ||
+                registry.getBeanNamesForType(EnvironmentAware.class, true, false).length > 0 ||
+                registry.getBeanNamesForType(ResourceLoaderAware.class, true, false).length > 0 ||
+                registry.getBeanNamesForType(ApplicationEventPublisherAware.class, true, false).length > 0;
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Parsed XML test case '%s' with %s bean definitions", contextFile, registry.getBeanDefinitionCount()));
+        }
+
+        return new TestDefinitions(registry, requiresApplicationContext);
+    }
+
+    /**
+     * Checks if test definitions for given context file are cached.
+     * @param contextFile
+     * @param parentContext
+     * @return
+     */
+    public boolean isCached(String contextFile, ApplicationContext parentContext) {
+        synchronized (definitions) {
+            Map<String, Future<TestDefinitions>> contextDefinitions = definitions.get(parentContext);
+            return contextDefinitions != null && contextDefinitions.containsKey(getCacheKey(contextFile, parentContext));
+        }
+    }
+
+    /**
+     * Gets the number of cached test definitions.
+     * @return
+     */
+    public int size() {
+        synchronized (definitions) {
+            return definitions.values().stream().mapToInt(Map::size).sum();
+        }
+    }
+
+    /**
+     * Removes all cached test definitions.
+     */
+    public void clear() {
+        synchronized (definitions) {
+            definitions.clear();
+        }
+    }
+
+    /**
+     * Parsed bean definitions of a single test case file.
+     */
+    private static final class TestDefinitions {
+        private final DefaultListableBeanFactory registry;
+        private final boolean requiresApplicationContext;
+
+        TestDefinitions(DefaultListableBeanFactory registry, boolean requiresApplicationContext) {
+            this.registry = registry;
+            this.requiresApplicationContext = requiresApplicationContext;
+        }
+    }
+}
@@ -16,8 +16,10 @@
 
 package com.consol.citrus.common;
 
+import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCase;
 import com.consol.citrus.context.TestContextFactory;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
@@ -30,6 +32,11 @@ import java.io.File;
  * for test case and a parent application context. At runtime this class loads the Spring application context and gets
  * test case bean instance from context.
  *
+ * With fast loading enabled test case bean definitions are parsed once and cached in {@link XmlTestDefinitionCache}. Loading the test
+ * then creates a lightweight bean factory as child of the parent application context. Test files defining custom bean (factory) post
+ * processors or application context aware beans as well as all tests in case fast loading is disabled get loaded with a complete
+ * Spring application context.
+ *
  * @author Christoph Deppisch
  * @since 2.1
  */
@@ -42,6 +49,9 @@ public class XmlTestLoader implements TestLoader {
     private ApplicationContext parentContext;
     private String contextFile;
 
+    /** Use cached test definitions instead of a Spring application context per test */
+    private boolean fastLoading = Boolean.valueOf(Citrus.XML_TEST_FAST_LOADING);
+
     /**
      * Default constructor with context file and parent application context field.
      * @param testClass
@@ -59,10 +69,10 @@ public class XmlTestLoader implements TestLoader {
     @Override
     public TestCase load() {
         if (testCase == null) {
-            ApplicationContext ctx = loadApplicationContext();
+            BeanFactory beanFactory = loadBeanFactory();
 
             try {
-                testCase = ctx.getBean(testName, TestCase.class);
+                testCase = beanFactory.getBean(testName, TestCase.class);
                 testCase.setTestClass(testClass);
                 testCase.setPackageName(packageName);
             } catch (NoSuchBeanDefinitionException e) {
@@ -74,6 +84,27 @@ public class XmlTestLoader implements TestLoader {
         return testCase;
     }
 
+    /**
+     * Creates bean factory holding the test case bean definitions. Uses cached test definitions when fast loading is enabled
+     * and falls back to a complete Spring application context otherwise.
+     * @return
+     */
+    private BeanFactory loadBeanFactory() {
+        if (fastLoading) {
+            try {
+                BeanFactory beanFactory = XmlTestDefinitionCache.getInstance().createBeanFactory(getContextFile(), parentContext);
+                if (beanFactory != null) {
+                    return beanFactory;
+                }
+            } catch (Exception e) {
+                throw parentContext.getBean(TestContextFactory.class).getObject()
+                        .handleError(testName, packageName, "Failed to load test case", e);
+            }
+        }
+
+        return loadApplicationContext();
+    }
+
     /**
      * Create new Spring bean application context with test case XML file,
      * helper and parent context file.
@@ -112,4 +143,20 @@ public class XmlTestLoader implements TestLoader {
     public void setContextFile(String contextFile) {
         this.contextFile = contextFile;
     }
+
+    /**
+     * Enables or disables loading of test case from cached test definitions.
+     * @param fastLoading
+     */
+    public void setFastLoading(boolean fastLoading) {
+        this.fastLoading = fastLoading;
+    }
+
+    /**
+     * Gets the fast loading state.
+     * @return
+     */
+    public boolean isFastLoading() {
+        return fastLoading;
+    }
 }
@@ -32,7 +32,7 @@ import java.util.Objects;
  * @since 2.6.2
  */
 @Immutable
-public class MessageCondition extends AbstractCondition {
+public class MessageCondition extends AbstractCondition implements NonBlockingCondition {
 
     /** Message that should be present in message store */
     private String messageName;
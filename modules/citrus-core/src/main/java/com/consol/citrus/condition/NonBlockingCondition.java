@@ -0,0 +1,27 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.condition;
+
+/**
+ * Condition that is able to test its state without blocking. Such conditions are tested directly on the calling thread
+ * instead of handing over the check to a worker thread that gets abandoned on timeout.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public interface NonBlockingCondition extends Condition {
+}
@@ -22,6 +22,7 @@ import com.consol.citrus.context.TestContextFactory;
 import com.consol.citrus.endpoint.DefaultEndpointFactory;
 import com.consol.citrus.endpoint.EndpointFactory;
 import com.consol.citrus.functions.FunctionConfig;
+import com.consol.citrus.metrics.PerformanceMetrics;
 import com.consol.citrus.report.*;
 import com.consol.citrus.validation.MessageValidatorConfig;
 import com.consol.citrus.validation.interceptor.GlobalMessageConstructionInterceptors;
@@ -75,6 +76,21 @@ public class CitrusSpringConfig {
         return new JUnitReporter();
     }
 
+    @Bean
+    public PerformanceMetrics performanceMetrics() {
+        return new PerformanceMetrics();
+    }
+
+    @Bean
+    public PerformanceMetricsReporter performanceMetricsReporter() {
+        return new PerformanceMetricsReporter();
+    }
+
+    @Bean
+    public MessageRecorder messageRecorder() {
+        return new MessageRecorder();
+    }
+
     @Bean
     public TestListeners testListeners() {
         return new TestListeners();
@@ -72,6 +72,7 @@ public final class TestActionRegistry {
         registerActionParser("wait", new WaitParser());
         registerActionParser("timer", new TimerParser());
         registerActionParser("stop-timer", new StopTimerParser());
+        registerActionParser("replay", new ReplayMessagesActionParser());
     }
 
     /**
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.config.xml;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.actions.ReplayMessagesAction;
+import com.consol.citrus.config.util.BeanDefinitionParserUtils;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.xml.BeanDefinitionParser;
+import org.springframework.beans.factory.xml.ParserContext;
+import org.springframework.util.StringUtils;
+import org.w3c.dom.Element;
+
+/**
+ * Bean definition parser for replay action in test case.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class ReplayMessagesActionParser implements BeanDefinitionParser {
+
+    @Override
+    public BeanDefinition parse(Element element, ParserContext parserContext) {
+        String endpointUri = element.getAttribute("endpoint");
+
+        if (!StringUtils.hasText(endpointUri)) {
+            throw new BeanCreationException("Endpoint reference must not be empty");
+        }
+
+        BeanDefinitionBuilder beanDefinition = BeanDefinitionBuilder.rootBeanDefinition(ReplayMessagesAction.class);
+
+        if (endpointUri.contains(":") || (endpointUri.contains(Citrus.VARIABLE_PREFIX) && endpointUri.contains(Citrus.VARIABLE_SUFFIX))) {
+            beanDefinition.addPropertyValue("endpointUri", endpointUri);
+        } else {
+            beanDefinition.addPropertyReference("endpoint", endpointUri);
+        }
+
+        DescriptionElementParser.doParse(element, beanDefinition);
+
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("file"), "recordFile");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("direction"), "direction");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("rate"), "rate");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("speed"), "speed");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("consume-replies"), "consumeReplies");
+
+        return beanDefinition.getBeanDefinition();
+    }
+}
@@ -99,7 +99,10 @@ public class SQLActionParser implements BeanDefinitionParser {
         if (ignoreErrors != null && ignoreErrors.equals("true")) {
             beanDefinition.addPropertyValue("ignoreErrors", true);
         }
-        
+
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("batch-size"), "batchSize");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("transaction-per-batch"), "transactionPerBatch");
+
         return beanDefinition;
     }
 
@@ -115,6 +118,8 @@ public class SQLActionParser implements BeanDefinitionParser {
             List<Element> validateElements, List<Element> extractElements) {
         BeanDefinitionBuilder beanDefinition = BeanDefinitionBuilder.rootBeanDefinition(ExecuteSQLQueryAction.class);
 
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("streaming"), "streaming");
+
         // check for script validation
         if (scriptValidationElement != null) {
             beanDefinition.addPropertyValue("scriptValidationContext", getScriptValidationContext(scriptValidationElement));
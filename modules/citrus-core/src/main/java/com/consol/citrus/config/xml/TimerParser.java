@@ -48,6 +48,9 @@ public class TimerParser implements BeanDefinitionParser {
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("delay"), "delay");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("repeatCount"), "repeatCount");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("fork"), "fork");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("timeout"), "timeout");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("scheduleMode"), "scheduleMode");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("errorPolicy"), "errorPolicy");
 
         // get all internal actions
         ActionContainerParser.doParse(element, parserContext, builder);
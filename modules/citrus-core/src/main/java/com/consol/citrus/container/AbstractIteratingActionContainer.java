@@ -21,6 +21,7 @@ import com.consol.citrus.TestAction;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.util.BooleanExpressionParser;
 import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+import com.consol.citrus.variable.VariableScope;
 import org.springframework.util.PropertyPlaceholderHelper;
 
 import java.util.Properties;
@@ -43,6 +44,12 @@ public abstract class AbstractIteratingActionContainer extends AbstractActionCon
 
     /** Cache start index for further container executions - e.g. in loop */
     protected int start = 1;
+
+    /** Condition compiled once and evaluated with each iteration */
+    private CompiledCondition compiledCondition;
+
+    /** Optional policy for writing iteration variables back to the test context, iterations use own variable scope when set */
+    private VariableScope.WriteBack variableWriteBack;
 	
     @Override
     public final void doExecute(TestContext context) {
@@ -63,6 +70,26 @@ public abstract class AbstractIteratingActionContainer extends AbstractActionCon
     protected void executeActions(TestContext context) {
         context.setVariable(indexName, String.valueOf(index));
 
+        if (variableWriteBack == null) {
+            doExecuteActions(context);
+            return;
+        }
+
+        VariableScope scope = context.createVariableScope();
+        context.enterVariableScope(scope);
+        try {
+            doExecuteActions(context);
+        } finally {
+            context.exitVariableScope(scope);
+            scope.writeBack(variableWriteBack);
+        }
+    }
+
+    /**
+     * Executes nested actions in order.
+     * @param context
+     */
+    private void doExecuteActions(TestContext context) {
         for (TestAction action: actions) {
             setActiveAction(action);
             action.execute(context);
@@ -78,6 +105,17 @@ public abstract class AbstractIteratingActionContainer extends AbstractActionCon
             return conditionExpression.evaluate(index, context);
         }
 
+        if (condition != null) {
+            if (compiledCondition == null || !compiledCondition.isCompiledFrom(condition, indexName)) {
+                compiledCondition = CompiledCondition.compile(condition, indexName);
+            }
+
+            Boolean result = compiledCondition.evaluate(index, context);
+            if (result != null) {
+                return result;
+            }
+        }
+
         // replace dynamic content with each iteration
         String conditionString = condition;
         if (conditionString.indexOf(Citrus.VARIABLE_PREFIX + indexName + Citrus.VARIABLE_SUFFIX) != -1) {
@@ -109,6 +147,23 @@ public abstract class AbstractIteratingActionContainer extends AbstractActionCon
         return super.isDone(context) || !checkCondition(context);
     }
 
+    /**
+     * Sets the policy for writing iteration variables back to the test context. When set each iteration uses its own
+     * variable scope.
+     * @param variableWriteBack
+     */
+    public void setVariableWriteBack(VariableScope.WriteBack variableWriteBack) {
+        this.variableWriteBack = variableWriteBack;
+    }
+
+    /**
+     * Gets the variable write back policy.
+     * @return
+     */
+    public VariableScope.WriteBack getVariableWriteBack() {
+        return variableWriteBack;
+    }
+
     /**
      * Aborting condition.
      * @param condition
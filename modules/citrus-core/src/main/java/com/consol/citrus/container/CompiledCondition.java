@@ -0,0 +1,445 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.container;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.util.BooleanExpressionParser;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Boolean condition expression compiled once into a token program with slots for the loop index and test variables. Evaluation
+ * follows the exact semantics of {@link BooleanExpressionParser} but works on precompiled tokens and integer values so no
+ * condition strings are rebuilt and parsed on each evaluation.
+ *
+ * Conditions using functions, validation matchers or other dynamic content can not be compiled. Evaluation returns null whenever
+ * the compiled form is not able to reproduce the string based evaluation (e.g. variable holding non numeric values) so callers
+ * fall back to the string based evaluation in these cases.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+final class CompiledCondition {
+
+    /** Token types */
+    private static final int OPEN = 0;
+    private static final int CLOSE = 1;
+    private static final int OPERATOR = 2;
+    private static final int LITERAL = 3;
+    private static final int INDEX = 4;
+    private static final int VARIABLE = 5;
+
+    /** Operators */
+    private static final int LT = 0;
+    private static final int LT_EQ = 1;
+    private static final int GT = 2;
+    private static final int GT_EQ = 3;
+    private static final int EQ = 4;
+    private static final int AND = 5;
+    private static final int OR = 6;
+    private static final int PARENTHESIS = 7;
+
+    /** Marker for evaluation that can not be handled in compiled form */
+    private static final long UNSUPPORTED = Long.MIN_VALUE;
+
+    /** Source expression this condition was compiled from */
+    private final String expression;
+
+    /** Index variable name */
+    private final String indexName;
+
+    /** Token program */
+    private final int[] types;
+    private final int[] values;
+    private final String[] variables;
+
+    /**
+     * Private constructor using compiled tokens.
+     */
+    private CompiledCondition(String expression, String indexName, int[] types, int[] values, String[] variables) {
+        this.expression = expression;
+        this.indexName = indexName;
+        this.types = types;
+        this.values = values;
+        this.variables = variables;
+    }
+
+    /**
+     * Compiles given condition expression.
+     * @param expression the condition expression.
+     * @param indexName optional index variable name or null.
+     * @return
+     */
+    static CompiledCondition compile(String expression, String indexName) {
+        if (ValidationMatcherUtils.isValidationMatcherExpression(expression)) {
+            return unsupported(expression, indexName);
+        }
+
+        List<int[]> tokens = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+
+        int position = 0;
+        while (position < expression.length()) {
+            char current = expression.charAt(position);
+
+            if (current == ' ') {
+                position++;
+            } else if (current == '(') {
+                tokens.add(new int[] { OPEN, 0 });
+                names.add(null);
+                position++;
+            } else if (current == ')') {
+                tokens.add(new int[] { CLOSE, 0 });
+                names.add(null);
+                position++;
+            } else if (expression.startsWith(Citrus.VARIABLE_PREFIX, position)) {
+                int end = expression.indexOf(Citrus.VARIABLE_SUFFIX, position);
+                if (end < 0 || !isBoundary(expression, position - 1) || !isBoundary(expression, end + 1)) {
+                    return unsupported(expression, indexName);
+                }
+
+                String variableName = expression.substring(position + Citrus.VARIABLE_PREFIX.length(), end);
+                if (variableName.isEmpty() || variableName.startsWith(Citrus.VARIABLE_ESCAPE)) {
+                    return unsupported(expression, indexName);
+                }
+
+                if (variableName.equals(indexName)) {
+                    tokens.add(new int[] { INDEX, 0 });
+                    names.add(null);
+                } else {
+                    tokens.add(new int[] { VARIABLE, 0 });
+                    names.add(variableName);
+                }
+
+                position = end + Citrus.VARIABLE_SUFFIX.length();
+            } else if (Character.isDigit(current)) {
+                int end = position;
+                while (end < expression.length() && Character.isDigit(expression.charAt(end))) {
+                    end++;
+                }
+
+                if (current == '0' && end - position > 1) {
+                    return unsupported(expression, indexName);
+                }
+
+                try {
+                    tokens.add(new int[] { LITERAL, Integer.parseInt(expression.substring(position, end)) });
+                    names.add(null);
+                } catch (NumberFormatException e) {
+                    return unsupported(expression, indexName);
+                }
+
+                position = end;
+            } else {
+                int end = position;
+                while (end < expression.length() && !Character.isDigit(expression.charAt(end))
+                        && !isSeparator(expression.charAt(end)) && !expression.startsWith(Citrus.VARIABLE_PREFIX, end)) {
+                    end++;
+                }
+
+                String word = expression.substring(position, end);
+                if (indexName != null && word.equals(indexName)) {
+                    if (!isBoundary(expression, position - 1) || !isBoundary(expression, end)) {
+                        return unsupported(expression, indexName);
+                    }
+
+                    tokens.add(new int[] { INDEX, 0 });
+                } else if (indexName != null && word.contains(indexName)) {
+                    return unsupported(expression, indexName);
+                } else if (Boolean.TRUE.toString().equals(word)) {
+                    tokens.add(new int[] { LITERAL, 1 });
+                } else if (Boolean.FALSE.toString().equals(word)) {
+                    tokens.add(new int[] { LITERAL, 0 });
+                } else {
+                    int operator = toOperator(word);
+                    if (operator < 0) {
+                        return unsupported(expression, indexName);
+                    }
+
+                    tokens.add(new int[] { OPERATOR, operator });
+                }
+
+                names.add(null);
+                position = end;
+            }
+        }
+
+        int[] types = new int[tokens.size()];
+        int[] values = new int[tokens.size()];
+        for (int i = 0; i < tokens.size(); i++) {
+            types[i] = tokens.get(i)[0];
+            values[i] = tokens.get(i)[1];
+        }
+
+        return new CompiledCondition(expression, indexName, types, values, names.toArray(new String[0]));
+    }
+
+    /**
+     * Creates condition that is not able to evaluate in compiled form so callers always use string based evaluation.
+     * @param expression
+     * @param indexName
+     * @return
+     */
+    private static CompiledCondition unsupported(String expression, String indexName) {
+        return new CompiledCondition(expression, indexName, null, null, null);
+    }
+
+    /**
+     * Checks if this compiled condition has been created for given expression and index name.
+     * @param expression
+     * @param indexName
+     * @return
+     */
+    boolean isCompiledFrom(String expression, String indexName) {
+        return this.expression.equals(expression) && Objects.equals(this.indexName, indexName);
+    }
+
+    /**
+     * Evaluates the compiled condition with given loop index and test context variables.
+     * @param index the current loop index.
+     * @param context the test context holding variables.
+     * @return the condition result or null in case condition needs string based evaluation.
+     */
+    Boolean evaluate(int index, TestContext context) {
+        if (types == null || index < 0) {
+            return null;
+        }
+
+        int[] operators = new int[types.length];
+        int operatorCount = 0;
+        long[] stack = new long[types.length];
+        int valueCount = 0;
+
+        for (int i = 0; i < types.length; i++) {
+            switch (types[i]) {
+                case OPEN:
+                    operators[operatorCount++] = PARENTHESIS;
+                    break;
+                case CLOSE:
+                    if (operatorCount == 0) {
+                        return null;
+                    }
+
+                    int operator = operators[--operatorCount];
+                    while (operator != PARENTHESIS) {
+                        if (valueCount < 2) {
+                            return null;
+                        }
+
+                        long result = apply(operator, stack[--valueCount], stack[--valueCount]);
+                        if (result == UNSUPPORTED) {
+                            return null;
+                        }
+                        stack[valueCount++] = result;
+
+                        if (operatorCount == 0) {
+                            return null;
+                        }
+                        operator = operators[--operatorCount];
+                    }
+                    break;
+                case OPERATOR:
+                    operators[operatorCount++] = values[i];
+                    break;
+                case LITERAL:
+                    stack[valueCount++] = number(values[i]);
+                    break;
+                case INDEX:
+                    stack[valueCount++] = number(index);
+                    break;
+                default:
+                    long value = resolveVariable(variables[i], context);
+                    if (value == UNSUPPORTED) {
+                        return null;
+                    }
+                    stack[valueCount++] = value;
+            }
+        }
+
+        while (operatorCount > 0) {
+            int operator = operators[--operatorCount];
+            if (operator == PARENTHESIS || valueCount < 2) {
+                return null;
+            }
+
+            long result = apply(operator, stack[--valueCount], stack[--valueCount]);
+            if (result == UNSUPPORTED) {
+                return null;
+            }
+            stack[valueCount++] = result;
+        }
+
+        if (valueCount == 0) {
+            return null;
+        }
+
+        long result = stack[valueCount - 1];
+        return isBoolean(result) ? booleanValue(result) : (intValue(result) == 1);
+    }
+
+    /**
+     * Applies operator to operands. Comparison operators work on numbers only. Logical operators treat numbers as false.
+     * @param operator
+     * @param right
+     * @param left
+     * @return
+     */
+    private static long apply(int operator, long right, long left) {
+        if (operator == AND) {
+            return bool(isBoolean(left) && booleanValue(left) && isBoolean(right) && booleanValue(right));
+        } else if (operator == OR) {
+            return bool((isBoolean(left) && booleanValue(left)) || (isBoolean(right) && booleanValue(right)));
+        }
+
+        if (isBoolean(left) || isBoolean(right)) {
+            return UNSUPPORTED;
+        }
+
+        switch (operator) {
+            case LT:
+                return bool(intValue(left) < intValue(right));
+            case LT_EQ:
+                return bool(intValue(left) <= intValue(right));
+            case GT:
+                return bool(intValue(left) > intValue(right));
+            case GT_EQ:
+                return bool(intValue(left) >= intValue(right));
+            case EQ:
+                return bool(intValue(left) == intValue(right));
+            default:
+                return UNSUPPORTED;
+        }
+    }
+
+    /**
+     * Resolves variable value to number. Boolean literal values are represented as numbers 1 and 0.
+     * @param variableName
+     * @param context
+     * @return
+     */
+    private long resolveVariable(String variableName, TestContext context) {
+        Object variable = context.getVariables().get(variableName);
+        if (variable == null) {
+            return UNSUPPORTED;
+        }
+
+        String value = variable.toString();
+        if (indexName != null && value.contains(indexName)) {
+            return UNSUPPORTED;
+        }
+
+        if (Boolean.TRUE.toString().equals(value)) {
+            return number(1);
+        } else if (Boolean.FALSE.toString().equals(value)) {
+            return number(0);
+        }
+
+        if (value.isEmpty() || (value.charAt(0) == '0' && value.length() > 1)) {
+            return UNSUPPORTED;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return UNSUPPORTED;
+            }
+        }
+
+        try {
+            return number(Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            return UNSUPPORTED;
+        }
+    }
+
+    /**
+     * Checks if character at given position is start or end of expression or a separator.
+     * @param expression
+     * @param position
+     * @return
+     */
+    private static boolean isBoundary(String expression, int position) {
+        return position < 0 || position >= expression.length() || isSeparator(expression.charAt(position));
+    }
+
+    private static boolean isSeparator(char character) {
+        return character == ' ' || character == '(' || character == ')';
+    }
+
+    private static int toOperator(String word) {
+        switch (word) {
+            case "lt":
+                return LT;
+            case "lt=":
+                return LT_EQ;
+            case "gt":
+                return GT;
+            case "gt=":
+                return GT_EQ;
+            case "=":
+                return EQ;
+            case "and":
+                return AND;
+            case "or":
+                return OR;
+            default:
+                return -1;
+        }
+    }
+
+    /** Values are encoded as long with a flag bit marking boolean results of operators */
+    private static final long BOOLEAN_FLAG = 1L << 32;
+
+    private static long number(int value) {
+        return value & 0xFFFFFFFFL;
+    }
+
+    private static long bool(boolean value) {
+        return BOOLEAN_FLAG | (value ? 1L : 0L);
+    }
+
+    private static boolean isBoolean(long value) {
+        return (value & BOOLEAN_FLAG) != 0;
+    }
+
+    private static boolean booleanValue(long value) {
+        return (value & 1L) != 0;
+    }
+
+    private static int intValue(long value) {
+        return (int) value;
+    }
+
+    /**
+     * Gets the source expression.
+     * @return
+     */
+    String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Gets the index variable name.
+     * @return
+     */
+    String getIndexName() {
+        return indexName;
+    }
+}
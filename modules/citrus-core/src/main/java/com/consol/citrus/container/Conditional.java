@@ -40,6 +40,9 @@ public class Conditional extends AbstractActionContainer {
     /** Optional condition expression evaluates to true or false */
     private ConditionExpression conditionExpression;
 
+    /** Condition compiled once and evaluated with each execution */
+    private CompiledCondition compiledCondition;
+
     /**
      * Default constructor.
      */
@@ -71,6 +74,17 @@ public class Conditional extends AbstractActionContainer {
             return conditionExpression.evaluate(context);
         }
 
+        if (condition != null) {
+            if (compiledCondition == null || !compiledCondition.isCompiledFrom(condition, null)) {
+                compiledCondition = CompiledCondition.compile(condition, null);
+            }
+
+            Boolean result = compiledCondition.evaluate(0, context);
+            if (result != null) {
+                return result;
+            }
+        }
+
         // replace dynamic content with each iteration
         String conditionString = context.replaceDynamicContentInString(condition);
         if (ValidationMatcherUtils.isValidationMatcherExpression(conditionString)) {
@@ -20,6 +20,7 @@ import com.consol.citrus.TestAction;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ParallelContainerException;
+import com.consol.citrus.variable.VariableScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,6 +39,9 @@ public class Parallel extends AbstractActionContainer {
 
     /** Collect exceptions in list */
     private List<CitrusRuntimeException> exceptions = new ArrayList<CitrusRuntimeException>();
+
+    /** Optional policy for writing variables of parallel branches back to the test context, null shares variables across branches */
+    private VariableScope.WriteBack variableWriteBack;
     
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(Parallel.class);
@@ -51,8 +55,15 @@ public class Parallel extends AbstractActionContainer {
 
     @Override
     public void doExecute(TestContext context) {
+        List<VariableScope> scopes = new ArrayList<>();
         for (final TestAction action : actions) {
-            Thread t = new Thread(new ActionRunner(action, context) {
+            VariableScope scope = null;
+            if (variableWriteBack != null) {
+                scope = context.createVariableScope();
+                scopes.add(scope);
+            }
+
+            Thread t = new Thread(context.bindVariableScope(new ActionRunner(action, context, scope) {
                 @Override
                 public void exceptionCallback(CitrusRuntimeException e) {
                     if (exceptions.isEmpty()) {
@@ -61,7 +72,7 @@ public class Parallel extends AbstractActionContainer {
                     
                     exceptions.add(e);
                 }
-            });
+            }));
 
             threads.push(t);
             t.start();
@@ -74,6 +85,10 @@ public class Parallel extends AbstractActionContainer {
                 log.error("Unable to join thread", e);
             }
         }
+
+        for (VariableScope scope : scopes) {
+            scope.writeBack(variableWriteBack);
+        }
         
         if (!exceptions.isEmpty()) {
             if (exceptions.size() == 1) {
@@ -84,6 +99,23 @@ public class Parallel extends AbstractActionContainer {
         }
     }
 
+    /**
+     * Sets the policy for writing variables of parallel branches back to the test context. When set each branch works on
+     * its own variable scope. By default all branches share the test variables.
+     * @param variableWriteBack
+     */
+    public void setVariableWriteBack(VariableScope.WriteBack variableWriteBack) {
+        this.variableWriteBack = variableWriteBack;
+    }
+
+    /**
+     * Gets the variable write back policy.
+     * @return
+     */
+    public VariableScope.WriteBack getVariableWriteBack() {
+        return variableWriteBack;
+    }
+
     /**
      * Runnable wrapper for executing an action in separate Thread.
      */
@@ -93,16 +125,24 @@ public class Parallel extends AbstractActionContainer {
         
         /** Test context */
         private TestContext context;
+
+        /** Optional variable scope of this branch */
+        private VariableScope scope;
         
-        public ActionRunner(TestAction action, TestContext context) {
+        public ActionRunner(TestAction action, TestContext context, VariableScope scope) {
             this.action = action;
             this.context = context;
+            this.scope = scope;
         }
 
         /**
          * Run the test action
          */
         public void run() {
+            if (scope != null) {
+                context.enterVariableScope(scope);
+            }
+
             try {
                 action.execute(context);
             } catch (CitrusRuntimeException e) {
@@ -117,6 +157,10 @@ public class Parallel extends AbstractActionContainer {
             } catch (AssertionError e) {
                 log.error("Parallel test action raised error", e);
                 exceptionCallback(new CitrusRuntimeException(e));
+            } finally {
+                if (scope != null) {
+                    context.exitVariableScope(scope);
+                }
             }
         }
         
@@ -21,6 +21,7 @@ import com.consol.citrus.actions.AbstractTestAction;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.functions.FunctionUtils;
 import com.consol.citrus.variable.GlobalVariables;
+import com.consol.citrus.variable.VariableScope;
 import com.consol.citrus.variable.VariableUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -79,7 +80,7 @@ public class Template extends AbstractTestAction {
             GlobalVariables globalVariables = new GlobalVariables();
             globalVariables.getVariables().putAll(context.getGlobalVariables());
             innerContext.setGlobalVariables(globalVariables);
-            innerContext.getVariables().putAll(context.getVariables());
+            innerContext.setVariables(new VariableScope(context.getVariables()));
 
             innerContext.setMessageStore(context.getMessageStore());
             innerContext.setMessageValidatorRegistry(context.getMessageValidatorRegistry());
@@ -19,12 +19,13 @@ package com.consol.citrus.container;
 import com.consol.citrus.TestAction;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.SharedScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.StringUtils;
 
-import java.util.TimerTask;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -44,10 +45,34 @@ public class Timer extends AbstractActionContainer implements StopTimer {
     private int repeatCount = Integer.MAX_VALUE;
     private boolean fork = false;
     private String timerId;
+    private ScheduleMode scheduleMode = ScheduleMode.FIXED_RATE;
+    private ErrorPolicy errorPolicy = ErrorPolicy.FAIL;
+    private long timeout = 60000L;
+
+    protected volatile boolean timerComplete = false;
+    protected volatile CitrusRuntimeException timerException = null;
+    private volatile ScheduledFuture<?> timer;
+    private volatile CountDownLatch completed;
+    private volatile long lastActivity;
+
+    /**
+     * Timer event scheduling mode. Fixed rate fires events relative to timer start and catches up on events missed while
+     * nested actions overrun the interval, fixed delay waits the interval after each completed timer event.
+     */
+    public enum ScheduleMode {
+        FIXED_RATE,
+        FIXED_DELAY
+    }
 
-    protected boolean timerComplete = false;
-    protected CitrusRuntimeException timerException = null;
-    private java.util.Timer timer;
+    /**
+     * Error handling policy for nested action errors. Fail stops the timer and raises the error, stop just stops the timer
+     * and continue keeps on firing timer events.
+     */
+    public enum ErrorPolicy {
+        FAIL,
+        STOP,
+        CONTINUE
+    }
 
     public Timer() {
         setName("timer");
@@ -55,24 +80,18 @@ public class Timer extends AbstractActionContainer implements StopTimer {
 
     @Override
     public void doExecute(final TestContext context) {
-        if (fork) {
-            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
-            taskExecutor.execute(new Runnable() {
-                public void run() {
-                    configureAndRunTimer(context);
-                }
-            });
-        } else {
-            configureAndRunTimer(context);
-        }
-    }
-
-    private void configureAndRunTimer(final TestContext context) {
-        timer = new java.util.Timer(getTimerId(), false);
+        timerComplete = false;
+        timerException = null;
+        completed = new CountDownLatch(1);
+        lastActivity = System.currentTimeMillis() + delay;
 
         context.registerTimer(getTimerId(), this);
 
-        TimerTask timerTask = new TimerTask() {
+        final ScheduledExecutorService scheduler = SharedScheduler.getScheduler();
+        final AtomicBoolean running = new AtomicBoolean(false);
+        final AtomicInteger pending = new AtomicInteger(0);
+
+        final Runnable timerEvent = new Runnable() {
             int indexCount = 0;
 
             @Override
@@ -86,48 +105,125 @@ public class Timer extends AbstractActionContainer implements StopTimer {
                         setActiveAction(action);
                         action.execute(context);
                     }
-                    if (indexCount >= repeatCount) {
-                        log.debug(String.format("Timer complete: %s iterations reached", repeatCount));
-                        stopTimer();
-                    }
-                } catch (Exception e) {
+                } catch (Throwable e) {
                     handleException(e);
                 }
+
+                if (!timerComplete && indexCount >= repeatCount) {
+                    log.debug(String.format("Timer complete: %s iterations reached", repeatCount));
+                    stopTimer();
+                }
             }
 
             private void updateIndexCountInTestContext(TestContext context) {
                 context.setVariable(getTimerId() + INDEX_SUFFIX, String.valueOf(indexCount));
             }
 
-            private void handleException(Exception e) {
-                if (e instanceof CitrusRuntimeException) {
-                    timerException = (CitrusRuntimeException) e;
-                } else {
-                    timerException = new CitrusRuntimeException(e);
+            private void handleException(Throwable e) {
+                if (errorPolicy == ErrorPolicy.CONTINUE) {
+                    log.error(String.format("Timer event #%s failed with nested action error (%s) - continue timer", indexCount, e.getMessage()));
+                    return;
                 }
+
                 log.error(String.format("Timer stopped as a result of nested action error (%s)", e.getMessage()));
-                stopTimer();
 
-                if (fork) {
-                    context.addException(timerException);
+                if (errorPolicy == ErrorPolicy.FAIL) {
+                    if (e instanceof CitrusRuntimeException) {
+                        timerException = (CitrusRuntimeException) e;
+                    } else {
+                        timerException = new CitrusRuntimeException(e);
+                    }
+
+                    if (fork) {
+                        context.addException(timerException);
+                    }
                 }
+
+                stopTimer();
             }
         };
-        timer.scheduleAtFixedRate(timerTask, delay, interval);
 
-        while (!timerComplete) {
-            try {
-                Thread.sleep(interval);
-            } catch (InterruptedException e) {
-                log.warn("Interrupted while waiting for timer to complete", e);
+        final Runnable scopedTimerEvent = context.bindVariableScope(timerEvent);
+
+        // scheduler threads only trigger timer events, nested actions may block and run on worker threads
+        final Runnable trigger = new Runnable() {
+            @Override
+            public void run() {
+                if (timerComplete) {
+                    return;
+                }
+
+                if (!running.compareAndSet(false, true)) {
+                    log.debug("Delay timer event as previous timer event is still running");
+                    pending.incrementAndGet();
+                    return;
+                }
+
+                SharedScheduler.getWorkers().execute(() -> {
+                    try {
+                        do {
+                            scopedTimerEvent.run();
+                        } while (!timerComplete && pending.getAndUpdate(count -> count > 0 ? count - 1 : 0) > 0);
+                    } finally {
+                        lastActivity = System.currentTimeMillis();
+                        running.set(false);
+
+                        if (scheduleMode == ScheduleMode.FIXED_DELAY && !timerComplete) {
+                            timer = scheduler.schedule(this, interval, TimeUnit.MILLISECONDS);
+
+                            if (timerComplete) {
+                                timer.cancel(false);
+                            }
+                        }
+                    }
+                });
             }
+        };
+
+        if (scheduleMode == ScheduleMode.FIXED_DELAY) {
+            timer = scheduler.schedule(trigger, delay, TimeUnit.MILLISECONDS);
+        } else {
+            timer = scheduler.scheduleAtFixedRate(trigger, delay, interval, TimeUnit.MILLISECONDS);
         }
 
+        if (timerComplete) {
+            timer.cancel(false);
+        }
+
+        if (fork) {
+            return;
+        }
+
+        awaitCompletion(running);
+
         if (timerException != null) {
             throw timerException;
         }
     }
 
+    /**
+     * Waits for timer to complete. Fails when no timer event has been fired or finished within interval plus timeout while
+     * no nested actions are running.
+     * @param running
+     */
+    private void awaitCompletion(AtomicBoolean running) {
+        while (!timerComplete) {
+            long remaining = running.get() ? interval + timeout : lastActivity + interval + timeout - System.currentTimeMillis();
+            if (remaining <= 0) {
+                stopTimer();
+                throw new CitrusRuntimeException(String.format("Timer '%s' did not complete - no timer event within %s ms", getTimerId(), interval + timeout));
+            }
+
+            try {
+                completed.await(remaining, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                stopTimer();
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException(String.format("Interrupted while waiting for timer '%s' to complete", getTimerId()), e);
+            }
+        }
+    }
+
     public String getTimerId() {
         if (StringUtils.isEmpty(timerId)) {
             timerId = "citrus-timer-" + serialNumber();
@@ -137,8 +233,15 @@ public class Timer extends AbstractActionContainer implements StopTimer {
 
     @Override
     public void stopTimer() {
-        timer.cancel();
         timerComplete = true;
+
+        if (timer != null) {
+            timer.cancel(false);
+        }
+
+        if (completed != null) {
+            completed.countDown();
+        }
     }
 
     private static int serialNumber() {
@@ -180,4 +283,28 @@ public class Timer extends AbstractActionContainer implements StopTimer {
     public void setFork(boolean fork) {
         this.fork = fork;
     }
+
+    public ScheduleMode getScheduleMode() {
+        return scheduleMode;
+    }
+
+    public void setScheduleMode(ScheduleMode scheduleMode) {
+        this.scheduleMode = scheduleMode;
+    }
+
+    public ErrorPolicy getErrorPolicy() {
+        return errorPolicy;
+    }
+
+    public void setErrorPolicy(ErrorPolicy errorPolicy) {
+        this.errorPolicy = errorPolicy;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
 }
@@ -19,8 +19,10 @@ package com.consol.citrus.container;
 import com.consol.citrus.TestAction;
 import com.consol.citrus.condition.Condition;
 import com.consol.citrus.condition.ActionCondition;
+import com.consol.citrus.condition.NonBlockingCondition;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.SharedScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
@@ -76,8 +78,6 @@ public class Wait extends AbstractActionContainer {
             condition = new ActionCondition(Optional.ofNullable(action).orElseThrow(() -> new CitrusRuntimeException("Invalid wait condition -  null")));
         }
 
-        Callable<Boolean> callable = () -> condition.isSatisfied(context);
-
         while (timeLeft > 0) {
             timeLeft -= intervalMs;
 
@@ -85,15 +85,14 @@ public class Wait extends AbstractActionContainer {
                 log.debug(String.format("Waiting for condition %s", condition.getName()));
             }
 
-            ExecutorService executor = Executors.newSingleThreadExecutor();
-            Future<Boolean> future = executor.submit(callable);
             long checkStartTime = System.currentTimeMillis();
+            Future<Boolean> future = checkCondition(context);
             try {
                 conditionSatisfied = future.get(intervalMs, TimeUnit.MILLISECONDS);
             } catch (InterruptedException | TimeoutException | ExecutionException e) {
                 log.warn(String.format("Condition check interrupted with '%s'", e.getClass().getSimpleName()));
+                future.cancel(true);
             }
-            executor.shutdown();
 
             if (Boolean.TRUE.equals(conditionSatisfied)) {
                 log.info(condition.getSuccessMessage(context));
@@ -113,6 +112,25 @@ public class Wait extends AbstractActionContainer {
         throw new CitrusRuntimeException(condition.getErrorMessage(context));
     }
 
+    /**
+     * Tests the condition. Non blocking conditions are tested directly. Other conditions are tested on shared worker
+     * threads so the check can be abandoned and the worker interrupted when interval time is exceeded. Worker threads use
+     * the variable scope of the calling thread.
+     * @param context
+     * @return
+     */
+    private Future<Boolean> checkCondition(TestContext context) {
+        FutureTask<Boolean> check = new FutureTask<>(() -> condition.isSatisfied(context));
+
+        if (condition instanceof NonBlockingCondition) {
+            check.run();
+        } else {
+            SharedScheduler.getWorkers().execute(context.bindVariableScope(check));
+        }
+
+        return check;
+    }
+
     /**
      * Gets total wait time in milliseconds. Either uses second time value or default milliseconds.
      * @param context
@@ -28,6 +28,7 @@ import com.consol.citrus.functions.FunctionUtils;
 import com.consol.citrus.message.DefaultMessageStore;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageStore;
+import com.consol.citrus.metrics.PerformanceMetrics;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.report.TestListeners;
 import com.consol.citrus.util.TypeConversionUtils;
@@ -35,6 +36,7 @@ import com.consol.citrus.validation.MessageValidatorRegistry;
 import com.consol.citrus.validation.interceptor.GlobalMessageConstructionInterceptors;
 import com.consol.citrus.validation.matcher.ValidationMatcherRegistry;
 import com.consol.citrus.variable.GlobalVariables;
+import com.consol.citrus.variable.VariableScope;
 import com.consol.citrus.variable.VariableUtils;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
 import org.javatuples.KeyValue;
@@ -65,6 +67,11 @@ public class TestContext {
      */
     protected Map<String, Object> variables;
 
+    /**
+     * Variable scopes bound to threads, threads without scope use local variables
+     */
+    private final ThreadLocal<VariableScope> variableScope = new ThreadLocal<>();
+
     /**
      * Global variables
      */
@@ -110,6 +117,11 @@ public class TestContext {
      */
     private MessageListeners messageListeners = new MessageListeners();
 
+    /**
+     * Performance metrics recorded during test execution
+     */
+    private PerformanceMetrics performanceMetrics = new PerformanceMetrics();
+
     /**
      * List of global message construction interceptors
      */
@@ -181,12 +193,12 @@ public class TestContext {
 
         if (variableName.startsWith(Citrus.VARIABLE_ESCAPE) && variableName.endsWith(Citrus.VARIABLE_ESCAPE)) {
             return Citrus.VARIABLE_PREFIX + VariableUtils.cutOffVariablesEscaping(variableName) + Citrus.VARIABLE_SUFFIX;
-        } else if (variables.containsKey(variableName)) {
-            return variables.get(variableName);
+        } else if (variables().containsKey(variableName)) {
+            return variables().get(variableName);
         } else if (variableName.contains(".")) {
             String objectName = variableName.substring(0, variableName.indexOf("."));
-            if (variables.containsKey(objectName)) {
-                return getVariable(variables.get(objectName), variableName.substring(variableName.indexOf(".") + 1));
+            if (variables().containsKey(objectName)) {
+                return getVariable(variables().get(objectName), variableName.substring(variableName.indexOf(".") + 1));
             }
         }
 
@@ -247,7 +259,7 @@ public class TestContext {
             log.debug("Setting variable: " + VariableUtils.cutOffVariablesPrefix(variableName) + " with value: '" + value + "'");
         }
 
-        variables.put(VariableUtils.cutOffVariablesPrefix(variableName), value);
+        variables().put(VariableUtils.cutOffVariablesPrefix(variableName), value);
     }
 
     /**
@@ -370,8 +382,8 @@ public class TestContext {
      * Clears variables in this test context. Initially adds all global variables.
      */
     public void clear() {
-        variables.clear();
-        variables.putAll(globalVariables.getVariables());
+        variables().clear();
+        variables().putAll(globalVariables.getVariables());
     }
 
     /**
@@ -380,7 +392,7 @@ public class TestContext {
      * @return boolean flag to mark existence
      */
     public boolean hasVariables() {
-        return !CollectionUtils.isEmpty(variables);
+        return !CollectionUtils.isEmpty(variables());
     }
 
     /**
@@ -470,7 +482,76 @@ public class TestContext {
      * @return test variables for this test context.
      */
     public Map<String, Object> getVariables() {
-        return variables;
+        return variables();
+    }
+
+    /**
+     * Gets variables of the variable scope bound to the current thread or local variables of this context in case
+     * no scope is bound.
+     * @return
+     */
+    private Map<String, Object> variables() {
+        VariableScope scope = variableScope.get();
+        return scope != null ? scope : variables;
+    }
+
+    /**
+     * Creates new copy-on-write variable scope reading through to the variables currently visible to the calling thread.
+     * Scope needs to be entered by the thread that should use it.
+     * @return
+     */
+    public VariableScope createVariableScope() {
+        return new VariableScope(variables());
+    }
+
+    /**
+     * Binds given variable scope to the current thread. All variable access of this thread is handled by the scope
+     * until the scope is exited.
+     * @param scope
+     */
+    public void enterVariableScope(VariableScope scope) {
+        variableScope.set(scope);
+    }
+
+    /**
+     * Wraps given task so it runs with the variable scope bound to the calling thread. Actions that hand over work to
+     * other threads use this so the task sees the same variables as the spawning action. The previous scope of the
+     * executing thread is restored once the task is finished.
+     * @param task
+     * @return
+     */
+    public Runnable bindVariableScope(Runnable task) {
+        final VariableScope scope = variableScope.get();
+        if (scope == null) {
+            return task;
+        }
+
+        return () -> {
+            VariableScope previous = variableScope.get();
+            variableScope.set(scope);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    variableScope.set(previous);
+                } else {
+                    variableScope.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * Unbinds given variable scope from the current thread. In case the scope has a parent scope the parent scope gets
+     * bound to the thread again. Local scope changes are not written back to the parent, this is up to the caller.
+     * @param scope
+     */
+    public void exitVariableScope(VariableScope scope) {
+        if (scope.getParent() instanceof VariableScope) {
+            variableScope.set((VariableScope) scope.getParent());
+        } else {
+            variableScope.remove();
+        }
     }
 
     /**
@@ -485,7 +566,7 @@ public class TestContext {
         this.globalVariables = new GlobalVariables();
         for (Entry<String, Object> entry : globalVariables.getVariables().entrySet()) {
             final KeyValue<String, Object> adaptedEntry = resolveDynamicContent(entry.getKey(), entry.getValue());
-            variables.put(adaptedEntry.getKey(), adaptedEntry.getValue());
+            variables().put(adaptedEntry.getKey(), adaptedEntry.getValue());
             this.globalVariables.getVariables().put(adaptedEntry.getKey(), adaptedEntry.getValue());
         }
     }
@@ -589,6 +670,24 @@ public class TestContext {
         this.messageListeners = messageListeners;
     }
 
+    /**
+     * Gets the performance metrics.
+     *
+     * @return
+     */
+    public PerformanceMetrics getPerformanceMetrics() {
+        return performanceMetrics;
+    }
+
+    /**
+     * Set the performance metrics.
+     *
+     * @param performanceMetrics
+     */
+    public void setPerformanceMetrics(PerformanceMetrics performanceMetrics) {
+        this.performanceMetrics = performanceMetrics;
+    }
+
     /**
      * Gets the test listeners.
      *
@@ -19,6 +19,7 @@ package com.consol.citrus.context;
 import com.consol.citrus.endpoint.DefaultEndpointFactory;
 import com.consol.citrus.endpoint.EndpointFactory;
 import com.consol.citrus.functions.FunctionRegistry;
+import com.consol.citrus.metrics.PerformanceMetrics;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.report.TestListeners;
 import com.consol.citrus.validation.MessageValidatorRegistry;
@@ -60,6 +61,9 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
     @Autowired
     private MessageListeners messageListeners;
 
+    @Autowired(required = false)
+    private PerformanceMetrics performanceMetrics = new PerformanceMetrics();
+
     @Autowired
     private EndpointFactory endpointFactory;
 
@@ -91,6 +95,7 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
         factory.setMessageValidatorRegistry(new MessageValidatorRegistry());
         factory.setTestListeners(new TestListeners());
         factory.setMessageListeners(new MessageListeners());
+        factory.setPerformanceMetrics(new PerformanceMetrics());
         factory.setGlobalMessageConstructionInterceptors(new GlobalMessageConstructionInterceptors());
         factory.setEndpointFactory(new DefaultEndpointFactory());
         factory.setReferenceResolver(new SpringBeanReferenceResolver());
@@ -131,6 +136,10 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
             factory.setMessageListeners(applicationContext.getBean(MessageListeners.class));
         }
 
+        if (!CollectionUtils.isEmpty(applicationContext.getBeansOfType(PerformanceMetrics.class))) {
+            factory.setPerformanceMetrics(applicationContext.getBean(PerformanceMetrics.class));
+        }
+
         if (!CollectionUtils.isEmpty(applicationContext.getBeansOfType(GlobalMessageConstructionInterceptors.class))) {
             factory.setGlobalMessageConstructionInterceptors(applicationContext.getBean(GlobalMessageConstructionInterceptors.class));
         }
@@ -163,6 +172,7 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
         context.setMessageValidatorRegistry(messageValidatorRegistry);
         context.setTestListeners(testListeners);
         context.setMessageListeners(messageListeners);
+        context.setPerformanceMetrics(performanceMetrics);
         context.setGlobalMessageConstructionInterceptors(globalMessageConstructionInterceptors);
         context.setEndpointFactory(endpointFactory);
         context.setReferenceResolver(referenceResolver);
@@ -336,6 +346,22 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
         return messageListeners;
     }
 
+    /**
+     * Sets the performance metrics.
+     * @param performanceMetrics
+     */
+    public void setPerformanceMetrics(PerformanceMetrics performanceMetrics) {
+        this.performanceMetrics = performanceMetrics;
+    }
+
+    /**
+     * Gets the performance metrics.
+     * @return
+     */
+    public PerformanceMetrics getPerformanceMetrics() {
+        return performanceMetrics;
+    }
+
     /**
      * Sets the message construction interceptors.
      * @param messageConstructionInterceptors
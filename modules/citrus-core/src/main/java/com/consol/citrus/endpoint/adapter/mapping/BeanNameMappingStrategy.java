@@ -23,6 +23,9 @@ import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Endpoint adapter mapping strategy uses Spring application context and tries to find appropriate Spring bean in
  * context for the mapping key. Bean id or name has to match the given mapping key and bean must be of type
@@ -36,10 +39,23 @@ public class BeanNameMappingStrategy implements EndpointAdapterMappingStrategy,
     /** Application context holding available endpoint adapters */
     protected ApplicationContext applicationContext;
 
+    /** Resolved singleton endpoint adapters by mapping key */
+    private final Map<String, EndpointAdapter> adapterCache = new ConcurrentHashMap<>();
+
     @Override
     public EndpointAdapter getEndpointAdapter(String mappingKey) {
+        EndpointAdapter cached = adapterCache.get(mappingKey);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            return applicationContext.getBean(mappingKey, EndpointAdapter.class);
+            EndpointAdapter endpointAdapter = applicationContext.getBean(mappingKey, EndpointAdapter.class);
+            if (applicationContext.isSingleton(mappingKey)) {
+                adapterCache.put(mappingKey, endpointAdapter);
+            }
+
+            return endpointAdapter;
         } catch (NoSuchBeanDefinitionException e) {
             throw new CitrusRuntimeException("Unable to find matching endpoint adapter with bean name '" +
                     mappingKey + "' in Spring bean application context", e);
@@ -49,5 +65,6 @@ public class BeanNameMappingStrategy implements EndpointAdapterMappingStrategy,
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
+        this.adapterCache.clear();
     }
 }
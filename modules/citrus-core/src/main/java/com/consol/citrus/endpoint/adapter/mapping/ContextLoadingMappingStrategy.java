@@ -24,6 +24,9 @@ import org.springframework.context.support.ClassPathXmlApplicationContext;
 import org.springframework.context.support.FileSystemXmlApplicationContext;
 import org.springframework.util.Assert;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Endpoint adapter mapping strategy loads new Spring Application contexts defined by one or more locations
  * and tries to find matching Spring bean with given name or id.
@@ -42,14 +45,24 @@ public class ContextLoadingMappingStrategy implements EndpointAdapterMappingStra
     /** Cached application context */
     private ApplicationContext applicationContext;
 
+    /** Resolved singleton endpoint adapters by mapping key when application context is loaded once */
+    private final Map<String, EndpointAdapter> adapterCache = new ConcurrentHashMap<>();
+
     @Override
     public EndpointAdapter getEndpointAdapter(String mappingKey) {
         Assert.notNull(contextConfigLocation, "Spring bean application context location must be set properly");
 
         ApplicationContext ctx;
         if (loadOnce) {
-            if (applicationContext == null) {
-                applicationContext = createApplicationContext();
+            EndpointAdapter cached = adapterCache.get(mappingKey);
+            if (cached != null) {
+                return cached;
+            }
+
+            synchronized (this) {
+                if (applicationContext == null) {
+                    applicationContext = createApplicationContext();
+                }
             }
 
             ctx = applicationContext;
@@ -58,7 +71,12 @@ public class ContextLoadingMappingStrategy implements EndpointAdapterMappingStra
         }
 
         try {
-            return ctx.getBean(mappingKey, EndpointAdapter.class);
+            EndpointAdapter endpointAdapter = ctx.getBean(mappingKey, EndpointAdapter.class);
+            if (loadOnce && ctx.isSingleton(mappingKey)) {
+                adapterCache.put(mappingKey, endpointAdapter);
+            }
+
+            return endpointAdapter;
         } catch (NoSuchBeanDefinitionException e) {
             throw new CitrusRuntimeException("Unable to find matching endpoint adapter with bean name '" +
                     mappingKey + "' in Spring bean application context", e);
@@ -18,19 +18,150 @@ package com.consol.citrus.endpoint.adapter.mapping;
 
 import com.consol.citrus.json.JsonPathUtils;
 import com.consol.citrus.message.Message;
+import com.fasterxml.jackson.core.*;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.regex.Pattern;
 
 /**
+ * Extracts mapping key from message payload via JsonPath expression evaluation. Simple dot notation expressions such as
+ * <code>$.person.name</code> or <code>$.keySet()</code> are evaluated with a streaming parser that stops reading
+ * the payload as soon as the mapping key is found. All other expressions are evaluated on the fully parsed payload.
+ *
  * @author Christoph Deppisch
  * @since 2.6
  */
 public class JsonPayloadMappingKeyExtractor extends AbstractMappingKeyExtractor {
 
+    /** Shared thread safe Json parser factory */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /** Simple dot notation expression supported by streaming evaluation */
+    private static final Pattern SIMPLE_PATH = Pattern.compile("^\\$(\\.[A-Za-z0-9_\\-]+)*$");
+
+    /** Function suffix supported by streaming evaluation */
+    private static final String KEY_SET_FUNCTION = ".keySet()";
+
     /** XPath expression evaluated on message payload */
     private String jsonPathExpression = "$.keySet()";
 
+    /** Field names to follow for streaming evaluation, null if expression is not supported */
+    private String[] streamingPath;
+
+    /** Evaluate key set function on streaming evaluation result */
+    private boolean keySet;
+
+    public JsonPayloadMappingKeyExtractor() {
+        compileExpression();
+    }
+
     @Override
     public String getMappingKey(Message request) {
-        return JsonPathUtils.evaluateAsString(request.getPayload(String.class), jsonPathExpression);
+        String payload = request.getPayload(String.class);
+
+        if (streamingPath != null) {
+            String mappingKey = evaluateStreaming(payload);
+            if (mappingKey != null) {
+                return mappingKey;
+            }
+        }
+
+        return JsonPathUtils.evaluateAsString(payload, jsonPathExpression);
+    }
+
+    /**
+     * Reads payload with streaming parser following the field names of the expression. Returns null when result can not be
+     * determined without the full payload so caller has to fall back to regular evaluation.
+     * @param payload
+     * @return
+     */
+    private String evaluateStreaming(String payload) {
+        try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+            JsonToken token = parser.nextToken();
+
+            for (String fieldName : streamingPath) {
+                if (token != JsonToken.START_OBJECT) {
+                    return null;
+                }
+
+                boolean found = false;
+                while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    token = parser.nextToken();
+
+                    if (name.equals(fieldName)) {
+                        found = true;
+                        break;
+                    }
+
+                    parser.skipChildren();
+                }
+
+                if (!found) {
+                    return null;
+                }
+            }
+
+            if (keySet) {
+                if (token != JsonToken.START_OBJECT) {
+                    return Collections.emptySet().toString();
+                }
+
+                List<String> keys = new ArrayList<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    keys.add(parser.getCurrentName());
+
+                    if (keys.size() > 1) {
+                        // key order depends on the parsed object so evaluate on full payload
+                        return null;
+                    }
+
+                    parser.nextToken();
+                    parser.skipChildren();
+                }
+
+                return keys.toString();
+            }
+
+            if (token == null) {
+                return null;
+            }
+
+            switch (token) {
+                case VALUE_STRING:
+                case VALUE_NUMBER_INT:
+                case VALUE_TRUE:
+                case VALUE_FALSE:
+                    return parser.getText();
+                case VALUE_NULL:
+                    return "null";
+                default:
+                    return null;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Prepares streaming evaluation when expression is a simple dot notation path.
+     */
+    private void compileExpression() {
+        String expression = jsonPathExpression.trim();
+
+        keySet = expression.endsWith(KEY_SET_FUNCTION);
+        if (keySet) {
+            expression = expression.substring(0, expression.length() - KEY_SET_FUNCTION.length());
+        }
+
+        if (SIMPLE_PATH.matcher(expression).matches()) {
+            streamingPath = Arrays.stream(expression.split("\\."))
+                    .skip(1)
+                    .toArray(String[]::new);
+        } else {
+            streamingPath = null;
+        }
     }
 
     /**
@@ -40,5 +171,6 @@ public class JsonPayloadMappingKeyExtractor extends AbstractMappingKeyExtractor
      */
     public void setJsonPathExpression(String jsonPathExpression) {
         this.jsonPathExpression = jsonPathExpression;
+        compileExpression();
     }
 }
@@ -20,37 +20,218 @@ import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
 import com.consol.citrus.xml.xpath.XPathUtils;
 import com.consol.citrus.message.Message;
+import org.springframework.util.StringUtils;
 
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.*;
+import java.io.StringReader;
 import java.util.Collections;
+import java.util.regex.Pattern;
 
 /**
- * Extracts predicate from message payload via XPath expression evaluation.
+ * Extracts predicate from message payload via XPath expression evaluation. Expressions selecting the root element name
+ * or a simple absolute element path such as <code>/ns:TestRequest/ns:Operation</code> are evaluated with a streaming
+ * parser that stops reading the payload as soon as the mapping key is found. All other expressions are evaluated on the
+ * parsed payload document.
  *
  * @author Christoph Deppisch
  * @since 1.4
  */
 public class XPathPayloadMappingKeyExtractor extends AbstractMappingKeyExtractor {
 
+    /** Shared streaming parser factory */
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    /** Simple absolute element path supported by streaming evaluation */
+    private static final Pattern SIMPLE_PATH = Pattern.compile("^(/(\\*|([A-Za-z_][\\w.\\-]*:)?[A-Za-z_][\\w.\\-]*))+(/text\\(\\))?$");
+
     /** XPath expression evaluated on message payload */
     private String xpathExpression = "local-name(/*)";
 
     /** Namespace context builder for XPath expression evaluation */
     private NamespaceContextBuilder namespaceContextBuilder = new NamespaceContextBuilder();
 
+    /** Streaming evaluation plan, null if expression is not supported */
+    private StreamingExpression streamingExpression;
+
+    public XPathPayloadMappingKeyExtractor() {
+        compileExpression();
+    }
+
     @Override
     public String getMappingKey(Message request) {
+        if (streamingExpression != null) {
+            String mappingKey = evaluateStreaming(request);
+            if (StringUtils.hasText(mappingKey)) {
+                return mappingKey;
+            }
+        }
+
         return XPathUtils.evaluateAsString(
                 XMLUtils.parseMessagePayload(request.getPayload(String.class)),
                 xpathExpression,
                 namespaceContextBuilder.buildContext(request, Collections.emptyMap()));
     }
 
+    /**
+     * Reads payload with streaming parser until the expression result is found. Returns null when result can not be
+     * determined so caller has to fall back to regular evaluation.
+     * @param request
+     * @return
+     */
+    private String evaluateStreaming(Message request) {
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(request.getPayload(String.class)));
+            reader.nextTag();
+
+            if (streamingExpression.rootName) {
+                return streamingExpression.qualified && StringUtils.hasText(reader.getPrefix()) ? reader.getPrefix() + ":" + reader.getLocalName() : reader.getLocalName();
+            }
+
+            String[][] steps = streamingExpression.resolveSteps(request, namespaceContextBuilder);
+            if (!matches(reader, steps[0])) {
+                return null;
+            }
+
+            int depth = 1;
+            int matched = 1;
+            while (matched < steps.length && reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    if (depth == matched + 1 && matches(reader, steps[matched])) {
+                        matched++;
+                    } else {
+                        skipElement(reader);
+                        depth--;
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    // left the matched parent element without finding the next step
+                    return null;
+                }
+            }
+
+            return matched == steps.length ? readText(reader, streamingExpression.textNode) : null;
+        } catch (XMLStreamException e) {
+            return null;
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if current start element matches the namespace and local name of given step. Unprefixed steps match
+     * elements without namespace only.
+     * @param reader
+     * @param step
+     * @return
+     */
+    private boolean matches(XMLStreamReader reader, String[] step) {
+        if (step == null) {
+            return true;
+        }
+
+        String namespaceUri = reader.getNamespaceURI() != null ? reader.getNamespaceURI() : XMLConstants.NULL_NS_URI;
+        return step[1].equals(reader.getLocalName()) && step[0].equals(namespaceUri);
+    }
+
+    /**
+     * Skips current element with all children.
+     * @param reader
+     * @throws XMLStreamException
+     */
+    private void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Reads string value of current element. Either reads all descendant text or the first direct text node only.
+     * @param reader
+     * @param textNode
+     * @return
+     * @throws XMLStreamException
+     */
+    private String readText(XMLStreamReader reader, boolean textNode) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if (textNode && text.length() > 0) {
+                    return text.toString();
+                }
+
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA || event == XMLStreamConstants.SPACE) {
+                if (!textNode || depth == 1) {
+                    text.append(reader.getText());
+                }
+            } else if (textNode && text.length() > 0) {
+                return text.toString();
+            }
+        }
+
+        return text.toString();
+    }
+
+    /**
+     * Prepares streaming evaluation when expression selects root element name or a simple absolute element path.
+     */
+    private void compileExpression() {
+        String expression = xpathExpression.trim();
+
+        if (expression.equals("local-name(/*)") || expression.equals("name(/*)")) {
+            streamingExpression = new StreamingExpression(true, expression.startsWith("name"), false, null);
+        } else if (SIMPLE_PATH.matcher(expression).matches()) {
+            boolean textNode = expression.endsWith("/text()");
+            if (textNode) {
+                expression = expression.substring(0, expression.length() - "/text()".length());
+            }
+
+            streamingExpression = new StreamingExpression(false, false, textNode, expression.substring(1).split("/"));
+        } else {
+            streamingExpression = null;
+        }
+    }
+
+    /**
+     * Creates streaming parser factory with external entities and DTD processing disabled.
+     * @return
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
     /**
      * Sets the xpath expression to evaluate.
      * @param xpathExpression
      */
     public void setXpathExpression(String xpathExpression) {
         this.xpathExpression = xpathExpression;
+        compileExpression();
     }
 
     /**
@@ -61,4 +242,65 @@ public class XPathPayloadMappingKeyExtractor extends AbstractMappingKeyExtractor
         this.namespaceContextBuilder = namespaceContextBuilder;
     }
 
+    /**
+     * Expression prepared for streaming evaluation.
+     */
+    private static class StreamingExpression {
+        /** Selects root element name */
+        private final boolean rootName;
+        /** Root element name including prefix */
+        private final boolean qualified;
+        /** Selects first direct text node instead of element string value */
+        private final boolean textNode;
+        /** Element path steps */
+        private final String[] steps;
+        /** Steps use namespace prefixes */
+        private final boolean prefixed;
+
+        StreamingExpression(boolean rootName, boolean qualified, boolean textNode, String[] steps) {
+            this.rootName = rootName;
+            this.qualified = qualified;
+            this.textNode = textNode;
+            this.steps = steps;
+
+            boolean hasPrefix = false;
+            if (steps != null) {
+                for (String step : steps) {
+                    hasPrefix |= step.contains(":");
+                }
+            }
+            this.prefixed = hasPrefix;
+        }
+
+        /**
+         * Resolves path steps to namespace and local name pairs. Wildcard steps resolve to null. Namespace context
+         * is only built when steps use namespace prefixes.
+         * @param request
+         * @param namespaceContextBuilder
+         * @return
+         */
+        String[][] resolveSteps(Message request, NamespaceContextBuilder namespaceContextBuilder) throws XMLStreamException {
+            NamespaceContext namespaceContext = prefixed ? namespaceContextBuilder.buildContext(request, Collections.emptyMap()) : null;
+
+            String[][] resolved = new String[steps.length][];
+            for (int i = 0; i < steps.length; i++) {
+                String step = steps[i];
+                if (step.equals("*")) {
+                    resolved[i] = null;
+                } else if (step.contains(":")) {
+                    String prefix = step.substring(0, step.indexOf(':'));
+                    String namespaceUri = namespaceContext.getNamespaceURI(prefix);
+                    if (!StringUtils.hasText(namespaceUri)) {
+                        throw new XMLStreamException("Unable to resolve namespace prefix: " + prefix);
+                    }
+
+                    resolved[i] = new String[] { namespaceUri, step.substring(step.indexOf(':') + 1) };
+                } else {
+                    resolved[i] = new String[] { XMLConstants.NULL_NS_URI, step };
+                }
+            }
+
+            return resolved;
+        }
+    }
 }
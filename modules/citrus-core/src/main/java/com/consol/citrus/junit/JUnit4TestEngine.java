@@ -18,19 +18,27 @@ package com.consol.citrus.junit;
 
 import com.consol.citrus.TestClass;
 import com.consol.citrus.main.AbstractTestEngine;
+import com.consol.citrus.main.ParallelMode;
 import com.consol.citrus.main.TestRunConfiguration;
-import com.consol.citrus.main.scan.ClassPathTestScanner;
-import com.consol.citrus.main.scan.JarFileTestScanner;
+import com.consol.citrus.main.scan.TestScanner;
 import org.junit.Test;
+import org.junit.runner.Computer;
 import org.junit.runner.JUnitCore;
+import org.junit.runner.Runner;
 import org.junit.runner.notification.RunListener;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerBuilder;
+import org.junit.runners.model.RunnerScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
-import java.net.*;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Christoph Deppisch
@@ -63,16 +71,13 @@ public class JUnit4TestEngine extends AbstractTestEngine {
             }
 
             List<TestClass> classesToRun = new ArrayList<>();
+            TestScanner testScanner = getTestScanner(Test.class);
             for (String packageName : packagesToRun) {
                 if (StringUtils.hasText(packageName)) {
                     log.info(String.format("Running tests in package %s", packageName));
                 }
 
-                if (getConfiguration().getTestJar() != null) {
-                    classesToRun.addAll(new JarFileTestScanner(getConfiguration().getTestJar(), getConfiguration().getIncludes()).findTestsInPackage(packageName));
-                } else {
-                    classesToRun.addAll(new ClassPathTestScanner(Test.class, getConfiguration().getIncludes()).findTestsInPackage(packageName));
-                }
+                classesToRun.addAll(testScanner.findTestsInPackage(packageName));
             }
 
             log.info(String.format("Found %s test classes to execute", classesToRun.size()));
@@ -91,26 +96,28 @@ public class JUnit4TestEngine extends AbstractTestEngine {
             junit.addListener(listener);
         }
 
-        junit.run(classesToRun
+        Class<?>[] testClasses = classesToRun
                 .stream()
                 .peek(testClass -> log.info(String.format("Running test %s", Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method).orElse(testClass.getName()))))
                 .map(testClass -> {
                     try {
-                        Class<?> clazz;
-                        if (getConfiguration().getTestJar() != null) {
-                            clazz = Class.forName(testClass.getName(), false, new URLClassLoader(new URL[]{ getConfiguration().getTestJar().toURI().toURL() }, getClass().getClassLoader()));
-                        } else {
-                            clazz = Class.forName(testClass.getName());
-                        }
+                        Class<?> clazz = loadTestClass(testClass);
                         log.debug("Found test candidate: " + testClass.getName());
                         return clazz;
-                    } catch (ClassNotFoundException | MalformedURLException e) {
+                    } catch (ClassNotFoundException e) {
                         log.warn("Unable to read test class: " + testClass.getName());
                         return Void.class;
                     }
                 })
                 .filter(clazz -> !clazz.equals(Void.class))
-                .toArray(Class[]::new));
+                .toArray(Class[]::new);
+
+        if (getConfiguration().isParallel()) {
+            log.info(String.format("Running tests in parallel mode '%s' with %s threads", getConfiguration().getParallelMode().name().toLowerCase(), getConfiguration().getThreadCount()));
+            junit.run(new ThreadPoolComputer(getConfiguration().getParallelMode(), getConfiguration().getThreadCount()), testClasses);
+        } else {
+            junit.run(testClasses);
+        }
     }
 
     /**
@@ -121,4 +128,61 @@ public class JUnit4TestEngine extends AbstractTestEngine {
         this.listeners.add(listener);
         return this;
     }
+
+    /**
+     * Computer runs test classes or test methods in parallel on a fixed size thread pool.
+     */
+    private static class ThreadPoolComputer extends Computer {
+        private final ParallelMode parallelMode;
+        private final int threadCount;
+
+        ThreadPoolComputer(ParallelMode parallelMode, int threadCount) {
+            this.parallelMode = parallelMode;
+            this.threadCount = threadCount;
+        }
+
+        @Override
+        public Runner getSuite(RunnerBuilder builder, Class<?>[] classes) throws InitializationError {
+            Runner suite = super.getSuite(builder, classes);
+            return parallelMode == ParallelMode.CLASSES ? parallelize(suite) : suite;
+        }
+
+        @Override
+        protected Runner getRunner(RunnerBuilder builder, Class<?> testClass) throws Throwable {
+            Runner runner = super.getRunner(builder, testClass);
+            return parallelMode == ParallelMode.METHODS ? parallelize(runner) : runner;
+        }
+
+        /**
+         * Schedules child statements of given runner on a fixed size thread pool.
+         * @param runner
+         * @return
+         */
+        private Runner parallelize(Runner runner) {
+            if (runner instanceof ParentRunner) {
+                ((ParentRunner<?>) runner).setScheduler(new RunnerScheduler() {
+                    private final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+                    @Override
+                    public void schedule(Runnable childStatement) {
+                        executorService.submit(childStatement);
+                    }
+
+                    @Override
+                    public void finished() {
+                        executorService.shutdown();
+
+                        try {
+                            executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+                        } catch (InterruptedException e) {
+                            log.warn("Interrupted while waiting for parallel tests to finish", e);
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+            }
+
+            return runner;
+        }
+    }
 }
@@ -35,13 +35,16 @@ public class TestSuiteExecutionListener extends AbstractTestExecutionListener {
 
     @Override
     public void prepareTestInstance(TestContext testContext) throws Exception {
-        if (TestSuiteState.shouldExecuteBeforeSuite()) {
-            ApplicationContext ctx = testContext.getApplicationContext();
+        // hold lock while before suite actions run so tests in parallel threads wait for completion
+        synchronized (TestSuiteState.class) {
+            if (TestSuiteState.shouldExecuteBeforeSuite()) {
+                ApplicationContext ctx = testContext.getApplicationContext();
 
-            Citrus citrus = Citrus.newInstance(ctx);
-            citrus.beforeSuite(SUITE_NAME);
+                Citrus citrus = Citrus.newInstance(ctx);
+                citrus.beforeSuite(SUITE_NAME);
 
-            Runtime.getRuntime().addShutdownHook(new Thread(new AfterSuiteShutdownHook(citrus)));
+                Runtime.getRuntime().addShutdownHook(new Thread(new AfterSuiteShutdownHook(citrus)));
+            }
         }
     }
     
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.load;
+
+import com.consol.citrus.metrics.Histogram;
+import com.consol.citrus.metrics.PerformanceMetrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Result of a load test run holding iteration counts, elapsed time and iteration latency histogram. Latencies are
+ * recorded in microseconds.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class LoadTestResult {
+
+    private final int virtualUsers;
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+    private final Histogram latency;
+
+    private String testName;
+    private long elapsedTime;
+
+    /**
+     * Default constructor using number of virtual users.
+     * @param virtualUsers
+     */
+    public LoadTestResult(int virtualUsers) {
+        this.virtualUsers = virtualUsers;
+        this.latency = new Histogram(PerformanceMetrics.LOAD, "iteration", PerformanceMetrics.DURATION, PerformanceMetrics.MICROSECONDS);
+    }
+
+    /**
+     * Adds successful iteration started at given time in nanoseconds.
+     * @param startNanos
+     */
+    void addSuccess(long startNanos) {
+        latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+        successCount.increment();
+    }
+
+    /**
+     * Adds failed iteration started at given time in nanoseconds.
+     * @param startNanos
+     * @param cause
+     */
+    void addFailure(long startNanos, Throwable cause) {
+        latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+        failureCount.increment();
+        firstFailure.compareAndSet(null, cause);
+    }
+
+    /**
+     * Gets the total number of executed iterations.
+     * @return
+     */
+    public long getIterations() {
+        return successCount.sum() + failureCount.sum();
+    }
+
+    /**
+     * Gets the number of failed iterations.
+     * @return
+     */
+    public long getFailures() {
+        return failureCount.sum();
+    }
+
+    /**
+     * Gets the ratio of failed iterations between 0 and 1.
+     * @return
+     */
+    public double getErrorRate() {
+        long total = getIterations();
+        return total > 0 ? (double) getFailures() / total : 0.0;
+    }
+
+    /**
+     * Gets the number of iterations per second.
+     * @return
+     */
+    public double getThroughput() {
+        return elapsedTime > 0 ? getIterations() * 1000.0 / elapsedTime : 0.0;
+    }
+
+    /**
+     * Gets the iteration latency in microseconds at given percentile.
+     * @param percentile
+     * @return
+     */
+    public long getLatencyAtPercentile(double percentile) {
+        return latency.getValueAtPercentile(percentile);
+    }
+
+    /**
+     * Gets the iteration latency histogram.
+     * @return
+     */
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Gets the first failure cause or null if all iterations succeeded.
+     * @return
+     */
+    public Throwable getFirstFailure() {
+        return firstFailure.get();
+    }
+
+    /**
+     * Gets the virtual users.
+     * @return
+     */
+    public int getVirtualUsers() {
+        return virtualUsers;
+    }
+
+    /**
+     * Gets the test name.
+     * @return
+     */
+    public String getTestName() {
+        return testName;
+    }
+
+    /**
+     * Sets the test name.
+     * @param testName
+     */
+    void setTestName(String testName) {
+        this.testName = testName;
+    }
+
+    /**
+     * Gets the elapsed time in milliseconds.
+     * @return
+     */
+    public long getElapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * Sets the elapsed time in milliseconds.
+     * @param elapsedTime
+     */
+    void setElapsedTime(long elapsedTime) {
+        this.elapsedTime = elapsedTime;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Load test '%s' finished: %s iterations with %s virtual users in %s ms, " +
+                        "throughput=%.2f/s, error rate=%.2f%%, latency p50=%sus p90=%sus p99=%sus max=%sus",
+                testName, getIterations(), virtualUsers, elapsedTime, getThroughput(), getErrorRate() * 100,
+                getLatencyAtPercentile(50.0), getLatencyAtPercentile(90.0), getLatencyAtPercentile(99.0), latency.getMax());
+    }
+}
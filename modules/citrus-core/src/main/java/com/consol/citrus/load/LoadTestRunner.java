@@ -0,0 +1,271 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.load;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.common.TestLoader;
+import com.consol.citrus.common.XmlTestLoader;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.metrics.PerformanceMetrics;
+import com.consol.citrus.report.TestActionListeners;
+import com.consol.citrus.report.TestListeners;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a test case as concurrent workload with a number of virtual users. Each virtual user repeatedly loads a new test case
+ * instance with the given test loader and executes it with its own test context created by the test context factory. Endpoints
+ * and their connection pools are Spring beans and therefore shared across all virtual users.
+ *
+ * Load test is limited by total iteration count and/or duration. Virtual users are started all at once or at given ramp up rate.
+ * The load test result provides throughput, error rate and iteration latency percentiles.
+ *
+ * XML test cases are loaded with {@link #xml(Class, String, String, ApplicationContext)}. Java DSL test cases are loaded with
+ * the test designer component loader provided by the Java DSL module.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class LoadTestRunner {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    /** Loads new test case instance for each iteration */
+    private final TestLoader testLoader;
+
+    /** Creates new test context for each iteration */
+    private final TestContextFactory testContextFactory;
+
+    /** Number of concurrent virtual users */
+    private int virtualUsers = 1;
+
+    /** Total number of iterations across all virtual users, zero means unlimited */
+    private long iterations = 0L;
+
+    /** Load test duration in milliseconds, zero means unlimited */
+    private long duration = 0L;
+
+    /** Number of virtual users started per second, zero starts all users at once */
+    private double rampUpRate = 0.0;
+
+    /**
+     * Default constructor using test loader and test context factory.
+     * @param testLoader loader that must create a new test case instance on each call
+     * @param testContextFactory
+     */
+    public LoadTestRunner(TestLoader testLoader, TestContextFactory testContextFactory) {
+        this.testLoader = testLoader;
+        this.testContextFactory = testContextFactory;
+    }
+
+    /**
+     * Creates load test runner for XML test case. Test definition is parsed once and each iteration creates a new test case
+     * instance from the cached definition.
+     * @param testClass
+     * @param testName
+     * @param packageName
+     * @param applicationContext
+     * @return
+     */
+    public static LoadTestRunner xml(Class<?> testClass, String testName, String packageName, ApplicationContext applicationContext) {
+        return new LoadTestRunner(() -> new XmlTestLoader(testClass, testName, packageName, applicationContext).load(),
+                applicationContext.getBean(TestContextFactory.class));
+    }
+
+    /**
+     * Runs the load test and waits for all virtual users to complete.
+     * @return
+     */
+    public LoadTestResult run() {
+        if (iterations <= 0 && duration <= 0) {
+            throw new CitrusRuntimeException("Load test requires iteration count or duration to be set");
+        }
+
+        if (virtualUsers <= 0) {
+            throw new CitrusRuntimeException("Load test requires at least one virtual user");
+        }
+
+        AtomicLong remainingIterations = new AtomicLong(iterations > 0 ? iterations : Long.MAX_VALUE);
+        AtomicReference<String> testName = new AtomicReference<>();
+        LoadTestResult result = new LoadTestResult(virtualUsers);
+
+        AtomicInteger userIndex = new AtomicInteger(0);
+        ExecutorService executor = Executors.newFixedThreadPool(virtualUsers, runnable -> {
+            Thread thread = new Thread(runnable, "CitrusLoadTestUser-" + userIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long startTime = System.currentTimeMillis();
+        long deadline = duration > 0 ? startTime + duration : Long.MAX_VALUE;
+
+        try {
+            List<Future<?>> users = new ArrayList<>();
+            for (int i = 0; i < virtualUsers; i++) {
+                long startDelay = rampUpRate > 0 ? (long) (i * 1000L / rampUpRate) : 0L;
+                users.add(executor.submit(() -> runVirtualUser(startTime + startDelay, deadline, remainingIterations, testName, result)));
+            }
+
+            for (Future<?> user : users) {
+                try {
+                    user.get();
+                } catch (ExecutionException e) {
+                    throw new CitrusRuntimeException("Virtual user failed with unexpected error", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while running load test", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        result.setTestName(testName.get());
+        result.setElapsedTime(System.currentTimeMillis() - startTime);
+
+        log.info(result.toString());
+
+        return result;
+    }
+
+    /**
+     * Executes test iterations until iteration count is exhausted or load test deadline is reached. Iterations do not notify
+     * test and test action listeners and skip before and after test sequences so load tests do not create a report entry
+     * per iteration. Errors while loading the test case count as failed iteration.
+     * @param startTime
+     * @param deadline
+     * @param remainingIterations
+     * @param testName
+     * @param result
+     * @throws InterruptedException
+     */
+    private Void runVirtualUser(long startTime, long deadline, AtomicLong remainingIterations,
+                                AtomicReference<String> testName, LoadTestResult result) throws InterruptedException {
+        long startDelay = startTime - System.currentTimeMillis();
+        if (startDelay > 0) {
+            Thread.sleep(startDelay);
+        }
+
+        while (System.currentTimeMillis() < deadline && remainingIterations.getAndDecrement() > 0) {
+            TestCase testCase;
+            long loadStart = System.nanoTime();
+            try {
+                testCase = testLoader.load();
+            } catch (Exception | AssertionError e) {
+                result.addFailure(loadStart, e);
+                continue;
+            }
+
+            testName.compareAndSet(null, testCase.getName());
+            testCase.setTestActionListeners(new TestActionListeners());
+            testCase.setBeforeTest(null);
+            testCase.setAfterTest(null);
+
+            TestContext context = testContextFactory.getObject();
+            context.setTestListeners(new TestListeners());
+            long iterationStart = System.nanoTime();
+            try {
+                testCase.execute(context);
+                result.addSuccess(iterationStart);
+            } catch (Exception | AssertionError e) {
+                result.addFailure(iterationStart, e);
+            }
+
+            PerformanceMetrics metrics = context.getPerformanceMetrics();
+            if (metrics != null && metrics.isEnabled()) {
+                metrics.recordTime(PerformanceMetrics.LOAD, testCase.getName(), PerformanceMetrics.DURATION, iterationStart);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Sets the number of virtual users.
+     * @param virtualUsers
+     */
+    public void setVirtualUsers(int virtualUsers) {
+        this.virtualUsers = virtualUsers;
+    }
+
+    /**
+     * Gets the number of virtual users.
+     * @return
+     */
+    public int getVirtualUsers() {
+        return virtualUsers;
+    }
+
+    /**
+     * Sets the total number of iterations.
+     * @param iterations
+     */
+    public void setIterations(long iterations) {
+        this.iterations = iterations;
+    }
+
+    /**
+     * Gets the total number of iterations.
+     * @return
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Sets the load test duration in milliseconds.
+     * @param duration
+     */
+    public void setDuration(long duration) {
+        this.duration = duration;
+    }
+
+    /**
+     * Gets the load test duration in milliseconds.
+     * @return
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Sets the number of virtual users started per second.
+     * @param rampUpRate
+     */
+    public void setRampUpRate(double rampUpRate) {
+        this.rampUpRate = rampUpRate;
+    }
+
+    /**
+     * Gets the number of virtual users started per second.
+     * @return
+     */
+    public double getRampUpRate() {
+        return rampUpRate;
+    }
+}
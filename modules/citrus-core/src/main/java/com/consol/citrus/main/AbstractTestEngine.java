@@ -16,14 +16,31 @@
 
 package com.consol.citrus.main;
 
+import com.consol.citrus.TestClass;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.main.scan.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+
 /**
  * @author Christoph Deppisch
  * @since 2.7.4
  */
 public abstract class AbstractTestEngine implements TestEngine {
 
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(AbstractTestEngine.class);
+
     private final TestRunConfiguration configuration;
 
+    /** Class loader shared by all test classes loaded from the test jar */
+    private ClassLoader testJarClassLoader;
+
     public AbstractTestEngine(TestRunConfiguration configuration) {
         this.configuration = configuration;
     }
@@ -36,4 +53,61 @@ public abstract class AbstractTestEngine implements TestEngine {
     public TestRunConfiguration getConfiguration() {
         return configuration;
     }
+
+    /**
+     * Gets test scanner for given test annotation type. Uses the build time generated test index when available and
+     * falls back to scanning the test jar or the class path.
+     * @param annotationType
+     * @return
+     */
+    protected TestScanner getTestScanner(Class<? extends Annotation> annotationType) {
+        TestIndexScanner indexScanner;
+        if (configuration.getTestJar() != null) {
+            indexScanner = new TestIndexScanner(configuration.getTestJar(), annotationType, configuration.getIncludes());
+        } else {
+            indexScanner = new TestIndexScanner(getClass().getClassLoader(), annotationType, configuration.getIncludes());
+        }
+
+        if (indexScanner.isIndexAvailable()) {
+            log.debug("Using test index to find tests");
+            return indexScanner;
+        }
+
+        if (configuration.getTestJar() != null) {
+            return new JarFileTestScanner(configuration.getTestJar(), configuration.getIncludes());
+        } else {
+            return new ClassPathTestScanner(annotationType, configuration.getIncludes());
+        }
+    }
+
+    /**
+     * Loads given test class either from the configured test jar or from the current class path.
+     * @param testClass
+     * @return
+     * @throws ClassNotFoundException
+     */
+    protected Class<?> loadTestClass(TestClass testClass) throws ClassNotFoundException {
+        if (configuration.getTestJar() != null) {
+            return Class.forName(testClass.getName(), false, getTestJarClassLoader());
+        } else {
+            return Class.forName(testClass.getName());
+        }
+    }
+
+    /**
+     * Gets the class loader for the test jar. Class loader is created once and shared for all test classes
+     * so classes and resources of the jar are only loaded once.
+     * @return
+     */
+    protected synchronized ClassLoader getTestJarClassLoader() {
+        if (testJarClassLoader == null) {
+            try {
+                testJarClassLoader = new URLClassLoader(new URL[]{ configuration.getTestJar().toURI().toURL() }, getClass().getClassLoader());
+            } catch (MalformedURLException e) {
+                throw new CitrusRuntimeException("Unable to access test jar: " + configuration.getTestJar(), e);
+            }
+        }
+
+        return testJarClassLoader;
+    }
 }
@@ -161,6 +161,36 @@ public class CitrusAppOptions {
                 }
             }
         });
+
+        options.add(new CliOption<CitrusAppConfiguration>("n", "threads", "Number of threads used for parallel test execution") {
+            @Override
+            protected void doProcess(CitrusAppConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setThreadCount(Integer.valueOf(value));
+
+                    if (configuration.getParallelMode() == ParallelMode.NONE) {
+                        configuration.setParallelMode(ParallelMode.CLASSES);
+                    }
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -n/--threads option");
+                }
+            }
+        });
+
+        options.add(new CliOption<CitrusAppConfiguration>("m", "parallel", "Parallel test execution mode (none, classes, methods)") {
+            @Override
+            protected void doProcess(CitrusAppConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setParallelMode(ParallelMode.valueOf(value.trim().toUpperCase()));
+
+                    if (configuration.getParallelMode() != ParallelMode.NONE && configuration.getThreadCount() <= 1) {
+                        configuration.setThreadCount(Runtime.getRuntime().availableProcessors());
+                    }
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -m/--parallel option");
+                }
+            }
+        });
     }
 
     /**
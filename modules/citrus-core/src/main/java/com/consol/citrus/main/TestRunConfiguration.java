@@ -42,6 +42,12 @@ public class TestRunConfiguration {
     /** Optional test jar artifact holding tests */
     private File testJar;
 
+    /** Parallel execution mode */
+    private ParallelMode parallelMode = ParallelMode.NONE;
+
+    /** Number of threads used for parallel test execution */
+    private int threadCount = 1;
+
     /**
      * Gets the testClasses.
      *
@@ -114,6 +120,51 @@ public class TestRunConfiguration {
         this.testJar = testJar;
     }
 
+    /**
+     * Gets the parallelMode.
+     *
+     * @return
+     */
+    public ParallelMode getParallelMode() {
+        return parallelMode;
+    }
+
+    /**
+     * Sets the parallelMode.
+     *
+     * @param parallelMode
+     */
+    public void setParallelMode(ParallelMode parallelMode) {
+        this.parallelMode = parallelMode;
+    }
+
+    /**
+     * Gets the threadCount.
+     *
+     * @return
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Sets the threadCount.
+     *
+     * @param threadCount
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Checks if tests should run in parallel.
+     *
+     * @return
+     */
+    public boolean isParallel() {
+        return parallelMode != ParallelMode.NONE && threadCount > 1;
+    }
+
     /**
      * Gets the defaultProperties.
      *
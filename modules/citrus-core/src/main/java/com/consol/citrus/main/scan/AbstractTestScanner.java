@@ -28,19 +28,29 @@ public abstract class AbstractTestScanner implements TestScanner {
     /** Test name patterns to include */
     private final String[] includes;
 
+    /** Compiled include patterns */
+    private final Pattern[] includePatterns;
+
     public AbstractTestScanner(String... includes) {
         if (includes.length > 0) {
             this.includes = includes;
         } else {
             this.includes = new String[] { "^.*IT$", "^.*ITCase$", "^IT.*$" };
         }
+
+        this.includePatterns = Stream.of(this.includes)
+                .map(Pattern::compile)
+                .toArray(Pattern[]::new);
     }
 
     protected boolean isIncluded(String className) {
-        return Stream.of(getIncludes())
-                .parallel()
-                .map(Pattern::compile)
-                .anyMatch(pattern -> pattern.matcher(className).matches());
+        for (Pattern pattern : includePatterns) {
+            if (pattern.matcher(className).matches()) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
@@ -21,14 +21,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
-import org.springframework.core.annotation.AnnotationUtils;
-import org.springframework.core.type.ClassMetadata;
-import org.springframework.core.type.filter.AbstractClassTestingTypeFilter;
-import org.springframework.util.ReflectionUtils;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -55,28 +54,8 @@ public class ClassPathTestScanner extends AbstractTestScanner {
     @Override
     public List<TestClass> findTestsInPackage(String packageName) {
         ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
-        provider.addIncludeFilter(new AbstractClassTestingTypeFilter() {
-            @Override
-            protected boolean match(ClassMetadata metadata) {
-                if (!isIncluded(metadata.getClassName())) {
-                    return false;
-                }
-
-                try {
-                    Class<?> clazz = Class.forName(metadata.getClassName());
-                    if (clazz.isAnnotationPresent(annotationType)) {
-                        return true;
-                    }
-
-                    AtomicBoolean hasTestMethod = new AtomicBoolean(false);
-                    ReflectionUtils.doWithMethods(clazz, method -> hasTestMethod.set(true), method -> AnnotationUtils.findAnnotation(method, annotationType) != null);
-                    return hasTestMethod.get();
-                } catch (NoClassDefFoundError | ClassNotFoundException e) {
-                    log.warn("Unable to access class: " + metadata.getClassName());
-                    return false;
-                }
-            }
-        });
+        provider.addIncludeFilter((metadataReader, metadataReaderFactory) ->
+                isIncluded(metadataReader.getClassMetadata().getClassName()) && isTestClass(metadataReader, metadataReaderFactory));
 
         return provider.findCandidateComponents(packageName)
                 .stream()
@@ -85,4 +64,28 @@ public class ClassPathTestScanner extends AbstractTestScanner {
                 .map(TestClass::new)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Checks if class is annotated with test annotation or holds annotated test methods. Checks are performed on class file
+     * metadata so classes do not get loaded and initialized. Super classes are checked too.
+     * @param metadataReader
+     * @param metadataReaderFactory
+     * @return
+     */
+    private boolean isTestClass(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+        AnnotationMetadata metadata = metadataReader.getAnnotationMetadata();
+        if (metadata.isAnnotated(annotationType.getName()) || metadata.hasAnnotatedMethods(annotationType.getName())) {
+            return true;
+        }
+
+        if (metadata.hasSuperClass() && !Object.class.getName().equals(metadata.getSuperClassName())) {
+            try {
+                return isTestClass(metadataReaderFactory.getMetadataReader(metadata.getSuperClassName()), metadataReaderFactory);
+            } catch (IOException e) {
+                log.warn("Unable to access class: " + metadata.getSuperClassName());
+            }
+        }
+
+        return false;
+    }
 }
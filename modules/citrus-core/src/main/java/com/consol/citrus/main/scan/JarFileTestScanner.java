@@ -50,11 +50,18 @@ public class JarFileTestScanner extends AbstractTestScanner {
     public List<TestClass> findTestsInPackage(String packageToScan) {
         List<TestClass> testClasses = new ArrayList<>();
         if (artifact != null && artifact.isFile()) {
+            AntPathMatcher pathMatcher = new AntPathMatcher();
+            String packagePath = packageToScan.replace( ".", "/" );
+
             try (JarFile jar = new JarFile(artifact)) {
                 for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
                     JarEntry entry = entries.nextElement();
+                    if (entry.isDirectory() || !entry.getName().endsWith(".class")) {
+                        continue;
+                    }
+
                     String className = StringUtils.removeEnd(entry.getName(), ".class" ).replace( "/", "." );
-                    if (new AntPathMatcher().matchStart(packageToScan.replace( ".", "/" ), entry.getName()) && isIncluded(className)) {
+                    if (pathMatcher.matchStart(packagePath, entry.getName()) && isIncluded(className)) {
                         log.info("Found test class candidate in test jar file: " +  entry.getName());
                         testClasses.add(new TestClass(className));
                     }
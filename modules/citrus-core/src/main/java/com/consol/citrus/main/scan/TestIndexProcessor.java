@@ -0,0 +1,161 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.main.scan;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Annotation processor generating the test index read by {@link TestIndexScanner} at build time. Processor collects all
+ * concrete classes annotated with a test annotation or holding annotated test methods, also inherited from super classes.
+ * Processor is not registered automatically and has to be added to the compiler configuration of the test sources.
+ *
+ * Annotation types to index are set with processor option "citrus.test.annotations" as comma separated list. By default
+ * TestNG and JUnit4 test annotations are indexed.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(TestIndexProcessor.ANNOTATIONS_OPTION)
+public class TestIndexProcessor extends AbstractProcessor {
+
+    /** Processor option holding annotation types to index */
+    public static final String ANNOTATIONS_OPTION = "citrus.test.annotations";
+
+    /** Default test annotation types */
+    private static final String[] DEFAULT_ANNOTATIONS = new String[] { "org.testng.annotations.Test", "org.junit.Test" };
+
+    /** Indexed test class names per annotation type */
+    private final Map<String, Set<String>> index = new LinkedHashMap<>();
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+
+        String annotations = processingEnv.getOptions().get(ANNOTATIONS_OPTION);
+        String[] annotationTypes = annotations != null ? annotations.split(",") : DEFAULT_ANNOTATIONS;
+        for (String annotationType : annotationTypes) {
+            if (!annotationType.trim().isEmpty()) {
+                index.put(annotationType.trim(), new TreeSet<>());
+            }
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+
+            for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+                if (isTestClass(type, entry.getKey())) {
+                    entry.getValue().add(processingEnv.getElementUtils().getBinaryName(type).toString());
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if given type or one of its super classes is annotated with the test annotation or holds annotated methods.
+     * @param type
+     * @param annotationType
+     * @return
+     */
+    private boolean isTestClass(TypeElement type, String annotationType) {
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals(Object.class.getName())) {
+            if (isAnnotated(current, annotationType)) {
+                return true;
+            }
+
+            for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                if (isAnnotated(method, annotationType)) {
+                    return true;
+                }
+            }
+
+            TypeMirror superClass = current.getSuperclass();
+            current = superClass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superClass).asElement() : null;
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if element is annotated with given annotation type.
+     * @param element
+     * @param annotationType
+     * @return
+     */
+    private boolean isAnnotated(Element element, String annotationType) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationType)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Writes index file for each annotation type that has test classes.
+     */
+    private void writeIndex() {
+        for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+
+            try {
+                FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", TestIndexScanner.INDEX_LOCATION + entry.getKey());
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8))) {
+                    for (String className : entry.getValue()) {
+                        writer.write(className);
+                        writer.write("\n");
+                    }
+                }
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write test index for " + entry.getKey() + ": " + e.getMessage());
+            }
+        }
+    }
+}
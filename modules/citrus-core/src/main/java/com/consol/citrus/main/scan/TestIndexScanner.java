@@ -0,0 +1,173 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.main.scan;
+
+import com.consol.citrus.TestClass;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+import java.io.*;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+
+/**
+ * Test scanner reading test classes from a test index generated at build time with {@link TestIndexProcessor}. Index
+ * holds one file per test annotation type listing all test class names line by line. Reading the index avoids class path
+ * and jar file scanning entirely.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class TestIndexScanner extends AbstractTestScanner {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(TestIndexScanner.class);
+
+    /** Location of test index files */
+    public static final String INDEX_LOCATION = "META-INF/citrus-tests/";
+
+    /** Test class names read from index, null when no index is available */
+    private final Set<String> indexedClasses;
+
+    /**
+     * Constructor reading index for given test annotation from class loader resources.
+     * @param classLoader
+     * @param annotationType
+     * @param includes
+     */
+    public TestIndexScanner(ClassLoader classLoader, Class<? extends Annotation> annotationType, String... includes) {
+        super(includes);
+        this.indexedClasses = readIndex(classLoader, getIndexLocation(annotationType));
+    }
+
+    /**
+     * Constructor reading index for given test annotation from jar file.
+     * @param artifact
+     * @param annotationType
+     * @param includes
+     */
+    public TestIndexScanner(File artifact, Class<? extends Annotation> annotationType, String... includes) {
+        super(includes);
+        this.indexedClasses = readIndex(artifact, getIndexLocation(annotationType));
+    }
+
+    @Override
+    public List<TestClass> findTestsInPackage(String packageName) {
+        if (indexedClasses == null) {
+            return Collections.emptyList();
+        }
+
+        return indexedClasses.stream()
+                .filter(className -> !StringUtils.hasText(packageName) || className.startsWith(packageName + "."))
+                .filter(this::isIncluded)
+                .map(TestClass::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Checks if test index has been found.
+     * @return
+     */
+    public boolean isIndexAvailable() {
+        return indexedClasses != null;
+    }
+
+    /**
+     * Gets index resource location for given test annotation type.
+     * @param annotationType
+     * @return
+     */
+    public static String getIndexLocation(Class<? extends Annotation> annotationType) {
+        return INDEX_LOCATION + annotationType.getName();
+    }
+
+    /**
+     * Reads all index resources with given location from class loader.
+     * @param classLoader
+     * @param location
+     * @return
+     */
+    private static Set<String> readIndex(ClassLoader classLoader, String location) {
+        try {
+            Enumeration<URL> resources = classLoader.getResources(location);
+            if (!resources.hasMoreElements()) {
+                return null;
+            }
+
+            Set<String> classNames = new LinkedHashSet<>();
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                log.debug("Reading test index: " + resource);
+
+                try (InputStream inputStream = resource.openStream()) {
+                    classNames.addAll(readClassNames(inputStream));
+                }
+            }
+
+            return classNames;
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read test index: " + location, e);
+        }
+    }
+
+    /**
+     * Reads index entry with given location from jar file.
+     * @param artifact
+     * @param location
+     * @return
+     */
+    private static Set<String> readIndex(File artifact, String location) {
+        if (artifact == null || !artifact.isFile()) {
+            return null;
+        }
+
+        try (JarFile jar = new JarFile(artifact)) {
+            JarEntry entry = jar.getJarEntry(location);
+            if (entry == null) {
+                return null;
+            }
+
+            log.debug("Reading test index from jar file: " + artifact);
+            try (InputStream inputStream = jar.getInputStream(entry)) {
+                return new LinkedHashSet<>(readClassNames(inputStream));
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read test index from jar file artifact", e);
+        }
+    }
+
+    /**
+     * Reads class names line by line ignoring empty lines and comments.
+     * @param inputStream
+     * @return
+     * @throws IOException
+     */
+    private static List<String> readClassNames(InputStream inputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        return reader.lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .collect(Collectors.toList());
+    }
+}
@@ -20,7 +20,10 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.TypeConversionUtils;
 import org.springframework.util.CollectionUtils;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Default message implementation holds message payload and message headers. Also provides access methods for special
@@ -46,6 +49,9 @@ public class DefaultMessage implements Message {
     /** The message name for internal use */
     private String name;
 
+    /** Converted payload views cached until the payload changes */
+    private transient volatile PayloadCache payloadCache;
+
     /**
      * Empty constructor initializing with empty message payload.
      */
@@ -142,9 +148,60 @@ public class DefaultMessage implements Message {
         return headerData;
     }
 
+    /**
+     * Gets payload converted to required type. Immutable conversions of string, binary and stream payloads are memoized until the
+     * payload object changes so repeated calls for the same type do not convert the payload again. Mutable views such as
+     * maps, lists, byte arrays or sources get created on each call.
+     * @param type
+     * @param <T>
+     * @return
+     */
     @Override
     public <T> T getPayload(Class<T> type) {
-        return TypeConversionUtils.convertIfNecessary(getPayload(), type);
+        Object currentPayload = getPayload();
+        if (currentPayload == null || type.isInstance(currentPayload) || !isCacheablePayload(currentPayload)) {
+            return TypeConversionUtils.convertIfNecessary(currentPayload, type);
+        }
+
+        PayloadCache cache = payloadCache;
+        if (cache == null || cache.payload != currentPayload) {
+            cache = new PayloadCache(currentPayload);
+            payloadCache = cache;
+        }
+
+        Object converted = cache.views.get(type);
+        if (converted == null) {
+            converted = TypeConversionUtils.convertIfNecessary(currentPayload, type);
+            if (isCacheable(converted)) {
+                cache.views.put(type, converted);
+            }
+        }
+
+        if (converted instanceof String[]) {
+            return (T) ((String[]) converted).clone();
+        }
+
+        return (T) converted;
+    }
+
+    /**
+     * Checks if conversions of given payload can be memoized. Only raw string, binary and stream payloads are supported
+     * as other payload objects may get modified in place.
+     * @param payload
+     * @return
+     */
+    private static boolean isCacheablePayload(Object payload) {
+        return payload instanceof String || payload instanceof byte[] || payload instanceof ByteBuffer || payload instanceof InputStream;
+    }
+
+    /**
+     * Checks if converted payload view can be reused for subsequent calls. Only immutable views are shared, string arrays
+     * are handed out as copies.
+     * @param converted
+     * @return
+     */
+    private static boolean isCacheable(Object converted) {
+        return converted instanceof String || converted instanceof String[];
     }
 
     @Override
@@ -155,6 +212,7 @@ public class DefaultMessage implements Message {
     @Override
     public void setPayload(Object payload) {
         this.payload = payload;
+        this.payloadCache = null;
     }
 
     @Override
@@ -171,4 +229,16 @@ public class DefaultMessage implements Message {
     public String getName() {
         return name;
     }
+
+    /**
+     * Converted payload views bound to the payload object they were created from.
+     */
+    private static class PayloadCache {
+        private final Object payload;
+        private final Map<Class<?>, Object> views = new ConcurrentHashMap<>();
+
+        PayloadCache(Object payload) {
+            this.payload = payload;
+        }
+    }
 }
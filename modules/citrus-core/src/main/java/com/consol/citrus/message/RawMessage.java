@@ -16,12 +16,17 @@
 
 package com.consol.citrus.message;
 
+import java.util.function.Supplier;
+
 /**
  * @author Christoph Deppisch
  * @since 2.0
  */
 public class RawMessage extends DefaultMessage {
 
+    /** Optional lazy payload supplier */
+    private transient volatile Supplier<String> messageData;
+
     /**
      * Empty constructor initializing with empty message payload.
      */
@@ -37,6 +42,44 @@ public class RawMessage extends DefaultMessage {
         super(messageData);
     }
 
+    /**
+     * Constructor initializing with lazy message payload. Supplier is called on first payload access only.
+     * @param messageData
+     */
+    public RawMessage(Supplier<String> messageData) {
+        super("");
+        this.messageData = messageData;
+    }
+
+    @Override
+    public Object getPayload() {
+        if (messageData != null) {
+            resolvePayload();
+        }
+
+        return super.getPayload();
+    }
+
+    @Override
+    public void setPayload(Object payload) {
+        synchronized (this) {
+            messageData = null;
+        }
+
+        super.setPayload(payload);
+    }
+
+    /**
+     * Creates lazy payload and sets as message payload.
+     */
+    private synchronized void resolvePayload() {
+        if (messageData != null) {
+            Supplier<String> supplier = messageData;
+            messageData = null;
+            super.setPayload(supplier.get());
+        }
+    }
+
     @Override
     public String toString() {
         return getPayload(String.class);
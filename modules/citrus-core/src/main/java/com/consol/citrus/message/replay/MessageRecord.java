@@ -0,0 +1,92 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.message.replay;
+
+import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessageDirection;
+
+/**
+ * Single message entry of a message record file holding the message direction and the time of recording relative
+ * to the start of the record file.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class MessageRecord {
+
+    /** Record file format marker and version */
+    static final int MAGIC = 0x43524543;
+    static final short VERSION = 1;
+
+    /** File header holds magic, version and recording start time in epoch milliseconds */
+    static final int FILE_HEADER_SIZE = 4 + 2 + 8;
+
+    /** Record header holds direction, relative timestamp and record body length */
+    static final int RECORD_HEADER_SIZE = 1 + 8 + 4;
+
+    /** Payload type markers */
+    static final byte PAYLOAD_TEXT = 0;
+    static final byte PAYLOAD_BINARY = 1;
+
+    /** Header value type markers */
+    static final byte VALUE_STRING = 0;
+    static final byte VALUE_INTEGER = 1;
+    static final byte VALUE_LONG = 2;
+    static final byte VALUE_BOOLEAN = 3;
+    static final byte VALUE_DOUBLE = 4;
+
+    private final MessageDirection direction;
+    private final long timestamp;
+    private final Message message;
+
+    /**
+     * Default constructor.
+     * @param direction
+     * @param timestamp
+     * @param message
+     */
+    public MessageRecord(MessageDirection direction, long timestamp, Message message) {
+        this.direction = direction;
+        this.timestamp = timestamp;
+        this.message = message;
+    }
+
+    /**
+     * Gets the message direction.
+     * @return
+     */
+    public MessageDirection getDirection() {
+        return direction;
+    }
+
+    /**
+     * Gets the time of recording in nanoseconds relative to the record file start time.
+     * @return
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Gets the recorded message.
+     * @return
+     */
+    public Message getMessage() {
+        return message;
+    }
+}
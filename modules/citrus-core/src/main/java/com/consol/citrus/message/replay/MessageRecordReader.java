@@ -0,0 +1,227 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.message.replay;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Streams messages from a binary record file written by {@link MessageRecordWriter}. File content is memory mapped in
+ * sliding windows so very large record files are read without loading them into heap memory. Incomplete trailing records
+ * that result from an interrupted recording are ignored.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class MessageRecordReader implements Iterator<MessageRecord>, Closeable {
+
+    /** Default size of memory mapped file windows */
+    private static final long DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private final long windowSize;
+
+    /** Recording start time in epoch milliseconds */
+    private final long startTime;
+
+    /** Currently mapped file window */
+    private ByteBuffer window;
+    private long windowPosition;
+
+    /** Read position in file */
+    private long position;
+
+    /**
+     * Opens reader on given record file.
+     * @param file
+     * @throws IOException
+     */
+    public MessageRecordReader(File file) throws IOException {
+        this(file, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens reader on given record file using memory mapped windows of given size.
+     * @param file
+     * @param windowSize
+     * @throws IOException
+     */
+    MessageRecordReader(File file, long windowSize) throws IOException {
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+
+        try {
+            if (size < MessageRecord.FILE_HEADER_SIZE) {
+                throw new CitrusRuntimeException("Invalid message record file: " + file.getAbsolutePath());
+            }
+
+            ByteBuffer header = buffer(0, MessageRecord.FILE_HEADER_SIZE);
+            if (header.getInt() != MessageRecord.MAGIC || header.getShort() != MessageRecord.VERSION) {
+                throw new CitrusRuntimeException("Unsupported message record file: " + file.getAbsolutePath());
+            }
+
+            this.startTime = header.getLong();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+
+        this.position = MessageRecord.FILE_HEADER_SIZE;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (position + MessageRecord.RECORD_HEADER_SIZE > size) {
+            return false;
+        }
+
+        try {
+            int length = buffer(position + MessageRecord.RECORD_HEADER_SIZE - 4, 4).getInt();
+            return position + MessageRecord.RECORD_HEADER_SIZE + length <= size;
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read message record file", e);
+        }
+    }
+
+    @Override
+    public MessageRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more messages in record file");
+        }
+
+        try {
+            ByteBuffer header = buffer(position, MessageRecord.RECORD_HEADER_SIZE);
+            MessageDirection direction = MessageDirection.values()[header.get()];
+            long timestamp = header.getLong();
+            int length = header.getInt();
+
+            ByteBuffer body = buffer(position + MessageRecord.RECORD_HEADER_SIZE, length);
+            position += MessageRecord.RECORD_HEADER_SIZE + length;
+
+            return new MessageRecord(direction, timestamp, readMessage(body));
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read message record file", e);
+        }
+    }
+
+    /**
+     * Creates message from record body.
+     * @param body
+     * @return
+     */
+    private Message readMessage(ByteBuffer body) {
+        Map<String, Object> headers = new LinkedHashMap<>();
+        int headerCount = body.getInt();
+        for (int i = 0; i < headerCount; i++) {
+            headers.put(readString(body), readValue(body));
+        }
+
+        List<String> headerData = new ArrayList<>();
+        int headerDataCount = body.getInt();
+        for (int i = 0; i < headerDataCount; i++) {
+            headerData.add(readString(body));
+        }
+
+        Object payload;
+        if (body.get() == MessageRecord.PAYLOAD_BINARY) {
+            byte[] bytes = new byte[body.getInt()];
+            body.get(bytes);
+            payload = bytes;
+        } else {
+            payload = readString(body);
+        }
+
+        DefaultMessage message = new DefaultMessage(payload, headers);
+        headerData.forEach(message::addHeaderData);
+        return message;
+    }
+
+    /**
+     * Reads typed header value.
+     * @param body
+     * @return
+     */
+    private static Object readValue(ByteBuffer body) {
+        switch (body.get()) {
+            case MessageRecord.VALUE_INTEGER:
+                return body.getInt();
+            case MessageRecord.VALUE_LONG:
+                return body.getLong();
+            case MessageRecord.VALUE_BOOLEAN:
+                return body.get() != 0;
+            case MessageRecord.VALUE_DOUBLE:
+                return body.getDouble();
+            default:
+                return readString(body);
+        }
+    }
+
+    /**
+     * Reads length prefixed UTF-8 string.
+     * @param body
+     * @return
+     */
+    private static String readString(ByteBuffer body) {
+        byte[] bytes = new byte[body.getInt()];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets buffer view on given file region. Maps new file window starting at the region when region is not covered
+     * by current window.
+     * @param offset
+     * @param length
+     * @return
+     * @throws IOException
+     */
+    private ByteBuffer buffer(long offset, int length) throws IOException {
+        if (window == null || offset < windowPosition || offset + length > windowPosition + window.limit()) {
+            windowPosition = offset;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(size - offset, Math.max(windowSize, length)));
+        }
+
+        ByteBuffer view = window.duplicate();
+        view.position((int) (offset - windowPosition));
+        view.limit(view.position() + length);
+        return view.slice();
+    }
+
+    /**
+     * Gets the recording start time in epoch milliseconds.
+     * @return
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
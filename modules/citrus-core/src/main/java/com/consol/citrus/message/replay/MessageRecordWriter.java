@@ -0,0 +1,235 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.message.replay;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Appends messages with headers and relative timestamps to a compact binary record file. Existing record files are
+ * continued with timestamps resuming at the last recorded message so the time between two recording sessions is not
+ * replayed. Incomplete trailing records of an interrupted recording are discarded before appending. Internal message id
+ * and timestamp headers are not recorded as replayed messages get new ones anyway.
+ *
+ * Writer is thread safe.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class MessageRecordWriter implements Closeable, Flushable {
+
+    /** Output buffer size */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DataOutputStream out;
+
+    /** Reusable buffer for record body serialization */
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream(BUFFER_SIZE);
+    private final DataOutputStream bodyOut = new DataOutputStream(body);
+
+    /** Monotonic clock reference and offset to the record file start time */
+    private final long startNanos;
+    private final long startOffset;
+
+    /**
+     * Opens writer on given file creating the file if necessary.
+     * @param file
+     * @throws IOException
+     */
+    public MessageRecordWriter(File file) throws IOException {
+        boolean append = file.exists() && file.length() > 0;
+
+        if (append) {
+            this.startOffset = prepareAppend(file);
+        } else {
+            if (file.getParentFile() != null && !file.getParentFile().exists() && !file.getParentFile().mkdirs()) {
+                throw new CitrusRuntimeException("Unable to create directory for message record file: " + file.getAbsolutePath());
+            }
+
+            this.startOffset = 0L;
+        }
+
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, append), BUFFER_SIZE));
+        this.startNanos = System.nanoTime();
+
+        if (!append) {
+            out.writeInt(MessageRecord.MAGIC);
+            out.writeShort(MessageRecord.VERSION);
+            out.writeLong(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Scans existing record file for the last complete record and truncates incomplete trailing data.
+     * @param file
+     * @return timestamp of the last complete record.
+     * @throws IOException
+     */
+    private static long prepareAppend(File file) throws IOException {
+        try (RandomAccessFile in = new RandomAccessFile(file, "rw")) {
+            if (in.length() < MessageRecord.FILE_HEADER_SIZE || in.readInt() != MessageRecord.MAGIC || in.readShort() != MessageRecord.VERSION) {
+                throw new CitrusRuntimeException("Unsupported message record file: " + file.getAbsolutePath());
+            }
+
+            long lastTimestamp = 0L;
+            long position = MessageRecord.FILE_HEADER_SIZE;
+            while (position + MessageRecord.RECORD_HEADER_SIZE <= in.length()) {
+                in.seek(position + 1);
+                long timestamp = in.readLong();
+                long next = position + MessageRecord.RECORD_HEADER_SIZE + in.readInt();
+
+                if (next > in.length()) {
+                    break;
+                }
+
+                lastTimestamp = timestamp;
+                position = next;
+            }
+
+            if (position < in.length()) {
+                in.setLength(position);
+            }
+
+            return lastTimestamp;
+        }
+    }
+
+    /**
+     * Appends message to the record file.
+     * @param direction
+     * @param message
+     * @throws IOException
+     */
+    public synchronized void write(MessageDirection direction, Message message) throws IOException {
+        long timestamp = startOffset + (System.nanoTime() - startNanos);
+
+        body.reset();
+        writeHeaders(message);
+        writePayload(message);
+
+        out.writeByte(direction.ordinal());
+        out.writeLong(timestamp);
+        out.writeInt(body.size());
+        body.writeTo(out);
+    }
+
+    /**
+     * Writes message headers and header data.
+     * @param message
+     * @throws IOException
+     */
+    private void writeHeaders(Message message) throws IOException {
+        int count = 0;
+        for (Map.Entry<String, Object> header : message.getHeaders().entrySet()) {
+            if (isRecordedHeader(header)) {
+                count++;
+            }
+        }
+
+        bodyOut.writeInt(count);
+        for (Map.Entry<String, Object> header : message.getHeaders().entrySet()) {
+            if (isRecordedHeader(header)) {
+                writeString(header.getKey());
+                writeValue(header.getValue());
+            }
+        }
+
+        bodyOut.writeInt(message.getHeaderData().size());
+        for (String headerData : message.getHeaderData()) {
+            writeString(headerData);
+        }
+    }
+
+    /**
+     * Checks if header is written to the record file.
+     * @param header
+     * @return
+     */
+    private static boolean isRecordedHeader(Map.Entry<String, Object> header) {
+        return header.getValue() != null &&
+                !header.getKey().equals(MessageHeaders.ID) &&
+                !header.getKey().equals(MessageHeaders.TIMESTAMP);
+    }
+
+    /**
+     * Writes typed header value. Value types other than strings, numbers and booleans are recorded as strings.
+     * @param value
+     * @throws IOException
+     */
+    private void writeValue(Object value) throws IOException {
+        if (value instanceof Integer) {
+            bodyOut.writeByte(MessageRecord.VALUE_INTEGER);
+            bodyOut.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            bodyOut.writeByte(MessageRecord.VALUE_LONG);
+            bodyOut.writeLong((Long) value);
+        } else if (value instanceof Boolean) {
+            bodyOut.writeByte(MessageRecord.VALUE_BOOLEAN);
+            bodyOut.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            bodyOut.writeByte(MessageRecord.VALUE_DOUBLE);
+            bodyOut.writeDouble((Double) value);
+        } else {
+            bodyOut.writeByte(MessageRecord.VALUE_STRING);
+            writeString(value.toString());
+        }
+    }
+
+    /**
+     * Writes message payload as binary or text data.
+     * @param message
+     * @throws IOException
+     */
+    private void writePayload(Message message) throws IOException {
+        Object payload = message.getPayload();
+
+        if (payload instanceof byte[]) {
+            bodyOut.writeByte(MessageRecord.PAYLOAD_BINARY);
+            bodyOut.writeInt(((byte[]) payload).length);
+            bodyOut.write((byte[]) payload);
+        } else {
+            bodyOut.writeByte(MessageRecord.PAYLOAD_TEXT);
+            writeString(payload != null ? message.getPayload(String.class) : "");
+        }
+    }
+
+    /**
+     * Writes length prefixed UTF-8 string.
+     * @param value
+     * @throws IOException
+     */
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        bodyOut.writeInt(bytes.length);
+        bodyOut.write(bytes);
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.messaging;
+
+import com.consol.citrus.context.TestContext;
+
+/**
+ * Consumer implementation able to remove all pending messages from its message destination with a native
+ * bulk operation instead of receiving messages one by one.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public interface PurgeableConsumer extends Consumer {
+
+    /**
+     * Removes all pending messages from the message destination. Optional message selector restricts the messages to remove
+     * when supported by the consumer. Timeout is the maximum time to wait for further messages where the destination does not
+     * provide a bulk operation.
+     *
+     * @param selector
+     * @param timeout
+     * @param context
+     * @return number of removed messages
+     */
+    long purge(String selector, long timeout, TestContext context);
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe histogram with log linear buckets similar to HDR histograms. Values below 128 are recorded exactly, all
+ * larger values with a relative precision of about one percent. Memory footprint is constant regardless of the number of
+ * recorded values.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class Histogram {
+
+    /** Number of bits used for linear sub buckets */
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+
+    /** Total number of buckets covering all positive long values */
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT;
+
+    /** Metric category such as endpoint or action */
+    private final String category;
+
+    /** Name of the measured subject such as the endpoint name */
+    private final String name;
+
+    /** Metric type */
+    private final String metric;
+
+    /** Unit of recorded values */
+    private final String unit;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalSum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(0L);
+
+    /**
+     * Default constructor using metric identifiers.
+     * @param category
+     * @param name
+     * @param metric
+     * @param unit
+     */
+    public Histogram(String category, String name, String metric, String unit) {
+        this.category = category;
+        this.name = name;
+        this.metric = metric;
+        this.unit = unit;
+    }
+
+    /**
+     * Records given value. Negative values are recorded as zero.
+     * @param value
+     */
+    public void record(long value) {
+        long recorded = Math.max(0L, value);
+
+        counts.incrementAndGet(indexOf(recorded));
+        totalCount.increment();
+        totalSum.add(recorded);
+        min.accumulateAndGet(recorded, Math::min);
+        max.accumulateAndGet(recorded, Math::max);
+    }
+
+    /**
+     * Gets the value at given percentile. Returned value is the highest value equivalent to the bucket holding the percentile.
+     * @param percentile percentile between 0 and 100
+     * @return
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0L;
+        }
+
+        long targetCount = Math.max(1L, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * count));
+        long cumulative = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts.get(i);
+            if (cumulative >= targetCount) {
+                return Math.min(highestValueAt(i), getMax());
+            }
+        }
+
+        return getMax();
+    }
+
+    /**
+     * Gets the number of recorded values.
+     * @return
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Gets the lowest recorded value.
+     * @return
+     */
+    public long getMin() {
+        return getCount() > 0 ? min.get() : 0L;
+    }
+
+    /**
+     * Gets the highest recorded value.
+     * @return
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets the arithmetic mean of all recorded values.
+     * @return
+     */
+    public double getMean() {
+        long count = getCount();
+        return count > 0 ? (double) totalSum.sum() / count : 0.0;
+    }
+
+    /**
+     * Gets the sum of all recorded values.
+     * @return
+     */
+    public long getTotal() {
+        return totalSum.sum();
+    }
+
+    /**
+     * Gets bucket index for given value.
+     * @param value
+     * @return
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + (int) ((value >>> shift) - SUB_BUCKET_HALF_COUNT);
+    }
+
+    /**
+     * Gets highest value that is recorded in bucket with given index.
+     * @param index
+     * @return
+     */
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Gets the category.
+     *
+     * @return
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * Gets the name.
+     *
+     * @return
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the metric.
+     *
+     * @return
+     */
+    public String getMetric() {
+        return metric;
+    }
+
+    /**
+     * Gets the unit.
+     *
+     * @return
+     */
+    public String getUnit() {
+        return unit;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.message.Message;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of performance histograms recorded during test execution. Holds latency and payload size histograms per endpoint
+ * and execution time histograms per test action type. Latencies are recorded in microseconds. Recording is disabled by default
+ * and enabled with system property or environment variable setting.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class PerformanceMetrics {
+
+    /** Metric categories */
+    public static final String ENDPOINT = "endpoint";
+    public static final String ACTION = "action";
+    public static final String LOAD = "load";
+
+    /** Metric types */
+    public static final String SEND_LATENCY = "send-latency";
+    public static final String RECEIVE_WAIT = "receive-wait";
+    public static final String VALIDATION_TIME = "validation-time";
+    public static final String DURATION = "duration";
+    public static final String SENT_PAYLOAD_SIZE = "sent-payload-size";
+    public static final String RECEIVED_PAYLOAD_SIZE = "received-payload-size";
+
+    /** Metric units */
+    public static final String MICROSECONDS = "us";
+    public static final String SIZE = "size";
+
+    /** Histograms by category, name and metric type */
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /** Enables/disables metrics recording */
+    private boolean enabled = Boolean.valueOf(Citrus.METRICS_ENABLED);
+
+    /**
+     * Records elapsed time since given start time in nanoseconds.
+     * @param category
+     * @param name
+     * @param metric
+     * @param startNanos start time as provided by {@link System#nanoTime()}
+     */
+    public void recordTime(String category, String name, String metric, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+
+        getOrCreateHistogram(category, name, metric, MICROSECONDS).record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Records payload size of given message. Size is the number of bytes for binary payloads and the number of characters
+     * for all other payloads.
+     * @param category
+     * @param name
+     * @param metric
+     * @param message
+     */
+    public void recordPayloadSize(String category, String name, String metric, Message message) {
+        if (!enabled || message == null || message.getPayload() == null) {
+            return;
+        }
+
+        getOrCreateHistogram(category, name, metric, SIZE).record(getPayloadSize(message));
+    }
+
+    /**
+     * Records given value.
+     * @param category
+     * @param name
+     * @param metric
+     * @param unit
+     * @param value
+     */
+    public void record(String category, String name, String metric, String unit, long value) {
+        if (!enabled) {
+            return;
+        }
+
+        getOrCreateHistogram(category, name, metric, unit).record(value);
+    }
+
+    /**
+     * Gets histogram for given metric or null if no value has been recorded yet.
+     * @param category
+     * @param name
+     * @param metric
+     * @return
+     */
+    public Histogram getHistogram(String category, String name, String metric) {
+        return histograms.get(key(category, name, metric));
+    }
+
+    /**
+     * Gets all histograms sorted by category, name and metric type.
+     * @return
+     */
+    public List<Histogram> getHistograms() {
+        List<Histogram> sorted = new ArrayList<>(histograms.values());
+        sorted.sort(Comparator.comparing(Histogram::getCategory)
+                              .thenComparing(Histogram::getName)
+                              .thenComparing(Histogram::getMetric));
+        return sorted;
+    }
+
+    /**
+     * Checks if any value has been recorded.
+     * @return
+     */
+    public boolean isEmpty() {
+        return histograms.isEmpty();
+    }
+
+    /**
+     * Removes all histograms.
+     */
+    public void clear() {
+        histograms.clear();
+    }
+
+    /**
+     * Checks if metrics recording is enabled.
+     * @return
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables/disables metrics recording.
+     * @param enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets existing histogram or creates new one.
+     * @param category
+     * @param name
+     * @param metric
+     * @param unit
+     * @return
+     */
+    private Histogram getOrCreateHistogram(String category, String name, String metric, String unit) {
+        String histogramName = name != null ? name : "unknown";
+        return histograms.computeIfAbsent(key(category, histogramName, metric), key -> new Histogram(category, histogramName, metric, unit));
+    }
+
+    /**
+     * Gets payload size of message.
+     * @param message
+     * @return
+     */
+    private static long getPayloadSize(Message message) {
+        Object payload = message.getPayload();
+        if (payload instanceof byte[]) {
+            return ((byte[]) payload).length;
+        } else if (payload instanceof ByteBuffer) {
+            return ((ByteBuffer) payload).remaining();
+        } else {
+            return message.getPayload(String.class).length();
+        }
+    }
+
+    /**
+     * Builds unique histogram key.
+     * @param category
+     * @param name
+     * @param metric
+     * @return
+     */
+    private static String key(String category, String name, String metric) {
+        return category + ":" + name + ":" + metric;
+    }
+}
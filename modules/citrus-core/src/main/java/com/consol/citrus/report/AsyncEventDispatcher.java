@@ -0,0 +1,251 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.Citrus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Dispatches listener events asynchronously on a dedicated event thread. Events are put on a bounded lock-free ring buffer
+ * and are processed in the order they have been published, so events of a test keep their order. Producers wait
+ * for free capacity when the buffer is full. A flush barrier waits until all previously published events are processed or
+ * the flush timeout is exceeded.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+final class AsyncEventDispatcher {
+
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(AsyncEventDispatcher.class);
+
+    /** Maximum time in nanoseconds the idle event thread parks before checking for new events */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /** Ring buffer slots holding events and slot sequence numbers */
+    private final AtomicReferenceArray<Runnable> events;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    /** Next publishing position shared by all producers */
+    private final AtomicLong tail = new AtomicLong();
+
+    /** Next consuming position only used by event thread */
+    private long head = 0L;
+
+    /** Maximum time in milliseconds to wait on flush */
+    private final long flushTimeout;
+
+    /** Event thread consuming the ring buffer */
+    private final Thread eventThread;
+
+    /** Marks idle event thread waiting for new events */
+    private volatile boolean idle = false;
+
+    /**
+     * Default constructor using buffer capacity that is rounded up to the next power of two.
+     * @param bufferSize
+     */
+    AsyncEventDispatcher(int bufferSize) {
+        this(bufferSize, Long.valueOf(Citrus.LISTENER_ASYNC_FLUSH_TIMEOUT));
+    }
+
+    /**
+     * Constructor using buffer capacity that is rounded up to the next power of two and flush timeout.
+     * @param bufferSize
+     * @param flushTimeout
+     */
+    AsyncEventDispatcher(int bufferSize, long flushTimeout) {
+        this.flushTimeout = flushTimeout;
+
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize) - 1) << 1;
+        this.events = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+
+        eventThread = new Thread(this::processEvents, "citrus-listener-events");
+        eventThread.setDaemon(true);
+        eventThread.start();
+    }
+
+    /**
+     * Gets the shared dispatcher instance.
+     * @return
+     */
+    static AsyncEventDispatcher getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Notifies listener with given event either asynchronously or directly on the calling thread. Synchronous listeners
+     * are always notified directly.
+     * @param async
+     * @param listener
+     * @param event
+     */
+    static void notify(boolean async, Object listener, Runnable event) {
+        if (async && !(listener instanceof SynchronousListener)) {
+            getInstance().dispatch(event);
+        } else {
+            event.run();
+        }
+    }
+
+    /**
+     * Publishes event to the ring buffer. Events published on the event thread itself are processed directly. In case the
+     * buffer is full and the event thread is no longer alive the event is processed on the calling thread.
+     * @param event
+     */
+    void dispatch(Runnable event) {
+        if (Thread.currentThread() == eventThread) {
+            process(event);
+            return;
+        }
+
+        while (!offer(event)) {
+            if (!eventThread.isAlive()) {
+                log.warn("Listener event thread is not alive - processing event on calling thread");
+                process(event);
+                return;
+            }
+
+            LockSupport.unpark(eventThread);
+            LockSupport.parkNanos(1000L);
+        }
+
+        if (idle) {
+            LockSupport.unpark(eventThread);
+        }
+    }
+
+    /**
+     * Waits until all events published so far have been processed. Gives up with a warning when flush timeout is exceeded.
+     */
+    void flush() {
+        if (Thread.currentThread() == eventThread) {
+            return;
+        }
+
+        CountDownLatch barrier = new CountDownLatch(1);
+        dispatch(barrier::countDown);
+
+        try {
+            if (!barrier.await(flushTimeout, TimeUnit.MILLISECONDS)) {
+                log.warn(String.format("Timeout after %s ms while waiting for listener events to be processed - continue", flushTimeout));
+            }
+        } catch (InterruptedException e) {
+            log.warn("Interrupted while waiting for listener events to be processed");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Claims next free slot and publishes event.
+     * @param event
+     * @return false if buffer is full.
+     */
+    private boolean offer(Runnable event) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    events.set(index, event);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Takes next published event from ring buffer.
+     * @return the event or null if no event is available.
+     */
+    private Runnable poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+
+        Runnable event = events.get(index);
+        events.set(index, null);
+        sequences.set(index, head + mask + 1);
+        head++;
+        return event;
+    }
+
+    /**
+     * Event thread loop processing events in order and parking while idle.
+     */
+    private void processEvents() {
+        while (true) {
+            Runnable event = poll();
+            if (event == null) {
+                idle = true;
+                event = poll();
+                if (event == null) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                idle = false;
+            }
+
+            if (event != null) {
+                process(event);
+            }
+        }
+    }
+
+    /**
+     * Processes single event. Listener errors are logged and do not stop event processing.
+     * @param event
+     */
+    private void process(Runnable event) {
+        try {
+            event.run();
+        } catch (Throwable e) {
+            log.error("Listener failed to process event", e);
+        }
+    }
+
+    /**
+     * Lazy initialization of shared dispatcher.
+     */
+    private static final class InstanceHolder {
+        private static final AsyncEventDispatcher INSTANCE = new AsyncEventDispatcher(Integer.valueOf(Citrus.LISTENER_ASYNC_BUFFER_SIZE));
+    }
+}
@@ -20,6 +20,7 @@ import com.consol.citrus.*;
 import com.consol.citrus.container.TestActionContainer;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.util.LogPayload;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
@@ -237,12 +238,12 @@ public class LoggingReporter extends AbstractTestReporter implements MessageList
 
     @Override
     public void onInboundMessage(Message message, TestContext context) {
-        inboundMsgLogger.debug(message.toString());
+        inboundMsgLogger.debug("{}", LogPayload.of(message::toString));
     }
 
     @Override
     public void onOutboundMessage(Message message, TestContext context) {
-        outboundMsgLogger.debug(message.toString());
+        outboundMsgLogger.debug("{}", LogPayload.of(message::toString));
     }
 
     /**
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.report;
 
+import com.consol.citrus.Citrus;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.Message;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,34 +36,77 @@ public class MessageListeners {
     @Autowired
     private List<MessageListener> messageListener = new ArrayList<>();
 
+    /** Notify listeners asynchronously on dedicated event thread */
+    private boolean asyncDispatch = Boolean.valueOf(Citrus.LISTENER_ASYNC_DISPATCH);
+
     /**
-     * Delegate to all known message listener instances.
+     * Delegate to all known message listener instances. Asynchronous listeners receive a snapshot of the message.
      *
      * @param message
      * @param context
      */
     public void onInboundMessage(Message message, TestContext context) {
         if (message != null) {
+            Message snapshot = null;
             for (MessageListener listener : messageListener) {
-                listener.onInboundMessage(message, context);
+                if (isAsync(listener)) {
+                    if (snapshot == null) {
+                        snapshot = MessageSnapshot.of(message);
+                    }
+
+                    Message event = snapshot;
+                    AsyncEventDispatcher.getInstance().dispatch(bindVariableScope(context, () -> listener.onInboundMessage(event, context)));
+                } else {
+                    listener.onInboundMessage(message, context);
+                }
             }
         }
     }
 
     /**
-     * Delegate to all known message listener instances.
+     * Delegate to all known message listener instances. Asynchronous listeners receive a snapshot of the message.
      *
      * @param message
      * @param context
      */
     public void onOutboundMessage(Message message, TestContext context) {
         if (message != null) {
+            Message snapshot = null;
             for (MessageListener listener : messageListener) {
-                listener.onOutboundMessage(message, context);
+                if (isAsync(listener)) {
+                    if (snapshot == null) {
+                        snapshot = MessageSnapshot.of(message);
+                    }
+
+                    Message event = snapshot;
+                    AsyncEventDispatcher.getInstance().dispatch(bindVariableScope(context, () -> listener.onOutboundMessage(event, context)));
+                } else {
+                    listener.onOutboundMessage(message, context);
+                }
             }
         }
     }
 
+    /**
+     * Checks if listener gets notified asynchronously.
+     * @param listener
+     * @return
+     */
+    private boolean isAsync(MessageListener listener) {
+        return asyncDispatch && !(listener instanceof SynchronousListener);
+    }
+
+    /**
+     * Binds variable scope of the calling thread to the listener event so listeners see the same variables as the
+     * test thread.
+     * @param context
+     * @param event
+     * @return
+     */
+    private Runnable bindVariableScope(TestContext context, Runnable event) {
+        return context != null ? context.bindVariableScope(event) : event;
+    }
+
     /**
      * Save check if message listeners are present.
      *
@@ -72,6 +116,24 @@ public class MessageListeners {
         return CollectionUtils.isEmpty(messageListener);
     }
 
+    /**
+     * Enables asynchronous listener notification.
+     *
+     * @param asyncDispatch
+     */
+    public void setAsyncDispatch(boolean asyncDispatch) {
+        this.asyncDispatch = asyncDispatch;
+    }
+
+    /**
+     * Gets the asynchronous dispatch flag.
+     *
+     * @return
+     */
+    public boolean isAsyncDispatch() {
+        return asyncDispatch;
+    }
+
     /**
      * Adds a new message listener.
      *
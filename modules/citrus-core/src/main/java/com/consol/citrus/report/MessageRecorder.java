@@ -0,0 +1,175 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.*;
+import com.consol.citrus.message.replay.MessageRecordWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Message listener records all messages sent and received by Citrus to an append only message record file
+ * that can be replayed later on with {@link com.consol.citrus.actions.ReplayMessagesAction}. Recording is disabled
+ * unless a record file is set. Raw messages created by transport logging interceptors are not recorded by default.
+ *
+ * Listener is always notified synchronously so recorded timestamps reflect the actual message exchange.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class MessageRecorder extends AbstractTestSuiteListener implements MessageListener, SynchronousListener {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(MessageRecorder.class);
+
+    /** Message record file, empty value disables recording */
+    @Value("${citrus.message.record.file:}")
+    private String recordFile = "";
+
+    /** Record raw transport messages from logging interceptors */
+    @Value("${citrus.message.record.raw:false}")
+    private boolean recordRawMessages = false;
+
+    /** Record writer opened on first message */
+    private MessageRecordWriter writer;
+
+    @Override
+    public void onInboundMessage(Message message, TestContext context) {
+        record(MessageDirection.INBOUND, message);
+    }
+
+    @Override
+    public void onOutboundMessage(Message message, TestContext context) {
+        record(MessageDirection.OUTBOUND, message);
+    }
+
+    /**
+     * Appends message to record file if recording is enabled. Write errors are logged and do not affect the message exchange,
+     * the record file is reopened with the next message.
+     * @param direction
+     * @param message
+     */
+    private synchronized void record(MessageDirection direction, Message message) {
+        if (!isEnabled() || (!recordRawMessages && message instanceof RawMessage)) {
+            return;
+        }
+
+        try {
+            getWriter().write(direction, message);
+        } catch (IOException | CitrusRuntimeException e) {
+            log.error("Failed to write message record file: " + recordFile, e);
+            discardWriter();
+        }
+    }
+
+    /**
+     * Closes current record writer after write error ignoring subsequent errors.
+     */
+    private void discardWriter() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.debug("Failed to close message record file", e);
+            } finally {
+                writer = null;
+            }
+        }
+    }
+
+    /**
+     * Gets record writer and opens record file on first access. Callers must hold the recorder lock.
+     * @return
+     * @throws IOException
+     */
+    private MessageRecordWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new MessageRecordWriter(new File(recordFile));
+            log.info("Recording messages to file: " + recordFile);
+        }
+
+        return writer;
+    }
+
+    @Override
+    public void onFinish() {
+        close();
+    }
+
+    /**
+     * Flushes and closes current record file. Subsequent messages continue the record file.
+     */
+    public synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to close message record file", e);
+            } finally {
+                writer = null;
+            }
+        }
+    }
+
+    /**
+     * Checks if message recording is enabled.
+     * @return
+     */
+    public boolean isEnabled() {
+        return StringUtils.hasText(recordFile);
+    }
+
+    /**
+     * Sets the message record file.
+     * @param recordFile
+     */
+    public void setRecordFile(String recordFile) {
+        this.recordFile = recordFile;
+    }
+
+    /**
+     * Gets the message record file.
+     * @return
+     */
+    public String getRecordFile() {
+        return recordFile;
+    }
+
+    /**
+     * Enables recording of raw transport messages.
+     * @param recordRawMessages
+     */
+    public void setRecordRawMessages(boolean recordRawMessages) {
+        this.recordRawMessages = recordRawMessages;
+    }
+
+    /**
+     * Gets the raw message recording flag.
+     * @return
+     */
+    public boolean isRecordRawMessages() {
+        return recordRawMessages;
+    }
+}
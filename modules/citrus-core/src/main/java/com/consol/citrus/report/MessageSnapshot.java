@@ -0,0 +1,62 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.message.RawMessage;
+
+/**
+ * Copy of a message handed over to asynchronous message listeners. Payload is copied as String and the string
+ * representation is captured so later changes on the original message are not visible to the listeners.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+final class MessageSnapshot extends DefaultMessage {
+
+    /** String representation of original message */
+    private final String text;
+
+    /**
+     * Default constructor using original message.
+     * @param message
+     */
+    private MessageSnapshot(Message message) {
+        super(message);
+        setPayload(message.getPayload(String.class));
+        this.text = message.toString();
+    }
+
+    /**
+     * Creates snapshot of given message. Raw messages only hold text content and are not copied.
+     * @param message
+     * @return
+     */
+    static Message of(Message message) {
+        if (message instanceof RawMessage || message instanceof MessageSnapshot) {
+            return message;
+        }
+
+        return new MessageSnapshot(message);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.TestAction;
+import com.consol.citrus.TestCase;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.metrics.Histogram;
+import com.consol.citrus.metrics.PerformanceMetrics;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.StringUtils;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Reporter records test action execution times and exports all performance metrics histograms collected during
+ * the test suite as JSON and CSV files in the report directory. Reporter is disabled by default and follows the
+ * performance metrics setting unless explicitly enabled.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class PerformanceMetricsReporter extends AbstractTestReporter implements TestActionListener, SynchronousListener {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(PerformanceMetricsReporter.class);
+
+    /** Percentiles exported for each histogram */
+    private static final double[] PERCENTILES = { 50.0, 90.0, 99.0, 99.9 };
+    private static final String[] PERCENTILE_LABELS = { "p50", "p90", "p99", "p999" };
+
+    @Autowired(required = false)
+    private PerformanceMetrics performanceMetrics = new PerformanceMetrics();
+
+    /** Resulting JSON metrics report file name */
+    @Value("${citrus.metrics.report.json.file:citrus-metrics.json}")
+    private String jsonReportFileName = "citrus-metrics.json";
+
+    /** Resulting CSV metrics report file name */
+    @Value("${citrus.metrics.report.csv.file:citrus-metrics.csv}")
+    private String csvReportFileName = "citrus-metrics.csv";
+
+    /** Enables/disables report generation */
+    @Value("${citrus.metrics.report.enabled:${citrus.metrics.enabled:false}}")
+    private String enabled = Citrus.METRICS_ENABLED;
+
+    /** Start times of currently running test action invocations per thread, nested actions on top */
+    private volatile ThreadLocal<Deque<ActionInvocation>> runningActions = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void onTestActionStart(TestCase testCase, TestAction testAction) {
+        if (isEnabled()) {
+            runningActions.get().push(new ActionInvocation(testAction, System.nanoTime()));
+        }
+    }
+
+    @Override
+    public void onTestActionFinish(TestCase testCase, TestAction testAction) {
+        Deque<ActionInvocation> invocations = runningActions.get();
+        while (!invocations.isEmpty()) {
+            ActionInvocation invocation = invocations.pop();
+            if (invocation.action == testAction) {
+                performanceMetrics.recordTime(PerformanceMetrics.ACTION, testAction.getClass().getSimpleName(), PerformanceMetrics.DURATION, invocation.startNanos);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onTestActionSkipped(TestCase testCase, TestAction testAction) {
+    }
+
+    @Override
+    public void generateTestResults() {
+        if (!isEnabled() || performanceMetrics.isEmpty()) {
+            return;
+        }
+
+        File targetDirectory = new File(getReportDirectory());
+        if (!targetDirectory.exists()) {
+            if (!targetDirectory.mkdirs()) {
+                throw new CitrusRuntimeException("Unable to create report output directory: " + getReportDirectory());
+            }
+        }
+
+        List<Histogram> histograms = performanceMetrics.getHistograms();
+        try {
+            writeJsonReport(new File(targetDirectory, jsonReportFileName), histograms);
+            writeCsvReport(new File(targetDirectory, csvReportFileName), histograms);
+            log.info("Generated performance metrics report: " + targetDirectory + File.separator + jsonReportFileName);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to generate performance metrics report", e);
+        }
+    }
+
+    @Override
+    public void clearTestResults() {
+        super.clearTestResults();
+        runningActions = ThreadLocal.withInitial(ArrayDeque::new);
+        performanceMetrics.clear();
+    }
+
+    /**
+     * Writes histogram summaries as JSON array.
+     * @param reportFile
+     * @param histograms
+     * @throws IOException
+     */
+    private void writeJsonReport(File reportFile, List<Histogram> histograms) throws IOException {
+        try (JsonGenerator generator = new JsonFactory().createGenerator(reportFile, JsonEncoding.UTF8)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartArray();
+            for (Histogram histogram : histograms) {
+                generator.writeStartObject();
+                generator.writeStringField("category", histogram.getCategory());
+                generator.writeStringField("name", histogram.getName());
+                generator.writeStringField("metric", histogram.getMetric());
+                generator.writeStringField("unit", histogram.getUnit());
+                generator.writeNumberField("count", histogram.getCount());
+                generator.writeNumberField("min", histogram.getMin());
+                generator.writeNumberField("max", histogram.getMax());
+                generator.writeNumberField("mean", histogram.getMean());
+                for (int i = 0; i < PERCENTILES.length; i++) {
+                    generator.writeNumberField(PERCENTILE_LABELS[i], histogram.getValueAtPercentile(PERCENTILES[i]));
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Writes histogram summaries as CSV with one line per histogram.
+     * @param reportFile
+     * @param histograms
+     * @throws IOException
+     */
+    private void writeCsvReport(File reportFile, List<Histogram> histograms) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(reportFile), "UTF-8"))) {
+            writer.append("category,name,metric,unit,count,min,max,mean,")
+                  .append(StringUtils.arrayToCommaDelimitedString(PERCENTILE_LABELS))
+                  .append(System.lineSeparator());
+
+            for (Histogram histogram : histograms) {
+                writer.append(histogram.getCategory()).append(',')
+                      .append(histogram.getName()).append(',')
+                      .append(histogram.getMetric()).append(',')
+                      .append(histogram.getUnit()).append(',')
+                      .append(String.valueOf(histogram.getCount())).append(',')
+                      .append(String.valueOf(histogram.getMin())).append(',')
+                      .append(String.valueOf(histogram.getMax())).append(',')
+                      .append(String.format(Locale.US, "%.2f", histogram.getMean()));
+                for (double percentile : PERCENTILES) {
+                    writer.append(',').append(String.valueOf(histogram.getValueAtPercentile(percentile)));
+                }
+                writer.append(System.lineSeparator());
+            }
+        }
+    }
+
+    /**
+     * Gets the performance metrics.
+     * @return
+     */
+    public PerformanceMetrics getPerformanceMetrics() {
+        return performanceMetrics;
+    }
+
+    /**
+     * Sets the performance metrics.
+     * @param performanceMetrics
+     */
+    public void setPerformanceMetrics(PerformanceMetrics performanceMetrics) {
+        this.performanceMetrics = performanceMetrics;
+    }
+
+    /**
+     * Sets the JSON report file name.
+     * @param jsonReportFileName
+     */
+    public void setJsonReportFileName(String jsonReportFileName) {
+        this.jsonReportFileName = jsonReportFileName;
+    }
+
+    /**
+     * Sets the CSV report file name.
+     * @param csvReportFileName
+     */
+    public void setCsvReportFileName(String csvReportFileName) {
+        this.csvReportFileName = csvReportFileName;
+    }
+
+    /**
+     * Sets the enabled property.
+     * @param enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = String.valueOf(enabled);
+    }
+
+    /**
+     * Checks if report generation is enabled.
+     * @return
+     */
+    public boolean isEnabled() {
+        return StringUtils.hasText(enabled) && enabled.equalsIgnoreCase(Boolean.TRUE.toString());
+    }
+
+    /**
+     * Running test action with start time in nanoseconds.
+     */
+    private static final class ActionInvocation {
+        private final TestAction action;
+        private final long startNanos;
+
+        ActionInvocation(TestAction action, long startNanos) {
+            this.action = action;
+            this.startNanos = startNanos;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.report;
 
+import com.consol.citrus.Citrus;
 import com.consol.citrus.TestAction;
 import com.consol.citrus.TestCase;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,24 +37,43 @@ public class TestActionListeners {
     @Autowired(required = false)
     private List<TestActionListener> testActionListeners = new ArrayList<TestActionListener>();
 
+    /** Notify listeners asynchronously on dedicated event thread */
+    private boolean asyncDispatch = Boolean.valueOf(Citrus.LISTENER_ASYNC_DISPATCH);
+
     public void onTestActionFinish(TestCase testCase, TestAction testAction) {
         for (TestActionListener listener : testActionListeners) {
-            listener.onTestActionFinish(testCase, testAction);
+            AsyncEventDispatcher.notify(asyncDispatch, listener, () -> listener.onTestActionFinish(testCase, testAction));
         }
     }
 
     public void onTestActionSkipped(TestCase testCase, TestAction testAction) {
         for (TestActionListener listener : testActionListeners) {
-            listener.onTestActionSkipped(testCase, testAction);
+            AsyncEventDispatcher.notify(asyncDispatch, listener, () -> listener.onTestActionSkipped(testCase, testAction));
         }
     }
 
     public void onTestActionStart(TestCase testCase, TestAction testAction) {
         for (TestActionListener listener : testActionListeners) {
-            listener.onTestActionStart(testCase, testAction);
+            AsyncEventDispatcher.notify(asyncDispatch, listener, () -> listener.onTestActionStart(testCase, testAction));
         }
     }
 
+    /**
+     * Enables asynchronous listener notification.
+     * @param asyncDispatch
+     */
+    public void setAsyncDispatch(boolean asyncDispatch) {
+        this.asyncDispatch = asyncDispatch;
+    }
+
+    /**
+     * Gets the asynchronous dispatch flag.
+     * @return
+     */
+    public boolean isAsyncDispatch() {
+        return asyncDispatch;
+    }
+
     /**
      * Adds a new test action listener.
      * @param listener
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.report;
 
+import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCase;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -24,7 +25,8 @@ import java.util.List;
 
 /**
  * Class that spreads test events to all available test listeners 
- * injected by Spring's IoC container.
+ * injected by Spring's IoC container. Listeners are optionally notified asynchronously
+ * on a dedicated event thread. Test result events wait for all pending events to be processed.
  * 
  * @author Christoph Deppisch
  */
@@ -34,36 +36,73 @@ public class TestListeners {
     @Autowired
     private List<TestListener> testListeners = new ArrayList<TestListener>();
 
+    /** Notify listeners asynchronously on dedicated event thread */
+    private boolean asyncDispatch = Boolean.valueOf(Citrus.LISTENER_ASYNC_DISPATCH);
+
     public void onTestFailure(TestCase test, Throwable cause) {
         for (TestListener listener : testListeners) {
-            listener.onTestFailure(test, cause);
+            AsyncEventDispatcher.notify(asyncDispatch, listener, () -> listener.onTestFailure(test, cause));
         }
+
+        flush();
     }
 
     public void onTestFinish(TestCase test) {
         for (TestListener listener : testListeners) {
-            listener.onTestFinish(test);
+            AsyncEventDispatcher.notify(asyncDispatch, listener, () -> listener.onTestFinish(test));
         }
+
+        flush();
     }
 
     public void onTestSkipped(TestCase test) {
         for (TestListener listener : testListeners) {
-            listener.onTestSkipped(test);
+            AsyncEventDispatcher.notify(asyncDispatch, listener, () -> listener.onTestSkipped(test));
         }
+
+        flush();
     }
 
     public void onTestStart(TestCase test) {
         for (TestListener listener : testListeners) {
-            listener.onTestStart(test);
+            AsyncEventDispatcher.notify(asyncDispatch, listener, () -> listener.onTestStart(test));
         }
     }
 
     public void onTestSuccess(TestCase test) {
         for (TestListener listener : testListeners) {
-            listener.onTestSuccess(test);
+            AsyncEventDispatcher.notify(asyncDispatch, listener, () -> listener.onTestSuccess(test));
         }
+
+        flush();
     }
     
+    /**
+     * Waits for asynchronous listener events to be processed. Called when test has finished so all test events are
+     * reported before next test starts.
+     */
+    private void flush() {
+        if (asyncDispatch) {
+            AsyncEventDispatcher.getInstance().flush();
+        }
+    }
+
+    /**
+     * Enables asynchronous listener notification.
+     * @param asyncDispatch
+     */
+    public void setAsyncDispatch(boolean asyncDispatch) {
+        this.asyncDispatch = asyncDispatch;
+    }
+
+    /**
+     * Gets the asynchronous dispatch flag.
+     * @return
+     */
+    public boolean isAsyncDispatch() {
+        return asyncDispatch;
+    }
+
     /**
      * Adds a new test listener.
      * @param listener
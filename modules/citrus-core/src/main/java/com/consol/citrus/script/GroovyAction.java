@@ -16,7 +16,6 @@
 
 package com.consol.citrus.script;
 
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 
 import org.slf4j.Logger;
@@ -29,8 +28,6 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.FileUtils;
 import com.consol.citrus.validation.script.TemplateBasedScriptBuilder;
 
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 
 /**
  * Action executes groovy scripts either specified inline or from external file resource.
@@ -73,20 +70,13 @@ public class GroovyAction extends AbstractTestAction {
     @Override
     public void doExecute(TestContext context) {
         try {
-            GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
-                public GroovyClassLoader run() {
-                    ClassLoader parent = getClass().getClassLoader();
-                    return new GroovyClassLoader(parent);
-                }
-            });
-
             assertScriptProvided();
 
             String rawCode = StringUtils.hasText(script) ? script.trim() : FileUtils.readToString(FileUtils.getFileResource(scriptResourcePath, context));
             String code = context.replaceDynamicContentInString(rawCode.trim());
 
             // load groovy code
-            Class<?> groovyClass = loader.parseClass(code);
+            Class<?> groovyClass = GroovyScriptCache.getInstance().parseClass(code);
             // Instantiate an object from groovy code
             GroovyObject groovyObject = (GroovyObject) groovyClass.newInstance();
 
@@ -99,12 +89,12 @@ public class GroovyAction extends AbstractTestAction {
                             .build();
                 } else {
                     // build new script with surrounding template
-                    code = TemplateBasedScriptBuilder.fromTemplateResource(FileUtils.getFileResource(scriptTemplatePath, context))
+                    code = TemplateBasedScriptBuilder.fromTemplateScript(GroovyScriptCache.getInstance().getScriptTemplate(FileUtils.getFileResource(scriptTemplatePath, context)))
                             .withCode(code)
                             .build();
                 }
 
-                groovyClass = loader.parseClass(code);
+                groovyClass = GroovyScriptCache.getInstance().parseClass(code);
                 groovyObject = (GroovyObject) groovyClass.newInstance();
             }
 
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.FileUtils;
+import groovy.lang.GroovyClassLoader;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of compiled Groovy script classes. Scripts are compiled once per script code and reused in subsequent
+ * executions. Cache is bounded and evicts least recently used script classes. Each script class is loaded with its own
+ * Groovy class loader so evicted classes can be unloaded by the JVM. Script templates surrounding the script code are read once
+ * per template resource.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public final class GroovyScriptCache {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(GroovyScriptCache.class);
+
+    /** System property setting the maximum number of cached script classes */
+    public static final String CACHE_SIZE_PROPERTY = "citrus.groovy.script.cache.size";
+
+    /** Default maximum number of cached script classes */
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    /** Shared cache instance */
+    private static final GroovyScriptCache INSTANCE = new GroovyScriptCache(Integer.valueOf(System.getProperty(CACHE_SIZE_PROPERTY, String.valueOf(DEFAULT_CACHE_SIZE))));
+
+    /** Compiled script classes by script code in access order */
+    private final Map<String, Class<?>> scriptClasses;
+
+    /** Script template code by template resource */
+    private final Map<Resource, String> scriptTemplates = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor using maximum number of cached script classes.
+     * @param maxSize
+     */
+    public GroovyScriptCache(final int maxSize) {
+        this.scriptClasses = new LinkedHashMap<String, Class<?>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Class<?>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the shared cache instance.
+     * @return
+     */
+    public static GroovyScriptCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets compiled script class for given script code. Compiles the script when not cached yet.
+     * @param script
+     * @return
+     * @throws CompilationFailedException
+     */
+    public Class<?> parseClass(String script) throws CompilationFailedException {
+        Class<?> scriptClass;
+        synchronized (scriptClasses) {
+            scriptClass = scriptClasses.get(script);
+        }
+
+        if (scriptClass != null) {
+            return scriptClass;
+        }
+
+        GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
+            public GroovyClassLoader run() {
+                return new GroovyClassLoader(GroovyScriptCache.class.getClassLoader());
+            }
+        });
+
+        scriptClass = loader.parseClass(script);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Compiled Groovy script class " + scriptClass.getName());
+        }
+
+        synchronized (scriptClasses) {
+            Class<?> cached = scriptClasses.get(script);
+            if (cached != null) {
+                return cached;
+            }
+
+            scriptClasses.put(script, scriptClass);
+        }
+
+        return scriptClass;
+    }
+
+    /**
+     * Gets script template code read from given resource. Reads the resource when not cached yet.
+     * @param templateResource
+     * @return
+     */
+    public String getScriptTemplate(Resource templateResource) {
+        return scriptTemplates.computeIfAbsent(templateResource, resource -> {
+            try {
+                return FileUtils.readToString(resource);
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Error loading script template from file resource", e);
+            }
+        });
+    }
+
+    /**
+     * Gets the number of cached script classes.
+     * @return
+     */
+    public int size() {
+        synchronized (scriptClasses) {
+            return scriptClasses.size();
+        }
+    }
+
+    /**
+     * Removes all cached script classes and script templates.
+     */
+    public void clear() {
+        synchronized (scriptClasses) {
+            scriptClasses.clear();
+        }
+
+        scriptTemplates.clear();
+    }
+}
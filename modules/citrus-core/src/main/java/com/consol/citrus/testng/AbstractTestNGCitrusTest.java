@@ -20,6 +20,7 @@ import com.consol.citrus.*;
 import com.consol.citrus.annotations.CitrusResource;
 import com.consol.citrus.annotations.CitrusXmlTest;
 import com.consol.citrus.common.TestLoader;
+import com.consol.citrus.common.XmlTestDefinitionCache;
 import com.consol.citrus.common.XmlTestLoader;
 import com.consol.citrus.config.CitrusSpringConfig;
 import com.consol.citrus.context.TestContext;
@@ -277,9 +278,37 @@ public abstract class AbstractTestNGCitrusTest extends AbstractTestNGSpringConte
         Assert.notNull(applicationContext);
 
         citrus = Citrus.newInstance(applicationContext);
+        preParseXmlTests(testContext);
         citrus.beforeSuite(testContext.getSuite().getName(), testContext.getIncludedGroups());
     }
 
+    /**
+     * Parses all XML test cases of the current test run in parallel so test definitions are cached
+     * before the first test gets executed.
+     * @param testContext the test context.
+     */
+    private void preParseXmlTests(ITestContext testContext) {
+        Set<String> contextFiles = new LinkedHashSet<>();
+        for (ITestNGMethod testMethod : testContext.getAllTestMethods()) {
+            Method method = testMethod.getConstructorOrMethod().getMethod();
+            if (method == null || method.getAnnotation(CitrusXmlTest.class) == null) {
+                continue;
+            }
+
+            try {
+                for (TestLoader testLoader : createTestLoadersForMethod(method)) {
+                    if (testLoader instanceof XmlTestLoader && ((XmlTestLoader) testLoader).isFastLoading()) {
+                        contextFiles.add(((XmlTestLoader) testLoader).getContextFile());
+                    }
+                }
+            } catch (CitrusRuntimeException e) {
+                log.debug("Skip pre-parsing of XML tests for method " + method.getName(), e);
+            }
+        }
+
+        XmlTestDefinitionCache.getInstance().preParse(contextFiles, applicationContext);
+    }
+
     /**
      * Runs tasks after test suite.
      * @param testContext the test context.
@@ -18,9 +18,9 @@ package com.consol.citrus.testng;
 
 import com.consol.citrus.TestClass;
 import com.consol.citrus.main.AbstractTestEngine;
+import com.consol.citrus.main.ParallelMode;
 import com.consol.citrus.main.TestRunConfiguration;
-import com.consol.citrus.main.scan.ClassPathTestScanner;
-import com.consol.citrus.main.scan.JarFileTestScanner;
+import com.consol.citrus.main.scan.TestScanner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
@@ -30,7 +30,6 @@ import org.testng.TestNG;
 import org.testng.annotations.Test;
 import org.testng.xml.*;
 
-import java.net.*;
 import java.util.*;
 
 /**
@@ -62,28 +61,37 @@ public class TestNGEngine extends AbstractTestEngine {
         XmlSuite suite = new XmlSuite();
         testng.setXmlSuites(Collections.singletonList(suite));
 
+        if (getConfiguration().isParallel()) {
+            log.info(String.format("Running tests in parallel mode '%s' with %s threads", getConfiguration().getParallelMode().name().toLowerCase(), getConfiguration().getThreadCount()));
+            suite.setParallel(getConfiguration().getParallelMode() == ParallelMode.METHODS ? XmlSuite.ParallelMode.METHODS : XmlSuite.ParallelMode.CLASSES);
+            suite.setThreadCount(getConfiguration().getThreadCount());
+        }
+
         if (!CollectionUtils.isEmpty(getConfiguration().getTestClasses())) {
+            XmlTest test = new XmlTest(suite);
+            test.setClasses(new ArrayList<>());
+
+            Map<String, XmlClass> xmlClasses = new LinkedHashMap<>();
             for (TestClass testClass : getConfiguration().getTestClasses()) {
                 log.info(String.format("Running test %s", Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method).orElse(testClass.getName())));
 
-                XmlTest test = new XmlTest(suite);
-                test.setClasses(new ArrayList<>());
-
                 try {
-                    Class<?> clazz;
-                    if (getConfiguration().getTestJar() != null) {
-                        clazz = Class.forName(testClass.getName(), false, new URLClassLoader(new URL[]{getConfiguration().getTestJar().toURI().toURL()}, getClass().getClassLoader()));
-                    } else {
-                        clazz = Class.forName(testClass.getName());
+                    XmlClass xmlClass = xmlClasses.get(testClass.getName());
+                    if (xmlClass == null) {
+                        xmlClass = new XmlClass(loadTestClass(testClass));
+                        xmlClasses.put(testClass.getName(), xmlClass);
+                        test.getClasses().add(xmlClass);
+                    } else if (xmlClass.getIncludedMethods().isEmpty()) {
+                        // class is already included with all test methods
+                        continue;
                     }
 
-                    XmlClass xmlClass = new XmlClass(clazz);
                     if (StringUtils.hasText(testClass.getMethod())) {
-                        xmlClass.setIncludedMethods(Collections.singletonList(new XmlInclude(testClass.getMethod())));
+                        xmlClass.getIncludedMethods().add(new XmlInclude(testClass.getMethod()));
+                    } else {
+                        xmlClass.setIncludedMethods(new ArrayList<>());
                     }
-
-                    test.getClasses().add(xmlClass);
-                } catch (ClassNotFoundException | MalformedURLException e) {
+                } catch (ClassNotFoundException e) {
                     log.warn("Unable to read test class: " + testClass.getName());
                 }
             }
@@ -94,6 +102,7 @@ public class TestNGEngine extends AbstractTestEngine {
                 log.info("Running all tests in project");
             }
 
+            TestScanner testScanner = getTestScanner(Test.class);
             for (String packageName : packagesToRun) {
                 if (StringUtils.hasText(packageName)) {
                     log.info(String.format("Running tests in package %s", packageName));
@@ -102,25 +111,14 @@ public class TestNGEngine extends AbstractTestEngine {
                 XmlTest test = new XmlTest(suite);
                 test.setClasses(new ArrayList<>());
 
-                List<TestClass> classesToRun;
-                if (getConfiguration().getTestJar() != null) {
-                    classesToRun = new JarFileTestScanner(getConfiguration().getTestJar(), getConfiguration().getIncludes()).findTestsInPackage(packageName);
-                } else {
-                    classesToRun = new ClassPathTestScanner(Test.class, getConfiguration().getIncludes()).findTestsInPackage(packageName);
-                }
+                List<TestClass> classesToRun = testScanner.findTestsInPackage(packageName);
 
                 classesToRun.stream()
                         .peek(testClass -> log.info(String.format("Running test %s", Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method).orElse(testClass.getName()))))
                         .map(testClass -> {
                             try {
-                                Class<?> clazz;
-                                if (getConfiguration().getTestJar() != null) {
-                                    clazz = Class.forName(testClass.getName(), false, new URLClassLoader(new URL[]{getConfiguration().getTestJar().toURI().toURL()}, getClass().getClassLoader()));
-                                } else {
-                                    clazz = Class.forName(testClass.getName());
-                                }
-                                return clazz;
-                            } catch (ClassNotFoundException | MalformedURLException e) {
+                                return loadTestClass(testClass);
+                            } catch (ClassNotFoundException e) {
                                 log.warn("Unable to read test class: " + testClass.getName());
                                 return Void.class;
                             }
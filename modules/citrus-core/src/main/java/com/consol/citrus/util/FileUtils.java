@@ -44,6 +44,9 @@ public abstract class FileUtils {
 
     public final static String FILE_PATH_CHARSET_PARAMETER = ";charset=";
 
+    /** Shared resource resolver */
+    private static final PathMatchingResourcePatternResolver RESOURCE_RESOLVER = new PathMatchingResourcePatternResolver();
+
     /** Simulation mode required for Citrus administration UI when loading test cases from Java DSL */
     private static boolean simulationMode = false;
 
@@ -92,7 +95,7 @@ public abstract class FileUtils {
     }
 
     /**
-     * Read file resource to string value.
+     * Read file resource to string value. Content of classpath and file system resources is cached.
      * @param resource
      * @param charset
      * @return
@@ -112,7 +115,7 @@ public abstract class FileUtils {
         if (log.isDebugEnabled()) {
             log.debug(String.format("Reading file resource: '%s' (encoding is '%s')", resource.getFilename(), charset.displayName()));
         }
-        return readToString(resource.getInputStream(), charset);
+        return ResourceContentCache.getInstance().getContent(resource, charset);
     }
     
     /**
@@ -242,10 +245,10 @@ public abstract class FileUtils {
      */
     public static Resource getFileResource(String filePath, TestContext context) {
         if (filePath.contains(FILE_PATH_CHARSET_PARAMETER)) {
-            return new PathMatchingResourcePatternResolver().getResource(
+            return RESOURCE_RESOLVER.getResource(
                     context.replaceDynamicContentInString(filePath.substring(0, filePath.indexOf(FileUtils.FILE_PATH_CHARSET_PARAMETER))));
         } else {
-            return new PathMatchingResourcePatternResolver().getResource(
+            return RESOURCE_RESOLVER.getResource(
                     context.replaceDynamicContentInString(filePath));
         }
     }
@@ -267,12 +270,12 @@ public abstract class FileUtils {
         if (path.startsWith(ResourceUtils.FILE_URL_PREFIX)) {
             return new FileSystemResource(path.substring(ResourceUtils.FILE_URL_PREFIX.length() - 1));
         } else if (path.startsWith(ResourceUtils.CLASSPATH_URL_PREFIX)) {
-            return new PathMatchingResourcePatternResolver().getResource(path);
+            return RESOURCE_RESOLVER.getResource(path);
         }
 
         Resource file = new FileSystemResource(path);
         if (!file.exists()) {
-            return  new PathMatchingResourcePatternResolver().getResource(path);
+            return  RESOURCE_RESOLVER.getResource(path);
         }
 
         return file;
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.util;
+
+import com.consol.citrus.Citrus;
+
+import java.util.function.Supplier;
+
+/**
+ * Lazy message payload representation for logging. Payload content is only created, formatted and truncated
+ * when the logger actually writes the statement, so callers are able to pass instances as log placeholder arguments
+ * without paying for serialization or pretty printing on disabled log levels.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public final class LogPayload {
+
+    /** Maximum payload length in logs, negative value disables truncation */
+    private static final int MAX_LENGTH = Integer.valueOf(Citrus.LOG_PAYLOAD_MAX_LENGTH);
+
+    /** Pretty print payloads or log raw content */
+    private static final boolean FORMATTING = Boolean.valueOf(Citrus.LOG_PAYLOAD_FORMATTING);
+
+    /** Marker appended to truncated payloads */
+    static final String TRUNCATED_MARKER = "... [truncated %s characters]";
+
+    private final Supplier<String> payload;
+    private final boolean xml;
+    private final int maxLength;
+    private final boolean formatting;
+
+    /** Memoized log representation */
+    private volatile String value;
+
+    /**
+     * Constructor using payload supplier and log settings.
+     * @param payload
+     * @param xml
+     * @param maxLength
+     * @param formatting
+     */
+    LogPayload(Supplier<String> payload, boolean xml, int maxLength, boolean formatting) {
+        this.payload = payload;
+        this.xml = xml;
+        this.maxLength = maxLength;
+        this.formatting = formatting;
+    }
+
+    /**
+     * Lazy log representation of given payload.
+     * @param payload
+     * @return
+     */
+    public static LogPayload of(String payload) {
+        return of(() -> payload);
+    }
+
+    /**
+     * Lazy log representation of payload created by given supplier.
+     * @param payload
+     * @return
+     */
+    public static LogPayload of(Supplier<String> payload) {
+        return new LogPayload(payload, false, MAX_LENGTH, FORMATTING);
+    }
+
+    /**
+     * Lazy log representation of XML payload that gets pretty printed unless formatting is disabled.
+     * @param payload
+     * @return
+     */
+    public static LogPayload xml(String payload) {
+        return xml(() -> payload);
+    }
+
+    /**
+     * Lazy log representation of XML payload created by given supplier that gets pretty printed unless formatting is disabled.
+     * @param payload
+     * @return
+     */
+    public static LogPayload xml(Supplier<String> payload) {
+        return new LogPayload(payload, true, MAX_LENGTH, FORMATTING);
+    }
+
+    /**
+     * Pretty prints given XML content unless payload formatting is disabled.
+     * @param xml
+     * @return
+     */
+    public static String formatXml(String xml) {
+        return FORMATTING ? XMLUtils.prettyPrint(xml) : xml;
+    }
+
+    /**
+     * Checks if payload formatting is enabled for logging.
+     * @return
+     */
+    public static boolean isFormattingEnabled() {
+        return FORMATTING;
+    }
+
+    /**
+     * Cuts given content to maximum length. Negative maximum length disables truncation.
+     * @param content
+     * @param maxLength
+     * @return
+     */
+    static String truncate(String content, int maxLength) {
+        if (content == null || maxLength < 0 || content.length() <= maxLength) {
+            return content;
+        }
+
+        return content.substring(0, maxLength) + String.format(TRUNCATED_MARKER, content.length() - maxLength);
+    }
+
+    @Override
+    public String toString() {
+        String result = value;
+        if (result == null) {
+            String content = payload.get();
+            if (xml && formatting && content != null) {
+                content = XMLUtils.prettyPrint(content);
+            }
+
+            result = String.valueOf(truncate(content, maxLength));
+            value = result;
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+/**
+ * Converts objects of a given source type to a target type. Converters are registered in {@link TypeConversionUtils}
+ * for a source and target type pair.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+@FunctionalInterface
+public interface ObjectConverter<S, T> {
+
+    /**
+     * Converts given source object to target type.
+     * @param source
+     * @return
+     */
+    T convert(S source);
+}
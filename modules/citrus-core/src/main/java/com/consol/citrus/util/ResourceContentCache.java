@@ -0,0 +1,265 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import com.consol.citrus.Citrus;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.FileCopyUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Bounded least recently used cache of file resource contents keyed by resource and charset. Classpath resources are
+ * treated as immutable. File system resources are revalidated with last modified time and file length on each access. Other
+ * resource types such as URL or in memory resources are not cached. Very large files are read with memory mapped file channel.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public final class ResourceContentCache {
+
+    /** Shared cache instance */
+    private static final ResourceContentCache INSTANCE = new ResourceContentCache(Long.valueOf(Citrus.FILE_CACHE_SIZE));
+
+    /** Files larger than this number of bytes are read using memory mapped file channel */
+    private static final long MAPPED_READ_THRESHOLD = 1024 * 1024;
+
+    /** Files modified within this time window in milliseconds are not cached due to file system timestamp granularity */
+    private static final long MODIFIED_TIME_GRANULARITY = 2000L;
+
+    /** Maximum number of cached characters */
+    private final long maxSize;
+
+    /** Current number of cached characters */
+    private long size = 0L;
+
+    /** Cached content in access order */
+    private final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    /**
+     * Constructor initializing the maximum number of cached characters.
+     * @param maxSize
+     */
+    ResourceContentCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the shared cache instance.
+     * @return
+     */
+    public static ResourceContentCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets content of given resource with charset. Reads the resource in case content is not cached or cached content is stale.
+     * @param resource
+     * @param charset
+     * @return
+     * @throws IOException
+     */
+    public String getContent(Resource resource, Charset charset) throws IOException {
+        if (maxSize <= 0) {
+            return read(resource, getFile(resource), charset);
+        }
+
+        CacheKey key = new CacheKey(resource, charset);
+        if (resource instanceof ClassPathResource) {
+            CacheEntry entry = get(key);
+            if (entry != null) {
+                return entry.content;
+            }
+
+            String content = read(resource, getFile(resource), charset);
+            if (content.length() <= maxSize / 4) {
+                put(key, new CacheEntry(content, 0L, 0L));
+            }
+
+            return content;
+        }
+
+        File file = getFile(resource);
+        if (file == null) {
+            return read(resource, null, charset);
+        }
+
+        long lastModified = file.lastModified();
+        long length = file.length();
+
+        CacheEntry entry = get(key);
+        if (entry != null && entry.lastModified == lastModified && entry.length == length) {
+            return entry.content;
+        }
+
+        String content = read(resource, file, charset);
+        if (content.length() <= maxSize / 4 && System.currentTimeMillis() - lastModified > MODIFIED_TIME_GRANULARITY) {
+            put(key, new CacheEntry(content, lastModified, length));
+        }
+
+        return content;
+    }
+
+    /**
+     * Removes all cached content.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            size = 0L;
+        }
+    }
+
+    /**
+     * Gets the number of cached resources.
+     * @return
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Gets cached entry for given key.
+     * @param key
+     * @return
+     */
+    private CacheEntry get(CacheKey key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    /**
+     * Adds new entry and evicts least recently used entries until cache size is within bounds.
+     * @param key
+     * @param entry
+     */
+    private void put(CacheKey key, CacheEntry entry) {
+        synchronized (entries) {
+            CacheEntry previous = entries.put(key, entry);
+            if (previous != null) {
+                size -= previous.content.length();
+            }
+            size += entry.content.length();
+
+            Iterator<CacheEntry> it = entries.values().iterator();
+            while (size > maxSize && it.hasNext()) {
+                size -= it.next().content.length();
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Reads resource content. Large files are read with memory mapped file channel.
+     * @param resource
+     * @param file
+     * @param charset
+     * @return
+     * @throws IOException
+     */
+    private static String read(Resource resource, File file, Charset charset) throws IOException {
+        if (file != null && file.length() > MAPPED_READ_THRESHOLD) {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                return charset.decode(buffer).toString();
+            }
+        } else if (file != null) {
+            return new String(Files.readAllBytes(file.toPath()), charset);
+        }
+
+        try (InputStream inputStream = resource.getInputStream()) {
+            return new String(FileCopyUtils.copyToByteArray(inputStream), charset);
+        }
+    }
+
+    /**
+     * Gets file for given resource or null if resource does not point to a file in the file system.
+     * @param resource
+     * @return
+     */
+    private static File getFile(Resource resource) {
+        try {
+            if (resource.isFile()) {
+                File file = resource.getFile();
+                return file.isFile() ? file : null;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+
+        return null;
+    }
+
+    /**
+     * Cache key combining resource and charset.
+     */
+    private static final class CacheKey {
+        private final Resource resource;
+        private final Charset charset;
+
+        CacheKey(Resource resource, Charset charset) {
+            this.resource = resource;
+            this.charset = charset;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            CacheKey cacheKey = (CacheKey) o;
+            return resource.equals(cacheKey.resource) && charset.equals(cacheKey.charset);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(resource, charset);
+        }
+    }
+
+    /**
+     * Cached content with file state at the time of reading.
+     */
+    private static final class CacheEntry {
+        private final String content;
+        private final long lastModified;
+        private final long length;
+
+        CacheEntry(String content, long lastModified, long length) {
+            this.content = content;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+    }
+}
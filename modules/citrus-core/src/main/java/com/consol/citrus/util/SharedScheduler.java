@@ -0,0 +1,120 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import com.consol.citrus.Citrus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared scheduler and worker executor used by wait conditions and timer containers instead of creating short lived threads
+ * per condition check or per timer. Scheduler threads only trigger timer events and poll for container completion and must
+ * never block. Worker threads run potentially blocking tasks such as timer event actions and condition checks that need to be
+ * abandoned on timeout. All threads are daemon threads. Optionally threads are created as virtual threads when
+ * supported by the Java runtime.
+ *
+ * Executors are shared across all tests and must not be shut down by clients.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public final class SharedScheduler {
+
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(SharedScheduler.class);
+
+    /** Shared scheduler for periodic and delayed tasks */
+    private static final ScheduledExecutorService SCHEDULER = createScheduler();
+
+    /** Shared worker executor for blocking tasks */
+    private static final ExecutorService WORKERS = Executors.newCachedThreadPool(threadFactory("citrus-worker-"));
+
+    /**
+     * Prevent instantiation.
+     */
+    private SharedScheduler() {
+    }
+
+    /**
+     * Gets the shared scheduler.
+     * @return
+     */
+    public static ScheduledExecutorService getScheduler() {
+        return SCHEDULER;
+    }
+
+    /**
+     * Gets the shared worker executor for blocking tasks.
+     * @return
+     */
+    public static ExecutorService getWorkers() {
+        return WORKERS;
+    }
+
+    /**
+     * Creates scheduler with configured pool size. Cancelled tasks are removed from the work queue immediately.
+     * @return
+     */
+    private static ScheduledExecutorService createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(Integer.valueOf(Citrus.SCHEDULER_POOL_SIZE),
+                threadFactory("citrus-scheduler-"));
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Creates thread factory for named daemon threads. Uses virtual threads when enabled and supported by the Java runtime.
+     * @param prefix
+     * @return
+     */
+    private static ThreadFactory threadFactory(String prefix) {
+        if (Boolean.valueOf(Citrus.SCHEDULER_VIRTUAL_THREADS)) {
+            ThreadFactory virtualThreadFactory = virtualThreadFactory(prefix);
+            if (virtualThreadFactory != null) {
+                return virtualThreadFactory;
+            }
+
+            log.warn("Virtual threads are not supported by this Java runtime - using platform threads");
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger(0);
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Creates virtual thread factory via reflection as virtual threads are not available on all supported Java runtimes.
+     * @param prefix
+     * @return the thread factory or null if not supported.
+     */
+    private static ThreadFactory virtualThreadFactory(String prefix) {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
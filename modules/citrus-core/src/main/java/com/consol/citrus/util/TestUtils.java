@@ -41,6 +41,7 @@ import java.util.concurrent.*;
 public abstract class TestUtils {
 
     /** Used to identify waiting task threads pool */
+    @Deprecated
     public static final String WAIT_THREAD_PREFIX = "citrus-waiting-";
 
     /** Logger */
@@ -64,19 +65,19 @@ public abstract class TestUtils {
     }
 
     /**
-     * Wait for container completion using default thread executor.
+     * Wait for container completion using shared scheduler.
      * @param container
      * @param context
      * @param timeout
      */
     public static void waitForCompletion(final Completable container,
                                          final TestContext context, long timeout) {
-        waitForCompletion(Executors.newSingleThreadScheduledExecutor(TestUtils::createWaitingThread), container, context, timeout);
+        awaitCompletion(SharedScheduler.getScheduler(), container, context, timeout);
     }
 
     /**
      * Uses given scheduler to wait for container to finish properly. Method polls for done state on container for given
-     * amount of time.
+     * amount of time. Scheduler is shut down afterwards.
      *
      * @param scheduledExecutor
      * @param container
@@ -86,9 +87,27 @@ public abstract class TestUtils {
     public static void waitForCompletion(final ScheduledExecutorService scheduledExecutor,
                                          final Completable container,
                                          final TestContext context, long timeout) {
+        try {
+            awaitCompletion(scheduledExecutor, container, context, timeout);
+        } finally {
+            scheduledExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Polls for done state on container with given scheduler. Polling task is cancelled afterwards.
+     * @param scheduledExecutor
+     * @param container
+     * @param context
+     * @param timeout
+     */
+    private static void awaitCompletion(final ScheduledExecutorService scheduledExecutor,
+                                        final Completable container,
+                                        final TestContext context, long timeout) {
+        ScheduledFuture<?> polling = null;
         try {
             final CompletableFuture<Boolean> finished = new CompletableFuture<>();
-            scheduledExecutor.scheduleAtFixedRate(() -> {
+            polling = scheduledExecutor.scheduleAtFixedRate(() -> {
                 if (container.isDone(context)) {
                     finished.complete(true);
                 } else {
@@ -100,16 +119,12 @@ public abstract class TestUtils {
         } catch (ExecutionException | TimeoutException | InterruptedException e) {
             throw new CitrusRuntimeException("Failed to wait for test container to finish properly", e);
         } finally {
-            scheduledExecutor.shutdown();
+            if (polling != null) {
+                polling.cancel(false);
+            }
         }
     }
 
-    private static Thread createWaitingThread(final Runnable runnable) {
-        final Thread waitThread = Executors.defaultThreadFactory().newThread(runnable);
-        waitThread.setName(WAIT_THREAD_PREFIX.concat(waitThread.getName()));
-        return waitThread;
-    }
-    
     /**
      * 
      * @param test
@@ -32,8 +32,13 @@ import javax.xml.transform.Source;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamSource;
 import java.io.*;
+import java.lang.reflect.Modifier;
 import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * @author Christoph Deppisch
@@ -44,6 +49,23 @@ public abstract class TypeConversionUtils {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(TypeConversionUtils.class);
 
+    /** Registered converters in order of precedence */
+    private static final List<ConverterRegistration> converters = new CopyOnWriteArrayList<>();
+
+    /** Converter lookup cache by concrete source and target type pair */
+    private static final Map<ConversionKey, Optional<ConverterRegistration>> resolvedConverters = new ConcurrentHashMap<>();
+
+    /** Patterns used to parse string representations of lists and maps */
+    private static final Pattern LIST_START = Pattern.compile("^\\[");
+    private static final Pattern LIST_END = Pattern.compile("\\]$");
+    private static final Pattern LIST_DELIMITER = Pattern.compile(",\\s");
+    private static final Pattern MAP_ENTRY_DELIMITER = Pattern.compile(",\\s*");
+    private static final Pattern MULTI_VALUE_MAP_ENTRY_DELIMITER = Pattern.compile("\\]\\s*");
+
+    static {
+        registerDefaultConverters();
+    }
+
     /**
      * Prevent instantiation.
      */
@@ -52,7 +74,8 @@ public abstract class TypeConversionUtils {
     }
 
     /**
-     * Converts target object to required type if necessary.
+     * Converts target object to required type if necessary. Conversion is delegated to the first registered converter
+     * matching the source and target type pair. Objects with no matching converter are converted with Spring's simple type converter.
      *
      * @param target
      * @param type
@@ -64,44 +87,142 @@ public abstract class TypeConversionUtils {
             return type.cast(target);
         }
 
-        if (Source.class.isAssignableFrom(type)) {
-            if (target.getClass().isAssignableFrom(String.class)) {
-                return (T) new StringSource(String.valueOf(target));
-            } else if (target.getClass().isAssignableFrom(Node.class)) {
-                return (T) new DOMSource((Node) target);
-            } else if (target.getClass().isAssignableFrom(InputStreamSource.class)) {
-                try {
-                    return (T) new StreamSource(((InputStreamSource)target).getInputStream());
-                } catch (IOException e) {
-                    log.warn("Failed to create stream source from object", e);
-                }
+        Optional<ConverterRegistration> registration = resolvedConverters.computeIfAbsent(new ConversionKey(target.getClass(), type),
+                key -> resolveConverter(key.sourceType, key.targetType));
+
+        if (registration.isPresent()) {
+            return (T) instantiate(registration.get().converter.convert(target), type);
+        }
+
+        try {
+            return new SimpleTypeConverter().convertIfNecessary(target, type);
+        } catch (ConversionNotSupportedException e) {
+            if (String.class.equals(type)) {
+                log.warn(String.format("Using object toString representation: %s", e.getMessage()));
+                return (T) target.toString();
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Finds first converter able to convert given source type. Converters producing a super type of the required type
+     * (e.g. list converter for required type {@link ArrayList}) are preferred over converters producing a sub type of
+     * the required type.
+     * @param sourceType
+     * @param requiredType
+     * @return
+     */
+    private static Optional<ConverterRegistration> resolveConverter(Class<?> sourceType, Class<?> requiredType) {
+        Optional<ConverterRegistration> registration = converters.stream()
+                .filter(candidate -> candidate.supportsSource(sourceType) && candidate.targetType.isAssignableFrom(requiredType))
+                .findFirst();
+
+        if (registration.isPresent()) {
+            return registration;
+        }
+
+        return converters.stream()
+                .filter(candidate -> candidate.supportsSource(sourceType) && requiredType.isAssignableFrom(candidate.targetType))
+                .findFirst();
+    }
+
+    /**
+     * Makes sure converted collection and map values match the required concrete type. Converted value is copied to a
+     * new instance of the required type when possible. Otherwise the converted value is returned as is.
+     * @param converted
+     * @param type
+     * @return
+     */
+    private static Object instantiate(Object converted, Class<?> type) {
+        if (converted == null || type.isInstance(converted) || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return converted;
+        }
+
+        if (!(converted instanceof Collection && Collection.class.isAssignableFrom(type)) &&
+                !(converted instanceof Map && Map.class.isAssignableFrom(type))) {
+            return converted;
+        }
+
+        try {
+            Object instance = type.getConstructor().newInstance();
+            if (instance instanceof Collection) {
+                ((Collection<Object>) instance).addAll((Collection<?>) converted);
+            } else {
+                ((Map<Object, Object>) instance).putAll((Map<?, ?>) converted);
             }
+            return instance;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug(String.format("Unable to create instance of required type '%s' - using converted value of type '%s'", type.getName(), converted.getClass().getName()));
+            return converted;
         }
+    }
+
+    /**
+     * Registers converter for given source and target type pair. Converters registered here take precedence over all
+     * previously registered converters for the same type pair.
+     *
+     * @param sourceType
+     * @param targetType
+     * @param converter
+     * @param <S>
+     * @param <T>
+     */
+    public static <S, T> void registerConverter(Class<S> sourceType, Class<T> targetType, ObjectConverter<? super S, ? extends T> converter) {
+        converters.add(0, new ConverterRegistration(sourceType, targetType, converter));
+        resolvedConverters.clear();
+    }
+
+    /**
+     * Adds default converter at the end of the converter chain.
+     * @param sourceType
+     * @param targetType
+     * @param converter
+     * @param <S>
+     * @param <T>
+     */
+    private static <S, T> void addDefaultConverter(Class<S> sourceType, Class<T> targetType, ObjectConverter<? super S, ? extends T> converter) {
+        converters.add(new ConverterRegistration(sourceType, targetType, converter));
+    }
+
+    /**
+     * Registers default converters in the order of precedence.
+     */
+    private static void registerDefaultConverters() {
+        addDefaultConverter(String.class, Source.class, StringSource::new);
+        addDefaultConverter(Node.class, Source.class, DOMSource::new);
+        addDefaultConverter(InputStreamSource.class, Source.class, source -> {
+            try {
+                return new StreamSource(source.getInputStream());
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to create stream source from object", e);
+            }
+        });
 
-        if (MultiValueMap.class.isAssignableFrom(type)) {
-            String mapString = String.valueOf(target);
+        addDefaultConverter(Object.class, MultiValueMap.class, source -> {
+            String mapString = String.valueOf(source);
 
             Properties props = new Properties();
             try {
-                props.load(new StringReader(mapString.substring(1, mapString.length() - 1).replaceAll("\\]\\s*", "]\n")));
+                props.load(new StringReader(MULTI_VALUE_MAP_ENTRY_DELIMITER.matcher(mapString.substring(1, mapString.length() - 1)).replaceAll("]\n")));
             } catch (IOException e) {
                 throw new CitrusRuntimeException("Failed to reconstruct object of type map", e);
             }
             MultiValueMap<String, Object> map = new LinkedMultiValueMap<>();
             for (Map.Entry<Object, Object> entry : props.entrySet()) {
-                String arrayString = String.valueOf(entry.getValue()).replaceAll("^\\[", "").replaceAll("\\]$", "").replaceAll(",\\s", ",");
-                map.add(entry.getKey().toString(), StringUtils.commaDelimitedListToStringArray(String.valueOf(arrayString)));
+                map.add(entry.getKey().toString(), toStringArray(String.valueOf(entry.getValue())));
             }
 
-            return (T) map;
-        }
+            return map;
+        });
 
-        if (Map.class.isAssignableFrom(type)) {
-            String mapString = String.valueOf(target);
+        addDefaultConverter(Object.class, Map.class, source -> {
+            String mapString = String.valueOf(source);
 
             Properties props = new Properties();
             try {
-                props.load(new StringReader(mapString.substring(1, mapString.length() - 1).replaceAll(",\\s*", "\n")));
+                props.load(new StringReader(MAP_ENTRY_DELIMITER.matcher(mapString.substring(1, mapString.length() - 1)).replaceAll("\n")));
             } catch (IOException e) {
                 throw new CitrusRuntimeException("Failed to reconstruct object of type map", e);
             }
@@ -110,74 +231,79 @@ public abstract class TypeConversionUtils {
                 map.put(entry.getKey().toString(), entry.getValue());
             }
 
-            return (T) map;
-        }
+            return map;
+        });
 
-        if (String[].class.isAssignableFrom(type)) {
-            String arrayString = String.valueOf(target).replaceAll("^\\[", "").replaceAll("\\]$", "").replaceAll(",\\s", ",");
-            return (T) StringUtils.commaDelimitedListToStringArray(String.valueOf(arrayString));
-        }
+        addDefaultConverter(Collection.class, String[].class, source -> ((Collection<?>) source).stream().map(String::valueOf).toArray(String[]::new));
+        addDefaultConverter(Object[].class, String[].class, source -> Arrays.stream(source).map(String::valueOf).toArray(String[]::new));
+        addDefaultConverter(Object.class, String[].class, source -> toStringArray(String.valueOf(source)));
 
-        if (List.class.isAssignableFrom(type)) {
-            String listString = String.valueOf(target).replaceAll("^\\[", "").replaceAll("\\]$", "").replaceAll(",\\s", ",");
-            return (T) Arrays.asList(StringUtils.commaDelimitedListToStringArray(String.valueOf(listString)));
-        }
+        addDefaultConverter(Collection.class, List.class, source -> ((Collection<?>) source).stream().map(String::valueOf).collect(Collectors.toList()));
+        addDefaultConverter(Object[].class, List.class, source -> Arrays.stream(source).map(String::valueOf).collect(Collectors.toList()));
+        addDefaultConverter(Object.class, List.class, source -> Arrays.asList(toStringArray(String.valueOf(source))));
 
-        if (byte[].class.isAssignableFrom(type)) {
-            if (target instanceof String) {
-                try {
-                    return (T) String.valueOf(target).getBytes(Citrus.CITRUS_FILE_ENCODING);
-                } catch (UnsupportedEncodingException e) {
-                    return (T) String.valueOf(target).getBytes();
-                }
-            } else if (target instanceof ByteBuffer) {
-                return (T) ((ByteBuffer) target).array();
-            } else if (target instanceof ByteArrayInputStream) {
-                try {
-                    return (T) StreamUtils.copyToByteArray((ByteArrayInputStream) target);
-                } catch (IOException e) {
-                    throw new CitrusRuntimeException("Failed to convert input stream to byte[]");
-                }
+        addDefaultConverter(String.class, byte[].class, TypeConversionUtils::getBytes);
+        addDefaultConverter(ByteBuffer.class, byte[].class, source -> {
+            if (source.hasArray() && source.arrayOffset() == 0 && source.position() == 0 && source.remaining() == source.array().length) {
+                return source.array();
             }
-        }
 
-        if (InputStream.class.isAssignableFrom(type)) {
-            if (target instanceof InputStream) {
-                return (T) target;
-            } else if (target instanceof byte[]) {
-                return (T) new ByteArrayInputStream((byte[]) target);
-            } else if (target instanceof String) {
-                try {
-                    return (T) new ByteArrayInputStream(String.valueOf(target).getBytes(Citrus.CITRUS_FILE_ENCODING));
-                } catch (UnsupportedEncodingException e) {
-                    return (T) new ByteArrayInputStream(String.valueOf(target).getBytes());
-                }
-            } else {
-                try {
-                    return (T) new ByteArrayInputStream(target.toString().getBytes(Citrus.CITRUS_FILE_ENCODING));
-                } catch (UnsupportedEncodingException e) {
-                    return (T) new ByteArrayInputStream(target.toString().getBytes());
-                }
+            byte[] bytes = new byte[source.remaining()];
+            source.duplicate().get(bytes);
+            return bytes;
+        });
+        addDefaultConverter(InputStream.class, byte[].class, source -> {
+            try {
+                return StreamUtils.copyToByteArray(source);
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to convert input stream to byte[]", e);
             }
-        }
+        });
 
-        if (type.equals(String.class)) {
-            if (ByteBuffer.class.isAssignableFrom(target.getClass())) {
-                return (T) new String(((ByteBuffer) target).array());
-            } else if (byte[].class.isAssignableFrom(target.getClass())) {
-                return (T) Arrays.toString((byte[]) target);
+        addDefaultConverter(byte[].class, InputStream.class, ByteArrayInputStream::new);
+        addDefaultConverter(ByteBuffer.class, InputStream.class, source -> {
+            if (source.hasArray()) {
+                return new ByteArrayInputStream(source.array(), source.arrayOffset() + source.position(), source.remaining());
             }
-        }
 
-        try {
-            return new SimpleTypeConverter().convertIfNecessary(target, type);
-        } catch (ConversionNotSupportedException e) {
-            if (String.class.equals(type)) {
-                log.warn(String.format("Using object toString representation: %s", e.getMessage()));
-                return (T) target.toString();
+            byte[] bytes = new byte[source.remaining()];
+            source.duplicate().get(bytes);
+            return new ByteArrayInputStream(bytes);
+        });
+        addDefaultConverter(Object.class, InputStream.class, source -> new ByteArrayInputStream(getBytes(source.toString())));
+
+        addDefaultConverter(ByteBuffer.class, String.class, source -> {
+            if (source.hasArray()) {
+                return new String(source.array(), source.arrayOffset() + source.position(), source.remaining());
             }
 
-            throw e;
+            byte[] bytes = new byte[source.remaining()];
+            source.duplicate().get(bytes);
+            return new String(bytes);
+        });
+        addDefaultConverter(byte[].class, String.class, Arrays::toString);
+    }
+
+    /**
+     * Splits string representation of an array or list into its elements.
+     * @param arrayString
+     * @return
+     */
+    private static String[] toStringArray(String arrayString) {
+        String elements = LIST_END.matcher(LIST_START.matcher(arrayString).replaceAll("")).replaceAll("");
+        return StringUtils.commaDelimitedListToStringArray(LIST_DELIMITER.matcher(elements).replaceAll(","));
+    }
+
+    /**
+     * Gets bytes of given string using the default Citrus file encoding.
+     * @param value
+     * @return
+     */
+    private static byte[] getBytes(String value) {
+        try {
+            return value.getBytes(Citrus.CITRUS_FILE_ENCODING);
+        } catch (UnsupportedEncodingException e) {
+            return value.getBytes();
         }
     }
 
@@ -231,4 +357,59 @@ public abstract class TypeConversionUtils {
             throw new CitrusRuntimeException(String.format("Unable to convert '%s' to required type '%s' - also no bean of required type available in application context", value, type.getName()), e.getCause());
         }
     }
+
+    /**
+     * Converter registered for a source and target type pair.
+     */
+    private static class ConverterRegistration {
+        private final Class<?> sourceType;
+        private final Class<?> targetType;
+        private final ObjectConverter converter;
+
+        ConverterRegistration(Class<?> sourceType, Class<?> targetType, ObjectConverter<?, ?> converter) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.converter = converter;
+        }
+
+        /**
+         * Checks if this converter is able to convert given source type.
+         * @param source
+         * @return
+         */
+        boolean supportsSource(Class<?> source) {
+            return sourceType.isAssignableFrom(source);
+        }
+    }
+
+    /**
+     * Cache key for concrete source and target type pairs.
+     */
+    private static class ConversionKey {
+        private final Class<?> sourceType;
+        private final Class<?> targetType;
+
+        ConversionKey(Class<?> sourceType, Class<?> targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            ConversionKey that = (ConversionKey) o;
+            return sourceType.equals(that.sourceType) && targetType.equals(that.targetType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sourceType, targetType);
+        }
+    }
 }
@@ -24,16 +24,18 @@ import com.consol.citrus.message.MessageDirection;
 import com.consol.citrus.message.MessageHeaderType;
 import com.consol.citrus.message.MessageHeaderUtils;
 import com.consol.citrus.message.MessageHeaders;
+import com.consol.citrus.message.MessageType;
 import com.consol.citrus.util.FileUtils;
+import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.validation.interceptor.MessageConstructionInterceptor;
+import com.consol.citrus.validation.xml.XmlMessageConstructionInterceptor;
 import com.consol.citrus.variable.dictionary.DataDictionary;
+import org.springframework.util.StringUtils;
+import org.w3c.dom.Document;
 
 import java.io.IOException;
 import java.lang.reflect.Constructor;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 /**
  * Abstract control message builder is aware of message headers and delegates message payload
@@ -77,25 +79,26 @@ public abstract class AbstractMessageContentBuilder implements MessageContentBui
             message.setName(messageName);
 
             if (payload != null) {
+                final List<MessageConstructionInterceptor> interceptors = new ArrayList<>();
                 for (final MessageConstructionInterceptor interceptor: context.getGlobalMessageConstructionInterceptors().getMessageConstructionInterceptors()) {
-                    if (direction.equals(MessageDirection.UNBOUND)
-                            || interceptor.getDirection().equals(MessageDirection.UNBOUND)
-                            || direction.equals(interceptor.getDirection())) {
-                        message = interceptor.interceptMessageConstruction(message, messageType, context);
+                    if (appliesTo(interceptor, direction)) {
+                        interceptors.add(interceptor);
                     }
                 }
 
                 if (dataDictionary != null) {
-                    message = dataDictionary.interceptMessageConstruction(message, messageType, context);
+                    interceptors.add(dataDictionary);
                 }
 
                 for (final MessageConstructionInterceptor interceptor : messageInterceptors) {
-                    if (direction.equals(MessageDirection.UNBOUND)
-                            || interceptor.getDirection().equals(MessageDirection.UNBOUND)
-                            || direction.equals(interceptor.getDirection())) {
-                        message = interceptor.interceptMessageConstruction(message, messageType, context);
+                    if (appliesTo(interceptor, direction)) {
+                        interceptors.add(interceptor);
                     }
                 }
+
+                interceptors.addAll(getPayloadInterceptors());
+
+                message = intercept(message, interceptors, messageType, context);
             }
 
             message.getHeaderData().addAll(buildMessageHeaderData(context));
@@ -109,6 +112,70 @@ public abstract class AbstractMessageContentBuilder implements MessageContentBui
 
     }
 
+    /**
+     * Runs interceptors on the message in given order. Consecutive XML interceptors share a single parsed document so the
+     * payload is parsed and serialized only once for all of them.
+     * @param message
+     * @param interceptors
+     * @param messageType
+     * @param context
+     * @return
+     */
+    private Message intercept(Message message, final List<MessageConstructionInterceptor> interceptors,
+                              final String messageType, final TestContext context) {
+        Document document = null;
+
+        for (final MessageConstructionInterceptor interceptor : interceptors) {
+            if (interceptor instanceof XmlMessageConstructionInterceptor
+                    && MessageType.XML.name().equalsIgnoreCase(messageType)
+                    && interceptor.supportsMessageType(messageType)) {
+                if (document == null) {
+                    if (message.getPayload() == null || !StringUtils.hasText(message.getPayload(String.class))) {
+                        continue;
+                    }
+
+                    document = XMLUtils.parseMessagePayload(message.getPayload(String.class));
+                }
+
+                ((XmlMessageConstructionInterceptor) interceptor).interceptDocument(document, message, messageType, context);
+            } else {
+                if (document != null) {
+                    message.setPayload(XMLUtils.serialize(document));
+                    document = null;
+                }
+
+                message = interceptor.interceptMessageConstruction(message, messageType, context);
+            }
+        }
+
+        if (document != null) {
+            message.setPayload(XMLUtils.serialize(document));
+        }
+
+        return message;
+    }
+
+    /**
+     * Checks if interceptor applies to the given message direction.
+     * @param interceptor
+     * @param direction
+     * @return
+     */
+    private boolean appliesTo(final MessageConstructionInterceptor interceptor, final MessageDirection direction) {
+        return direction.equals(MessageDirection.UNBOUND)
+                || interceptor.getDirection().equals(MessageDirection.UNBOUND)
+                || direction.equals(interceptor.getDirection());
+    }
+
+    /**
+     * Gets interceptors that are part of the payload construction and always run after all other message interceptors.
+     * Subclasses may overwrite this method.
+     * @return
+     */
+    protected List<MessageConstructionInterceptor> getPayloadInterceptors() {
+        return Collections.emptyList();
+    }
+
     /**
      * Build message payload.
      * @param context
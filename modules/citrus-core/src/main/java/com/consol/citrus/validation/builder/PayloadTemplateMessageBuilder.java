@@ -22,10 +22,13 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.FileUtils;
 import com.consol.citrus.validation.interceptor.BinaryMessageConstructionInterceptor;
 import com.consol.citrus.validation.interceptor.GzipMessageConstructionInterceptor;
+import com.consol.citrus.validation.interceptor.MessageConstructionInterceptor;
 import org.springframework.core.io.Resource;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * @author Christoph Deppisch
@@ -48,16 +51,23 @@ public class PayloadTemplateMessageBuilder extends AbstractMessageContentBuilder
     /** Message construction interceptor for binary messages */
     private final BinaryMessageConstructionInterceptor binaryMessageConstructionInterceptor =
             new BinaryMessageConstructionInterceptor();
-    
+
+    /** Fixed interceptors converting payload resources to Gzip or binary content */
+    private final List<MessageConstructionInterceptor> payloadInterceptors =
+            Arrays.asList(gzipMessageConstructionInterceptor, binaryMessageConstructionInterceptor);
+
     /**
      * Build the control message from payload file resource or String data.
      */
     public Object buildMessagePayload(TestContext context, String messageType) {
-        this.getMessageInterceptors().add(gzipMessageConstructionInterceptor);
-        this.getMessageInterceptors().add(binaryMessageConstructionInterceptor);
         return getPayloadContent(context, messageType);
     }
 
+    @Override
+    protected List<MessageConstructionInterceptor> getPayloadInterceptors() {
+        return payloadInterceptors;
+    }
+
     /**
      * Set message payload as direct string data.
      * @param payloadData the payloadData to set
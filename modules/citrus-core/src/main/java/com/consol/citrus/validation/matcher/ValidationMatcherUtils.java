@@ -23,8 +23,7 @@ import com.consol.citrus.functions.FunctionUtils;
 import com.consol.citrus.variable.VariableUtils;
 import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 /**
  * Utility class for validation matchers.
@@ -33,13 +32,28 @@ import java.util.List;
  */
 public final class ValidationMatcherUtils {
 
+    /** Maximum number of parsed validation matcher expressions kept in cache */
+    private static final int EXPRESSION_CACHE_SIZE = 1000;
+
+    /** Parsed validation matcher expressions in access order */
+    private static final Map<String, ParsedExpression> expressionCache = new LinkedHashMap<String, ParsedExpression>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ParsedExpression> eldest) {
+            return size() > EXPRESSION_CACHE_SIZE;
+        }
+    };
+
+    /** Default parser for control expressions */
+    private static final ControlExpressionParser DEFAULT_CONTROL_EXPRESSION_PARSER = new DefaultControlExpressionParser();
+
     /**
      * Prevent class instantiation.
      */
     private ValidationMatcherUtils() {}
     
     /**
-     * This method resolves a custom validationMatcher to its respective result.
+     * This method resolves a custom validationMatcher to its respective result. Expressions are parsed only once
+     * and reused on subsequent calls. Variables and functions in control values get resolved on each call.
      * @param fieldName the name of the field
      * @param fieldValue the value of the field
      * @param validationMatcherExpression to evaluate.
@@ -47,6 +61,31 @@ public final class ValidationMatcherUtils {
      */
     public static void resolveValidationMatcher(String fieldName, String fieldValue, 
             String validationMatcherExpression, TestContext context) {
+        ParsedExpression expression = parseExpression(validationMatcherExpression);
+
+        ValidationMatcherLibrary library = context.getValidationMatcherRegistry().getLibraryForPrefix(expression.prefix);
+        ValidationMatcher validationMatcher = library.getValidationMatcher(expression.matcherName);
+
+        List<String> params = expression.getControlValues(lookupControlExpressionParser(validationMatcher));
+        List<String> replacedParams = replaceVariablesAndFunctionsInParameters(params, context);
+        validationMatcher.validate(fieldName, fieldValue, replacedParams, context);
+    }
+
+    /**
+     * Parses validation matcher expression or gets already parsed expression from cache.
+     * @param validationMatcherExpression
+     * @return
+     */
+    private static ParsedExpression parseExpression(String validationMatcherExpression) {
+        ParsedExpression parsed;
+        synchronized (expressionCache) {
+            parsed = expressionCache.get(validationMatcherExpression);
+        }
+
+        if (parsed != null) {
+            return parsed;
+        }
+
         String expression = VariableUtils.cutOffVariablesPrefix(cutOffValidationMatchersPrefix(validationMatcherExpression));
 
         if (expression.equals("ignore")) {
@@ -66,13 +105,12 @@ public final class ValidationMatcherUtils {
         String matcherValue = expression.substring(bodyStart + 1, expression.length() - 1);
         String matcherName = expression.substring(prefix.length(), bodyStart);
 
-        ValidationMatcherLibrary library = context.getValidationMatcherRegistry().getLibraryForPrefix(prefix);
-        ValidationMatcher validationMatcher = library.getValidationMatcher(matcherName);
+        parsed = new ParsedExpression(prefix, matcherName, matcherValue);
+        synchronized (expressionCache) {
+            expressionCache.put(validationMatcherExpression, parsed);
+        }
 
-        ControlExpressionParser controlExpressionParser = lookupControlExpressionParser(validationMatcher);
-        List<String> params = controlExpressionParser.extractControlValues(matcherValue, null);
-        List<String> replacedParams = replaceVariablesAndFunctionsInParameters(params, context);
-        validationMatcher.validate(fieldName, fieldValue, replacedParams, context);
+        return parsed;
     }
 
     private static List<String> replaceVariablesAndFunctionsInParameters(List<String> params, TestContext context) {
@@ -112,10 +150,57 @@ public final class ValidationMatcherUtils {
         if (validationMatcher instanceof ControlExpressionParser) {
             return (ControlExpressionParser) validationMatcher;
         }
-        return new DefaultControlExpressionParser();
+        return DEFAULT_CONTROL_EXPRESSION_PARSER;
     }
 
     public static String getParameterListAsString(List<String> parameters) {
         return StringUtils.collectionToDelimitedString(parameters, ",", "'", "'");
     }
+
+    /**
+     * Parsed validation matcher expression holding library prefix, matcher name and matcher value. Control values extracted
+     * from matcher value are kept for the control expression parser that has extracted them.
+     */
+    private static final class ParsedExpression {
+        private final String prefix;
+        private final String matcherName;
+        private final String matcherValue;
+
+        /** Last extracted control values with the parser that has extracted them */
+        private volatile ExtractedControlValues controlValues;
+
+        private ParsedExpression(String prefix, String matcherName, String matcherValue) {
+            this.prefix = prefix;
+            this.matcherName = matcherName;
+            this.matcherValue = matcherValue;
+        }
+
+        /**
+         * Gets control values extracted from matcher value with given parser.
+         * @param parser
+         * @return
+         */
+        private List<String> getControlValues(ControlExpressionParser parser) {
+            ExtractedControlValues extracted = controlValues;
+            if (extracted == null || extracted.parser != parser) {
+                extracted = new ExtractedControlValues(parser, Collections.unmodifiableList(parser.extractControlValues(matcherValue, null)));
+                controlValues = extracted;
+            }
+
+            return extracted.values;
+        }
+    }
+
+    /**
+     * Control values extracted by control expression parser.
+     */
+    private static final class ExtractedControlValues {
+        private final ControlExpressionParser parser;
+        private final List<String> values;
+
+        private ExtractedControlValues(ControlExpressionParser parser, List<String> values) {
+            this.parser = parser;
+            this.values = values;
+        }
+    }
 }
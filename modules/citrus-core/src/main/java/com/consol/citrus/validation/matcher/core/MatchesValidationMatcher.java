@@ -20,22 +20,37 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.validation.matcher.ValidationMatcher;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 /**
- * ValidationMatcher based on String.matches()
+ * ValidationMatcher based on String.matches(). Compiled patterns are cached so the same regular expression
+ * is compiled only once.
  * 
  * @author Christian Wied
  */
 public class MatchesValidationMatcher implements ValidationMatcher {
 
+    /** Maximum number of compiled patterns kept in cache */
+    private static final int PATTERN_CACHE_SIZE = 500;
+
+    /** Compiled patterns in access order */
+    private static final Map<String, Pattern> patternCache = new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+            return size() > PATTERN_CACHE_SIZE;
+        }
+    };
+
     public void validate(String fieldName, String value, List<String> controlParameters, TestContext context) throws ValidationException {
 		String control = controlParameters.get(0);
     	boolean success;
 
     	try {
-    		success = value.matches(control);
+    		success = getPattern(control).matcher(value).matches();
     	} catch (PatternSyntaxException e) {
     		throw new ValidationException(this.getClass().getSimpleName()
                     + " failed for field '" + fieldName
@@ -49,4 +64,25 @@ public class MatchesValidationMatcher implements ValidationMatcher {
                     + "', control value is '" + control + "'");
         }
     }
+
+    /**
+     * Gets compiled pattern for given regular expression from cache or compiles the pattern.
+     * @param regex
+     * @return
+     */
+    private static Pattern getPattern(String regex) {
+        Pattern pattern;
+        synchronized (patternCache) {
+            pattern = patternCache.get(regex);
+        }
+
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            synchronized (patternCache) {
+                patternCache.put(regex, pattern);
+            }
+        }
+
+        return pattern;
+    }
 }
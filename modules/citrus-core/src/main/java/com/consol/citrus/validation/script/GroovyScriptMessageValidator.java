@@ -24,7 +24,8 @@ import com.consol.citrus.script.ScriptTypes;
 import com.consol.citrus.validation.AbstractMessageValidator;
 import com.consol.citrus.validation.context.ValidationContext;
 import com.consol.citrus.validation.text.PlainTextMessageValidator;
-import groovy.lang.GroovyClassLoader;
+import com.consol.citrus.script.GroovyScriptCache;
+import com.consol.citrus.util.FileUtils;
 import groovy.lang.GroovyObject;
 import org.codehaus.groovy.control.CompilationFailedException;
 import org.slf4j.Logger;
@@ -33,8 +34,7 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.StringUtils;
 
-import java.security.AccessController;
-import java.security.PrivilegedAction;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -53,6 +53,9 @@ public class GroovyScriptMessageValidator extends AbstractMessageValidator<Scrip
     
     /** Static code snippet for groovy script validation */
     private Resource scriptTemplateResource;
+
+    /** Cached script template code */
+    private String scriptTemplate;
     
     /**
      * Default constructor using default script template.
@@ -78,12 +81,7 @@ public class GroovyScriptMessageValidator extends AbstractMessageValidator<Scrip
             if (StringUtils.hasText(validationScript)) {
                 log.debug("Start groovy message validation ...");
 
-                GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
-                    public GroovyClassLoader run() {
-                        return new GroovyClassLoader(GroovyScriptMessageValidator.class.getClassLoader());
-                    }
-                });
-                Class<?> groovyClass = loader.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
+                Class<?> groovyClass = GroovyScriptCache.getInstance().parseClass(TemplateBasedScriptBuilder.fromTemplateScript(getScriptTemplate())
                                                             .withCode(validationScript)
                                                             .build());
                 
@@ -103,6 +101,22 @@ public class GroovyScriptMessageValidator extends AbstractMessageValidator<Scrip
         }
     }
 
+    /**
+     * Gets the script template code. Template resource is read only once.
+     * @return
+     */
+    private String getScriptTemplate() {
+        if (scriptTemplate == null) {
+            try {
+                scriptTemplate = FileUtils.readToString(scriptTemplateResource);
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Error loading script template from file resource", e);
+            }
+        }
+
+        return scriptTemplate;
+    }
+
     @Override
     protected ScriptValidationContext findValidationContext(List<ValidationContext> validationContexts) {
         for (ValidationContext validationContext : validationContexts) {
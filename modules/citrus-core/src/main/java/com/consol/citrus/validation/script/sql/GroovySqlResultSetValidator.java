@@ -21,7 +21,8 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.script.ScriptTypes;
 import com.consol.citrus.validation.script.*;
-import groovy.lang.GroovyClassLoader;
+import com.consol.citrus.script.GroovyScriptCache;
+import com.consol.citrus.util.FileUtils;
 import groovy.lang.GroovyObject;
 import org.codehaus.groovy.control.CompilationFailedException;
 import org.slf4j.Logger;
@@ -30,8 +31,7 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.StringUtils;
 
-import java.security.AccessController;
-import java.security.PrivilegedAction;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -49,6 +49,9 @@ public class GroovySqlResultSetValidator implements SqlResultSetScriptValidator
     
     /** Static code snippet for groovy script validation */
     private Resource scriptTemplateResource;
+
+    /** Cached script template code */
+    private String scriptTemplate;
     
     /**
      * Default constructor using a default script template. 
@@ -76,13 +79,7 @@ public class GroovySqlResultSetValidator implements SqlResultSetScriptValidator
                 if (StringUtils.hasText(validationScript)) {
                     log.debug("Start groovy SQL result set validation");
 
-                    GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
-                        public GroovyClassLoader run() {
-                            return new GroovyClassLoader(GroovyScriptMessageValidator.class.getClassLoader());
-                        }
-                    });
-
-                    Class<?> groovyClass = loader.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
+                    Class<?> groovyClass = GroovyScriptCache.getInstance().parseClass(TemplateBasedScriptBuilder.fromTemplateScript(getScriptTemplate())
                                                                 .withCode(validationScript)
                                                                 .build());
                     
@@ -106,4 +103,20 @@ public class GroovySqlResultSetValidator implements SqlResultSetScriptValidator
             }
         }
     }
+
+    /**
+     * Gets the script template code. Template resource is read only once.
+     * @return
+     */
+    private String getScriptTemplate() {
+        if (scriptTemplate == null) {
+            try {
+                scriptTemplate = FileUtils.readToString(scriptTemplateResource);
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Error loading script template from file resource", e);
+            }
+        }
+
+        return scriptTemplate;
+    }
 }
@@ -21,6 +21,7 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.*;
+import com.consol.citrus.util.LogPayload;
 import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.validation.AbstractMessageValidator;
 import com.consol.citrus.validation.ValidationUtils;
@@ -111,10 +112,10 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         } catch (ClassCastException | DOMException | LSException e) {
             throw new CitrusRuntimeException(e);
         } catch (IllegalArgumentException e) {
-            log.error("Failed to validate:\n" + XMLUtils.prettyPrint(receivedMessage.getPayload(String.class)));
+            log.error("Failed to validate:\n{}", LogPayload.xml(() -> receivedMessage.getPayload(String.class)));
             throw new ValidationException("Validation failed:", e);
         } catch (ValidationException ex) {
-            log.error("Failed to validate:\n" + XMLUtils.prettyPrint(receivedMessage.getPayload(String.class)));
+            log.error("Failed to validate:\n{}", LogPayload.xml(() -> receivedMessage.getPayload(String.class)));
             throw ex;
         }
     }
@@ -211,8 +212,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             if (results.length == 0) {
                 log.info("XML schema validation successful: All values OK");
             } else {
-                log.error("XML schema validation failed for message:\n" +
-                        XMLUtils.prettyPrint(receivedMessage.getPayload(String.class)));
+                log.error("XML schema validation failed for message:\n{}", LogPayload.xml(() -> receivedMessage.getPayload(String.class)));
                 
                 // Report all parsing errors
                 log.debug("Found " + results.length + " schema validation errors");
@@ -351,8 +351,8 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         XMLUtils.stripWhitespaceNodes(source);
 
         if (log.isDebugEnabled()) {
-            log.debug("Received message:\n" + XMLUtils.serialize(received));
-            log.debug("Control message:\n" + XMLUtils.serialize(source));
+            log.debug("Received message:\n{}", LogPayload.of(() -> XMLUtils.serialize(received)));
+            log.debug("Control message:\n{}", LogPayload.of(() -> XMLUtils.serialize(source)));
         }
 
         validateXmlTree(received, source, validationContext, namespaceContextBuilder.buildContext(
@@ -377,8 +377,8 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         XMLUtils.stripWhitespaceNodes(source);
 
         if (log.isDebugEnabled()) {
-            log.debug("Received header data:\n" + XMLUtils.serialize(received));
-            log.debug("Control header data:\n" + XMLUtils.serialize(source));
+            log.debug("Received header data:\n{}", LogPayload.of(() -> XMLUtils.serialize(received)));
+            log.debug("Control header data:\n{}", LogPayload.of(() -> XMLUtils.serialize(source)));
         }
 
         validateXmlTree(received, source, validationContext, 
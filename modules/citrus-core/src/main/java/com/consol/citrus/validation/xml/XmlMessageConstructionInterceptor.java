@@ -0,0 +1,42 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.xml;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.validation.interceptor.MessageConstructionInterceptor;
+import org.w3c.dom.Document;
+
+/**
+ * Message construction interceptor that is able to work on a parsed XML document. Message content builders parse the XML payload
+ * once and pass the shared document to all subsequent XML interceptors. The payload is serialized once after the last of these interceptors.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public interface XmlMessageConstructionInterceptor extends MessageConstructionInterceptor {
+
+    /**
+     * Intercept message construction by modifying the parsed XML document. Message payload is not in sync with
+     * the document while this method is called.
+     * @param document the parsed message payload to be modified.
+     * @param message the message under construction.
+     * @param messageType the message type.
+     * @param context the current test context.
+     */
+    void interceptDocument(Document document, Message message, String messageType, TestContext context);
+}
@@ -41,7 +41,7 @@ import java.util.Map.Entry;
  * 
  * @author Christoph Deppisch
  */
-public class XpathMessageConstructionInterceptor extends AbstractMessageConstructionInterceptor {
+public class XpathMessageConstructionInterceptor extends AbstractMessageConstructionInterceptor implements XmlMessageConstructionInterceptor {
 
     /** Overwrites message elements before validating (via XPath expressions) */
     private Map<String, String> xPathExpressions = new LinkedHashMap<>();
@@ -84,6 +84,14 @@ public class XpathMessageConstructionInterceptor extends AbstractMessageConstruc
             throw new CitrusRuntimeException("Not able to set message elements, because no XML ressource defined");
         }
 
+        interceptDocument(doc, message, messageType, context);
+
+        message.setPayload(XMLUtils.serialize(doc));
+        return message;
+    }
+
+    @Override
+    public void interceptDocument(final Document doc, final Message message, final String messageType, final TestContext context) {
         for (final Entry<String, String> entry : xPathExpressions.entrySet()) {
             final String pathExpression = entry.getKey();
             String valueExpression = entry.getValue();
@@ -114,9 +122,6 @@ public class XpathMessageConstructionInterceptor extends AbstractMessageConstruc
                 log.debug("Element " +  pathExpression + " was set to value: " + valueExpression);
             }
         }
-        
-        message.setPayload(XMLUtils.serialize(doc));
-        return message;
     }
 
     @Override
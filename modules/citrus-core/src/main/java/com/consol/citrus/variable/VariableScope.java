@@ -0,0 +1,268 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Copy-on-write variable scope reading through to its parent variables. Writes and removals are kept local to the scope
+ * so the parent is not modified while the scope is in use. Local changes are written back to the parent explicitly according
+ * to a {@link WriteBack} policy once the scope is closed.
+ *
+ * Scopes are cheap to create as no variables are copied. Parallel branches each working on their own scope do not need to
+ * synchronize on variables as long as the parent is not modified concurrently.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class VariableScope extends AbstractMap<String, Object> {
+
+    /**
+     * Policy for writing local scope changes back to the parent.
+     */
+    public enum WriteBack {
+        /** All local changes are written to parent */
+        ALL,
+        /** Only changes to variables already known to the parent are written back, new variables stay local */
+        EXISTING,
+        /** Local changes are discarded */
+        NONE
+    }
+
+    /** Parent variables to read through */
+    private final Map<String, Object> parent;
+
+    /** Variables set in this scope */
+    private final Map<String, Object> local = new ConcurrentHashMap<>();
+
+    /** Parent variables removed in this scope */
+    private final Set<String> removed = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Default constructor using parent variables.
+     * @param parent
+     */
+    public VariableScope(Map<String, Object> parent) {
+        this.parent = parent;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = local.get(key);
+        if (value != null || removed.contains(key)) {
+            return value;
+        }
+
+        return parent.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return local.containsKey(key) || (!removed.contains(key) && parent.containsKey(key));
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+        local.put(key, value);
+        removed.remove(key);
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = get(key);
+        local.remove(key);
+
+        if (key instanceof String && parent.containsKey(key)) {
+            removed.add((String) key);
+        }
+
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        removed.addAll(parent.keySet());
+    }
+
+    @Override
+    public int size() {
+        int size = local.size();
+        for (String key : parent.keySet()) {
+            if (!local.containsKey(key) && !removed.contains(key)) {
+                size++;
+            }
+        }
+
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!local.isEmpty()) {
+            return false;
+        }
+
+        for (String key : parent.keySet()) {
+            if (!removed.contains(key)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Entries are a live view on the currently visible variables. Removing entries via iterator removes the variable from this scope.
+     * @return
+     */
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new ScopeIterator();
+            }
+
+            @Override
+            public int size() {
+                return VariableScope.this.size();
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return VariableScope.this.isEmpty();
+            }
+
+            @Override
+            public void clear() {
+                VariableScope.this.clear();
+            }
+        };
+    }
+
+    /**
+     * Writes local changes back to the parent according to given policy.
+     * @param writeBack
+     */
+    public void writeBack(WriteBack writeBack) {
+        if (writeBack == WriteBack.NONE) {
+            return;
+        }
+
+        for (String key : removed) {
+            parent.remove(key);
+        }
+
+        for (Entry<String, Object> entry : local.entrySet()) {
+            if (writeBack == WriteBack.ALL || parent.containsKey(entry.getKey())) {
+                parent.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Iterates parent variables that are not removed in this scope, followed by variables only known to this scope.
+     */
+    private class ScopeIterator implements Iterator<Entry<String, Object>> {
+        private final Iterator<String> parentKeys = parent.keySet().iterator();
+        private Iterator<String> localKeys;
+
+        private String next;
+        private String current;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (localKeys == null) {
+                    if (parentKeys.hasNext()) {
+                        String key = parentKeys.next();
+                        if (!removed.contains(key)) {
+                            next = key;
+                        }
+                    } else {
+                        localKeys = local.keySet().iterator();
+                    }
+                } else if (localKeys.hasNext()) {
+                    String key = localKeys.next();
+                    if (!parent.containsKey(key)) {
+                        next = key;
+                    }
+                } else {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            current = next;
+            next = null;
+            return new ScopeEntry(current);
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+
+            VariableScope.this.remove(current);
+            current = null;
+        }
+    }
+
+    /**
+     * Entry reading and writing the variable in this scope.
+     */
+    private class ScopeEntry extends SimpleEntry<String, Object> {
+        ScopeEntry(String key) {
+            super(key, VariableScope.this.get(key));
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            super.setValue(value);
+            return put(getKey(), value);
+        }
+    }
+
+    /**
+     * Gets the parent variables.
+     * @return
+     */
+    public Map<String, Object> getParent() {
+        return parent;
+    }
+
+    /**
+     * Gets the variables set in this scope.
+     * @return
+     */
+    public Map<String, Object> getLocalVariables() {
+        return Collections.unmodifiableMap(local);
+    }
+}
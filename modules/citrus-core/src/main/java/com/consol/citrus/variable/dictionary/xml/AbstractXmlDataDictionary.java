@@ -21,14 +21,11 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.validation.xhtml.XhtmlMessageConverter;
+import com.consol.citrus.validation.xml.XmlMessageConstructionInterceptor;
 import com.consol.citrus.variable.dictionary.AbstractDataDictionary;
 import org.springframework.util.StringUtils;
 import org.springframework.util.xml.DomUtils;
 import org.w3c.dom.*;
-import org.w3c.dom.ls.*;
-import org.w3c.dom.traversal.NodeFilter;
-
-import java.io.StringWriter;
 
 /**
  * Abstract data dictionary works on XML message payloads only with parsing the document and translating each element
@@ -37,7 +34,7 @@ import java.io.StringWriter;
  * @author Christoph Deppisch
  * @since 1.4
  */
-public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<Node> {
+public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<Node> implements XmlMessageConstructionInterceptor {
 
     @Override
     protected Message interceptMessage(Message message, String messageType, TestContext context) {
@@ -51,61 +48,47 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
         }
 
         Document doc = XMLUtils.parseMessagePayload(messagePayload);
+        interceptDocument(doc, message, messageType, context);
 
-        LSSerializer serializer = XMLUtils.createLSSerializer();
-
-        serializer.setFilter(new TranslateFilter(context));
-
-        LSOutput output = XMLUtils.createLSOutput();
-        String charset = XMLUtils.getTargetCharset(doc).displayName();
-        output.setEncoding(charset);
-
-        StringWriter writer = new StringWriter();
-        output.setCharacterStream(writer);
-
-        serializer.write(doc, output);
-
-        message.setPayload(writer.toString());
+        message.setPayload(XMLUtils.serialize(doc));
         return message;
     }
 
+    @Override
+    public void interceptDocument(Document document, Message message, String messageType, TestContext context) {
+        if (document.getDocumentElement() != null) {
+            translateElement(document.getDocumentElement(), context);
+        }
+    }
+
     /**
-     * Serializer filter uses data dictionary translation on elements and attributes.
+     * Translates element text value and attributes with respective value in dictionary. Walks through
+     * child elements in document order.
+     * @param element
+     * @param context
      */
-    private class TranslateFilter implements LSSerializerFilter {
-        private TestContext context;
-
-        public TranslateFilter(TestContext context) {
-            this.context = context;
+    private void translateElement(Element element, TestContext context) {
+        if (StringUtils.hasText(DomUtils.getTextValue(element))) {
+            element.setTextContent(translate(element, DomUtils.getTextValue(element), context));
+        } else if (!element.hasChildNodes()) {
+            String translated = translate(element, "", context);
+            if (StringUtils.hasText(translated)) {
+                element.appendChild(element.getOwnerDocument().createTextNode(translated));
+            }
         }
 
-        @Override
-        public int getWhatToShow() {
-            return NodeFilter.SHOW_ALL;
+        NamedNodeMap attributes = element.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            Attr attribute = (Attr) attributes.item(i);
+            attribute.setValue(translate(attribute, attribute.getNodeValue(), context));
         }
 
-        @Override
-        public short acceptNode(Node node) {
-            if (node instanceof Element) {
-                Element element = (Element) node;
-
-                if (StringUtils.hasText(DomUtils.getTextValue(element))) {
-                    element.setTextContent(translate(element, DomUtils.getTextValue(element), context));
-                } else if (!element.hasChildNodes()) {
-                    String translated = translate(element, "", context);
-                    if (StringUtils.hasText(translated)) {
-                        element.appendChild(element.getOwnerDocument().createTextNode(translated));
-                    }
-                }
-
-                NamedNodeMap attributes = element.getAttributes();
-                for (int i = 0; i < attributes.getLength(); i++) {
-                    Attr attribute = (Attr) attributes.item(i);
-                    attribute.setValue(translate(attribute, attribute.getNodeValue(), context));
-                }
+        Node child = element.getFirstChild();
+        while (child != null) {
+            if (child instanceof Element) {
+                translateElement((Element) child, context);
             }
-
-            return NodeFilter.FILTER_ACCEPT;
+            child = child.getNextSibling();
         }
     }
 
@@ -113,6 +96,4 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
     public boolean supportsMessageType(String messageType) {
         return MessageType.XML.toString().equalsIgnoreCase(messageType) || MessageType.XHTML.toString().equalsIgnoreCase(messageType);
     }
-
-
 }
@@ -17,17 +17,23 @@
 package com.consol.citrus;
 
 import com.consol.citrus.actions.*;
+import com.consol.citrus.condition.ActionCondition;
 import com.consol.citrus.container.Async;
+import com.consol.citrus.container.Timer;
+import com.consol.citrus.container.Wait;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.TestCaseFailedException;
 import com.consol.citrus.functions.core.CurrentDateFunction;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.util.SharedScheduler;
 import com.consol.citrus.util.TestUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.*;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 public class TestCaseTest extends AbstractTestNGUnitTest {
     
@@ -212,4 +218,45 @@ public class TestCaseTest extends AbstractTestNGUnitTest {
                 0);
     }
 
+    @Test
+    public void testSharedExecutorsIdleAfterTestCase() {
+
+        //GIVEN
+        final TestCase testcase = new TestCase();
+        testcase.setName("SharedExecutorsTestCase");
+        testcase.addTestAction(new EchoAction());
+
+        final Wait wait = new Wait();
+        wait.setMilliseconds("1000");
+        wait.setInterval("100");
+        wait.setCondition(new ActionCondition(new EchoAction()));
+        testcase.addTestAction(wait);
+
+        final Timer timer = new Timer();
+        timer.setInterval(10L);
+        timer.setRepeatCount(2);
+        timer.setActions(Collections.singletonList(new EchoAction()));
+        testcase.addTestAction(timer);
+
+        final Async async = new Async();
+        async.addTestAction(new EchoAction());
+        testcase.addTestAction(async);
+
+        //WHEN
+        testcase.execute(context);
+
+        //THEN
+        final ScheduledThreadPoolExecutor scheduler = (ScheduledThreadPoolExecutor) SharedScheduler.getScheduler();
+        final ThreadPoolExecutor workers = (ThreadPoolExecutor) SharedScheduler.getWorkers();
+        final long deadline = System.currentTimeMillis() + 1000L;
+        while ((!scheduler.getQueue().isEmpty() || scheduler.getActiveCount() > 0 || workers.getActiveCount() > 0)
+                && System.currentTimeMillis() < deadline) {
+            Thread.yield();
+        }
+
+        Assert.assertEquals(scheduler.getQueue().size(), 0);
+        Assert.assertEquals(scheduler.getActiveCount(), 0);
+        Assert.assertEquals(workers.getActiveCount(), 0);
+    }
+
 }
@@ -166,4 +166,81 @@ public class ExecuteSQLActionTest extends AbstractTestNGUnitTest {
         executeSQLAction.execute(context);
         verify(jdbcTemplate).execute(DB_STMT_1);
     }
+
+    @Test
+    public void testSQLBatchExecution() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1 + ";");
+        stmts.add(DB_STMT_2);
+        stmts.add(DB_STMT_1);
+
+        executeSQLAction.setStatements(stmts);
+        executeSQLAction.setBatchSize(2);
+
+        reset(jdbcTemplate);
+
+        executeSQLAction.execute(context);
+
+        verify(jdbcTemplate).batchUpdate(DB_STMT_1, DB_STMT_2);
+        verify(jdbcTemplate).batchUpdate(DB_STMT_1);
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    public void testSQLBatchExecutionWithTransactionPerBatch() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1);
+        stmts.add(DB_STMT_2);
+
+        executeSQLAction.setStatements(stmts);
+        executeSQLAction.setBatchSize(1);
+        executeSQLAction.setTransactionPerBatch(true);
+        executeSQLAction.setTransactionManager(transactionManager);
+
+        reset(jdbcTemplate, transactionManager);
+
+        executeSQLAction.execute(context);
+
+        verify(jdbcTemplate).batchUpdate(DB_STMT_1);
+        verify(jdbcTemplate).batchUpdate(DB_STMT_2);
+        verify(transactionManager, times(2)).getTransaction(any());
+    }
+
+    @Test
+    public void testSQLBatchExecutionWithSingleTransaction() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1);
+        stmts.add(DB_STMT_2);
+
+        executeSQLAction.setStatements(stmts);
+        executeSQLAction.setBatchSize(1);
+        executeSQLAction.setTransactionManager(transactionManager);
+
+        reset(jdbcTemplate, transactionManager);
+
+        executeSQLAction.execute(context);
+
+        verify(jdbcTemplate).batchUpdate(DB_STMT_1);
+        verify(jdbcTemplate).batchUpdate(DB_STMT_2);
+        verify(transactionManager).getTransaction(any());
+    }
+
+    @Test
+    @SuppressWarnings("serial")
+    public void testSQLBatchExecutionIgnoreErrors() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1);
+        stmts.add(DB_STMT_2);
+
+        executeSQLAction.setStatements(stmts);
+        executeSQLAction.setBatchSize(1);
+        executeSQLAction.setIgnoreErrors(true);
+
+        reset(jdbcTemplate);
+
+        doThrow(new DataAccessException("Something went wrong!") {}).when(jdbcTemplate).batchUpdate(DB_STMT_1);
+
+        executeSQLAction.execute(context);
+        verify(jdbcTemplate).batchUpdate(DB_STMT_2);
+    }
 }
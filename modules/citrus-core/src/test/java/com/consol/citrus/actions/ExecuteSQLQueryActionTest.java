@@ -25,6 +25,9 @@ import com.consol.citrus.validation.script.ScriptValidationContext;
 import org.apache.commons.codec.binary.Base64;
 import org.mockito.Mockito;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
@@ -890,4 +893,86 @@ public class ExecuteSQLQueryActionTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(context.getVariable("${binaryData}"), Base64.encodeBase64String("some_binary_data".getBytes()));
         Assert.assertEquals(new String(Base64.decodeBase64(context.getVariable("${binaryData}"))), "some_binary_data");
     }
+
+    @Test
+    public void testStreamingValidation() {
+        EmbeddedDatabase database = createDatabase();
+
+        try {
+            executeSQLQueryAction.setDataSource(database);
+            executeSQLQueryAction.setStreaming(true);
+            executeSQLQueryAction.setStatements(Collections.singletonList("select ORDERTYPE, STATUS from orders order by ID"));
+
+            Map<String, List<String>> controlResultSet = new HashMap<String, List<String>>();
+            controlResultSet.put("ordertype", Arrays.asList("small", "${orderType}", "@ignore@"));
+            controlResultSet.put("STATUS", Arrays.asList("in_progress", "@startsWith('don')@", "NULL"));
+            executeSQLQueryAction.setControlResultSet(controlResultSet);
+
+            Map<String, String> extractVariables = new HashMap<String, String>();
+            extractVariables.put("STATUS", "orderStatus");
+            executeSQLQueryAction.setExtractVariables(extractVariables);
+
+            context.setVariable("orderType", "big");
+            executeSQLQueryAction.execute(context);
+
+            Assert.assertEquals(context.getVariable("${orderStatus}"), "in_progress;done;NULL");
+            Assert.assertEquals(context.getVariable("${ORDERTYPE}"), "small");
+            Assert.assertEquals(context.getVariable("${STATUS}"), "in_progress");
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    @Test
+    public void testStreamingValidationRowCountMismatch() {
+        EmbeddedDatabase database = createDatabase();
+
+        try {
+            executeSQLQueryAction.setDataSource(database);
+            executeSQLQueryAction.setStreaming(true);
+            executeSQLQueryAction.setStatements(Collections.singletonList("select ORDERTYPE from orders order by ID"));
+            executeSQLQueryAction.setControlResultSet(Collections.singletonMap("ORDERTYPE", Arrays.asList("small", "big")));
+
+            executeSQLQueryAction.execute(context);
+            Assert.fail("Missing validation exception due to row count mismatch");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Validation failed for column: 'ORDERTYPE' expected rows count: 2 but was 3");
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    @Test
+    public void testStreamingValidationValueMismatch() {
+        EmbeddedDatabase database = createDatabase();
+
+        try {
+            executeSQLQueryAction.setDataSource(database);
+            executeSQLQueryAction.setStreaming(true);
+            executeSQLQueryAction.setStatements(Collections.singletonList("select ORDERTYPE from orders order by ID"));
+            executeSQLQueryAction.setControlResultSet(Collections.singletonMap("ORDERTYPE", Arrays.asList("small", "small", "medium")));
+
+            executeSQLQueryAction.execute(context);
+            Assert.fail("Missing validation exception due to value mismatch");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Validation failed for column: 'ORDERTYPE' found value: 'big'"), e.getMessage());
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    private EmbeddedDatabase createDatabase() {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.HSQL)
+                .generateUniqueName(true)
+                .build();
+
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("create table orders (ID integer, ORDERTYPE varchar(10), STATUS varchar(20))");
+        template.batchUpdate("insert into orders values (1, 'small', 'in_progress')",
+                "insert into orders values (2, 'big', 'done')",
+                "insert into orders values (3, 'medium', null)");
+
+        return database;
+    }
 }
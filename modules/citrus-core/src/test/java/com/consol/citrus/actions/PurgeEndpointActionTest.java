@@ -20,6 +20,7 @@ import com.consol.citrus.endpoint.Endpoint;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.messaging.Consumer;
+import com.consol.citrus.messaging.PurgeableConsumer;
 import com.consol.citrus.messaging.SelectiveConsumer;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
@@ -44,6 +45,7 @@ public class PurgeEndpointActionTest extends AbstractTestNGUnitTest {
 
     private Consumer consumer = Mockito.mock(Consumer.class);
     private SelectiveConsumer selectiveConsumer = Mockito.mock(SelectiveConsumer.class);
+    private PurgeableConsumer purgeableConsumer = Mockito.mock(PurgeableConsumer.class);
 
     @Test
     public void testPurgeWithEndpointNames() throws Exception {
@@ -132,4 +134,24 @@ public class PurgeEndpointActionTest extends AbstractTestNGUnitTest {
         purgeEndpointAction.execute(context);
     }
 	
+
+    @Test
+    public void testPurgeWithPurgeableConsumer() throws Exception {
+        PurgeEndpointAction purgeEndpointAction = new PurgeEndpointAction();
+        purgeEndpointAction.setBeanFactory(applicationContext);
+
+        purgeEndpointAction.setMessageSelector("operation = 'sayHello'");
+        purgeEndpointAction.setEndpoints(Collections.singletonList(mockEndpoint));
+
+        reset(mockEndpoint, purgeableConsumer);
+
+        when(mockEndpoint.getName()).thenReturn("mockEndpoint");
+        when(mockEndpoint.createConsumer()).thenReturn(purgeableConsumer);
+        when(purgeableConsumer.purge("operation = 'sayHello'", 100L, context)).thenReturn(50000L);
+
+        purgeEndpointAction.execute(context);
+
+        verify(purgeableConsumer).purge("operation = 'sayHello'", 100L, context);
+        verify(purgeableConsumer, never()).receive(context, 100L);
+    }
 }
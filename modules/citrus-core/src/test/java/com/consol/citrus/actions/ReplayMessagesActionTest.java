@@ -0,0 +1,178 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.actions;
+
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.endpoint.EndpointConfiguration;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.*;
+import com.consol.citrus.message.replay.MessageRecordWriter;
+import com.consol.citrus.messaging.Producer;
+import com.consol.citrus.messaging.ReplyConsumer;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class ReplayMessagesActionTest extends AbstractTestNGUnitTest {
+
+    private Endpoint endpoint = mock(Endpoint.class);
+    private EndpointConfiguration endpointConfiguration = mock(EndpointConfiguration.class);
+    private Producer producer = mock(Producer.class);
+
+    private File recordFile;
+
+    @BeforeMethod
+    public void setupRecordFile() throws IOException {
+        recordFile = File.createTempFile("citrus-replay", ".rec");
+        recordFile.deleteOnExit();
+        Assert.assertTrue(recordFile.delete());
+
+        reset(endpoint, endpointConfiguration, producer);
+        when(endpoint.getEndpointConfiguration()).thenReturn(endpointConfiguration);
+        when(endpointConfiguration.getTimeout()).thenReturn(5000L);
+    }
+
+    @Test
+    public void testReplayMaximumRate() throws IOException {
+        try (MessageRecordWriter writer = new MessageRecordWriter(recordFile)) {
+            writer.write(MessageDirection.OUTBOUND, new DefaultMessage("Hello").setHeader("operation", "greet"));
+            writer.write(MessageDirection.INBOUND, new DefaultMessage("Hi"));
+            writer.write(MessageDirection.OUTBOUND, new DefaultMessage("Bye"));
+        }
+
+        when(endpoint.createProducer()).thenReturn(producer);
+
+        ReplayMessagesAction replay = new ReplayMessagesAction()
+                .setEndpoint(endpoint)
+                .setRecordFile(recordFile.getAbsolutePath())
+                .setRate(ReplayMessagesAction.ReplayRate.MAXIMUM);
+        replay.execute(context);
+
+        ArgumentCaptor<Message> messages = ArgumentCaptor.forClass(Message.class);
+        verify(producer, times(2)).send(messages.capture(), eq(context));
+        Assert.assertEquals(messages.getAllValues().get(0).getPayload(String.class), "Hello");
+        Assert.assertEquals(messages.getAllValues().get(0).getHeader("operation"), "greet");
+        Assert.assertEquals(messages.getAllValues().get(1).getPayload(String.class), "Bye");
+    }
+
+    @Test
+    public void testReplayDirection() throws IOException {
+        try (MessageRecordWriter writer = new MessageRecordWriter(recordFile)) {
+            writer.write(MessageDirection.OUTBOUND, new DefaultMessage("Hello"));
+            writer.write(MessageDirection.INBOUND, new DefaultMessage("Hi"));
+        }
+
+        when(endpoint.createProducer()).thenReturn(producer);
+
+        ReplayMessagesAction replay = new ReplayMessagesAction()
+                .setEndpoint(endpoint)
+                .setRecordFile(recordFile.getAbsolutePath())
+                .setDirection(MessageDirection.INBOUND);
+        replay.execute(context);
+
+        ArgumentCaptor<Message> messages = ArgumentCaptor.forClass(Message.class);
+        verify(producer).send(messages.capture(), eq(context));
+        Assert.assertEquals(messages.getValue().getPayload(String.class), "Hi");
+    }
+
+    @Test
+    public void testReplayAllDirections() throws IOException {
+        try (MessageRecordWriter writer = new MessageRecordWriter(recordFile)) {
+            writer.write(MessageDirection.OUTBOUND, new DefaultMessage("Hello"));
+            writer.write(MessageDirection.INBOUND, new DefaultMessage("Hi"));
+        }
+
+        when(endpoint.createProducer()).thenReturn(producer);
+
+        ReplayMessagesAction replay = new ReplayMessagesAction()
+                .setEndpoint(endpoint)
+                .setRecordFile(recordFile.getAbsolutePath())
+                .setDirection(MessageDirection.UNBOUND)
+                .setRate(ReplayMessagesAction.ReplayRate.MAXIMUM);
+        replay.execute(context);
+
+        ArgumentCaptor<Message> messages = ArgumentCaptor.forClass(Message.class);
+        verify(producer, times(2)).send(messages.capture(), eq(context));
+        Assert.assertEquals(messages.getAllValues().get(0).getPayload(String.class), "Hello");
+        Assert.assertEquals(messages.getAllValues().get(1).getPayload(String.class), "Hi");
+    }
+
+    @Test
+    public void testReplayScaledRate() throws Exception {
+        try (MessageRecordWriter writer = new MessageRecordWriter(recordFile)) {
+            writer.write(MessageDirection.OUTBOUND, new DefaultMessage("Hello"));
+            Thread.sleep(200L);
+            writer.write(MessageDirection.OUTBOUND, new DefaultMessage("Bye"));
+        }
+
+        when(endpoint.createProducer()).thenReturn(producer);
+
+        ReplayMessagesAction replay = new ReplayMessagesAction()
+                .setEndpoint(endpoint)
+                .setRecordFile(recordFile.getAbsolutePath())
+                .setRate(ReplayMessagesAction.ReplayRate.SCALED)
+                .setSpeed(4.0D);
+
+        long start = System.nanoTime();
+        replay.execute(context);
+        long duration = (System.nanoTime() - start) / 1000000L;
+
+        verify(producer, times(2)).send(any(Message.class), eq(context));
+        Assert.assertTrue(duration >= 45L, "Replay finished too early: " + duration + " ms");
+    }
+
+    @Test
+    public void testConsumeReplies() throws IOException {
+        try (MessageRecordWriter writer = new MessageRecordWriter(recordFile)) {
+            writer.write(MessageDirection.OUTBOUND, new DefaultMessage("Hello"));
+        }
+
+        Producer syncProducer = mock(Producer.class, withSettings().extraInterfaces(ReplyConsumer.class));
+        when(endpoint.createProducer()).thenReturn(syncProducer);
+
+        ReplayMessagesAction replay = new ReplayMessagesAction()
+                .setEndpoint(endpoint)
+                .setRecordFile(recordFile.getAbsolutePath())
+                .setRate(ReplayMessagesAction.ReplayRate.MAXIMUM);
+        replay.execute(context);
+
+        verify(syncProducer).send(any(Message.class), eq(context));
+        verify((ReplyConsumer) syncProducer).receive(context, 5000L);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testInvalidSpeed() throws IOException {
+        new ReplayMessagesAction()
+                .setEndpoint(endpoint)
+                .setRecordFile(recordFile.getAbsolutePath())
+                .setRate(ReplayMessagesAction.ReplayRate.SCALED)
+                .setSpeed(0D)
+                .execute(context);
+    }
+}
@@ -17,6 +17,7 @@
 package com.consol.citrus.actions;
 
 import com.consol.citrus.condition.Condition;
+import com.consol.citrus.condition.NonBlockingCondition;
 import com.consol.citrus.container.Wait;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -145,9 +146,31 @@ public class WaitTest {
         assertConditionExecutedWithinSeconds(seconds);
     }
 
+    @Test
+    public void shouldCheckNonBlockingConditionOnCallingThread() throws Exception {
+        String seconds = "1";
+        String interval = "100";
+
+        Thread caller = Thread.currentThread();
+        NonBlockingCondition nonBlockingCondition = Mockito.mock(NonBlockingCondition.class);
+        when(nonBlockingCondition.getName()).thenReturn("check");
+        when(nonBlockingCondition.getSuccessMessage(contextMock)).thenReturn("Condition success!");
+        when(nonBlockingCondition.isSatisfied(contextMock)).thenAnswer(invocation -> Thread.currentThread() == caller);
+
+        Wait testling = getWaitAction(seconds, interval);
+        testling.setCondition(nonBlockingCondition);
+
+        reset(contextMock);
+        prepareContextMock(seconds, interval);
+        testling.execute(contextMock);
+
+        verify(nonBlockingCondition).isSatisfied(contextMock);
+    }
+
     private void prepareContextMock(String waitTime, String interval) {
         when(contextMock.replaceDynamicContentInString(waitTime)).thenReturn(waitTime);
         when(contextMock.replaceDynamicContentInString(interval)).thenReturn(interval);
+        when(contextMock.bindVariableScope(any(Runnable.class))).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     private Wait getWaitAction(String waitTimeSeconds, String interval) {
@@ -223,4 +223,36 @@ public class ChannelEndpointConsumerTest extends AbstractTestNGUnitTest {
         }
 
     }
+
+    @Test
+    public void testPurge() {
+        MessageSelectingQueueChannel queueChannel = new MessageSelectingQueueChannel();
+        for (int i = 0; i < 100; i++) {
+            queueChannel.send(MessageBuilder.withPayload("Message" + i).setHeader("operation", i % 2 == 0 ? "sayHello" : "sayGoodbye").build());
+        }
+
+        ChannelEndpoint endpoint = new ChannelEndpoint();
+        endpoint.getEndpointConfiguration().setChannel(queueChannel);
+
+        ChannelConsumer consumer = (ChannelConsumer) endpoint.createConsumer();
+        Assert.assertEquals(consumer.purge("operation = 'sayHello'", 100L, context), 50L);
+        Assert.assertEquals(queueChannel.getQueueSize(), 50);
+
+        Assert.assertEquals(consumer.purge(null, 100L, context), 50L);
+        Assert.assertEquals(queueChannel.getQueueSize(), 0);
+    }
+
+    @Test
+    public void testPurgePollableChannel() {
+        ChannelEndpoint endpoint = new ChannelEndpoint();
+        endpoint.getEndpointConfiguration().setChannel(channel);
+
+        reset(channel);
+
+        final org.springframework.messaging.Message<String> message = MessageBuilder.withPayload("Hello").build();
+        doReturn(message).doReturn(message).doReturn(null).when(channel).receive(100L);
+
+        Assert.assertEquals(((ChannelConsumer) endpoint.createConsumer()).purge("", 100L, context), 2L);
+        verify(channel, times(3)).receive(100L);
+    }
 }
@@ -24,6 +24,7 @@ import org.springframework.messaging.Message;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -111,4 +112,21 @@ public class MessageSelectingQueueChannelTest extends AbstractTestNGUnitTest {
         Assert.assertNull(receivedMessage);
         Assert.assertEquals(retries.get(), 4L);
     }
+
+    @Test
+    public void testClearSelected() {
+        MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
+
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foo", "bar").build());
+        channel.send(MessageBuilder.withPayload("OtherMessage").setHeader("foo", "other").build());
+        channel.send(MessageBuilder.withPayload("BarMessage").setHeader("foo", "bar").build());
+
+        List<Message<?>> removed = channel.clear(new HeaderMatchingMessageSelector("foo", "bar", context));
+
+        Assert.assertEquals(removed.size(), 2L);
+        Assert.assertEquals(removed.get(0).getPayload(), "FooMessage");
+        Assert.assertEquals(removed.get(1).getPayload(), "BarMessage");
+        Assert.assertEquals(channel.getQueueSize(), 1);
+        Assert.assertEquals(channel.receive(0L).getPayload(), "OtherMessage");
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.common;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.EchoAction;
+import com.consol.citrus.actions.SleepAction;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.springframework.context.support.GenericApplicationContext;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class XmlTestLoaderTest extends AbstractTestNGUnitTest {
+
+    private static final String TEST_NAME = "XmlTestLoaderTest";
+    private static final String PACKAGE_NAME = "com.consol.citrus.common";
+
+    @BeforeMethod
+    public void clearCache() {
+        XmlTestDefinitionCache.getInstance().clear();
+    }
+
+    @Test
+    public void testFastLoading() {
+        XmlTestLoader testLoader = createFastTestLoader(TEST_NAME);
+
+        TestCase testCase = testLoader.load();
+        verifyTestCase(testCase);
+        Assert.assertTrue(XmlTestDefinitionCache.getInstance().isCached(testLoader.getContextFile(), applicationContext));
+
+        TestCase reloaded = createFastTestLoader(TEST_NAME).load();
+        verifyTestCase(reloaded);
+        Assert.assertNotSame(reloaded, testCase);
+        Assert.assertNotSame(reloaded.getActions().get(0), testCase.getActions().get(0));
+        Assert.assertEquals(XmlTestDefinitionCache.getInstance().size(), 1L);
+    }
+
+    @Test
+    public void testApplicationContextLoading() {
+        XmlTestLoader testLoader = new XmlTestLoader(getClass(), TEST_NAME, PACKAGE_NAME, applicationContext);
+        Assert.assertFalse(testLoader.isFastLoading());
+
+        verifyTestCase(testLoader.load());
+        Assert.assertEquals(XmlTestDefinitionCache.getInstance().size(), 0L);
+    }
+
+    @Test
+    public void testPreParse() {
+        XmlTestLoader testLoader = createFastTestLoader(TEST_NAME);
+        XmlTestDefinitionCache.getInstance().preParse(Collections.singletonList(testLoader.getContextFile()), applicationContext);
+
+        Assert.assertTrue(XmlTestDefinitionCache.getInstance().isCached(testLoader.getContextFile(), applicationContext));
+        verifyTestCase(testLoader.load());
+    }
+
+    @Test
+    public void testPreParseUnknownTest() {
+        XmlTestLoader testLoader = createFastTestLoader("UnknownTest");
+        XmlTestDefinitionCache.getInstance().preParse(Collections.singletonList(testLoader.getContextFile()), applicationContext);
+
+        Assert.assertFalse(XmlTestDefinitionCache.getInstance().isCached(testLoader.getContextFile(), applicationContext));
+
+        try {
+            testLoader.load();
+            Assert.fail("Missing exception due to unknown test");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to load test case");
+        }
+    }
+
+    @Test
+    public void testCachePerApplicationContext() {
+        XmlTestLoader testLoader = createFastTestLoader(TEST_NAME);
+
+        GenericApplicationContext childContext = new GenericApplicationContext(applicationContext);
+        childContext.refresh();
+
+        XmlTestDefinitionCache.getInstance().preParse(Collections.singletonList(testLoader.getContextFile()), childContext);
+        Assert.assertTrue(XmlTestDefinitionCache.getInstance().isCached(testLoader.getContextFile(), childContext));
+        Assert.assertFalse(XmlTestDefinitionCache.getInstance().isCached(testLoader.getContextFile(), applicationContext));
+
+        childContext.close();
+        Assert.assertFalse(XmlTestDefinitionCache.getInstance().isCached(testLoader.getContextFile(), childContext));
+        Assert.assertEquals(XmlTestDefinitionCache.getInstance().size(), 0L);
+    }
+
+    private XmlTestLoader createFastTestLoader(String testName) {
+        XmlTestLoader testLoader = new XmlTestLoader(getClass(), testName, PACKAGE_NAME, applicationContext);
+        testLoader.setFastLoading(true);
+        return testLoader;
+    }
+
+    private void verifyTestCase(TestCase testCase) {
+        Assert.assertEquals(testCase.getName(), TEST_NAME);
+        Assert.assertEquals(testCase.getPackageName(), PACKAGE_NAME);
+        Assert.assertEquals(testCase.getTestClass(), getClass());
+        Assert.assertEquals(testCase.getVariableDefinitions().get("text"), "Hello Citrus!");
+        Assert.assertEquals(testCase.getActionCount(), 2L);
+        Assert.assertEquals(testCase.getActions().get(0).getClass(), EchoAction.class);
+        Assert.assertEquals(((EchoAction) testCase.getActions().get(0)).getMessage(), "${text}");
+        Assert.assertEquals(testCase.getActions().get(1).getClass(), SleepAction.class);
+    }
+}
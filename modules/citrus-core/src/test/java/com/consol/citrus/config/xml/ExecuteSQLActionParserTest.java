@@ -30,7 +30,7 @@ public class ExecuteSQLActionParserTest extends AbstractActionParserTest<Execute
 
     @Test
     public void testSQLActionParser() {
-        assertActionCount(2);
+        assertActionCount(3);
         assertActionClassAndName(ExecuteSQLAction.class, "sqlUpdate:testDataSource");
         
         // 1st action
@@ -44,6 +44,8 @@ public class ExecuteSQLActionParserTest extends AbstractActionParserTest<Execute
         Assert.assertNull(action.getTransactionManager());
         Assert.assertEquals(action.getTransactionTimeout(), "-1");
         Assert.assertEquals(action.getTransactionIsolationLevel(), "ISOLATION_DEFAULT");
+        Assert.assertEquals(action.getBatchSize(), 0);
+        Assert.assertFalse(action.isTransactionPerBatch());
         
         // 2nd action
         action = getNextTestActionFromTest();
@@ -55,6 +57,12 @@ public class ExecuteSQLActionParserTest extends AbstractActionParserTest<Execute
         Assert.assertEquals(action.getTransactionManager(), beanDefinitionContext.getBean("testTransactionManager", PlatformTransactionManager.class));
         Assert.assertEquals(action.getTransactionTimeout(), "5000");
         Assert.assertEquals(action.getTransactionIsolationLevel(), "ISOLATION_READ_COMMITTED");
+
+        // 3rd action
+        action = getNextTestActionFromTest();
+        Assert.assertEquals(action.getBatchSize(), 100);
+        Assert.assertTrue(action.isTransactionPerBatch());
+        Assert.assertEquals(action.getTransactionManager(), beanDefinitionContext.getBean("testTransactionManager", PlatformTransactionManager.class));
     }
     
     @Test
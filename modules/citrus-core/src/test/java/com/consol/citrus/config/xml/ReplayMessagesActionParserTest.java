@@ -0,0 +1,56 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.config.xml;
+
+import com.consol.citrus.actions.ReplayMessagesAction;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.message.MessageDirection;
+import com.consol.citrus.testng.AbstractActionParserTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class ReplayMessagesActionParserTest extends AbstractActionParserTest<ReplayMessagesAction> {
+
+    @Test
+    public void testReplayActionParser() {
+        assertActionCount(2);
+        assertActionClassAndName(ReplayMessagesAction.class, "replay");
+
+        ReplayMessagesAction action = getNextTestActionFromTest();
+        Assert.assertEquals(action.getEndpoint(), beanDefinitionContext.getBean("myMessageEndpoint", Endpoint.class));
+        Assert.assertNull(action.getEndpointUri());
+        Assert.assertEquals(action.getRecordFile(), "target/messages.rec");
+        Assert.assertEquals(action.getDirection(), MessageDirection.OUTBOUND);
+        Assert.assertEquals(action.getRate(), ReplayMessagesAction.ReplayRate.ORIGINAL);
+        Assert.assertEquals(action.getSpeed(), 1.0D);
+        Assert.assertTrue(action.isConsumeReplies());
+
+        action = getNextTestActionFromTest();
+        Assert.assertNull(action.getEndpoint());
+        Assert.assertEquals(action.getEndpointUri(), "direct:myQueue");
+        Assert.assertEquals(action.getRecordFile(), "file:target/messages.rec");
+        Assert.assertEquals(action.getDirection(), MessageDirection.UNBOUND);
+        Assert.assertEquals(action.getRate(), ReplayMessagesAction.ReplayRate.SCALED);
+        Assert.assertEquals(action.getSpeed(), 2.5D);
+        Assert.assertFalse(action.isConsumeReplies());
+    }
+}
@@ -44,6 +44,9 @@ public class TimerParserTest extends AbstractActionParserTest<Timer> {
         Assert.assertEquals(action.getDelay(), 500L);
         Assert.assertEquals(action.getRepeatCount(), 2);
         Assert.assertEquals(action.getInterval(), 200L);
+        Assert.assertEquals(action.getTimeout(), 10000L);
+        Assert.assertEquals(action.getScheduleMode(), Timer.ScheduleMode.FIXED_DELAY);
+        Assert.assertEquals(action.getErrorPolicy(), Timer.ErrorPolicy.CONTINUE);
         Assert.assertEquals(action.getActionCount(), 2);
 
         long defaultDelay = 0L;
@@ -55,6 +58,9 @@ public class TimerParserTest extends AbstractActionParserTest<Timer> {
         Assert.assertEquals(action.getDelay(), defaultDelay);
         Assert.assertEquals(action.getRepeatCount(), defaultRepeat);
         Assert.assertEquals(action.getInterval(), defaultInterval);
+        Assert.assertEquals(action.getTimeout(), 60000L);
+        Assert.assertEquals(action.getScheduleMode(), Timer.ScheduleMode.FIXED_RATE);
+        Assert.assertEquals(action.getErrorPolicy(), Timer.ErrorPolicy.FAIL);
         Assert.assertEquals(action.getActionCount(), 1);
     }
 }
\ No newline at end of file
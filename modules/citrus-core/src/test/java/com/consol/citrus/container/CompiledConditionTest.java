@@ -0,0 +1,106 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.container;
+
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.util.BooleanExpressionParser;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class CompiledConditionTest extends AbstractTestNGUnitTest {
+
+    @Test(dataProvider = "expressionProvider")
+    public void testEvaluate(String expression, String resolved) {
+        context.setVariable("max", "5");
+        context.setVariable("enabled", "true");
+
+        CompiledCondition condition = CompiledCondition.compile(expression, "i");
+        Assert.assertEquals(condition.evaluate(3, context), Boolean.valueOf(BooleanExpressionParser.evaluate(resolved)));
+    }
+
+    @DataProvider
+    public Object[][] expressionProvider() {
+        return new Object[][] {
+            new Object[] {"i lt= 5", "3 lt= 5"},
+            new Object[] {"i gt 5", "3 gt 5"},
+            new Object[] {"${i} = 3", "3 = 3"},
+            new Object[] {"i lt ${max}", "3 lt 5"},
+            new Object[] {"(i gt 1) and (i lt ${max})", "(3 gt 1) and (3 lt 5)"},
+            new Object[] {"(i gt 5) or ${enabled}", "(3 gt 5) or 1"},
+            new Object[] {"(i gt 1) and true", "(3 gt 1) and 1"},
+            new Object[] {"true", "true"},
+            new Object[] {"false", "false"},
+            new Object[] {"i", "3"},
+            new Object[] {"(i lt 2)", "(3 lt 2)"},
+            new Object[] {"true = 1", "true = 1"}
+        };
+    }
+
+    @Test
+    public void testUnsupportedExpressions() {
+        Assert.assertNull(CompiledCondition.compile("@assertThat(lessThanOrEqualTo(5))@", "i").evaluate(1, context));
+        Assert.assertNull(CompiledCondition.compile("i lt citrus:randomNumber(1)", "i").evaluate(1, context));
+        Assert.assertNull(CompiledCondition.compile("index lt 5", "i").evaluate(1, context));
+        Assert.assertNull(CompiledCondition.compile("i lt 99999999999", "i").evaluate(1, context));
+        Assert.assertNull(CompiledCondition.compile("i = 01", "i").evaluate(1, context));
+        Assert.assertNull(CompiledCondition.compile("(i lt 5) = 1", "i").evaluate(1, context));
+        Assert.assertNull(CompiledCondition.compile("1 lt 2 and 3 gt 4", "i").evaluate(1, context));
+        Assert.assertNull(CompiledCondition.compile("(i lt 5", "i").evaluate(1, context));
+        Assert.assertNull(CompiledCondition.compile("i lt", "i").evaluate(1, context));
+    }
+
+    @Test
+    public void testUnsupportedVariableValues() {
+        context.setVariable("expression", "i lt 5");
+        context.setVariable("negative", "-1");
+
+        Assert.assertNull(CompiledCondition.compile("${expression}", "i").evaluate(1, context));
+        Assert.assertNull(CompiledCondition.compile("i gt ${negative}", "i").evaluate(1, context));
+        Assert.assertNull(CompiledCondition.compile("i gt ${unknown}", "i").evaluate(1, context));
+    }
+
+    @Test
+    public void testIsCompiledFrom() {
+        CompiledCondition condition = CompiledCondition.compile("i lt 5", "i");
+
+        Assert.assertTrue(condition.isCompiledFrom("i lt 5", "i"));
+        Assert.assertFalse(condition.isCompiledFrom("i lt 10", "i"));
+        Assert.assertFalse(condition.isCompiledFrom("i lt 5", "index"));
+    }
+
+    @Test
+    public void testIterateWithVariableCondition() {
+        context.setVariable("max", "4");
+
+        Iterate iterate = new Iterate();
+        iterate.setCondition("i lt= ${max}");
+        iterate.setIndexName("i");
+        iterate.execute(context);
+
+        Assert.assertEquals(context.getVariable("i"), "4");
+
+        context.setVariable("max", "2");
+        iterate.execute(context);
+
+        Assert.assertEquals(context.getVariable("i"), "2");
+    }
+}
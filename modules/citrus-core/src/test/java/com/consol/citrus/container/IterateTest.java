@@ -18,8 +18,10 @@ package com.consol.citrus.container;
 
 import com.consol.citrus.TestAction;
 import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.actions.CreateVariablesAction;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.variable.VariableScope;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -197,4 +199,27 @@ public class IterateTest extends AbstractTestNGUnitTest {
 
         verify(action, times(5)).execute(context);
     }
+
+    @Test
+    public void testIterationVariableScope() {
+        Iterate iterate = new Iterate();
+
+        CreateVariablesAction createVariables = new CreateVariablesAction();
+        createVariables.setVariables(Collections.singletonMap("iteration", "${i}"));
+        iterate.setActions(Collections.singletonList(createVariables));
+
+        iterate.setCondition("i lt= 3");
+        iterate.setIndexName("i");
+        iterate.setVariableWriteBack(VariableScope.WriteBack.NONE);
+
+        iterate.execute(context);
+
+        Assert.assertEquals(context.getVariable("${i}"), "3");
+        Assert.assertFalse(context.getVariables().containsKey("iteration"));
+
+        iterate.setVariableWriteBack(VariableScope.WriteBack.ALL);
+        iterate.execute(context);
+
+        Assert.assertEquals(context.getVariable("${iteration}"), "3");
+    }
 }
@@ -18,13 +18,18 @@ package com.consol.citrus.container;
 
 import com.consol.citrus.TestAction;
 import com.consol.citrus.actions.*;
+import com.consol.citrus.condition.ActionCondition;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.variable.VariableScope;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Mockito.*;
 
@@ -146,4 +151,128 @@ public class ParallelTest extends AbstractTestNGUnitTest {
 
         verify(action).execute(context);
     }
+
+    @Test
+    public void testParallelBranchVariableScopes() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setVariableWriteBack(VariableScope.WriteBack.ALL);
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        actionList.add(new VariableBranchAction("A"));
+        actionList.add(new VariableBranchAction("B"));
+        actionList.add(new VariableBranchAction("C"));
+
+        parallelAction.setActions(actionList);
+
+        parallelAction.execute(context);
+
+        Assert.assertEquals(context.getVariable("branch"), "C");
+        Assert.assertEquals(context.getVariable("A"), "A");
+        Assert.assertEquals(context.getVariable("B"), "B");
+    }
+
+    @Test
+    public void testParallelBranchVariablesNoWriteBack() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setVariableWriteBack(VariableScope.WriteBack.NONE);
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        actionList.add(new VariableBranchAction("A"));
+        actionList.add(new VariableBranchAction("B"));
+
+        parallelAction.setActions(actionList);
+
+        parallelAction.execute(context);
+
+        Assert.assertFalse(context.getVariables().containsKey("branch"));
+        Assert.assertFalse(context.getVariables().containsKey("A"));
+    }
+
+    @Test
+    public void testParallelBranchesShareVariables() {
+        Parallel parallelAction = new Parallel();
+
+        parallelAction.addTestAction(new CreateVariablesAction().setVariables(Collections.singletonMap("shared", "foo")));
+        parallelAction.addTestAction(waitForVariable("shared"));
+
+        parallelAction.execute(context);
+
+        Assert.assertEquals(context.getVariable("shared"), "foo");
+    }
+
+    @Test
+    public void testAsyncInParallelBranchVariableScope() throws Exception {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setVariableWriteBack(VariableScope.WriteBack.ALL);
+
+        CompletableFuture<String> branchA = new CompletableFuture<>();
+        CompletableFuture<String> branchB = new CompletableFuture<>();
+        parallelAction.addTestAction(asyncBranch("A", branchA));
+        parallelAction.addTestAction(asyncBranch("B", branchB));
+
+        parallelAction.execute(context);
+
+        Assert.assertEquals(branchA.get(5000L, TimeUnit.MILLISECONDS), "A");
+        Assert.assertEquals(branchB.get(5000L, TimeUnit.MILLISECONDS), "B");
+    }
+
+    @Test
+    public void testWaitInParallelBranchVariableScope() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setVariableWriteBack(VariableScope.WriteBack.ALL);
+
+        parallelAction.addTestAction(new Sequence().addTestActions(
+                new CreateVariablesAction().setVariables(Collections.singletonMap("url", "http://localhost:8080")),
+                waitForVariable("url")));
+
+        parallelAction.execute(context);
+
+        Assert.assertEquals(context.getVariable("url"), "http://localhost:8080");
+    }
+
+    private Sequence asyncBranch(String branch, CompletableFuture<String> result) {
+        Async async = new Async();
+        async.addTestAction(new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                result.complete(context.getVariable("branch"));
+            }
+        });
+
+        return (Sequence) new Sequence().addTestActions(
+                new CreateVariablesAction().setVariables(Collections.singletonMap("branch", branch)),
+                async);
+    }
+
+    private Wait waitForVariable(String variableName) {
+        Wait wait = new Wait();
+        wait.setMilliseconds("5000");
+        wait.setInterval("50");
+        wait.setCondition(new ActionCondition(new EchoAction().setMessage("${" + variableName + "}")));
+        return wait;
+    }
+
+    /**
+     * Action sets branch specific variables and verifies that other branches do not interfere.
+     */
+    private static class VariableBranchAction extends AbstractTestAction {
+        private final String branch;
+
+        VariableBranchAction(String branch) {
+            this.branch = branch;
+        }
+
+        @Override
+        public void doExecute(TestContext context) {
+            for (int i = 0; i < 100; i++) {
+                context.setVariable("branch", branch);
+                context.setVariable(branch, branch);
+                Thread.yield();
+
+                if (!context.getVariable("branch").equals(branch)) {
+                    throw new CitrusRuntimeException("Variable of parallel branch has been overwritten");
+                }
+            }
+        }
+    }
 }
@@ -22,6 +22,8 @@ import com.consol.citrus.actions.SleepAction;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
@@ -30,6 +32,7 @@ import java.util.List;
 import static org.mockito.Mockito.*;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 
 /**
  * @author Martin Maher
@@ -37,14 +40,25 @@ import static org.testng.Assert.assertNotNull;
  */
 public class TimerTest extends AbstractTestNGUnitTest {
 
-    private TestAction action = Mockito.mock(TestAction.class);
+    private TestAction action;
     private int defaultRepeatCount = 3;
     private long defaultInterval = 50L;
 
+    private List<Timer> timers = new ArrayList<>();
+
+    @BeforeMethod
+    public void createAction() {
+        action = Mockito.mock(TestAction.class);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopTimers() {
+        timers.forEach(Timer::stopTimer);
+        timers.clear();
+    }
+
     @Test
     public void shouldSuccessfullyRunTimerWithNestedAction() {
-        reset(action);
-
         Timer timer = createDefaultTimerWithNestedAction(false, action);
 
         timer.execute(context);
@@ -56,8 +70,6 @@ public class TimerTest extends AbstractTestNGUnitTest {
 
     @Test
     public void shouldSuccessfullyRunTimerWithNestedActionThatTakesLongerThanTimerInterval() {
-        reset(action);
-
         Timer timer = createDefaultTimerWithNestedAction(false, action, getSleepAction("200"));
 
         timer.execute(context);
@@ -75,8 +87,6 @@ public class TimerTest extends AbstractTestNGUnitTest {
 
     @Test
     public void shouldSuccessfullyRunForkedTimerWithNestedAction() {
-        reset(action);
-
         Timer timer = createDefaultTimerWithNestedAction(true, action);
 
         timer.execute(context);
@@ -99,6 +109,62 @@ public class TimerTest extends AbstractTestNGUnitTest {
         assertNotNull(timer.timerException);
     }
 
+    @Test
+    public void shouldSuccessfullyRunTimerWithFixedDelay() {
+        Timer timer = createDefaultTimerWithNestedAction(false, action);
+        timer.setScheduleMode(Timer.ScheduleMode.FIXED_DELAY);
+
+        timer.execute(context);
+
+        assertTimerIndex(defaultRepeatCount, timer);
+
+        verify(action, times(defaultRepeatCount)).execute(context);
+    }
+
+    @Test
+    public void shouldContinueTimerWithNestedActionThatFails() {
+        Timer timer = createDefaultTimerWithNestedActionThatFails(false);
+        timer.setErrorPolicy(Timer.ErrorPolicy.CONTINUE);
+
+        timer.execute(context);
+
+        assertTimerIndex(defaultRepeatCount, timer);
+        assertNull(timer.timerException);
+    }
+
+    @Test
+    public void shouldStopTimerWithNestedActionThatFails() {
+        Timer timer = createDefaultTimerWithNestedActionThatFails(false);
+        timer.setErrorPolicy(Timer.ErrorPolicy.STOP);
+
+        timer.execute(context);
+
+        assertTimerIndex(1, timer);
+        assertNull(timer.timerException);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void shouldFailTimerWithNestedActionThatRaisesError() {
+        doThrow(new NoClassDefFoundError("Something nasty happened")).when(action).execute(context);
+
+        Timer timer = createDefaultTimerWithNestedAction(false, action);
+        timer.execute(context);
+    }
+
+    @Test
+    public void shouldRecordErrorForForkedTimerWithNestedActionThatRaisesError() {
+        doThrow(new NoClassDefFoundError("Something nasty happened")).when(action).execute(context);
+
+        Timer timer = createDefaultTimerWithNestedAction(true, action);
+        timer.execute(context);
+
+        allowForkedTimerToComplete(defaultInterval);
+
+        assertTimerIndex(1, timer);
+        assertNotNull(timer.timerException);
+        assertEquals(context.getExceptions().get(0), timer.timerException);
+    }
+
     private Timer createDefaultTimerWithNestedActionThatFails(boolean forked) {
         return createDefaultTimerWithNestedAction(forked, getFailAction());
     }
@@ -119,6 +185,7 @@ public class TimerTest extends AbstractTestNGUnitTest {
 
     private Timer createTimerWithNestedAction(int repeatCount, long interval, boolean forked, TestAction... action) {
         Timer timer = new Timer();
+        timers.add(timer);
         timer.setInterval(interval);
         timer.setRepeatCount(repeatCount);
         timer.setFork(forked);
@@ -50,6 +50,27 @@ public class JsonPayloadMappingKeyExtractorTest {
                 "{ \"animal\": {\"name\": \"Sheldon\"} }")), "[animal]");
     }
 
+    @Test
+    public void testExtractMappingKeyStreaming() throws Exception {
+        JsonPayloadMappingKeyExtractor extractor = new JsonPayloadMappingKeyExtractor();
+        extractor.setJsonPathExpression("$.request.operation");
+
+        Assert.assertEquals(extractor.extractMappingKey(new DefaultMessage(
+                "{ \"header\": { \"operation\": \"ignored\", \"tags\": [1, 2] }, \"request\": { \"id\": 1, \"operation\": \"sayHello\" }, \"body\": {} }")), "sayHello");
+
+        extractor.setJsonPathExpression("$.request.id");
+        Assert.assertEquals(extractor.extractMappingKey(new DefaultMessage(
+                "{ \"request\": { \"id\": 42 } }")), "42");
+
+        extractor.setJsonPathExpression("$.request.keySet()");
+        Assert.assertEquals(extractor.extractMappingKey(new DefaultMessage(
+                "{ \"request\": { \"sayHello\": { \"text\": \"Hello\" } } }")), "[sayHello]");
+
+        extractor.setJsonPathExpression("$.request");
+        Assert.assertEquals(extractor.extractMappingKey(new DefaultMessage(
+                "{ \"request\": { \"id\": 42 } }")), "{\"id\":42}");
+    }
+
     @Test
     public void testRouteMessageWithBadJsonPathExpression() throws Exception {
         JsonPayloadMappingKeyExtractor extractor = new JsonPayloadMappingKeyExtractor();
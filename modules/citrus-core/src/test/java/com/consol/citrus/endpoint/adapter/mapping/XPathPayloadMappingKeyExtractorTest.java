@@ -49,6 +49,41 @@ public class XPathPayloadMappingKeyExtractorTest {
                 "<Bar>bar</Bar>")), "Bar");
     }
 
+    @Test
+    public void testExtractMappingKeyStreaming() throws Exception {
+        XPathPayloadMappingKeyExtractor extractor = new XPathPayloadMappingKeyExtractor();
+        extractor.setXpathExpression("/MessageBody/Operation");
+
+        Assert.assertEquals(extractor.extractMappingKey(new DefaultMessage(
+                "<MessageBody><Header><Operation>ignored</Operation></Header><Operation>sayHello</Operation><Text>Hello</Text></MessageBody>")), "sayHello");
+
+        extractor.setXpathExpression("/*/Operation/text()");
+        Assert.assertEquals(extractor.extractMappingKey(new DefaultMessage(
+                "<MessageBody><Operation>sayGoodbye<!-- comment --><Detail>ignored</Detail></Operation></MessageBody>")), "sayGoodbye");
+
+        extractor.setXpathExpression("/ns:MessageBody/ns:Operation");
+        Assert.assertEquals(extractor.extractMappingKey(new DefaultMessage(
+                "<ns:MessageBody xmlns:ns=\"http://citrusframework.org/test\"><ns:Operation>sayHello</ns:Operation></ns:MessageBody>")), "sayHello");
+
+        extractor.setXpathExpression("name(/*)");
+        Assert.assertEquals(extractor.extractMappingKey(new DefaultMessage(
+                "<ns:MessageBody xmlns:ns=\"http://citrusframework.org/test\"><ns:Operation>sayHello</ns:Operation></ns:MessageBody>")), "ns:MessageBody");
+    }
+
+    @Test
+    public void testRouteMessageWithMissingElement() throws Exception {
+        XPathPayloadMappingKeyExtractor extractor = new XPathPayloadMappingKeyExtractor();
+        extractor.setXpathExpression("/MessageBody/Bar");
+
+        try {
+            extractor.extractMappingKey(new DefaultMessage(
+                    "<MessageBody><Foo>foo</Foo></MessageBody>"));
+            Assert.fail("Missing exception due to bad XPath expression");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "No result for XPath expression: '/MessageBody/Bar'");
+        }
+    }
+
     @Test
     public void testRouteMessageWithBadXpathExpression() throws Exception {
         XPathPayloadMappingKeyExtractor extractor = new XPathPayloadMappingKeyExtractor();
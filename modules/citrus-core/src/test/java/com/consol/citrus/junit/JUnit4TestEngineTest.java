@@ -18,6 +18,7 @@ package com.consol.citrus.junit;
 
 import com.consol.citrus.TestClass;
 import com.consol.citrus.junit.scan.SampleJUnit4Test;
+import com.consol.citrus.main.ParallelMode;
 import com.consol.citrus.main.TestRunConfiguration;
 import org.junit.runner.Result;
 import org.junit.runner.notification.RunListener;
@@ -49,6 +50,17 @@ public class JUnit4TestEngineTest {
         runTestEngine(configuration, 0L, 1L);
     }
 
+    @Test
+    public void testRunPackageParallel() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setIncludes(new String[] { ".*Test" });
+        configuration.setPackages(Collections.singletonList(SampleJUnit4Test.class.getPackage().getName()));
+        configuration.setParallelMode(ParallelMode.CLASSES);
+        configuration.setThreadCount(2);
+
+        runTestEngine(configuration, 0L, 1L);
+    }
+
     @Test
     public void testRunNoMatch() {
         TestRunConfiguration configuration = new TestRunConfiguration();
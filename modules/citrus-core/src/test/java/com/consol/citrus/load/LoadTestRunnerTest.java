@@ -0,0 +1,201 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.load;
+
+import com.consol.citrus.TestAction;
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.actions.EchoAction;
+import com.consol.citrus.container.SequenceBeforeTest;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.report.TestActionListener;
+import com.consol.citrus.report.TestActionListeners;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class LoadTestRunnerTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testIterations() {
+        AtomicInteger loaded = new AtomicInteger();
+        LoadTestRunner runner = new LoadTestRunner(() -> {
+            loaded.incrementAndGet();
+            TestCase testCase = new TestCase();
+            testCase.setName("loadTest");
+            testCase.addTestAction(new EchoAction().setMessage("Hello"));
+            return testCase;
+        }, testContextFactory);
+
+        runner.setVirtualUsers(4);
+        runner.setIterations(20);
+
+        LoadTestResult result = runner.run();
+
+        Assert.assertEquals(loaded.get(), 20);
+        Assert.assertEquals(result.getTestName(), "loadTest");
+        Assert.assertEquals(result.getIterations(), 20L);
+        Assert.assertEquals(result.getFailures(), 0L);
+        Assert.assertEquals(result.getErrorRate(), 0.0);
+        Assert.assertEquals(result.getLatency().getCount(), 20L);
+        Assert.assertNull(result.getFirstFailure());
+    }
+
+    @Test
+    public void testFailures() {
+        AtomicInteger counter = new AtomicInteger();
+        LoadTestRunner runner = new LoadTestRunner(() -> {
+            TestCase testCase = new TestCase();
+            testCase.setName("loadTest");
+            testCase.addTestAction(new AbstractTestAction() {
+                @Override
+                public void doExecute(TestContext context) {
+                    if (counter.incrementAndGet() % 2 == 0) {
+                        throw new CitrusRuntimeException("Failed!");
+                    }
+                }
+            });
+            return testCase;
+        }, testContextFactory);
+
+        runner.setVirtualUsers(2);
+        runner.setIterations(10);
+
+        LoadTestResult result = runner.run();
+
+        Assert.assertEquals(result.getIterations(), 10L);
+        Assert.assertEquals(result.getFailures(), 5L);
+        Assert.assertEquals(result.getErrorRate(), 0.5);
+        Assert.assertNotNull(result.getFirstFailure());
+    }
+
+    @Test
+    public void testLoadFailures() {
+        AtomicInteger counter = new AtomicInteger();
+        LoadTestRunner runner = new LoadTestRunner(() -> {
+            if (counter.incrementAndGet() % 2 == 0) {
+                throw new CitrusRuntimeException("Failed to load test!");
+            }
+
+            TestCase testCase = new TestCase();
+            testCase.setName("loadTest");
+            testCase.addTestAction(new EchoAction().setMessage("Hello"));
+            return testCase;
+        }, testContextFactory);
+
+        runner.setVirtualUsers(2);
+        runner.setIterations(10);
+
+        LoadTestResult result = runner.run();
+
+        Assert.assertEquals(result.getIterations(), 10L);
+        Assert.assertEquals(result.getFailures(), 5L);
+        Assert.assertEquals(result.getFirstFailure().getMessage(), "Failed to load test!");
+    }
+
+    @Test
+    public void testDurationWithRampUp() {
+        LoadTestRunner runner = new LoadTestRunner(() -> {
+            TestCase testCase = new TestCase();
+            testCase.setName("loadTest");
+            testCase.addTestAction(new EchoAction().setMessage("Hello"));
+            return testCase;
+        }, testContextFactory);
+
+        runner.setVirtualUsers(2);
+        runner.setDuration(300L);
+        runner.setRampUpRate(10.0);
+
+        LoadTestResult result = runner.run();
+
+        Assert.assertTrue(result.getIterations() > 0);
+        Assert.assertTrue(result.getElapsedTime() >= 300L);
+        Assert.assertTrue(result.getThroughput() > 0.0);
+    }
+
+    @Test
+    public void testIterationsSkipTestLifecycle() {
+        AtomicInteger lifecycleEvents = new AtomicInteger();
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        LoadTestRunner runner = new LoadTestRunner(() -> {
+            TestCase testCase = new TestCase();
+            testCase.setName("loadTest");
+            testCase.addTestAction(new AbstractTestAction() {
+                @Override
+                public void doExecute(TestContext context) {
+                    threadNames.add(Thread.currentThread().getName());
+                }
+            });
+
+            TestActionListeners testActionListeners = new TestActionListeners();
+            testActionListeners.addTestActionListener(new TestActionListener() {
+                @Override
+                public void onTestActionStart(TestCase testCase, TestAction testAction) {
+                    lifecycleEvents.incrementAndGet();
+                }
+
+                @Override
+                public void onTestActionFinish(TestCase testCase, TestAction testAction) {
+                    lifecycleEvents.incrementAndGet();
+                }
+
+                @Override
+                public void onTestActionSkipped(TestCase testCase, TestAction testAction) {
+                    lifecycleEvents.incrementAndGet();
+                }
+            });
+            testCase.setTestActionListeners(testActionListeners);
+
+            SequenceBeforeTest beforeTest = new SequenceBeforeTest();
+            beforeTest.addTestAction(new AbstractTestAction() {
+                @Override
+                public void doExecute(TestContext context) {
+                    lifecycleEvents.incrementAndGet();
+                }
+            });
+            testCase.setBeforeTest(Collections.singletonList(beforeTest));
+
+            return testCase;
+        }, testContextFactory);
+
+        runner.setVirtualUsers(2);
+        runner.setIterations(10);
+
+        LoadTestResult result = runner.run();
+
+        Assert.assertEquals(result.getIterations(), 10L);
+        Assert.assertEquals(result.getFailures(), 0L);
+        Assert.assertEquals(lifecycleEvents.get(), 0);
+        Assert.assertFalse(threadNames.isEmpty());
+        Assert.assertTrue(threadNames.stream().allMatch(name -> name.matches("CitrusLoadTestUser-[12]")));
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testMissingLimits() {
+        new LoadTestRunner(TestCase::new, testContextFactory).run();
+    }
+}
@@ -64,4 +64,19 @@ public class CitrusAppTest {
             Assert.assertEquals(e.getCause().getClass(), ClassNotFoundException.class);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testParallelOptions() {
+        CitrusAppConfiguration configuration = CitrusAppOptions.apply(new String[] { "-s", "true", "-n", "4" });
+        Assert.assertEquals(configuration.getThreadCount(), 4);
+        Assert.assertEquals(configuration.getParallelMode(), ParallelMode.CLASSES);
+        Assert.assertTrue(configuration.isParallel());
+
+        configuration = CitrusAppOptions.apply(new String[] { "-s", "true", "--parallel", "methods", "--threads", "2" });
+        Assert.assertEquals(configuration.getThreadCount(), 2);
+        Assert.assertEquals(configuration.getParallelMode(), ParallelMode.METHODS);
+
+        configuration = CitrusAppOptions.apply(new String[] { "-s", "true", "-n", "4", "-m", "none" });
+        Assert.assertFalse(configuration.isParallel());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.main.scan;
+
+import com.consol.citrus.TestClass;
+import com.consol.citrus.junit.scan.SampleJUnit4Test;
+import com.consol.citrus.testng.scan.SampleTestNGTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class TestIndexScannerTest {
+
+    private final String index = "# generated test index\n" + SampleTestNGTest.class.getName() + "\n" + SampleJUnit4Test.class.getName() + "\n";
+
+    @Test
+    public void testFindTestsInClassPathIndex() throws Exception {
+        File indexDir = Files.createTempDirectory("citrus-test-index").toFile();
+        File indexFile = new File(indexDir, TestIndexScanner.getIndexLocation(org.testng.annotations.Test.class));
+        Assert.assertTrue(indexFile.getParentFile().mkdirs());
+        Files.write(indexFile.toPath(), index.getBytes(StandardCharsets.UTF_8));
+
+        ClassLoader classLoader = new URLClassLoader(new URL[] { indexDir.toURI().toURL() }, null);
+
+        TestIndexScanner scanner = new TestIndexScanner(classLoader, org.testng.annotations.Test.class, ".*Test");
+        Assert.assertTrue(scanner.isIndexAvailable());
+
+        List<TestClass> findings = scanner.findTestsInPackage(SampleTestNGTest.class.getPackage().getName());
+        Assert.assertEquals(findings.size(), 1L);
+        Assert.assertEquals(findings.get(0).getName(), SampleTestNGTest.class.getName());
+
+        Assert.assertEquals(scanner.findTestsInPackage("").size(), 2L);
+        Assert.assertEquals(new TestIndexScanner(classLoader, org.testng.annotations.Test.class, ".*IT").findTestsInPackage("").size(), 0L);
+        Assert.assertFalse(new TestIndexScanner(classLoader, org.junit.Test.class).isIndexAvailable());
+    }
+
+    @Test
+    public void testFindTestsInJarFileIndex() throws Exception {
+        File jarFile = File.createTempFile("citrus-tests", ".jar");
+        try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(jarFile))) {
+            jar.putNextEntry(new JarEntry(TestIndexScanner.getIndexLocation(org.junit.Test.class)));
+            jar.write(index.getBytes(StandardCharsets.UTF_8));
+            jar.closeEntry();
+        }
+
+        TestIndexScanner scanner = new TestIndexScanner(jarFile, org.junit.Test.class, ".*Test");
+        Assert.assertTrue(scanner.isIndexAvailable());
+
+        List<TestClass> findings = scanner.findTestsInPackage(SampleJUnit4Test.class.getPackage().getName());
+        Assert.assertEquals(findings.size(), 1L);
+        Assert.assertEquals(findings.get(0).getName(), SampleJUnit4Test.class.getName());
+
+        Assert.assertFalse(new TestIndexScanner(jarFile, org.testng.annotations.Test.class).isIndexAvailable());
+    }
+}
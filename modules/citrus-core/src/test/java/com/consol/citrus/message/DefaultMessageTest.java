@@ -0,0 +1,63 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.xml.transform.Source;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class DefaultMessageTest {
+
+    @Test
+    public void testConvertedPayloadIsMemoized() {
+        Message message = new DefaultMessage(ByteBuffer.wrap("Hello Citrus!".getBytes()));
+
+        String payload = message.getPayload(String.class);
+        Assert.assertEquals(payload, "Hello Citrus!");
+        Assert.assertSame(message.getPayload(String.class), payload);
+
+        message.setPayload("Hello Foo!");
+        Assert.assertEquals(message.getPayload(String.class), "Hello Foo!");
+    }
+
+    @Test
+    public void testMutableViewsAreNotShared() {
+        Message message = new DefaultMessage("[a, b]");
+
+        Assert.assertNotSame(message.getPayload(byte[].class), message.getPayload(byte[].class));
+        Assert.assertNotSame(message.getPayload(List.class), message.getPayload(List.class));
+        Assert.assertNotSame(message.getPayload(Source.class), message.getPayload(Source.class));
+
+        String[] values = message.getPayload(String[].class);
+        values[0] = "c";
+        Assert.assertEquals(message.getPayload(String[].class), new String[] {"a", "b"});
+    }
+
+    @Test
+    public void testStreamViewsAreNotMemoized() {
+        Message message = new DefaultMessage("Hello Citrus!");
+
+        Assert.assertNotSame(message.getPayload(InputStream.class), message.getPayload(InputStream.class));
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.message.replay;
+
+import com.consol.citrus.message.*;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class MessageRecordReaderTest {
+
+    @Test
+    public void testWriteAndRead() throws IOException {
+        File file = createRecordFile();
+
+        try (MessageRecordWriter writer = new MessageRecordWriter(file)) {
+            writer.write(MessageDirection.OUTBOUND, new DefaultMessage("<hello>Citrus</hello>")
+                    .setHeader("operation", "sayHello")
+                    .setHeader("count", 5)
+                    .setHeader("size", 10L)
+                    .setHeader("valid", true)
+                    .setHeader("rate", 0.5D)
+                    .addHeaderData("<header>data</header>"));
+            writer.write(MessageDirection.INBOUND, new DefaultMessage(new byte[] { 1, 2, 3 }));
+        }
+
+        List<MessageRecord> records = readAll(new MessageRecordReader(file));
+        Assert.assertEquals(records.size(), 2L);
+
+        MessageRecord record = records.get(0);
+        Assert.assertEquals(record.getDirection(), MessageDirection.OUTBOUND);
+        Assert.assertEquals(record.getMessage().getPayload(), "<hello>Citrus</hello>");
+        Assert.assertEquals(record.getMessage().getHeader("operation"), "sayHello");
+        Assert.assertEquals(record.getMessage().getHeader("count"), 5);
+        Assert.assertEquals(record.getMessage().getHeader("size"), 10L);
+        Assert.assertEquals(record.getMessage().getHeader("valid"), true);
+        Assert.assertEquals(record.getMessage().getHeader("rate"), 0.5D);
+        Assert.assertEquals(record.getMessage().getHeaderData().size(), 1L);
+        Assert.assertEquals(record.getMessage().getHeaderData().get(0), "<header>data</header>");
+
+        record = records.get(1);
+        Assert.assertEquals(record.getDirection(), MessageDirection.INBOUND);
+        Assert.assertEquals((byte[]) record.getMessage().getPayload(), new byte[] { 1, 2, 3 });
+        Assert.assertTrue(record.getTimestamp() >= records.get(0).getTimestamp());
+    }
+
+    @Test
+    public void testNewMessageIds() throws IOException {
+        File file = createRecordFile();
+        Message message = new DefaultMessage("Hello");
+
+        try (MessageRecordWriter writer = new MessageRecordWriter(file)) {
+            writer.write(MessageDirection.OUTBOUND, message);
+        }
+
+        List<MessageRecord> records = readAll(new MessageRecordReader(file));
+        Assert.assertNotEquals(records.get(0).getMessage().getId(), message.getId());
+    }
+
+    @Test
+    public void testAppendToExistingFile() throws IOException {
+        File file = createRecordFile();
+
+        try (MessageRecordWriter writer = new MessageRecordWriter(file)) {
+            writer.write(MessageDirection.OUTBOUND, new DefaultMessage("first"));
+        }
+
+        try (MessageRecordWriter writer = new MessageRecordWriter(file)) {
+            writer.write(MessageDirection.OUTBOUND, new DefaultMessage("second"));
+        }
+
+        List<MessageRecord> records = readAll(new MessageRecordReader(file));
+        Assert.assertEquals(records.size(), 2L);
+        Assert.assertEquals(records.get(0).getMessage().getPayload(), "first");
+        Assert.assertEquals(records.get(1).getMessage().getPayload(), "second");
+        Assert.assertTrue(records.get(1).getTimestamp() >= records.get(0).getTimestamp());
+    }
+
+    @Test
+    public void testAppendResumesTimestamps() throws Exception {
+        File file = createRecordFile();
+
+        try (MessageRecordWriter writer = new MessageRecordWriter(file)) {
+            writer.write(MessageDirection.OUTBOUND, new DefaultMessage("first"));
+            writer.write(MessageDirection.OUTBOUND, new DefaultMessage("incomplete"));
+        }
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 3);
+        }
+
+        Thread.sleep(500L);
+
+        try (MessageRecordWriter writer = new MessageRecordWriter(file)) {
+            writer.write(MessageDirection.OUTBOUND, new DefaultMessage("second"));
+        }
+
+        List<MessageRecord> records = readAll(new MessageRecordReader(file));
+        Assert.assertEquals(records.size(), 2L);
+        Assert.assertEquals(records.get(1).getMessage().getPayload(), "second");
+        Assert.assertTrue(records.get(1).getTimestamp() - records.get(0).getTimestamp() < 250000000L);
+    }
+
+    @Test
+    public void testSmallMappedWindows() throws IOException {
+        File file = createRecordFile();
+
+        try (MessageRecordWriter writer = new MessageRecordWriter(file)) {
+            for (int i = 0; i < 100; i++) {
+                writer.write(MessageDirection.OUTBOUND, new DefaultMessage("Message " + i).setHeader("index", i));
+            }
+        }
+
+        List<MessageRecord> records = readAll(new MessageRecordReader(file, 64));
+        Assert.assertEquals(records.size(), 100L);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(records.get(i).getMessage().getPayload(), "Message " + i);
+            Assert.assertEquals(records.get(i).getMessage().getHeader("index"), i);
+        }
+    }
+
+    @Test
+    public void testIgnoreIncompleteRecord() throws IOException {
+        File file = createRecordFile();
+
+        try (MessageRecordWriter writer = new MessageRecordWriter(file)) {
+            writer.write(MessageDirection.OUTBOUND, new DefaultMessage("complete"));
+            writer.write(MessageDirection.OUTBOUND, new DefaultMessage("incomplete"));
+        }
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 3);
+        }
+
+        List<MessageRecord> records = readAll(new MessageRecordReader(file));
+        Assert.assertEquals(records.size(), 1L);
+        Assert.assertEquals(records.get(0).getMessage().getPayload(), "complete");
+    }
+
+    private List<MessageRecord> readAll(MessageRecordReader reader) throws IOException {
+        List<MessageRecord> records = new ArrayList<>();
+        try {
+            reader.forEachRemaining(records::add);
+        } finally {
+            reader.close();
+        }
+
+        return records;
+    }
+
+    private File createRecordFile() throws IOException {
+        File file = File.createTempFile("citrus-messages", ".rec");
+        file.deleteOnExit();
+        Assert.assertTrue(file.delete());
+        return file;
+    }
+}
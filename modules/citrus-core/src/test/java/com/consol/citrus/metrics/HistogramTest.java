@@ -0,0 +1,122 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import com.consol.citrus.message.DefaultMessage;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class HistogramTest {
+
+    @Test
+    public void testRecord() {
+        Histogram histogram = new Histogram("endpoint", "fooEndpoint", "send-latency", "us");
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+
+        Assert.assertEquals(histogram.getCount(), 1000L);
+        Assert.assertEquals(histogram.getMin(), 1L);
+        Assert.assertEquals(histogram.getMax(), 1000L);
+        Assert.assertEquals(histogram.getTotal(), 500500L);
+        Assert.assertEquals(histogram.getMean(), 500.5, 0.001);
+    }
+
+    @Test
+    public void testPercentiles() {
+        Histogram histogram = new Histogram("endpoint", "fooEndpoint", "send-latency", "us");
+        for (long i = 1; i <= 100000; i++) {
+            histogram.record(i);
+        }
+
+        assertWithinPrecision(histogram.getValueAtPercentile(50.0), 50000L);
+        assertWithinPrecision(histogram.getValueAtPercentile(90.0), 90000L);
+        assertWithinPrecision(histogram.getValueAtPercentile(99.0), 99000L);
+        assertWithinPrecision(histogram.getValueAtPercentile(100.0), 100000L);
+    }
+
+    @Test
+    public void testSmallValuesExact() {
+        Histogram histogram = new Histogram("endpoint", "fooEndpoint", "send-latency", "us");
+        histogram.record(0L);
+        histogram.record(5L);
+        histogram.record(127L);
+
+        Assert.assertEquals(histogram.getValueAtPercentile(0.0), 0L);
+        Assert.assertEquals(histogram.getValueAtPercentile(50.0), 5L);
+        Assert.assertEquals(histogram.getValueAtPercentile(100.0), 127L);
+    }
+
+    @Test
+    public void testEmptyHistogram() {
+        Histogram histogram = new Histogram("endpoint", "fooEndpoint", "send-latency", "us");
+
+        Assert.assertEquals(histogram.getCount(), 0L);
+        Assert.assertEquals(histogram.getMin(), 0L);
+        Assert.assertEquals(histogram.getMax(), 0L);
+        Assert.assertEquals(histogram.getValueAtPercentile(99.0), 0L);
+    }
+
+    @Test
+    public void testLargeValues() {
+        Histogram histogram = new Histogram("endpoint", "fooEndpoint", "send-latency", "us");
+        histogram.record(Long.MAX_VALUE);
+
+        Assert.assertEquals(histogram.getCount(), 1L);
+        Assert.assertEquals(histogram.getMax(), Long.MAX_VALUE);
+        Assert.assertEquals(histogram.getValueAtPercentile(50.0), Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testPerformanceMetrics() {
+        PerformanceMetrics metrics = new PerformanceMetrics();
+        metrics.setEnabled(true);
+        metrics.recordPayloadSize(PerformanceMetrics.ENDPOINT, "fooEndpoint", PerformanceMetrics.SENT_PAYLOAD_SIZE, new DefaultMessage("Hello"));
+        metrics.recordPayloadSize(PerformanceMetrics.ENDPOINT, "fooEndpoint", PerformanceMetrics.SENT_PAYLOAD_SIZE, new DefaultMessage(new byte[] { 1, 2, 3 }));
+        metrics.recordTime(PerformanceMetrics.ACTION, "SendMessageAction", PerformanceMetrics.DURATION, System.nanoTime());
+
+        Histogram payloadSize = metrics.getHistogram(PerformanceMetrics.ENDPOINT, "fooEndpoint", PerformanceMetrics.SENT_PAYLOAD_SIZE);
+        Assert.assertEquals(payloadSize.getCount(), 2L);
+        Assert.assertEquals(payloadSize.getMin(), 3L);
+        Assert.assertEquals(payloadSize.getMax(), 5L);
+
+        Assert.assertEquals(metrics.getHistograms().size(), 2L);
+        Assert.assertEquals(metrics.getHistograms().get(0).getCategory(), PerformanceMetrics.ACTION);
+
+        metrics.clear();
+        Assert.assertTrue(metrics.isEmpty());
+    }
+
+    @Test
+    public void testPerformanceMetricsDisabled() {
+        PerformanceMetrics metrics = new PerformanceMetrics();
+        Assert.assertFalse(metrics.isEnabled());
+
+        metrics.recordPayloadSize(PerformanceMetrics.ENDPOINT, "fooEndpoint", PerformanceMetrics.SENT_PAYLOAD_SIZE, new DefaultMessage("Hello"));
+        metrics.recordTime(PerformanceMetrics.ACTION, "SendMessageAction", PerformanceMetrics.DURATION, System.nanoTime());
+
+        Assert.assertTrue(metrics.isEmpty());
+    }
+
+    private void assertWithinPrecision(long actual, long expected) {
+        Assert.assertTrue(Math.abs(actual - expected) <= expected / 64, String.format("Expected %s but was %s", expected, actual));
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.TestAction;
+import com.consol.citrus.TestCase;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.variable.VariableScope;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class AsyncEventDispatcherTest {
+
+    @Test
+    public void testEventOrderPerProducer() throws Exception {
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(16);
+
+        int producers = 4;
+        int eventsPerProducer = 1000;
+        List<List<Integer>> received = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            received.add(Collections.synchronizedList(new ArrayList<>()));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < producers; i++) {
+                List<Integer> events = received.get(i);
+                results.add(executor.submit(() -> {
+                    for (int event = 0; event < eventsPerProducer; event++) {
+                        int value = event;
+                        dispatcher.dispatch(() -> events.add(value));
+                    }
+                }));
+            }
+
+            for (Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        dispatcher.flush();
+
+        for (List<Integer> events : received) {
+            Assert.assertEquals(events.size(), eventsPerProducer);
+            for (int event = 0; event < eventsPerProducer; event++) {
+                Assert.assertEquals(events.get(event).intValue(), event);
+            }
+        }
+    }
+
+    @Test
+    public void testListenerErrorDoesNotStopDispatching() {
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(4);
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+        dispatcher.dispatch(() -> {
+            throw new IllegalStateException("Listener failed");
+        });
+        dispatcher.dispatch(() -> received.add("next"));
+        dispatcher.flush();
+
+        Assert.assertEquals(received, Collections.singletonList("next"));
+    }
+
+    @Test
+    public void testListenerErrorDoesNotStopEventThread() {
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(4);
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+        dispatcher.dispatch(() -> {
+            throw new NoClassDefFoundError("Listener failed");
+        });
+        dispatcher.dispatch(() -> received.add("next"));
+        dispatcher.flush();
+
+        Assert.assertEquals(received, Collections.singletonList("next"));
+    }
+
+    @Test(timeOut = 5000L)
+    public void testFlushTimeout() throws Exception {
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(4, 100L);
+        CountDownLatch blocked = new CountDownLatch(1);
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+        try {
+            dispatcher.dispatch(() -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            dispatcher.dispatch(() -> received.add("next"));
+            dispatcher.flush();
+
+            Assert.assertTrue(received.isEmpty());
+        } finally {
+            blocked.countDown();
+        }
+
+        dispatcher.flush();
+        Assert.assertEquals(received, Collections.singletonList("next"));
+    }
+
+    @Test
+    public void testAsyncTestListeners() {
+        TestListener listener = Mockito.mock(TestListener.class);
+        TestCase test = Mockito.mock(TestCase.class);
+
+        TestListeners testListeners = new TestListeners();
+        testListeners.setAsyncDispatch(true);
+        testListeners.addTestListener(listener);
+
+        testListeners.onTestStart(test);
+        testListeners.onTestFinish(test);
+        testListeners.onTestSuccess(test);
+
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).onTestStart(test);
+        inOrder.verify(listener).onTestFinish(test);
+        inOrder.verify(listener).onTestSuccess(test);
+    }
+
+    @Test
+    public void testSynchronousListener() {
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+
+        TestActionListeners testActionListeners = new TestActionListeners();
+        testActionListeners.setAsyncDispatch(true);
+        testActionListeners.addTestActionListener(new SynchronousTestActionListener(threads));
+
+        testActionListeners.onTestActionStart(Mockito.mock(TestCase.class), null);
+
+        Assert.assertEquals(threads, Collections.singletonList(caller));
+    }
+
+    @Test
+    public void testAsyncMessageListenersReceiveSnapshot() {
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+        MessageListeners messageListeners = new MessageListeners();
+        messageListeners.setAsyncDispatch(true);
+        messageListeners.addMessageListener(new MessageListener() {
+            @Override
+            public void onInboundMessage(Message message, TestContext context) {
+            }
+
+            @Override
+            public void onOutboundMessage(Message message, TestContext context) {
+                received.add(message.getPayload(String.class) + ":" + message.getHeader("operation") + ":" + context.getVariables().get("branch"));
+            }
+        });
+
+        TestContext context = new TestContext();
+        VariableScope scope = context.createVariableScope();
+        context.enterVariableScope(scope);
+        try {
+            context.setVariable("branch", "A");
+
+            Message message = new DefaultMessage("Hello").setHeader("operation", "greet");
+            messageListeners.onOutboundMessage(message, context);
+
+            message.setPayload("Bye");
+            message.setHeader("operation", "leave");
+        } finally {
+            context.exitVariableScope(scope);
+        }
+
+        AsyncEventDispatcher.getInstance().flush();
+
+        Assert.assertEquals(received, Collections.singletonList("Hello:greet:A"));
+    }
+
+    /**
+     * Listener recording the notifying thread.
+     */
+    private static class SynchronousTestActionListener extends AbstractTestActionListener implements SynchronousListener {
+        private final List<Thread> threads;
+
+        SynchronousTestActionListener(List<Thread> threads) {
+            this.threads = threads;
+        }
+
+        @Override
+        public void onTestActionStart(TestCase testCase, TestAction testAction) {
+            threads.add(Thread.currentThread());
+        }
+    }
+}
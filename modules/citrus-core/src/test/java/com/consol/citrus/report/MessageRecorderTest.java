@@ -0,0 +1,86 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.message.*;
+import com.consol.citrus.message.replay.MessageRecord;
+import com.consol.citrus.message.replay.MessageRecordReader;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class MessageRecorderTest {
+
+    @Test
+    public void testRecordMessages() throws IOException {
+        File recordFile = File.createTempFile("citrus-recorder", ".rec");
+        recordFile.deleteOnExit();
+        Assert.assertTrue(recordFile.delete());
+
+        MessageRecorder recorder = new MessageRecorder();
+        recorder.setRecordFile(recordFile.getAbsolutePath());
+
+        recorder.onOutboundMessage(new DefaultMessage("Hello"), null);
+        recorder.onInboundMessage(new RawMessage("GET /hello HTTP/1.1"), null);
+        recorder.onInboundMessage(new DefaultMessage("Hi"), null);
+        recorder.onFinish();
+
+        List<MessageRecord> records = new ArrayList<>();
+        try (MessageRecordReader reader = new MessageRecordReader(recordFile)) {
+            reader.forEachRemaining(records::add);
+        }
+
+        Assert.assertEquals(records.size(), 2L);
+        Assert.assertEquals(records.get(0).getDirection(), MessageDirection.OUTBOUND);
+        Assert.assertEquals(records.get(0).getMessage().getPayload(), "Hello");
+        Assert.assertEquals(records.get(1).getDirection(), MessageDirection.INBOUND);
+        Assert.assertEquals(records.get(1).getMessage().getPayload(), "Hi");
+    }
+
+    @Test
+    public void testRecordErrorDoesNotFailMessageExchange() throws IOException {
+        File recordDirectory = File.createTempFile("citrus-recorder", "");
+        recordDirectory.deleteOnExit();
+        Assert.assertTrue(recordDirectory.delete());
+        Assert.assertTrue(recordDirectory.mkdir());
+        recordDirectory.deleteOnExit();
+
+        MessageRecorder recorder = new MessageRecorder();
+        recorder.setRecordFile(recordDirectory.getAbsolutePath());
+
+        recorder.onOutboundMessage(new DefaultMessage("Hello"), null);
+        recorder.onFinish();
+    }
+
+    @Test
+    public void testRecordingDisabled() {
+        MessageRecorder recorder = new MessageRecorder();
+        Assert.assertFalse(recorder.isEnabled());
+
+        recorder.onOutboundMessage(new DefaultMessage("Hello"), null);
+        recorder.onFinish();
+    }
+}
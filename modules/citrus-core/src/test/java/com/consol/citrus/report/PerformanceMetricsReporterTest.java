@@ -0,0 +1,106 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.actions.EchoAction;
+import com.consol.citrus.metrics.PerformanceMetrics;
+import com.consol.citrus.util.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class PerformanceMetricsReporterTest {
+
+    private PerformanceMetricsReporter reporter = new PerformanceMetricsReporter();
+
+    @BeforeMethod
+    public void clearResults() {
+        reporter.clearTestResults();
+        reporter.setEnabled(true);
+        reporter.getPerformanceMetrics().setEnabled(true);
+    }
+
+    @Test
+    public void testGenerateTestResults() throws Exception {
+        EchoAction action = new EchoAction();
+        reporter.onTestActionStart(null, action);
+        reporter.onTestActionFinish(null, action);
+        reporter.getPerformanceMetrics().record(PerformanceMetrics.ENDPOINT, "fooEndpoint", PerformanceMetrics.SEND_LATENCY, PerformanceMetrics.MICROSECONDS, 100L);
+
+        reporter.generateTestResults();
+
+        String csvReport = FileUtils.readToString(new File(reporter.getReportDirectory() + File.separator + "citrus-metrics.csv"));
+        String[] lines = csvReport.split("\\r?\\n");
+        Assert.assertEquals(lines.length, 3L);
+        Assert.assertEquals(lines[0], "category,name,metric,unit,count,min,max,mean,p50,p90,p99,p999");
+        Assert.assertTrue(lines[1].startsWith("action,EchoAction,duration,us,1,"));
+        Assert.assertEquals(lines[2], "endpoint,fooEndpoint,send-latency,us,1,100,100,100.00,100,100,100,100");
+
+        String jsonReport = FileUtils.readToString(new File(reporter.getReportDirectory() + File.separator + "citrus-metrics.json"));
+        Assert.assertTrue(jsonReport.contains("\"name\" : \"fooEndpoint\""));
+        Assert.assertTrue(jsonReport.contains("\"metric\" : \"send-latency\""));
+        Assert.assertTrue(jsonReport.contains("\"p99\" : 100"));
+    }
+
+    @Test
+    public void testNestedAndConcurrentActionInvocations() throws Exception {
+        EchoAction action = new EchoAction();
+        EchoAction nested = new EchoAction();
+
+        reporter.onTestActionStart(null, action);
+        Thread concurrent = new Thread(() -> {
+            reporter.onTestActionStart(null, action);
+            reporter.onTestActionFinish(null, action);
+        });
+        concurrent.start();
+        concurrent.join();
+
+        reporter.onTestActionStart(null, nested);
+        reporter.onTestActionFinish(null, nested);
+        reporter.onTestActionFinish(null, action);
+
+        Assert.assertEquals(reporter.getPerformanceMetrics().getHistogram(PerformanceMetrics.ACTION, "EchoAction", PerformanceMetrics.DURATION).getCount(), 3L);
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception {
+        PerformanceMetricsReporter defaultReporter = new PerformanceMetricsReporter();
+        Assert.assertFalse(defaultReporter.isEnabled());
+        Assert.assertFalse(defaultReporter.getPerformanceMetrics().isEnabled());
+
+        EchoAction action = new EchoAction();
+        defaultReporter.onTestActionStart(null, action);
+        defaultReporter.onTestActionFinish(null, action);
+        defaultReporter.getPerformanceMetrics().record(PerformanceMetrics.ENDPOINT, "fooEndpoint", PerformanceMetrics.SEND_LATENCY, PerformanceMetrics.MICROSECONDS, 100L);
+
+        Assert.assertTrue(defaultReporter.getPerformanceMetrics().isEmpty());
+    }
+
+    @Test
+    public void testClearTestResults() throws Exception {
+        reporter.getPerformanceMetrics().record(PerformanceMetrics.ENDPOINT, "fooEndpoint", PerformanceMetrics.SEND_LATENCY, PerformanceMetrics.MICROSECONDS, 100L);
+        reporter.clearTestResults();
+
+        Assert.assertTrue(reporter.getPerformanceMetrics().isEmpty());
+    }
+}
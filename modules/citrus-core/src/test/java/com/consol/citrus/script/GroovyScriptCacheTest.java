@@ -0,0 +1,82 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class GroovyScriptCacheTest {
+
+    @Test
+    public void testCachedScriptClass() {
+        GroovyScriptCache cache = new GroovyScriptCache(10);
+
+        Class<?> scriptClass = cache.parseClass("return 'Hello'");
+        Assert.assertSame(cache.parseClass("return 'Hello'"), scriptClass);
+        Assert.assertNotSame(cache.parseClass("return 'Bye'"), scriptClass);
+        Assert.assertEquals(cache.size(), 2);
+
+        cache.clear();
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertNotSame(cache.parseClass("return 'Hello'"), scriptClass);
+    }
+
+    @Test
+    public void testCacheEviction() {
+        GroovyScriptCache cache = new GroovyScriptCache(2);
+
+        Class<?> first = cache.parseClass("return 1");
+        Class<?> second = cache.parseClass("return 2");
+        Assert.assertSame(cache.parseClass("return 1"), first);
+
+        cache.parseClass("return 3");
+        Assert.assertEquals(cache.size(), 2);
+
+        Assert.assertSame(cache.parseClass("return 1"), first);
+        Assert.assertNotSame(cache.parseClass("return 2"), second);
+    }
+
+    @Test
+    public void testCachedScriptTemplate() {
+        GroovyScriptCache cache = new GroovyScriptCache(10);
+
+        AtomicInteger reads = new AtomicInteger();
+        ByteArrayResource template = new ByteArrayResource("def run() { @SCRIPTBODY@ }".getBytes()) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                reads.incrementAndGet();
+                return super.getInputStream();
+            }
+        };
+
+        Assert.assertEquals(cache.getScriptTemplate(template), "def run() { @SCRIPTBODY@ }");
+        Assert.assertEquals(cache.getScriptTemplate(template), "def run() { @SCRIPTBODY@ }");
+        Assert.assertEquals(reads.get(), 1);
+
+        cache.clear();
+        cache.getScriptTemplate(template);
+        Assert.assertEquals(reads.get(), 2);
+    }
+}
@@ -17,6 +17,7 @@
 package com.consol.citrus.testng;
 
 import com.consol.citrus.TestClass;
+import com.consol.citrus.main.ParallelMode;
 import com.consol.citrus.main.TestRunConfiguration;
 import com.consol.citrus.testng.scan.SampleTestNGTest;
 import org.testng.*;
@@ -47,6 +48,17 @@ public class TestNGEngineTest {
         runTestEngine(configuration, 0L, 1L);
     }
 
+    @Test
+    public void testRunPackageParallel() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setIncludes(new String[] { ".*Test" });
+        configuration.setPackages(Collections.singletonList(SampleTestNGTest.class.getPackage().getName()));
+        configuration.setParallelMode(ParallelMode.CLASSES);
+        configuration.setThreadCount(2);
+
+        runTestEngine(configuration, 0L, 1L);
+    }
+
     @Test
     public void testRunNoMatch() {
         TestRunConfiguration configuration = new TestRunConfiguration();
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.util;
+
+import com.consol.citrus.message.RawMessage;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class LogPayloadTest {
+
+    @Test
+    public void testLazyPayload() {
+        AtomicInteger calls = new AtomicInteger();
+        LogPayload payload = LogPayload.of(() -> {
+            calls.incrementAndGet();
+            return "Hello Citrus!";
+        });
+
+        Assert.assertEquals(calls.get(), 0);
+        Assert.assertEquals(payload.toString(), "Hello Citrus!");
+        Assert.assertEquals(payload.toString(), "Hello Citrus!");
+        Assert.assertEquals(calls.get(), 1);
+    }
+
+    @Test
+    public void testNullPayload() {
+        Assert.assertEquals(LogPayload.of((String) null).toString(), "null");
+    }
+
+    @Test
+    public void testTruncate() {
+        Assert.assertEquals(new LogPayload(() -> "Hello Citrus!", false, 5, true).toString(), "Hello" + String.format(LogPayload.TRUNCATED_MARKER, 8));
+        Assert.assertEquals(new LogPayload(() -> "Hello Citrus!", false, 13, true).toString(), "Hello Citrus!");
+        Assert.assertEquals(new LogPayload(() -> "Hello Citrus!", false, -1, true).toString(), "Hello Citrus!");
+    }
+
+    @Test
+    public void testXmlFormatting() {
+        String xml = "<root><element>Hello</element></root>";
+
+        Assert.assertTrue(new LogPayload(() -> xml, true, -1, true).toString().contains(System.lineSeparator()));
+        Assert.assertEquals(new LogPayload(() -> xml, true, -1, false).toString(), xml);
+    }
+
+    @Test
+    public void testLazyRawMessage() {
+        AtomicInteger calls = new AtomicInteger();
+        RawMessage message = new RawMessage(() -> {
+            calls.incrementAndGet();
+            return "Hello Citrus!";
+        });
+
+        Assert.assertEquals(calls.get(), 0);
+        Assert.assertEquals(message.toString(), "Hello Citrus!");
+        Assert.assertEquals(message.getPayload(), "Hello Citrus!");
+        Assert.assertEquals(calls.get(), 1);
+
+        message.setPayload("Bye Citrus!");
+        Assert.assertEquals(message.toString(), "Bye Citrus!");
+    }
+}
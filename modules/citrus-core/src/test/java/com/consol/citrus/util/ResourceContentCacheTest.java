@@ -0,0 +1,115 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class ResourceContentCacheTest {
+
+    @Test
+    public void testClassPathResource() throws Exception {
+        ResourceContentCache cache = new ResourceContentCache(1024 * 1024);
+
+        String content = cache.getContent(new ClassPathResource("citrus-context.xml"), StandardCharsets.UTF_8);
+        Assert.assertEquals(cache.size(), 1L);
+        Assert.assertSame(cache.getContent(new ClassPathResource("citrus-context.xml"), StandardCharsets.UTF_8), content);
+
+        cache.getContent(new ClassPathResource("citrus-context.xml"), StandardCharsets.ISO_8859_1);
+        Assert.assertEquals(cache.size(), 2L);
+    }
+
+    @Test
+    public void testFileResourceModified() throws Exception {
+        ResourceContentCache cache = new ResourceContentCache(1024 * 1024);
+        File file = File.createTempFile("citrus-cache", ".txt");
+        file.deleteOnExit();
+
+        Files.write(file.toPath(), "Hello".getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(file.setLastModified(System.currentTimeMillis() - 60000L));
+
+        Assert.assertEquals(cache.getContent(new FileSystemResource(file), StandardCharsets.UTF_8), "Hello");
+        Assert.assertEquals(cache.size(), 1L);
+
+        Files.write(file.toPath(), "Hello Citrus".getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(file.setLastModified(System.currentTimeMillis() - 30000L));
+
+        Assert.assertEquals(cache.getContent(new FileSystemResource(file), StandardCharsets.UTF_8), "Hello Citrus");
+    }
+
+    @Test
+    public void testRecentlyModifiedFileNotCached() throws Exception {
+        ResourceContentCache cache = new ResourceContentCache(1024 * 1024);
+        File file = File.createTempFile("citrus-cache", ".txt");
+        file.deleteOnExit();
+
+        Files.write(file.toPath(), "Hello".getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertEquals(cache.getContent(new FileSystemResource(file), StandardCharsets.UTF_8), "Hello");
+        Assert.assertEquals(cache.size(), 0L);
+    }
+
+    @Test
+    public void testNonFileResourceNotCached() throws Exception {
+        ResourceContentCache cache = new ResourceContentCache(1024 * 1024);
+
+        Assert.assertEquals(cache.getContent(new ByteArrayResource("Hello".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8), "Hello");
+        Assert.assertEquals(cache.size(), 0L);
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        ResourceContentCache cache = new ResourceContentCache(40);
+
+        for (int i = 0; i < 5; i++) {
+            File file = File.createTempFile("citrus-cache", ".txt");
+            file.deleteOnExit();
+            Files.write(file.toPath(), "0123456789".getBytes(StandardCharsets.UTF_8));
+            Assert.assertTrue(file.setLastModified(System.currentTimeMillis() - 60000L));
+
+            cache.getContent(new FileSystemResource(file), StandardCharsets.UTF_8);
+        }
+
+        Assert.assertEquals(cache.size(), 4L);
+    }
+
+    @Test
+    public void testLargeFile() throws Exception {
+        ResourceContentCache cache = new ResourceContentCache(0L);
+        File file = File.createTempFile("citrus-cache", ".txt");
+        file.deleteOnExit();
+
+        byte[] content = new byte[2 * 1024 * 1024];
+        Arrays.fill(content, (byte) 'a');
+        Files.write(file.toPath(), content);
+
+        Assert.assertEquals(cache.getContent(new FileSystemResource(file), StandardCharsets.UTF_8).length(), content.length);
+        Assert.assertEquals(cache.size(), 0L);
+    }
+}
@@ -54,4 +54,45 @@ public class TypeConversionUtilsTest {
         Assert.assertEquals(TypeConversionUtils.convertIfNecessary(ByteBuffer.wrap(payload.getBytes()), String.class), payload);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testConvertByteBufferWithoutCopy() throws Exception {
+        byte[] bytes = "Hello Citrus!".getBytes();
+
+        Assert.assertSame(TypeConversionUtils.convertIfNecessary(ByteBuffer.wrap(bytes), byte[].class), bytes);
+        Assert.assertEquals(TypeConversionUtils.convertIfNecessary(ByteBuffer.wrap(bytes, 6, 6), byte[].class), "Citrus".getBytes());
+        Assert.assertEquals(TypeConversionUtils.convertIfNecessary(ByteBuffer.wrap(bytes, 6, 6), String.class), "Citrus");
+
+        InputStream stream = TypeConversionUtils.convertIfNecessary(ByteBuffer.wrap(bytes, 6, 7), InputStream.class);
+        Assert.assertEquals(TypeConversionUtils.convertIfNecessary(stream, byte[].class), "Citrus!".getBytes());
+    }
+
+    @Test
+    public void testConvertCollections() {
+        Assert.assertEquals(TypeConversionUtils.convertIfNecessary(new LinkedHashSet<>(Arrays.asList("a", "b, c")), List.class), Arrays.asList("a", "b, c"));
+        Assert.assertEquals(TypeConversionUtils.convertIfNecessary(Arrays.asList(1, 2), String[].class), new String[] {"1", "2"});
+    }
+
+    @Test
+    public void testConvertToConcreteTypes() {
+        Assert.assertEquals(TypeConversionUtils.convertIfNecessary("[a, b]", Arrays.asList("a").getClass()).toString(), "[a, b]");
+        Assert.assertEquals(TypeConversionUtils.convertIfNecessary("[a, b]", ArrayList.class), Arrays.asList("a", "b"));
+        Assert.assertEquals(TypeConversionUtils.convertIfNecessary("{key=value}", Collections.singletonMap("key", "value").getClass()), Collections.singletonMap("key", "value"));
+        Assert.assertEquals(TypeConversionUtils.convertIfNecessary("{key=[value]}", Map.class).get("key"), "[value]");
+        Assert.assertTrue(MultiValueMap.class.isInstance(TypeConversionUtils.convertIfNecessary("{key=[value]}", MultiValueMap.class)));
+    }
+
+    @Test
+    public void testRegisterConverter() {
+        TypeConversionUtils.registerConverter(String.class, Greeting.class, Greeting::new);
+
+        Assert.assertEquals(TypeConversionUtils.convertIfNecessary("Hello Citrus!", Greeting.class).text, "Hello Citrus!");
+    }
+
+    private static class Greeting {
+        private final String text;
+
+        Greeting(String text) {
+            this.text = text;
+        }
+    }
+}
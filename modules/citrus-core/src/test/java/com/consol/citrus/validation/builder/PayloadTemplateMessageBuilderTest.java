@@ -24,17 +24,17 @@ import com.consol.citrus.message.MessageType;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.validation.interceptor.AbstractMessageConstructionInterceptor;
 import com.consol.citrus.validation.interceptor.MessageConstructionInterceptor;
+import com.consol.citrus.validation.xml.XmlMessageConstructionInterceptor;
+import com.consol.citrus.validation.xml.XpathMessageConstructionInterceptor;
 import com.consol.citrus.variable.dictionary.json.JsonMappingDataDictionary;
+import com.consol.citrus.variable.dictionary.xml.NodeMappingDataDictionary;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.w3c.dom.Document;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
-import static org.testng.Assert.assertEquals;
-import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.*;
 
 public class PayloadTemplateMessageBuilderTest extends AbstractTestNGUnitTest {
 
@@ -404,4 +404,59 @@ public class PayloadTemplateMessageBuilderTest extends AbstractTestNGUnitTest {
         //THEN
         assertEquals(message.getPayload(), expectedPayload);
     }
+
+    @Test
+    public void testMessageBuilderKeepsInterceptorChain() {
+        messageBuilder.setPayloadResourcePath(imagePayloadResource);
+
+        for (int i = 0; i < 3; i++) {
+            Message message = messageBuilder.buildMessageContent(context, MessageType.GZIP.name());
+            assertEquals(message.getPayload().getClass(), byte[].class);
+        }
+
+        assertEquals(messageBuilder.getMessageInterceptors().size(), 0L);
+    }
+
+    @Test
+    public void testXmlInterceptorsShareDocument() {
+        List<Document> documents = new ArrayList<>();
+        XmlMessageConstructionInterceptor documentInterceptor = new XmlMessageConstructionInterceptor() {
+            @Override
+            public void interceptDocument(Document document, Message message, String messageType, TestContext context) {
+                documents.add(document);
+                assertEquals(document.getElementsByTagName("Text").item(0).getTextContent(), "Hello Citrus");
+            }
+
+            @Override
+            public Message interceptMessageConstruction(Message message, String messageType, TestContext context) {
+                throw new AssertionError("Unexpected message interception outside of shared document");
+            }
+
+            @Override
+            public boolean supportsMessageType(String messageType) {
+                return true;
+            }
+
+            @Override
+            public MessageDirection getDirection() {
+                return MessageDirection.UNBOUND;
+            }
+        };
+
+        NodeMappingDataDictionary dataDictionary = new NodeMappingDataDictionary();
+        dataDictionary.setMappings(Collections.singletonMap("TestMessage.Sender", "citrus"));
+        messageBuilder.setDataDictionary(dataDictionary);
+
+        messageBuilder.add(new XpathMessageConstructionInterceptor(Collections.singletonMap("/TestMessage/Text", "Hello Citrus")));
+        messageBuilder.add(documentInterceptor);
+        messageBuilder.add(documentInterceptor);
+        messageBuilder.setPayloadData("<TestMessage><Text>Hello</Text><Sender>unknown</Sender></TestMessage>");
+
+        Message resultingMessage = messageBuilder.buildMessageContent(context, MessageType.XML.name());
+
+        assertEquals(documents.size(), 2L);
+        assertSame(documents.get(0), documents.get(1));
+        assertTrue(resultingMessage.getPayload(String.class).contains("<Text>Hello Citrus</Text>"));
+        assertTrue(resultingMessage.getPayload(String.class).contains("<Sender>citrus</Sender>"));
+    }
 }
@@ -58,4 +58,18 @@ public class ValidationMatcherUtilsTest extends AbstractTestNGUnitTest {
         verify(validationMatcher, times(3)).validate("field", "value", Arrays.asList("value"), context);
         verify(validationMatcher).validate("field", "prefix:value", Arrays.asList("prefix:value"), context);
     }
+
+    @Test
+    public void testResolveCachedValidationMatcherExpression() {
+        reset(validationMatcher);
+
+        context.setVariable("control", "value1");
+        ValidationMatcherUtils.resolveValidationMatcher("field", "value1", "@foo:customMatcher('${control}')@", context);
+
+        context.setVariable("control", "value2");
+        ValidationMatcherUtils.resolveValidationMatcher("field", "value2", "@foo:customMatcher('${control}')@", context);
+
+        verify(validationMatcher).validate("field", "value1", Arrays.asList("value1"), context);
+        verify(validationMatcher).validate("field", "value2", Arrays.asList("value2"), context);
+    }
 }
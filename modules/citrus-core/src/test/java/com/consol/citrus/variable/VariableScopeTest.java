@@ -0,0 +1,159 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class VariableScopeTest {
+
+    @Test
+    public void testReadThroughAndCopyOnWrite() {
+        Map<String, Object> parent = new HashMap<>();
+        parent.put("foo", "parent");
+        parent.put("bar", "parent");
+
+        VariableScope scope = new VariableScope(parent);
+        Assert.assertEquals(scope.get("foo"), "parent");
+
+        scope.put("foo", "scope");
+        scope.put("new", "scope");
+        scope.remove("bar");
+
+        Assert.assertEquals(scope.get("foo"), "scope");
+        Assert.assertEquals(scope.get("new"), "scope");
+        Assert.assertFalse(scope.containsKey("bar"));
+        Assert.assertEquals(scope.size(), 2);
+
+        Assert.assertEquals(parent.get("foo"), "parent");
+        Assert.assertEquals(parent.get("bar"), "parent");
+        Assert.assertFalse(parent.containsKey("new"));
+
+        parent.put("other", "parent");
+        Assert.assertEquals(scope.get("other"), "parent");
+    }
+
+    @Test
+    public void testWriteBackAll() {
+        Map<String, Object> parent = new HashMap<>();
+        parent.put("foo", "parent");
+        parent.put("bar", "parent");
+
+        VariableScope scope = new VariableScope(parent);
+        scope.put("foo", "scope");
+        scope.put("new", "scope");
+        scope.remove("bar");
+        scope.writeBack(VariableScope.WriteBack.ALL);
+
+        Assert.assertEquals(parent.get("foo"), "scope");
+        Assert.assertEquals(parent.get("new"), "scope");
+        Assert.assertFalse(parent.containsKey("bar"));
+    }
+
+    @Test
+    public void testWriteBackExisting() {
+        Map<String, Object> parent = new HashMap<>();
+        parent.put("foo", "parent");
+
+        VariableScope scope = new VariableScope(parent);
+        scope.put("foo", "scope");
+        scope.put("new", "scope");
+        scope.writeBack(VariableScope.WriteBack.EXISTING);
+
+        Assert.assertEquals(parent.get("foo"), "scope");
+        Assert.assertFalse(parent.containsKey("new"));
+    }
+
+    @Test
+    public void testWriteBackNone() {
+        Map<String, Object> parent = new HashMap<>();
+        parent.put("foo", "parent");
+
+        VariableScope scope = new VariableScope(parent);
+        scope.put("foo", "scope");
+        scope.clear();
+        scope.writeBack(VariableScope.WriteBack.NONE);
+
+        Assert.assertTrue(scope.isEmpty());
+        Assert.assertEquals(parent.get("foo"), "parent");
+    }
+
+    @Test
+    public void testNestedScopes() {
+        Map<String, Object> parent = new HashMap<>();
+        parent.put("foo", "parent");
+
+        VariableScope outer = new VariableScope(parent);
+        outer.put("bar", "outer");
+
+        VariableScope inner = new VariableScope(outer);
+        inner.put("foo", "inner");
+
+        Assert.assertEquals(inner.get("foo"), "inner");
+        Assert.assertEquals(inner.get("bar"), "outer");
+
+        inner.writeBack(VariableScope.WriteBack.ALL);
+        Assert.assertEquals(outer.get("foo"), "inner");
+        Assert.assertEquals(parent.get("foo"), "parent");
+    }
+
+    @Test
+    public void testEntrySetView() {
+        Map<String, Object> parent = new HashMap<>();
+        parent.put("foo", "parent");
+        parent.put("bar", "parent");
+
+        VariableScope scope = new VariableScope(parent);
+        scope.put("foo", "scope");
+        scope.put("new", "scope");
+
+        Assert.assertEquals(scope.size(), 3);
+        Assert.assertFalse(scope.isEmpty());
+        Assert.assertEquals(scope.entrySet().size(), 3);
+        Assert.assertEquals(new HashMap<>(scope).get("foo"), "scope");
+
+        Iterator<Map.Entry<String, Object>> entries = scope.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, Object> entry = entries.next();
+            if (entry.getKey().equals("bar")) {
+                entries.remove();
+            } else if (entry.getKey().equals("new")) {
+                entry.setValue("changed");
+            }
+        }
+
+        scope.keySet().remove("foo");
+
+        Assert.assertEquals(scope.size(), 1);
+        Assert.assertEquals(scope.get("new"), "changed");
+        Assert.assertFalse(scope.containsKey("bar"));
+        Assert.assertFalse(scope.containsKey("foo"));
+        Assert.assertEquals(parent.size(), 2);
+
+        scope.keySet().clear();
+        Assert.assertTrue(scope.isEmpty());
+        Assert.assertEquals(parent.size(), 2);
+    }
+}
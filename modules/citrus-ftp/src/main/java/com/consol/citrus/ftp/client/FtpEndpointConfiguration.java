@@ -64,6 +64,9 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** Auto read file content retrieved from server */
     private boolean autoReadFiles = true;
 
+    /** Stream retrieved files to local file and provide file size and digest instead of file content */
+    private boolean streamFiles = false;
+
     /** File transfer passive mode */
     private boolean localPassiveMode = true;
 
@@ -255,6 +258,24 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
         this.autoReadFiles = autoReadFiles;
     }
 
+    /**
+     * Gets the streamFiles.
+     *
+     * @return
+     */
+    public boolean isStreamFiles() {
+        return streamFiles;
+    }
+
+    /**
+     * Sets the streamFiles.
+     *
+     * @param streamFiles
+     */
+    public void setStreamFiles(boolean streamFiles) {
+        this.streamFiles = streamFiles;
+    }
+
     /**
      * Gets the localPassiveMode.
      *
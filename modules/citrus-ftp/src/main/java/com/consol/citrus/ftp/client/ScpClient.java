@@ -18,9 +18,11 @@ package com.consol.citrus.ftp.client;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.ftp.message.FileDigestUtils;
 import com.consol.citrus.ftp.message.FtpMessage;
 import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.util.FileUtils;
+import org.apache.commons.net.ftp.FTPReply;
 import org.apache.sshd.client.SshClient;
 import org.apache.sshd.client.keyverifier.*;
 import org.apache.sshd.client.scp.DefaultScpClientCreator;
@@ -32,8 +34,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 
-import java.io.File;
-import java.io.IOException;
+import java.io.*;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.Optional;
 
 /**
@@ -102,6 +105,10 @@ public class ScpClient extends SftpClient {
                 log.warn("Failed to create target directories in path: " + target.getFile().getAbsolutePath());
             }
 
+            if (getEndpointConfiguration().isStreamFiles()) {
+                return streamFile(command.getFile().getPath(), target.getFile());
+            }
+
             scpClient.download(command.getFile().getPath(), target.getFile().getAbsolutePath());
         } catch (IOException e) {
             log.error("Failed to retrieve file via SCP", e);
@@ -111,6 +118,24 @@ public class ScpClient extends SftpClient {
         return FtpMessage.success();
     }
 
+    /**
+     * Downloads remote file directly to local file while computing the file digest. Result message holds local file path,
+     * file size and digest instead of the file content.
+     * @param remoteFilePath
+     * @param localFile
+     * @return
+     * @throws IOException
+     */
+    private FtpMessage streamFile(String remoteFilePath, File localFile) throws IOException {
+        MessageDigest digest = FileDigestUtils.createDigest();
+        try (OutputStream outputStream = new DigestOutputStream(new FileOutputStream(localFile), digest)) {
+            scpClient.download(remoteFilePath, outputStream);
+        }
+
+        return FtpMessage.fileResult(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFile.getAbsolutePath(),
+                localFile.length(), FileDigestUtils.toHexString(digest));
+    }
+
     @Override
     protected void connectAndLogin() {
         try {
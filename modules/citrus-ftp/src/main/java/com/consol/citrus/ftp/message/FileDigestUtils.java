@@ -0,0 +1,90 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ftp.message;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.apache.commons.codec.binary.Hex;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Utility methods computing file digests on streamed file content, so file content never has to be held in memory
+ * as a whole.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public final class FileDigestUtils {
+
+    /** Digest algorithm used for streamed files */
+    public static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /** Buffer size used when reading streams */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Prevent instantiation.
+     */
+    private FileDigestUtils() {
+        super();
+    }
+
+    /**
+     * Creates new message digest instance.
+     * @return
+     */
+    public static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Unsupported file digest algorithm: " + DIGEST_ALGORITHM, e);
+        }
+    }
+
+    /**
+     * Gets hex representation of given digest. Completes the digest so the digest is reset afterwards.
+     * @param digest
+     * @return
+     */
+    public static String toHexString(MessageDigest digest) {
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    /**
+     * Reads given resource as stream and computes the hex digest.
+     * @param resource
+     * @return
+     */
+    public static String digest(Resource resource) {
+        MessageDigest digest = createDigest();
+        try (InputStream inputStream = new DigestInputStream(resource.getInputStream(), digest)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (inputStream.read(buffer) != -1) {
+                // digest is updated while reading
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to compute digest for file resource: " + resource, e);
+        }
+
+        return toHexString(digest);
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.ftp.message;
 
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
@@ -23,10 +24,12 @@ import com.consol.citrus.util.FileUtils;
 import org.apache.commons.net.ftp.FTPCmd;
 import org.apache.commons.net.ftp.FTPReply;
 import org.apache.ftpserver.ftplet.DataType;
+import org.springframework.core.io.Resource;
 import org.springframework.util.StringUtils;
 import org.springframework.xml.transform.StringResult;
 import org.springframework.xml.transform.StringSource;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,7 +44,11 @@ public class FtpMessage extends DefaultMessage {
     private CommandType command;
     private CommandResultType commandResult;
 
-    private FtpMarshaller marshaller = new FtpMarshaller();
+    /** Marshalled payload representation of command or command result, reset on model changes */
+    private String marshalledPayload;
+
+    /** Shared marshaller instance as marshallers are thread safe and expensive to create */
+    private static final FtpMarshaller marshaller = new FtpMarshaller();
 
     /**
      * Constructs copy of given message.
@@ -298,6 +305,49 @@ public class FtpMessage extends DefaultMessage {
         return result(getCommandResult);
     }
 
+    /**
+     * Creates get command result that references the retrieved file by its path instead of holding the file content.
+     * File size and digest are used to validate the file content.
+     * @param replyCode
+     * @param replyString
+     * @param path
+     * @param size
+     * @param digest
+     * @return
+     */
+    public static FtpMessage fileResult(int replyCode, String replyString, String path, long size, String digest) {
+        GetCommandResult getCommandResult = new GetCommandResult();
+        getCommandResult.setReplyCode(String.valueOf(replyCode));
+        getCommandResult.setReplyString(replyString);
+        getCommandResult.setSuccess(true);
+
+        GetCommandResult.File file = new GetCommandResult.File();
+        file.setPath(path);
+        file.setSize(size);
+        file.setDigest(digest);
+
+        getCommandResult.setFile(file);
+
+        return result(getCommandResult);
+    }
+
+    /**
+     * Creates get command result for streamed file transfers with file size and digest computed from given file resource.
+     * Usually used as control message where the file resource is read as stream.
+     * @param replyCode
+     * @param replyString
+     * @param path
+     * @param file
+     * @return
+     */
+    public static FtpMessage fileResult(int replyCode, String replyString, String path, Resource file) {
+        try {
+            return fileResult(replyCode, replyString, path, file.contentLength(), FileDigestUtils.digest(file));
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read file size of resource: " + file, e);
+        }
+    }
+
     /**
      * Sets the command args.
      * @param arguments
@@ -305,6 +355,7 @@ public class FtpMessage extends DefaultMessage {
     public FtpMessage arguments(String arguments) {
         if (command != null) {
             command.setArguments(arguments);
+            marshalledPayload = null;
         }
 
         setHeader(FtpMessageHeaders.FTP_ARGS, arguments);
@@ -381,9 +432,13 @@ public class FtpMessage extends DefaultMessage {
     @Override
     public <T> T getPayload(Class<T> type) {
         if (CommandType.class.isAssignableFrom(type)) {
-            return (T) getCommand();
+            CommandType model = getCommand();
+            marshalledPayload = null;
+            return (T) model;
         } else if (CommandResultType.class.isAssignableFrom(type)) {
-            return (T) getCommandResult();
+            CommandResultType model = getCommandResult();
+            marshalledPayload = null;
+            return (T) model;
         } else if (String.class.equals(type)) {
             return (T) getPayload();
         } else {
@@ -393,13 +448,19 @@ public class FtpMessage extends DefaultMessage {
 
     @Override
     public Object getPayload() {
+        if (marshalledPayload != null) {
+            return marshalledPayload;
+        }
+
         StringResult payloadResult = new StringResult();
         if (command != null) {
             marshaller.marshal(command, payloadResult);
-            return payloadResult.toString();
+            marshalledPayload = payloadResult.toString();
+            return marshalledPayload;
         } else if (commandResult != null) {
             marshaller.marshal(commandResult, payloadResult);
-            return payloadResult.toString();
+            marshalledPayload = payloadResult.toString();
+            return marshalledPayload;
         }
 
         return super.getPayload();
@@ -17,6 +17,7 @@
 package com.consol.citrus.ftp.client;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.ftp.message.FileDigestUtils;
 import com.consol.citrus.ftp.message.FtpMessage;
 import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.message.ErrorHandlingStrategy;
@@ -28,6 +29,7 @@ import org.mockftpserver.fake.UserAccount;
 import org.mockftpserver.fake.filesystem.*;
 import org.mockftpserver.fake.filesystem.FileSystem;
 import org.mockito.Mockito;
+import org.springframework.core.io.FileSystemResource;
 import org.testng.Assert;
 import org.testng.annotations.*;
 
@@ -137,6 +139,23 @@ public class FtpClientTest extends AbstractFtpClientTest {
         assertTrue(new File(localFilePath).exists());
     }
 
+    @Test
+    public void testRetrieveFileStreamed() {
+        String localFilePath = Paths.get(targetPath, "download_file_streamed").toString();
+        ftpClient.getEndpointConfiguration().setStreamFiles(true);
+        try {
+            FtpMessage ftpMessage = ftpClient.retrieveFile(getCommand(DOWNLOAD_FILE, localFilePath), context);
+            GetCommandResult result = ftpMessage.getPayload(GetCommandResult.class);
+            assertEquals(result.getFile().getPath(), localFilePath);
+            assertNull(result.getFile().getData());
+            assertEquals(result.getFile().getSize(), Long.valueOf(0L));
+            assertEquals(result.getFile().getDigest(), FileDigestUtils.digest(new FileSystemResource(localFilePath)));
+            assertTrue(new File(localFilePath).exists());
+        } finally {
+            ftpClient.getEndpointConfiguration().setStreamFiles(false);
+        }
+    }
+
     @Test
     public void testRetrieveFileImplicitFilename() {
         assertTrue(fakeFtpServer.getFileSystem().exists(DOWNLOAD_FILE));
@@ -18,6 +18,7 @@ package com.consol.citrus.http.interceptor;
 
 import com.consol.citrus.message.RawMessage;
 import com.consol.citrus.report.MessageListeners;
+import com.consol.citrus.util.LogPayload;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -51,6 +52,10 @@ public class LoggingClientInterceptor implements ClientHttpRequestInterceptor {
     @Override
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, 
         ClientHttpRequestExecution execution) throws IOException {
+        if (!isLoggingEnabled()) {
+            return execution.execute(request, body);
+        }
+
         handleRequest(getRequestContent(request, new String(body)));
         
         ClientHttpResponse response = execution.execute(request, body);
@@ -60,6 +65,15 @@ public class LoggingClientInterceptor implements ClientHttpRequestInterceptor {
         return bufferedResponse;
     }
 
+    /**
+     * Checks if request and response content is consumed by message listeners or debug logger. Skips content creation
+     * and response buffering otherwise.
+     * @return
+     */
+    private boolean isLoggingEnabled() {
+        return (messageListener != null && !messageListener.isEmpty()) || log.isDebugEnabled();
+    }
+
     /**
      * Handles request messages for logging.
      * @param request
@@ -69,9 +83,7 @@ public class LoggingClientInterceptor implements ClientHttpRequestInterceptor {
             log.debug("Sending Http request message");
             messageListener.onOutboundMessage(new RawMessage(request), null);
         } else {
-            if (log.isDebugEnabled()) {
-                log.debug("Sending Http request message:" + NEWLINE + request);
-            }
+            log.debug("Sending Http request message:{}{}", NEWLINE, LogPayload.of(request));
         }
     }
     
@@ -84,9 +96,7 @@ public class LoggingClientInterceptor implements ClientHttpRequestInterceptor {
             log.debug("Received Http response message");
             messageListener.onInboundMessage(new RawMessage(response), null);
         } else {
-            if (log.isDebugEnabled()) {
-                log.debug("Received Http response message:" + NEWLINE + response);
-            }
+            log.debug("Received Http response message:{}{}", NEWLINE, LogPayload.of(response));
         }
     }
     
@@ -20,6 +20,7 @@ import com.consol.citrus.http.controller.HttpMessageController;
 import com.consol.citrus.message.RawMessage;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.util.FileUtils;
+import com.consol.citrus.util.LogPayload;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -59,7 +60,10 @@ public class LoggingHandlerInterceptor implements HandlerInterceptor {
      */
     public boolean preHandle(HttpServletRequest request, 
             HttpServletResponse response, Object handler) throws Exception {
-        handleRequest(getRequestContent(request));
+        if (isLoggingEnabled()) {
+            handleRequest(getRequestContent(request));
+        }
+
         return true;
     }
 
@@ -68,7 +72,9 @@ public class LoggingHandlerInterceptor implements HandlerInterceptor {
      */
     public void postHandle(HttpServletRequest request,
             HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
-        handleResponse(getResponseContent(response, handler));
+        if (isLoggingEnabled()) {
+            handleResponse(getResponseContent(response, handler));
+        }
     }
 
     /**
@@ -78,6 +84,14 @@ public class LoggingHandlerInterceptor implements HandlerInterceptor {
             HttpServletResponse response, Object handler, Exception ex) throws Exception {
     }
     
+    /**
+     * Checks if request and response content is consumed by message listeners or debug logger. Skips content creation otherwise.
+     * @return
+     */
+    private boolean isLoggingEnabled() {
+        return (messageListener != null && !messageListener.isEmpty()) || log.isDebugEnabled();
+    }
+
     /**
      * Handle request message and write request to logger.
      * @param request
@@ -87,9 +101,7 @@ public class LoggingHandlerInterceptor implements HandlerInterceptor {
             log.debug("Received Http request");
             messageListener.onInboundMessage(new RawMessage(request), null);
         } else {
-            if (log.isDebugEnabled()) {
-                log.debug("Received Http request:" + NEWLINE + request);
-            }
+            log.debug("Received Http request:{}{}", NEWLINE, LogPayload.of(request));
         }
     }
     
@@ -102,9 +114,7 @@ public class LoggingHandlerInterceptor implements HandlerInterceptor {
             log.debug("Sending Http response");
             messageListener.onOutboundMessage(new RawMessage(response), null);
         } else {
-            if (log.isDebugEnabled()) {
-                log.debug("Sending Http response:" + NEWLINE + response);
-            }
+            log.debug("Sending Http response:{}{}", NEWLINE, LogPayload.of(response));
         }
     }
     
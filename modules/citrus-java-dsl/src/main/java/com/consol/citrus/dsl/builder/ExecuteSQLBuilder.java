@@ -155,4 +155,22 @@ public class ExecuteSQLBuilder extends AbstractTestActionBuilder<ExecuteSQLActio
         action.setIgnoreErrors(ignoreErrors);
         return this;
     }
+
+    /**
+     * Sends statements as JDBC batch updates with given number of statements per batch.
+     * @param batchSize
+     */
+    public ExecuteSQLBuilder batchSize(int batchSize) {
+        action.setBatchSize(batchSize);
+        return this;
+    }
+
+    /**
+     * Commits each JDBC batch in a separate transaction.
+     * @param transactionPerBatch
+     */
+    public ExecuteSQLBuilder transactionPerBatch(boolean transactionPerBatch) {
+        action.setTransactionPerBatch(transactionPerBatch);
+        return this;
+    }
 }
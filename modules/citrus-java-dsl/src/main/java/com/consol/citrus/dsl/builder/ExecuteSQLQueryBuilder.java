@@ -241,4 +241,13 @@ public class ExecuteSQLQueryBuilder extends AbstractTestActionBuilder<ExecuteSQL
 		action.setValidator(validator);
 		return this;
 	}
+
+    /**
+     * Validates result rows while reading the result set instead of loading all rows into memory.
+     * @param streaming
+     */
+    public ExecuteSQLQueryBuilder streaming(boolean streaming) {
+        action.setStreaming(streaming);
+        return this;
+    }
 }
@@ -19,6 +19,7 @@ package com.consol.citrus.dsl.builder;
 import com.consol.citrus.container.*;
 import com.consol.citrus.dsl.design.TestDesigner;
 import com.consol.citrus.dsl.runner.TestRunner;
+import com.consol.citrus.variable.VariableScope;
 
 /**
  * @author Christoph Deppisch
@@ -60,4 +61,15 @@ public class ParallelBuilder extends AbstractTestContainerBuilder<Parallel> {
         this(runner, new Parallel());
     }
 
+    /**
+     * Runs each parallel branch in its own variable scope and sets the policy for writing branch variables back to
+     * the test context. Without this setting all branches share the test variables.
+     * @param variableWriteBack
+     * @return
+     */
+    public ParallelBuilder variableWriteBack(VariableScope.WriteBack variableWriteBack) {
+        action.setVariableWriteBack(variableWriteBack);
+        return this;
+    }
+
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.dsl.builder;
+
+import com.consol.citrus.actions.ReplayMessagesAction;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.message.MessageDirection;
+
+/**
+ * Action streams recorded messages from a message record file through a message endpoint.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class ReplayMessagesBuilder extends AbstractTestActionBuilder<ReplayMessagesAction> {
+
+    /**
+     * Default constructor using test action.
+     * @param action
+     */
+    public ReplayMessagesBuilder(ReplayMessagesAction action) {
+        super(action);
+    }
+
+    /**
+     * Default constructor.
+     */
+    public ReplayMessagesBuilder() {
+        super(new ReplayMessagesAction());
+    }
+
+    /**
+     * Sets the message endpoint to replay messages to.
+     * @param endpoint
+     * @return
+     */
+    public ReplayMessagesBuilder endpoint(Endpoint endpoint) {
+        action.setEndpoint(endpoint);
+        return this;
+    }
+
+    /**
+     * Sets the message endpoint uri or endpoint bean name to replay messages to.
+     * @param endpointUri
+     * @return
+     */
+    public ReplayMessagesBuilder endpoint(String endpointUri) {
+        action.setEndpointUri(endpointUri);
+        return this;
+    }
+
+    /**
+     * Sets the message record file.
+     * @param recordFile
+     * @return
+     */
+    public ReplayMessagesBuilder file(String recordFile) {
+        action.setRecordFile(recordFile);
+        return this;
+    }
+
+    /**
+     * Replays only messages of given direction. By default only outbound messages are replayed, unbound replays all messages.
+     * @param direction
+     * @return
+     */
+    public ReplayMessagesBuilder direction(MessageDirection direction) {
+        action.setDirection(direction);
+        return this;
+    }
+
+    /**
+     * Replays messages at their original rate.
+     * @return
+     */
+    public ReplayMessagesBuilder originalRate() {
+        action.setRate(ReplayMessagesAction.ReplayRate.ORIGINAL);
+        return this;
+    }
+
+    /**
+     * Replays messages at original rate scaled by given speed factor, e.g. factor 2 replays twice as fast.
+     * @param speed
+     * @return
+     */
+    public ReplayMessagesBuilder speed(double speed) {
+        action.setRate(ReplayMessagesAction.ReplayRate.SCALED);
+        action.setSpeed(speed);
+        return this;
+    }
+
+    /**
+     * Replays messages as fast as possible.
+     * @return
+     */
+    public ReplayMessagesBuilder maximumRate() {
+        action.setRate(ReplayMessagesAction.ReplayRate.MAXIMUM);
+        return this;
+    }
+
+    /**
+     * Consume and discard replies of synchronous endpoints.
+     * @param consumeReplies
+     * @return
+     */
+    public ReplayMessagesBuilder consumeReplies(boolean consumeReplies) {
+        action.setConsumeReplies(consumeReplies);
+        return this;
+    }
+}
@@ -82,6 +82,37 @@ public class TimerBuilder extends AbstractTestContainerBuilder<Timer> {
         return this;
     }
 
+    /**
+     * Maximum time in milliseconds to wait for the next timer event in addition to the interval before the timer fails.
+     *
+     * @param timeout
+     */
+    public TimerBuilder timeout(long timeout) {
+        action.setTimeout(timeout);
+        return this;
+    }
+
+    /**
+     * Schedule timer events with fixed delay between the end of a timer event and the start of the next timer event
+     * instead of fixed rate.
+     *
+     * @param scheduleMode
+     */
+    public TimerBuilder scheduleMode(Timer.ScheduleMode scheduleMode) {
+        action.setScheduleMode(scheduleMode);
+        return this;
+    }
+
+    /**
+     * Policy for handling nested action errors. By default the timer is stopped and the error is raised.
+     *
+     * @param errorPolicy
+     */
+    public TimerBuilder errorPolicy(Timer.ErrorPolicy errorPolicy) {
+        action.setErrorPolicy(errorPolicy);
+        return this;
+    }
+
     /**
      * Set the timer's id. This is useful when referencing the timer from other test actions like stop-timer
      *
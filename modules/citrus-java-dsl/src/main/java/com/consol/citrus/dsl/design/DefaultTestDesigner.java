@@ -608,6 +608,13 @@ public class DefaultTestDesigner implements TestDesigner {
         return action;
     }
 
+    @Override
+    public ReplayMessagesBuilder replay() {
+        ReplayMessagesBuilder builder = new ReplayMessagesBuilder();
+        action(builder);
+        return builder;
+    }
+
     @Override
     public DockerActionBuilder docker() {
         DockerActionBuilder builder = new DockerActionBuilder();
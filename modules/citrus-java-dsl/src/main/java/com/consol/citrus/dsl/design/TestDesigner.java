@@ -504,6 +504,12 @@ public interface TestDesigner extends ApplicationContextAware {
      */
     StopTimerAction stopTimers();
 
+    /**
+     * Replays recorded messages from message record file.
+     * @return
+     */
+    ReplayMessagesBuilder replay();
+
     /**
      * Creates a new docker execute action.
      * @return
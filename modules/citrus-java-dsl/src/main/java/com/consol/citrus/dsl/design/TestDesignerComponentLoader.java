@@ -0,0 +1,67 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.dsl.design;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.common.TestLoader;
+import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.load.LoadTestRunner;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Loads Java DSL test cases from test designer component classes. Each call creates a new component instance with the
+ * Spring bean application context and configures a new test case instance, so the loader is usable in load tests.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class TestDesignerComponentLoader implements TestLoader {
+
+    /** Test designer component class */
+    private final Class<? extends TestDesignerComponent> testClass;
+
+    /** Spring bean application context */
+    private final ApplicationContext applicationContext;
+
+    /**
+     * Default constructor using test designer component class and application context.
+     * @param testClass
+     * @param applicationContext
+     */
+    public TestDesignerComponentLoader(Class<? extends TestDesignerComponent> testClass, ApplicationContext applicationContext) {
+        this.testClass = testClass;
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * Creates load test runner for Java DSL test designer component.
+     * @param testClass
+     * @param applicationContext
+     * @return
+     */
+    public static LoadTestRunner loadTest(Class<? extends TestDesignerComponent> testClass, ApplicationContext applicationContext) {
+        return new LoadTestRunner(new TestDesignerComponentLoader(testClass, applicationContext),
+                applicationContext.getBean(TestContextFactory.class));
+    }
+
+    @Override
+    public TestCase load() {
+        TestDesignerComponent testDesigner = applicationContext.getAutowireCapableBeanFactory().createBean(testClass);
+        testDesigner.configure();
+        return testDesigner.getTestCase();
+    }
+}
@@ -422,6 +422,11 @@ public class JUnit4CitrusTestDesigner extends JUnit4CitrusTest implements TestDe
         return testDesigner.stopTimers();
     }
 
+    @Override
+    public ReplayMessagesBuilder replay() {
+        return testDesigner.replay();
+    }
+
     @Override
     public TimerBuilder timer() {
         return testDesigner.timer();
@@ -356,6 +356,11 @@ public class JUnit4CitrusTestRunner extends JUnit4CitrusTest implements TestRunn
         return testRunner.stopTimers();
     }
 
+    @Override
+    public ReplayMessagesAction replay(BuilderSupport<ReplayMessagesBuilder> configurer) {
+        return testRunner.replay(configurer);
+    }
+
     @Override
     public TestAction docker(BuilderSupport<DockerActionBuilder> configurer) {
         return testRunner.docker(configurer);
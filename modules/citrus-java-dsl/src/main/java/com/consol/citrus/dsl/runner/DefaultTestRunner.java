@@ -511,6 +511,13 @@ public class DefaultTestRunner implements TestRunner {
         return run(action);
     }
 
+    @Override
+    public ReplayMessagesAction replay(BuilderSupport<ReplayMessagesBuilder> configurer) {
+        ReplayMessagesBuilder builder = new ReplayMessagesBuilder();
+        configurer.configure(builder);
+        return run(builder.build());
+    }
+
     @Override
     public TestAction docker(BuilderSupport<DockerActionBuilder> configurer) {
         DockerActionBuilder builder = new DockerActionBuilder();
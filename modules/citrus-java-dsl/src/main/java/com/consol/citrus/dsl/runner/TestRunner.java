@@ -455,6 +455,13 @@ public interface TestRunner extends ApplicationContextAware {
      */
     StopTimerAction stopTimers();
 
+    /**
+     * Replays recorded messages from message record file.
+     * @param configurer
+     * @return
+     */
+    ReplayMessagesAction replay(BuilderSupport<ReplayMessagesBuilder> configurer);
+
     /**
      * Run docker command action.
      * @return
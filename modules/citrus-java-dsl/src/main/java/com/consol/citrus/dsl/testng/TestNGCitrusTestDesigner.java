@@ -418,6 +418,11 @@ public class TestNGCitrusTestDesigner extends TestNGCitrusTest implements TestDe
         return testDesigner.stopTimers();
     }
 
+    @Override
+    public ReplayMessagesBuilder replay() {
+        return testDesigner.replay();
+    }
+
     @Override
     public DockerActionBuilder docker() {
         return testDesigner.docker();
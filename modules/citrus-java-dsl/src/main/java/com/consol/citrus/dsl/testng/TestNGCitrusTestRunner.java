@@ -355,6 +355,11 @@ public class TestNGCitrusTestRunner extends TestNGCitrusTest implements TestRunn
         return testRunner.stopTimers();
     }
 
+    @Override
+    public ReplayMessagesAction replay(BuilderSupport<ReplayMessagesBuilder> configurer) {
+        return testRunner.replay(configurer);
+    }
+
     @Override
     public TestAction docker(BuilderSupport<DockerActionBuilder> configurer) {
         return testRunner.docker(configurer);
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.dsl.design;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.EchoAction;
+import com.consol.citrus.load.LoadTestResult;
+import com.consol.citrus.load.LoadTestRunner;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class TestDesignerComponentLoaderTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testLoadNewTestCase() {
+        TestDesignerComponentLoader loader = new TestDesignerComponentLoader(EchoTestDesigner.class, applicationContext);
+
+        TestCase test = loader.load();
+        Assert.assertEquals(test.getName(), "EchoTestDesigner");
+        Assert.assertEquals(test.getActionCount(), 1);
+        Assert.assertEquals(test.getActions().get(0).getClass(), EchoAction.class);
+
+        Assert.assertNotSame(loader.load(), test);
+    }
+
+    @Test
+    public void testLoadTest() {
+        LoadTestRunner runner = TestDesignerComponentLoader.loadTest(EchoTestDesigner.class, applicationContext);
+        runner.setIterations(5);
+
+        LoadTestResult result = runner.run();
+        Assert.assertEquals(result.getTestName(), "EchoTestDesigner");
+        Assert.assertEquals(result.getIterations(), 5L);
+        Assert.assertEquals(result.getFailures(), 0L);
+    }
+
+    public static class EchoTestDesigner extends TestDesignerComponent {
+        @Override
+        protected void configure() {
+            echo("Hello Citrus!");
+        }
+    }
+}
@@ -17,9 +17,11 @@
 package com.consol.citrus.jdbc.data;
 
 import com.consol.citrus.db.driver.dataset.DataSet;
+import com.consol.citrus.db.driver.dataset.DataSetProducer;
 import com.consol.citrus.db.driver.json.JsonDataSetProducer;
 import com.consol.citrus.db.driver.xml.XmlDataSetProducer;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.jdbc.message.DataSetResult;
 import com.consol.citrus.jdbc.message.JdbcMessage;
 import com.consol.citrus.jdbc.model.JdbcMarshaller;
 import com.consol.citrus.jdbc.model.OperationResult;
@@ -34,6 +36,10 @@ import java.util.Optional;
 
 public class DataSetCreator {
 
+    /** Marshallers reused for all responses that need to be unmarshalled */
+    private final JdbcMarshaller jsonMarshaller = createMarshaller(MessageType.JSON);
+    private final JdbcMarshaller xmlMarshaller = createMarshaller(MessageType.XML);
+
     /**
      * Converts Citrus result set representation to db driver model result set.
      * @param response The result set to convert
@@ -41,8 +47,14 @@ public class DataSetCreator {
      */
     public DataSet createDataSet(final Message response, final MessageType messageType) {
         try {
-            if (response.getPayload() instanceof DataSet) {
+            if (response instanceof JdbcMessage && ((JdbcMessage) response).hasDataSet()) {
+                return response.getPayload(DataSet.class);
+            } else if (response.getPayload() instanceof DataSetResult) {
+                return ((DataSetResult) response.getPayload()).getDataSet();
+            } else if (response.getPayload() instanceof DataSet) {
                 return response.getPayload(DataSet.class);
+            } else if (response.getPayload() instanceof DataSetProducer) {
+                return ((DataSetProducer) response.getPayload()).produce();
             } else if (isReadyToMarshal(response, messageType)) {
                 return marshalResponse(response, messageType);
             } else {
@@ -67,9 +79,7 @@ public class DataSetCreator {
             dataSet = response.getPayload(OperationResult.class).getDataSet();
         } else {
             try {
-                JdbcMarshaller jdbcMarshaller = new JdbcMarshaller();
-                jdbcMarshaller.setType(messageType.name());
-                Object object = jdbcMarshaller.unmarshal(new StringSource(response.getPayload(String.class)));
+                Object object = getMarshaller(messageType).unmarshal(new StringSource(response.getPayload(String.class)));
                 if (object instanceof OperationResult && StringUtils.hasText(((OperationResult) object).getDataSet())) {
                     dataSet = ((OperationResult) object).getDataSet();
                 }
@@ -87,6 +97,25 @@ public class DataSetCreator {
         }
     }
 
+    /**
+     * Gets the reusable marshaller for the given message type.
+     * @param messageType The message type to get the marshaller for
+     * @return The marshaller for the given message type
+     */
+    private JdbcMarshaller getMarshaller(final MessageType messageType) {
+        if (isXmlResponse(messageType)) {
+            return xmlMarshaller;
+        }
+
+        return jsonMarshaller;
+    }
+
+    private static JdbcMarshaller createMarshaller(final MessageType messageType) {
+        JdbcMarshaller marshaller = new JdbcMarshaller();
+        marshaller.setType(messageType.name());
+        return marshaller;
+    }
+
     private boolean isReadyToMarshal(final Message response, final MessageType messageType) {
         return response.getPayload() != null &&
                 (response.getPayload() instanceof OperationResult || StringUtils.hasText(response.getPayload(String.class))) &&
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.jdbc.message;
+
+import com.consol.citrus.db.driver.dataset.DataSet;
+import com.consol.citrus.jdbc.model.JdbcMarshaller;
+import com.consol.citrus.jdbc.model.OperationResult;
+import com.consol.citrus.util.TypeConversionUtils;
+import org.springframework.xml.transform.StringResult;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Message payload combining an operation result with a typed data set. As the data set is part of the payload object
+ * it survives message builders that create new messages from the payload on the send path and reaches the
+ * JDBC driver without any XML or JSON marshalling. String representation is the marshalled operation result.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class DataSetResult {
+
+    /** Shared marshaller instance as marshallers are thread safe and expensive to create */
+    private static final JdbcMarshaller marshaller = new JdbcMarshaller();
+
+    /** Marks type converters as registered */
+    private static final AtomicBoolean convertersRegistered = new AtomicBoolean(false);
+
+    private final OperationResult operationResult;
+    private final DataSet dataSet;
+
+    /** Marshalled operation result */
+    private volatile String marshalledResult;
+
+    /**
+     * Default constructor using operation result and typed data set.
+     * @param operationResult
+     * @param dataSet
+     */
+    public DataSetResult(OperationResult operationResult, DataSet dataSet) {
+        this.operationResult = operationResult;
+        this.dataSet = dataSet;
+    }
+
+    /**
+     * Registers type converters for data set result payloads so message payloads convert to string, operation result
+     * and data set. Converters are registered only once no matter how often this method is called.
+     */
+    public static void registerConverters() {
+        if (convertersRegistered.compareAndSet(false, true)) {
+            TypeConversionUtils.registerConverter(DataSetResult.class, String.class, DataSetResult::toString);
+            TypeConversionUtils.registerConverter(DataSetResult.class, OperationResult.class, DataSetResult::getOperationResult);
+            TypeConversionUtils.registerConverter(DataSetResult.class, DataSet.class, DataSetResult::getDataSet);
+        }
+    }
+
+    /**
+     * Gets the operation result.
+     * @return
+     */
+    public OperationResult getOperationResult() {
+        return operationResult;
+    }
+
+    /**
+     * Gets the typed data set.
+     * @return
+     */
+    public DataSet getDataSet() {
+        return dataSet;
+    }
+
+    @Override
+    public String toString() {
+        String result = marshalledResult;
+        if (result == null) {
+            StringResult payloadResult = new StringResult();
+            marshaller.marshal(operationResult, payloadResult);
+            result = payloadResult.toString();
+            marshalledResult = result;
+        }
+
+        return result;
+    }
+}
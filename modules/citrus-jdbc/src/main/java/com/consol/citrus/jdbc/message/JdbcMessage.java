@@ -16,6 +16,8 @@
 
 package com.consol.citrus.jdbc.message;
 
+import com.consol.citrus.db.driver.data.Row;
+import com.consol.citrus.db.driver.dataset.DataSet;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.jdbc.generator.JdbcOperationGenerator;
 import com.consol.citrus.jdbc.model.*;
@@ -27,7 +29,9 @@ import org.springframework.xml.transform.StringResult;
 import org.springframework.xml.transform.StringSource;
 
 import java.io.IOException;
+import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -38,11 +42,23 @@ public class JdbcMessage extends DefaultMessage {
 
     private OperationResult operationResult;
     private Operation operation;
+    private DataSet dataSet;
 
-    private JdbcMarshaller marshaller = new JdbcMarshaller();
+    /** Marshalled payload representation of operation or operation result, reset on model changes */
+    private String marshalledPayload;
+
+    /** Payload combining operation result and typed data set, reset on model changes */
+    private DataSetResult dataSetResult;
+
+    /** Shared marshaller instance as marshallers are thread safe and expensive to create */
+    private static final JdbcMarshaller marshaller = new JdbcMarshaller();
 
     private static JdbcOperationGenerator operationGenerator = new JdbcOperationGenerator();
 
+    static {
+        DataSetResult.registerConverters();
+    }
+
     /**
      * Prevent traditional instantiation.
      */
@@ -147,6 +163,8 @@ public class JdbcMessage extends DefaultMessage {
         }
 
         operationResult.setAffectedRows(number);
+        marshalledPayload = null;
+        dataSetResult = null;
         setHeader(JdbcMessageHeaders.JDBC_ROWS_UPDATED, number);
         return this;
     }
@@ -157,6 +175,8 @@ public class JdbcMessage extends DefaultMessage {
         }
 
         operationResult.setDataSet(dataSet);
+        marshalledPayload = null;
+        dataSetResult = null;
         return this;
     }
 
@@ -169,6 +189,58 @@ public class JdbcMessage extends DefaultMessage {
         return this;
     }
 
+    /**
+     * Sets typed data set on this result. The data set is passed to the JDBC driver as is without
+     * any XML or JSON marshalling of the result rows. The message payload becomes a {@link DataSetResult} holding
+     * the operation result and the data set.
+     * @param dataSet The data set to return to the JDBC driver
+     * @return This message
+     */
+    public JdbcMessage dataSet(DataSet dataSet) {
+        if (operationResult == null) {
+            throw new CitrusRuntimeException("Invalid access to operation result exception for JDBC message");
+        }
+
+        this.dataSet = dataSet;
+        dataSetResult = null;
+        return this;
+    }
+
+    /**
+     * Sets typed data set with given rows on this result.
+     * @param rows The rows of the data set
+     * @return This message
+     */
+    public JdbcMessage dataSet(Row... rows) {
+        return dataSet(Arrays.asList(rows).iterator());
+    }
+
+    /**
+     * Sets typed data set on this result by consuming given row iterator. Rows are added
+     * to the data set directly without any intermediate text representation.
+     * @param rows The row iterator to consume
+     * @return This message
+     */
+    public JdbcMessage dataSet(Iterator<Row> rows) {
+        DataSet rowDataSet = new DataSet();
+        try {
+            List<Row> dataSetRows = rowDataSet.getRows();
+            rows.forEachRemaining(dataSetRows::add);
+        } catch (SQLException e) {
+            throw new CitrusRuntimeException("Failed to create data set from rows", e);
+        }
+
+        return dataSet(rowDataSet);
+    }
+
+    /**
+     * Checks if this message holds a typed data set.
+     * @return true if typed data set is present
+     */
+    public boolean hasDataSet() {
+        return dataSet != null;
+    }
+
     public static Message startTransaction() {
         return new JdbcMessage(operationGenerator.generateTransactionStarted());
     }
@@ -188,25 +260,60 @@ public class JdbcMessage extends DefaultMessage {
     @Override
     public <T> T getPayload(Class<T> type) {
         if (Operation.class.equals(type)) {
-            return (T) getOperation();
+            Operation model = getOperation();
+            marshalledPayload = null;
+        dataSetResult = null;
+            return (T) model;
         } else if (OperationResult.class.equals(type)) {
-            return (T) getOperationResult();
+            OperationResult model = getOperationResult();
+            marshalledPayload = null;
+        dataSetResult = null;
+            return (T) model;
+        } else if (DataSet.class.equals(type) && dataSet != null) {
+            return (T) dataSet;
         } else if (String.class.equals(type)) {
-            return (T) getPayload();
+            return (T) getMarshalledPayload();
         } else {
             return super.getPayload(type);
         }
     }
 
+    /**
+     * Gets the payload. Results holding a typed data set use a {@link DataSetResult} payload so the data set
+     * is kept when messages get rebuilt from this payload.
+     * @return
+     */
     @Override
     public Object getPayload() {
+        if (dataSet != null && operationResult != null) {
+            if (dataSetResult == null) {
+                dataSetResult = new DataSetResult(operationResult, dataSet);
+            }
+
+            return dataSetResult;
+        }
+
+        return getMarshalledPayload();
+    }
+
+    /**
+     * Gets the marshalled operation or operation result payload.
+     * @return
+     */
+    private Object getMarshalledPayload() {
+        if (marshalledPayload != null) {
+            return marshalledPayload;
+        }
+
         StringResult payloadResult = new StringResult();
         if (operation != null) {
             marshaller.marshal(operation, payloadResult);
-            return payloadResult.toString();
+            marshalledPayload = payloadResult.toString();
+            return marshalledPayload;
         } else if (operationResult != null) {
             marshaller.marshal(operationResult, payloadResult);
-            return payloadResult.toString();
+            marshalledPayload = payloadResult.toString();
+            return marshalledPayload;
         }
 
         return super.getPayload();
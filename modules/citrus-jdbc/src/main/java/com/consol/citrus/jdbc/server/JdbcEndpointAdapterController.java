@@ -21,6 +21,7 @@ import com.consol.citrus.db.server.JdbcServerException;
 import com.consol.citrus.db.server.controller.JdbcController;
 import com.consol.citrus.endpoint.*;
 import com.consol.citrus.jdbc.data.DataSetCreator;
+import com.consol.citrus.jdbc.message.DataSetResult;
 import com.consol.citrus.jdbc.message.JdbcMessage;
 import com.consol.citrus.jdbc.message.JdbcMessageHeaders;
 import com.consol.citrus.jdbc.model.*;
@@ -83,6 +84,8 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
         this.delegate = delegate;
         this.dataSetCreator = dataSetCreator;
 
+        DataSetResult.registerConverters();
+
         String autoHandleQueries = System.getProperty(AUTO_HANDLE_QUERY_PROPERTY, System.getenv(AUTO_HANDLE_QUERY_ENV) != null ?
                 System.getenv(AUTO_HANDLE_QUERY_ENV) : StringUtils.arrayToDelimitedString(endpointConfiguration.getAutoHandleQueries(), ";"));
 
@@ -359,7 +362,7 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
      */
     private void checkSuccess(Message response) throws JdbcServerException {
         OperationResult operationResult = null;
-        if (response instanceof JdbcMessage || response.getPayload() instanceof OperationResult) {
+        if (response instanceof JdbcMessage || response.getPayload() instanceof OperationResult || response.getPayload() instanceof DataSetResult) {
             operationResult = response.getPayload(OperationResult.class);
         } else if (response.getPayload() != null && StringUtils.hasText(response.getPayload(String.class))) {
             operationResult = (OperationResult) endpointConfiguration.getMarshaller().unmarshal(new StringSource(response.getPayload(String.class)));
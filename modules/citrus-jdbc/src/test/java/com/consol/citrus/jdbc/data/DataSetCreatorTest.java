@@ -16,7 +16,9 @@
 
 package com.consol.citrus.jdbc.data;
 
+import com.consol.citrus.db.driver.data.Row;
 import com.consol.citrus.db.driver.dataset.DataSet;
+import com.consol.citrus.db.driver.dataset.DataSetProducer;
 import com.consol.citrus.jdbc.message.JdbcMessage;
 import com.consol.citrus.jdbc.model.OperationResult;
 import com.consol.citrus.message.Message;
@@ -25,6 +27,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.sql.SQLException;
+import java.util.Collections;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -65,6 +68,37 @@ public class DataSetCreatorTest {
         assertEquals(dataSet, expectedDataSet);
     }
 
+    @Test
+    public void testCreateDataSetWithTypedRows() throws SQLException {
+        //GIVEN
+        Row row = new Row();
+        row.setValues(Collections.singletonMap("foo", "bar"));
+        JdbcMessage message = JdbcMessage.success().dataSet(row);
+
+        //WHEN
+        DataSet dataSet = dataSetCreator.createDataSet(message, MessageType.JSON);
+
+        //THEN
+        assertEquals(dataSet.getColumns().toString(), "[foo]");
+        assertEquals(dataSet.getNextRow().getValues().toString(), "{foo=bar}");
+    }
+
+    @Test
+    public void testCreateDataSetWithDataSetProducerPayload() throws SQLException {
+        //GIVEN
+        DataSet expectedDataSet = new DataSet();
+        DataSetProducer producer = () -> expectedDataSet;
+
+        Message message = mock(Message.class);
+        when(message.getPayload()).thenReturn(producer);
+
+        //WHEN
+        DataSet dataSet = dataSetCreator.createDataSet(message, MessageType.JSON);
+
+        //THEN
+        assertEquals(dataSet, expectedDataSet);
+    }
+
     @Test
     public void testCreateDataSetWithUnknownType(){
         //GIVEN
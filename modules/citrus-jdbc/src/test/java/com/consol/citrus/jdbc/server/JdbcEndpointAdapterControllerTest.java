@@ -16,18 +16,25 @@
 
 package com.consol.citrus.jdbc.server;
 
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.db.driver.data.Row;
 import com.consol.citrus.db.driver.dataset.DataSet;
 import com.consol.citrus.db.server.JdbcServerConfiguration;
 import com.consol.citrus.db.server.JdbcServerException;
 import com.consol.citrus.endpoint.EndpointAdapter;
 import com.consol.citrus.jdbc.data.DataSetCreator;
+import com.consol.citrus.jdbc.message.DataSetResult;
 import com.consol.citrus.jdbc.message.JdbcMessage;
 import com.consol.citrus.jdbc.message.JdbcMessageHeaders;
 import com.consol.citrus.jdbc.model.*;
 import com.consol.citrus.message.*;
+import com.consol.citrus.validation.builder.StaticMessageContentBuilder;
 import org.springframework.xml.transform.StringResult;
 import org.testng.annotations.*;
 
+import java.sql.SQLException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Random;
 
@@ -369,6 +376,28 @@ public class JdbcEndpointAdapterControllerTest {
         assertEquals(dataSet, expectedDataSet);
     }
 
+    @Test
+    public void testExecuteQueryWithTypedDataSetFromMessageBuilder() throws SQLException {
+
+        //GIVEN
+        final Row row = new Row();
+        row.setValues(Collections.singletonMap("name", "citrus"));
+
+        final TestContext context = TestContextFactory.newInstance().getObject();
+        final Message response = StaticMessageContentBuilder.withMessage(JdbcMessage.success().dataSet(row))
+                .buildMessageContent(context, MessageType.XML.name(), MessageDirection.OUTBOUND);
+
+        when(endpointAdapter.handleMessage(any())).thenReturn(response);
+
+        //WHEN
+        final DataSet dataSet = jdbcEndpointAdapterController.executeQuery("SELECT name FROM users");
+
+        //THEN
+        assertTrue(response.getPayload() instanceof DataSetResult);
+        assertEquals(dataSet.getColumns().toString(), "[name]");
+        assertEquals(dataSet.getNextRow().getValues().toString(), "{name=citrus}");
+    }
+
     @Test(expectedExceptions = JdbcServerException.class)
     public void testExecuteQueryForwardsException(){
 
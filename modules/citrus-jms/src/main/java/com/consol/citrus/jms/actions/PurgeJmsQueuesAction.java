@@ -35,7 +35,8 @@ import java.util.List;
  * JMS broker vendor implementations.
  *
  * Consumer will continue to receive messages until message receive timeout is reached,
- * so no messages are left.
+ * so no messages are left. Messages are consumed in batches without delay in between. Sleep time
+ * is applied once after each batch before checking the destination for late arriving messages.
  *  
  * @author Christoph Deppisch
  * @since 2007
@@ -133,13 +134,16 @@ public class PurgeJmsQueuesAction extends AbstractTestAction {
         int messagesPurged = 0;
         MessageConsumer messageConsumer = session.createConsumer(destination);
         try {
-            javax.jms.Message message;
+            int batchPurged;
             do {
-                message = (receiveTimeout >= 0) ? messageConsumer.receive(receiveTimeout) : messageConsumer.receive();
-    
-                if (message != null) {
-                    log.debug("Removed message from destination " + destinationName);
-                    messagesPurged++;
+                batchPurged = 0;
+                while (((receiveTimeout >= 0) ? messageConsumer.receive(receiveTimeout) : messageConsumer.receive()) != null) {
+                    batchPurged++;
+                }
+
+                if (batchPurged > 0) {
+                    log.debug("Removed " + batchPurged + " messages from destination " + destinationName);
+                    messagesPurged += batchPurged;
 
                     try {
                         Thread.sleep(sleepTime);
@@ -147,7 +151,7 @@ public class PurgeJmsQueuesAction extends AbstractTestAction {
                         log.warn("Interrupted during wait", e);
                     }
                 }
-            } while (message != null);
+            } while (batchPurged > 0);
 
             if (log.isDebugEnabled()) {
                 log.debug("Purged " + messagesPurged + " messages from destination");
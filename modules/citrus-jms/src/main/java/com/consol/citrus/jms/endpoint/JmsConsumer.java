@@ -21,17 +21,19 @@ import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
+import com.consol.citrus.messaging.PurgeableConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jms.support.JmsUtils;
 import org.springframework.util.StringUtils;
 
-import javax.jms.Destination;
+import javax.jms.*;
 
 /**
  * @author Christoph Deppisch
  * @since 1.4
  */
-public class JmsConsumer extends AbstractSelectiveMessageConsumer {
+public class JmsConsumer extends AbstractSelectiveMessageConsumer implements PurgeableConsumer {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(JmsConsumer.class);
@@ -72,6 +74,64 @@ public class JmsConsumer extends AbstractSelectiveMessageConsumer {
         return receivedMessage;
     }
 
+    /**
+     * Purges destination by consuming all pending messages within a single JMS session. Each receive operation waits
+     * at most for given timeout so purging stops as soon as the destination is empty.
+     * @param selector
+     * @param timeout
+     * @param context
+     * @return
+     */
+    @Override
+    public long purge(String selector, long timeout, TestContext context) {
+        Long purged = endpointConfiguration.getJmsTemplate().execute(session -> {
+            Destination destination = resolveDestination(session, context);
+            MessageConsumer messageConsumer = StringUtils.hasText(selector) ? session.createConsumer(destination, selector) : session.createConsumer(destination);
+
+            try {
+                long messagesPurged = 0;
+                while ((timeout > 0 ? messageConsumer.receive(timeout) : messageConsumer.receiveNoWait()) != null) {
+                    messagesPurged++;
+                }
+
+                if (session.getTransacted()) {
+                    JmsUtils.commitIfNecessary(session);
+                }
+
+                log.info("Purged " + messagesPurged + " messages from JMS destination: '" + endpointConfiguration.getDestinationName(destination) + "'");
+
+                return messagesPurged;
+            } finally {
+                JmsUtils.closeMessageConsumer(messageConsumer);
+            }
+        }, true);
+
+        return purged != null ? purged : 0L;
+    }
+
+    /**
+     * Resolves destination to consume from with given session.
+     * @param session
+     * @param context
+     * @return
+     * @throws JMSException
+     */
+    private Destination resolveDestination(Session session, TestContext context) throws JMSException {
+        if (endpointConfiguration.getDestination() != null) {
+            return endpointConfiguration.getDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
+            return endpointConfiguration.getJmsTemplate().getDestinationResolver().resolveDestinationName(session,
+                    context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()), endpointConfiguration.isPubSubDomain());
+        } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
+            return endpointConfiguration.getJmsTemplate().getDefaultDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
+            return endpointConfiguration.getJmsTemplate().getDestinationResolver().resolveDestinationName(session,
+                    context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()), endpointConfiguration.isPubSubDomain());
+        } else {
+            throw new CitrusRuntimeException("Unable to purge destination - JMS destination not set");
+        }
+    }
+
     /**
      * Receive message from destination name.
      * @param destinationName
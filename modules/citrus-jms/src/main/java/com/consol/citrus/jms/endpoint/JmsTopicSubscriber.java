@@ -21,6 +21,7 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.context.TestContextFactory;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.messaging.PurgeableConsumer;
 import com.consol.citrus.server.AbstractServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -181,6 +182,11 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
         }
     }
 
+    @Override
+    public long purge(String selector, long timeout, TestContext context) {
+        return ((PurgeableConsumer) messageChannel.createConsumer()).purge(selector, timeout, context);
+    }
+
     @Override
     public Message receive(TestContext context, long timeout) {
         return messageChannel.createConsumer().receive(context, timeout);
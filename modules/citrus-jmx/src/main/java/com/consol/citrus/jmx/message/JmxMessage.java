@@ -31,7 +31,8 @@ public class JmxMessage extends DefaultMessage {
     private ManagedBeanInvocation mbeanInvocation;
     private ManagedBeanResult mbeanResult;
 
-    private JmxMarshaller marshaller = new JmxMarshaller();
+    /** Shared marshaller instance as marshallers are thread safe and expensive to create */
+    private static final JmxMarshaller marshaller = new JmxMarshaller();
 
     /**
      * Prevent traditional instantiation.
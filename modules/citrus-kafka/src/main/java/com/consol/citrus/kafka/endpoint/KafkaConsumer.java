@@ -22,8 +22,10 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.kafka.message.KafkaMessageHeaders;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.AbstractMessageConsumer;
+import com.consol.citrus.messaging.PurgeableConsumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
@@ -36,7 +38,7 @@ import java.util.*;
  * @author Christoph Deppisch
  * @since 2.8
  */
-public class KafkaConsumer extends AbstractMessageConsumer {
+public class KafkaConsumer extends AbstractMessageConsumer implements PurgeableConsumer {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(KafkaConsumer.class);
@@ -89,6 +91,44 @@ public class KafkaConsumer extends AbstractMessageConsumer {
         return received;
     }
 
+    /**
+     * Purges all pending messages for the consumer group by moving the consumer offsets to the end of all assigned
+     * topic partitions. Message selectors are not supported by Kafka consumers and get ignored.
+     * @param selector
+     * @param timeout
+     * @param context
+     * @return
+     */
+    @Override
+    public long purge(String selector, long timeout, TestContext context) {
+        String topic = context.replaceDynamicContentInString(Optional.ofNullable(endpointConfiguration.getTopic())
+                                                                     .orElseThrow(() -> new CitrusRuntimeException("Missing Kafka topic to purge messages from - add topic to endpoint configuration")));
+
+        if (StringUtils.hasText(selector)) {
+            log.warn("Kafka consumer does not support message selectors - purging all messages on topic: '" + topic + "'");
+        }
+
+        if (CollectionUtils.isEmpty(consumer.subscription())) {
+            consumer.subscribe(Arrays.asList(StringUtils.commaDelimitedListToStringArray(topic)));
+        }
+
+        // poll joins the consumer group and triggers partition assignment
+        long purged = consumer.poll(Duration.ofMillis(timeout)).count();
+
+        Set<TopicPartition> assignment = consumer.assignment();
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(assignment);
+        for (TopicPartition partition : assignment) {
+            purged += Math.max(0L, Optional.ofNullable(endOffsets.get(partition)).orElse(0L) - consumer.position(partition));
+        }
+
+        consumer.seekToEnd(assignment);
+        assignment.forEach(consumer::position);
+        consumer.commitSync(Duration.ofMillis(endpointConfiguration.getTimeout()));
+
+        log.info("Purged " + purged + " messages from Kafka topic: '" + topic + "'");
+        return purged;
+    }
+
     /**
      * Stop message listener container.
      */
@@ -29,7 +29,10 @@ import java.util.Map;
  */
 public class MailMessage extends DefaultMessage {
 
-    private MailMarshaller marshaller = new MailMarshaller();
+    /** Shared default marshaller instance as marshallers are thread safe and expensive to create */
+    private static final MailMarshaller DEFAULT_MARSHALLER = new MailMarshaller();
+
+    private MailMarshaller marshaller = DEFAULT_MARSHALLER;
 
     private MailRequest mailRequest;
     private MailResponse mailResponse;
@@ -33,7 +33,8 @@ public class RmiMessage extends DefaultMessage {
     private RmiServiceInvocation serviceInvocation;
     private RmiServiceResult serviceResult;
 
-    private RmiMarshaller marshaller = new RmiMarshaller();
+    /** Shared marshaller instance as marshallers are thread safe and expensive to create */
+    private static final RmiMarshaller marshaller = new RmiMarshaller();
 
     /**
      * Prevent traditional instantiation.
@@ -30,9 +30,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.charset.Charset;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
- * A command for delegation to a endpoint adapter
+ * A command for delegation to a endpoint adapter. When an executor is given the command is run on that executor,
+ * otherwise a new thread is started for each command execution.
  *
  * @author Roland Huss
  * @since 1.3
@@ -61,6 +65,9 @@ public class SshCommand implements Command, Runnable {
     /** User on which behalf the command is executed **/
     private String user;
 
+    /** Optional executor running the command **/
+    private final Executor executor;
+
     /**
      * Constructor taking a command and the endpoint adapter as arguments
      * @param command command performed
@@ -68,21 +75,49 @@ public class SshCommand implements Command, Runnable {
      * @param endpointConfiguration
      */
     public SshCommand(String command, EndpointAdapter endpointAdapter, SshEndpointConfiguration endpointConfiguration) {
+        this(command, endpointAdapter, endpointConfiguration, null);
+    }
+
+    /**
+     * Constructor taking a command, the endpoint adapter and the executor running the command as arguments
+     * @param command command performed
+     * @param endpointAdapter endpoint adapter
+     * @param endpointConfiguration
+     * @param executor executor running the command
+     */
+    public SshCommand(String command, EndpointAdapter endpointAdapter, SshEndpointConfiguration endpointConfiguration, Executor executor) {
         this.endpointAdapter = endpointAdapter;
         this.command = command;
         this.endpointConfiguration = endpointConfiguration;
+        this.executor = executor;
     }
 
     @Override
     public void start(Environment env) throws IOException {
         user = env.getEnv().get(Environment.ENV_USER);
-        new Thread(this, "CitrusSshCommand: " + command).start();
+
+        if (executor == null) {
+            new Thread(this, "CitrusSshCommand: " + command).start();
+            return;
+        }
+
+        try {
+            executor.execute(this);
+        } catch (RejectedExecutionException e) {
+            log.warn(String.format("Rejected SSH command '%s' - too many concurrent command executions", command));
+            try {
+                exitCallback.onExit(1, "Too many concurrent command executions");
+            } finally {
+                IoUtils.closeQuietly(stderr);
+                IoUtils.closeQuietly(stdout);
+            }
+        }
     }
 
     @Override
     public void run() {
         try {
-            String input = FileUtils.readToString(stdin);
+            String input = FileUtils.readToString(stdin, getCharset());
             SshRequest sshRequest = new SshRequest(command, input);
 
             Message response = endpointAdapter.handleMessage(endpointConfiguration.getMessageConverter().convertInbound(sshRequest, endpointConfiguration, null)
@@ -127,17 +162,28 @@ public class SshCommand implements Command, Runnable {
     }
 
     /**
-     * Copy character sequence to outbput stream.
+     * Copy character sequence to output stream. Characters are encoded while writing so no intermediate
+     * byte array copy of the whole text is required.
      * @param txt
      * @param stream
      * @throws IOException
      */
     private void copyToStream(String txt, OutputStream stream) throws IOException {
         if (txt != null) {
-            stream.write(txt.getBytes());
+            Writer writer = new BufferedWriter(new OutputStreamWriter(stream, getCharset()));
+            writer.write(txt);
+            writer.flush();
         }
     }
 
+    /**
+     * Gets the charset used to decode stdin and encode stdout and stderr.
+     * @return
+     */
+    private Charset getCharset() {
+        return FileUtils.getDefaultCharset();
+    }
+
     /**
      * Gets the command.
      * @return
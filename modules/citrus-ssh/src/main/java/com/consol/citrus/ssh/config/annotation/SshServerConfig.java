@@ -65,6 +65,18 @@ public @interface SshServerConfig {
      */
     String allowedKeyPath() default "";
 
+    /**
+     * Maximum number of commands executed in parallel, unbounded by default.
+     * @return
+     */
+    int commandThreads() default 0;
+
+    /**
+     * Maximum number of commands waiting for execution when command threads are bounded, unbounded by default.
+     * @return
+     */
+    int commandQueueCapacity() default 0;
+
     /**
      * Message converter.
      * @return
@@ -69,6 +69,9 @@ public class SshServerConfigParser extends AbstractAnnotationConfigParser<SshSer
             builder.messageConverter(getReferenceResolver().resolve(annotation.messageConverter(), SshMessageConverter.class));
         }
 
+        builder.commandThreads(annotation.commandThreads());
+        builder.commandQueueCapacity(annotation.commandQueueCapacity());
+
         builder.pollingInterval(annotation.pollingInterval());
 
         builder.debugLogging(annotation.debugLogging());
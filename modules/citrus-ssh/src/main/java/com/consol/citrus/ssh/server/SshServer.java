@@ -39,6 +39,8 @@ import org.springframework.util.StringUtils;
 import java.io.IOException;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * SSH Server implemented with Apache SSHD (http://mina.apache.org/sshd/).
@@ -90,9 +92,18 @@ public class SshServer extends AbstractServer {
     /** Ssh message converter **/
     private SshMessageConverter messageConverter = new SshMessageConverter();
 
+    /** Maximum number of commands executed in parallel, zero or less means unbounded **/
+    private int commandThreads = 0;
+
+    /** Maximum number of commands waiting for execution when command threads are bounded, zero or less means unbounded **/
+    private int commandQueueCapacity = 0;
+
     /** SSH server used **/
     private org.apache.sshd.server.SshServer sshd;
 
+    /** Executor running commands **/
+    private ThreadPoolExecutor commandExecutor;
+
     /**  This servers endpoint configuration */
     private final SshEndpointConfiguration endpointConfiguration;
 
@@ -169,8 +180,9 @@ public class SshServer extends AbstractServer {
         }
 
         // Setup endpoint adapter
+        commandExecutor = createCommandExecutor();
         ScpCommandFactory commandFactory = new ScpCommandFactory.Builder()
-                .withDelegate(command -> new SshCommand(command, getEndpointAdapter(), endpointConfiguration))
+                .withDelegate(command -> new SshCommand(command, getEndpointAdapter(), endpointConfiguration, commandExecutor))
                 .build();
 
         commandFactory.addEventListener(getScpTransferEventListener());
@@ -190,6 +202,30 @@ public class SshServer extends AbstractServer {
         }
     }
 
+    /**
+     * Creates executor running the commands. By default each command gets its own thread. When command threads are bounded
+     * commands wait for a free thread and commands exceeding the optional queue capacity get rejected.
+     * @return
+     */
+    private ThreadPoolExecutor createCommandExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, String.format("CitrusSshCommand-%s-%s", getName(), threadCount.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        if (commandThreads <= 0) {
+            return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+        }
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(commandThreads, commandThreads, 60L, TimeUnit.SECONDS,
+                commandQueueCapacity > 0 ? new LinkedBlockingQueue<>(commandQueueCapacity) : new LinkedBlockingQueue<>(),
+                threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
      * Gets Scp trsanfer event listener. By default uses abstract implementation that use trace level logging of all operations.
      * @return
@@ -212,9 +248,37 @@ public class SshServer extends AbstractServer {
             sshd.stop();
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to stop SSH server - " + e.getMessage(), e);
+        } finally {
+            if (commandExecutor != null) {
+                commandExecutor.shutdownNow();
+            }
         }
     }
 
+    /**
+     * Gets the number of commands currently being executed.
+     * @return
+     */
+    public int getActiveCommands() {
+        return commandExecutor != null ? commandExecutor.getActiveCount() : 0;
+    }
+
+    /**
+     * Gets the number of commands waiting for execution.
+     * @return
+     */
+    public int getQueuedCommands() {
+        return commandExecutor != null ? commandExecutor.getQueue().size() : 0;
+    }
+
+    /**
+     * Gets the approximate number of completed command executions.
+     * @return
+     */
+    public long getCompletedCommands() {
+        return commandExecutor != null ? commandExecutor.getCompletedTaskCount() : 0L;
+    }
+
     @Override
     public AbstractPollableEndpointConfiguration getEndpointConfiguration() {
         return endpointConfiguration;
@@ -321,6 +385,42 @@ public class SshServer extends AbstractServer {
         this.userHomePath = userHomePath;
     }
 
+    /**
+     * Gets the commandThreads.
+     *
+     * @return
+     */
+    public int getCommandThreads() {
+        return commandThreads;
+    }
+
+    /**
+     * Sets the maximum number of commands executed in parallel.
+     *
+     * @param commandThreads
+     */
+    public void setCommandThreads(int commandThreads) {
+        this.commandThreads = commandThreads;
+    }
+
+    /**
+     * Gets the commandQueueCapacity.
+     *
+     * @return
+     */
+    public int getCommandQueueCapacity() {
+        return commandQueueCapacity;
+    }
+
+    /**
+     * Sets the maximum number of commands waiting for execution.
+     *
+     * @param commandQueueCapacity
+     */
+    public void setCommandQueueCapacity(int commandQueueCapacity) {
+        this.commandQueueCapacity = commandQueueCapacity;
+    }
+
     /**
      * Gets the message converter.
      * @return
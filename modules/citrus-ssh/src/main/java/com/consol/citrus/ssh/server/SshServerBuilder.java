@@ -84,6 +84,26 @@ public class SshServerBuilder extends AbstractEndpointBuilder<SshServer> {
         return this;
     }
 
+    /**
+     * Sets the maximum number of commands executed in parallel, unbounded by default.
+     * @param commandThreads
+     * @return
+     */
+    public SshServerBuilder commandThreads(int commandThreads) {
+        endpoint.setCommandThreads(commandThreads);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of commands waiting for execution when command threads are bounded.
+     * @param commandQueueCapacity
+     * @return
+     */
+    public SshServerBuilder commandQueueCapacity(int commandQueueCapacity) {
+        endpoint.setCommandQueueCapacity(commandQueueCapacity);
+        return this;
+    }
+
     /**
      * Sets the allowedKeyPath property.
      * @param allowedKeyPath
@@ -32,6 +32,7 @@ import org.testng.annotations.Test;
 import java.io.*;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.mockito.Mockito.*;
 import static org.testng.AssertJUnit.assertEquals;
@@ -93,6 +94,39 @@ public class SshCommandTest {
         cmd.start(env);
     }
 
+    @Test
+    public void startWithExecutor() throws IOException {
+        cmd = new SshCommand(COMMAND, adapter, new SshEndpointConfiguration(), Runnable::run);
+        cmd.setErrorStream(stderr);
+        cmd.setOutputStream(stdout);
+        cmd.setExitCallback(exitCallback);
+
+        Environment env = Mockito.mock(Environment.class);
+        when(env.getEnv()).thenReturn(new HashMap<>());
+        prepare("input", "output", "error", 0);
+        cmd.start(env);
+
+        assertEquals(stdout.toByteArray(), "output".getBytes());
+        assertEquals(stderr.toByteArray(), "error".getBytes());
+    }
+
+    @Test
+    public void startRejected() throws IOException {
+        cmd = new SshCommand(COMMAND, adapter, new SshEndpointConfiguration(), command -> {
+            throw new RejectedExecutionException();
+        });
+        cmd.setErrorStream(stderr);
+        cmd.setOutputStream(stdout);
+        cmd.setExitCallback(exitCallback);
+
+        Environment env = Mockito.mock(Environment.class);
+        when(env.getEnv()).thenReturn(new HashMap<>());
+        cmd.start(env);
+
+        verify(exitCallback).onExit(1, "Too many concurrent command executions");
+        verify(adapter, never()).handleMessage(any(Message.class));
+    }
+
     @Test
     public void ioException() throws IOException {
         InputStream i = Mockito.mock(InputStream.class);
@@ -50,6 +50,8 @@ public class SshServerConfigParserTest extends AbstractTestNGUnitTest {
             allowedKeyPath="classpath:com/consol/citrus/ssh/citrus_pub.pem",
             hostKeyPath="classpath:com/consol/citrus/ssh/citrus.pem",
             userHomePath="/home/user",
+            commandThreads=50,
+            commandQueueCapacity=500,
             user="foo",
             password="bar",
             messageConverter="messageConverter",
@@ -96,6 +98,8 @@ public class SshServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertNull(sshServer1.getAllowedKeyPath());
         Assert.assertNull(sshServer1.getHostKeyPath());
         Assert.assertNull(sshServer1.getUserHomePath());
+        Assert.assertEquals(sshServer1.getCommandThreads(), 0);
+        Assert.assertEquals(sshServer1.getCommandQueueCapacity(), 0);
         Assert.assertNull(sshServer1.getUser());
         Assert.assertNull(sshServer1.getPassword());
         Assert.assertTrue(sshServer1.getEndpointAdapter() instanceof ChannelEndpointAdapter);
@@ -109,6 +113,8 @@ public class SshServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(sshServer2.getAllowedKeyPath(), "classpath:com/consol/citrus/ssh/citrus_pub.pem");
         Assert.assertEquals(sshServer2.getHostKeyPath(), "classpath:com/consol/citrus/ssh/citrus.pem");
         Assert.assertEquals(sshServer2.getUserHomePath(), "/home/user");
+        Assert.assertEquals(sshServer2.getCommandThreads(), 50);
+        Assert.assertEquals(sshServer2.getCommandQueueCapacity(), 500);
         Assert.assertEquals(sshServer2.getUser(), "foo");
         Assert.assertEquals(sshServer2.getPassword(), "bar");
         Assert.assertTrue(sshServer2.getEndpointAdapter() instanceof ChannelEndpointAdapter);
@@ -43,6 +43,8 @@ public class SshServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertNull(server.getAllowedKeyPath());
         Assert.assertNull(server.getHostKeyPath());
         Assert.assertNull(server.getUserHomePath());
+        Assert.assertEquals(server.getCommandThreads(), 0);
+        Assert.assertEquals(server.getCommandQueueCapacity(), 0);
         Assert.assertNull(server.getUser());
         Assert.assertNull(server.getPassword());
         Assert.assertTrue(server.getEndpointAdapter() instanceof ChannelEndpointAdapter);
@@ -57,6 +59,8 @@ public class SshServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(server.getAllowedKeyPath(), "classpath:com/consol/citrus/ssh/citrus_pub.pem");
         Assert.assertEquals(server.getHostKeyPath(), "classpath:com/consol/citrus/ssh/citrus.pem");
         Assert.assertEquals(server.getUserHomePath(), "/home/user");
+        Assert.assertEquals(server.getCommandThreads(), 50);
+        Assert.assertEquals(server.getCommandQueueCapacity(), 500);
         Assert.assertEquals(server.getUser(), "foo");
         Assert.assertEquals(server.getPassword(), "bar");
         Assert.assertTrue(server.getEndpointAdapter() instanceof ChannelEndpointAdapter);
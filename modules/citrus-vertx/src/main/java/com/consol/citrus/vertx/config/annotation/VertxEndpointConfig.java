@@ -59,6 +59,18 @@ public @interface VertxEndpointConfig {
      */
     boolean pubSubDomain() default false;
 
+    /**
+     * Auto start event bus subscription.
+     * @return
+     */
+    boolean autoStart() default false;
+
+    /**
+     * Maximum number of messages buffered by auto started subscription.
+     * @return
+     */
+    int queueCapacity() default 1000;
+
     /**
      * Message converter.
      * @return
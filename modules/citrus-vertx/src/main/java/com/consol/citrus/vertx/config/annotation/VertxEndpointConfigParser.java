@@ -56,6 +56,8 @@ public class VertxEndpointConfigParser extends AbstractAnnotationConfigParser<Ve
         builder.vertxFactory(getReferenceResolver().resolve(annotation.vertxFactory(), VertxInstanceFactory.class));
 
         builder.pubSubDomain(annotation.pubSubDomain());
+        builder.autoStart(annotation.autoStart());
+        builder.queueCapacity(annotation.queueCapacity());
 
         if (StringUtils.hasText(annotation.messageConverter())) {
             builder.messageConverter(getReferenceResolver().resolve(annotation.messageConverter(), VertxMessageConverter.class));
@@ -26,6 +26,8 @@ import org.slf4j.LoggerFactory;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
+import java.util.concurrent.*;
+
 /**
  * @author Christoph Deppisch
  * @since 1.4.1
@@ -41,9 +43,6 @@ public class VertxConsumer extends AbstractMessageConsumer {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(VertxConsumer.class);
 
-    /** Retry logger */
-    private static final Logger RETRY_LOG = LoggerFactory.getLogger("com.consol.citrus.RetryLogger");
-
     /**
      * Default constructor using endpoint.
      * @param name
@@ -66,26 +65,7 @@ public class VertxConsumer extends AbstractMessageConsumer {
         MessageConsumer<Object> vertxConsumer = vertx.eventBus().consumer(endpointConfiguration.getAddress(), vertxMessageHandler);
 
         try {
-            long timeLeft = timeout;
-            Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
-
-            while (message == null && timeLeft > 0) {
-                timeLeft -= endpointConfiguration.getPollingInterval();
-
-                if (RETRY_LOG.isDebugEnabled()) {
-                    RETRY_LOG.debug(String.format("Waiting for message on Vert.x event bus address '%s' - retrying in %s ms",
-                            endpointConfiguration.getAddress(),
-                            (timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft)));
-                }
-
-                try {
-                    Thread.sleep(timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft);
-                } catch (InterruptedException e) {
-                    RETRY_LOG.warn("Thread interrupted while waiting for message on Vert.x event bus", e);
-                }
-
-                message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
-            }
+            Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(timeout), endpointConfiguration, context);
 
             if (message == null) {
                 throw new ActionTimeoutException("Action timed out while receiving message on Vert.x event bus address '" + endpointConfiguration.getAddress() + "'");
@@ -106,24 +86,32 @@ public class VertxConsumer extends AbstractMessageConsumer {
      * until subscription is unregistered automatically.
      */
     private class VertxSingleMessageHandler implements Handler<io.vertx.core.eventbus.Message<Object>> {
-        private io.vertx.core.eventbus.Message message;
+        private final CompletableFuture<io.vertx.core.eventbus.Message> message = new CompletableFuture<>();
 
         @Override
         public void handle(io.vertx.core.eventbus.Message event) {
-            if (message == null) {
-                this.message = event;
-            } else {
+            if (!message.complete(event)) {
                 log.warn("Vert.x message handler ignored message on event bus address '" + endpointConfiguration.getAddress() + "'");
                 log.debug("Vert.x message ignored is " + event);
             }
         }
 
         /**
-         * Gets the vert.x message received on event bus.
+         * Waits for the vert.x message received on event bus. Returns null when no message arrived within given timeout.
+         * @param timeout
          * @return
          */
-        public io.vertx.core.eventbus.Message getMessage() {
-            return message;
+        public io.vertx.core.eventbus.Message getMessage(long timeout) {
+            try {
+                return message.get(timeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                log.warn("Thread interrupted while waiting for message on Vert.x event bus", e);
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                log.debug("No message received on Vert.x event bus address '" + endpointConfiguration.getAddress() + "'");
+            }
+
+            return null;
         }
     }
 
@@ -16,20 +16,33 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import com.consol.citrus.context.TestContextFactory;
 import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.messaging.Consumer;
 import com.consol.citrus.messaging.Producer;
 import com.consol.citrus.vertx.factory.VertxInstanceFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+
+import java.util.Optional;
 
 /**
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class VertxEndpoint extends AbstractEndpoint {
+public class VertxEndpoint extends AbstractEndpoint implements InitializingBean, DisposableBean, ApplicationContextAware {
 
     /** Vert.x instance */
     private VertxInstanceFactory vertxInstanceFactory;
 
+    /** Cached subscriber when auto start is enabled */
+    private VertxSubscriber subscriber;
+
+    private ApplicationContext applicationContext;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -54,10 +67,50 @@ public class VertxEndpoint extends AbstractEndpoint {
 
     @Override
     public Consumer createConsumer() {
+        if (getEndpointConfiguration().isAutoStart()) {
+            if (subscriber == null) {
+                TestContextFactory testContextFactory = Optional.ofNullable(applicationContext).map(context -> context.getBean(TestContextFactory.class))
+                        .orElse(TestContextFactory.newInstance());
+
+                subscriber = new VertxSubscriber(getSubscriberName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
+                        getEndpointConfiguration(), testContextFactory);
+                subscriber.start();
+            }
+
+            return subscriber;
+        }
+
         return new VertxConsumer(getConsumerName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
                 getEndpointConfiguration());
     }
 
+    /**
+     * Gets the endpoints subscriber name.
+     * @return
+     */
+    protected String getSubscriberName() {
+        return getName() + ":subscriber";
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (getEndpointConfiguration().isAutoStart()) {
+            createConsumer();
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (subscriber != null) {
+            subscriber.stop();
+        }
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+        this.applicationContext = applicationContext;
+    }
+
     @Override
     public VertxEndpointConfiguration getEndpointConfiguration() {
         return (VertxEndpointConfiguration) super.getEndpointConfiguration();
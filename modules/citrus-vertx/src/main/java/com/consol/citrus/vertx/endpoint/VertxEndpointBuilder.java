@@ -84,6 +84,26 @@ public class VertxEndpointBuilder extends AbstractEndpointBuilder<VertxEndpoint>
         return this;
     }
 
+    /**
+     * Sets the autoStart property.
+     * @param autoStart
+     * @return
+     */
+    public VertxEndpointBuilder autoStart(boolean autoStart) {
+        endpoint.getEndpointConfiguration().setAutoStart(autoStart);
+        return this;
+    }
+
+    /**
+     * Sets the queueCapacity property.
+     * @param queueCapacity
+     * @return
+     */
+    public VertxEndpointBuilder queueCapacity(int queueCapacity) {
+        endpoint.getEndpointConfiguration().setQueueCapacity(queueCapacity);
+        return this;
+    }
+
     /**
      * Sets the pubSubDomain property.
      * @param pubSubDomain
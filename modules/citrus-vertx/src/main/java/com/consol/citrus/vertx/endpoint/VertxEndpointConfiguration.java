@@ -37,6 +37,12 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     /** Should use publish subscribe */
     private boolean pubSubDomain = false;
 
+    /** Start event bus subscription immediately at startup and cache all incoming messages in local channel */
+    private boolean autoStart = false;
+
+    /** Maximum number of messages buffered by auto started subscription */
+    private int queueCapacity = 1000;
+
     /** Message converter */
     private VertxMessageConverter messageConverter = new VertxMessageConverter();
 
@@ -104,6 +110,42 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
         this.pubSubDomain = pubSubDomain;
     }
 
+    /**
+     * Gets the autoStart.
+     *
+     * @return
+     */
+    public boolean isAutoStart() {
+        return autoStart;
+    }
+
+    /**
+     * Sets the autoStart.
+     *
+     * @param autoStart
+     */
+    public void setAutoStart(boolean autoStart) {
+        this.autoStart = autoStart;
+    }
+
+    /**
+     * Gets the queueCapacity.
+     *
+     * @return
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Sets the queueCapacity.
+     *
+     * @param queueCapacity
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
     /**
      * Gets the message converter.
      * @return
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.vertx.endpoint;
+
+import com.consol.citrus.channel.*;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.messaging.SelectiveConsumer;
+import com.consol.citrus.server.AbstractServer;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.MessageConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.*;
+
+/**
+ * Vert.x consumer keeps a long lived subscription on the event bus address. All messages are buffered in a
+ * bounded local message channel so no message gets lost in between two receive operations. Receive operations
+ * block on that channel and support message selectors.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class VertxSubscriber extends VertxConsumer implements SelectiveConsumer {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(VertxSubscriber.class);
+
+    /** Vert.x instance */
+    private final Vertx vertx;
+
+    /** Endpoint configuration */
+    private final VertxEndpointConfiguration endpointConfiguration;
+
+    /** Test context factory for message conversion */
+    private final TestContextFactory testContextFactory;
+
+    /** Inbound channel buffering all messages */
+    private final MessageSelectingQueueChannel inboundChannel;
+
+    /** Delegate message channel endpoint caching all messages */
+    private final ChannelEndpoint messageChannel;
+
+    /** Event bus subscription */
+    private MessageConsumer<Object> subscription;
+
+    /**
+     * Default constructor using endpoint.
+     * @param name
+     * @param vertx
+     * @param endpointConfiguration
+     * @param testContextFactory
+     */
+    public VertxSubscriber(String name, Vertx vertx, VertxEndpointConfiguration endpointConfiguration, TestContextFactory testContextFactory) {
+        super(name, vertx, endpointConfiguration);
+        this.vertx = vertx;
+        this.endpointConfiguration = endpointConfiguration;
+        this.testContextFactory = testContextFactory;
+
+        ChannelEndpointConfiguration channelEndpointConfiguration = new ChannelEndpointConfiguration();
+
+        inboundChannel = new MessageSelectingQueueChannel(endpointConfiguration.getQueueCapacity());
+        inboundChannel.setBeanName(getName() + AbstractServer.DEFAULT_CHANNEL_ID_SUFFIX);
+        inboundChannel.setPollingInterval(endpointConfiguration.getPollingInterval());
+        channelEndpointConfiguration.setChannel(inboundChannel);
+
+        channelEndpointConfiguration.setUseObjectMessages(true);
+        this.messageChannel = new ChannelEndpoint(channelEndpointConfiguration);
+    }
+
+    /**
+     * Starts event bus subscription and waits for the subscription to be registered.
+     */
+    public void start() {
+        CompletableFuture<Boolean> started = new CompletableFuture<>();
+
+        subscription = vertx.eventBus().consumer(endpointConfiguration.getAddress(), this::onEvent);
+        subscription.completionHandler(result -> {
+            if (result.succeeded()) {
+                started.complete(true);
+            } else {
+                started.completeExceptionally(result.cause());
+            }
+        });
+
+        try {
+            if (started.get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS)) {
+                log.info("Started Vert.x event bus subscription on address: '" + endpointConfiguration.getAddress() + "'");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for Vert.x event bus subscription", e);
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to start Vert.x event bus subscription", e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("Timeout while waiting for Vert.x event bus subscription to be registered", e);
+        }
+    }
+
+    /**
+     * Stops event bus subscription.
+     */
+    public void stop() {
+        if (subscription != null) {
+            subscription.unregister();
+            subscription = null;
+            log.info("Stopped Vert.x event bus subscription on address: '" + endpointConfiguration.getAddress() + "'");
+        }
+    }
+
+    /**
+     * Handles event bus message by adding it to the local message buffer. Messages are dropped when buffer capacity
+     * is exhausted as event bus handlers must not block.
+     * @param event
+     */
+    private void onEvent(io.vertx.core.eventbus.Message<Object> event) {
+        TestContext context = testContextFactory.getObject();
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(event, endpointConfiguration, context);
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Received event bus message '%s'", message.getId()));
+        }
+
+        if (!inboundChannel.send(messageChannel.getEndpointConfiguration().getMessageConverter()
+                .convertOutbound(message, messageChannel.getEndpointConfiguration(), context), 0L)) {
+            log.warn(String.format("Vert.x subscription buffer on address '%s' is full (capacity %s) - dropped message '%s'",
+                    endpointConfiguration.getAddress(), endpointConfiguration.getQueueCapacity(), message.getId()));
+        }
+    }
+
+    @Override
+    public Message receive(TestContext context, long timeout) {
+        return receive(null, context, timeout);
+    }
+
+    @Override
+    public Message receive(String selector, TestContext context) {
+        return receive(selector, context, endpointConfiguration.getTimeout());
+    }
+
+    @Override
+    public Message receive(String selector, TestContext context, long timeout) {
+        Message message = messageChannel.createConsumer().receive(selector, context, timeout);
+
+        log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+
+        context.onInboundMessage(message);
+
+        return message;
+    }
+
+    /**
+     * Checks if event bus subscription is active.
+     * @return
+     */
+    public boolean isRunning() {
+        return subscription != null;
+    }
+}
@@ -53,7 +53,8 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
 
     @CitrusEndpoint
     @VertxEndpointConfig(address="news-feed3",
-            pubSubDomain=true)
+            pubSubDomain=true,
+            queueCapacity=500)
     private VertxEndpoint vertxEndpoint3;
 
     @CitrusEndpoint
@@ -109,6 +110,8 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
         // 3rd message receiver
         Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().getAddress(), "news-feed3");
         Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().isPubSubDomain(), true);
+        Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().isAutoStart(), false);
+        Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().getQueueCapacity(), 500);
 
         // 4th message receiver
         Assert.assertNotNull(vertxEndpoint4.getActor());
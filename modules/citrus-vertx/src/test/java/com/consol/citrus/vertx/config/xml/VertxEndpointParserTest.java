@@ -56,6 +56,8 @@ public class VertxEndpointParserTest extends AbstractBeanDefinitionParserTest {
         vertxEndpoint = endpoints.get("vertxEndpoint3");
         Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getAddress(), "news-feed3");
         Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().isPubSubDomain(), true);
+        Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().isAutoStart(), false);
+        Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getQueueCapacity(), 500);
 
         // 4th message receiver
         vertxEndpoint = endpoints.get("vertxEndpoint4");
@@ -16,8 +16,10 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.messaging.SelectiveConsumer;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.vertx.factory.SingleVertxInstanceFactory;
@@ -28,6 +30,7 @@ import org.mockito.stubbing.Answer;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
@@ -129,6 +132,68 @@ public class VertxEndpointTest extends AbstractTestNGUnitTest {
         verify(messageConsumer).unregister();
     }
 
+    @Test
+    public void testVertxEndpointSubscriber() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setTimeout(1000L);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        io.vertx.core.eventbus.Message otherMessageMock = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        AsyncResult<Void> registration = Mockito.mock(AsyncResult.class);
+
+        reset(vertx, eventBus, messageConsumer, messageMock);
+
+        when(messageMock.body()).thenReturn("Hello from Vertx!");
+        when(messageMock.address()).thenReturn(eventBusAddress);
+        when(messageMock.replyAddress()).thenReturn("replyAddress");
+
+        when(otherMessageMock.body()).thenReturn("Hello again from Vertx!");
+        when(otherMessageMock.address()).thenReturn(eventBusAddress);
+        when(otherMessageMock.replyAddress()).thenReturn("otherReplyAddress");
+
+        when(registration.succeeded()).thenReturn(true);
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(invocation -> {
+            Handler handler = (Handler) invocation.getArguments()[1];
+            handler.handle(messageMock);
+            handler.handle(otherMessageMock);
+
+            return messageConsumer;
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        doAnswer(invocation -> {
+            Handler handler = (Handler) invocation.getArguments()[0];
+            handler.handle(registration);
+            return null;
+        }).when(messageConsumer).completionHandler(any(Handler.class));
+
+        SelectiveConsumer consumer = (SelectiveConsumer) vertxEndpoint.createConsumer();
+        Assert.assertSame(vertxEndpoint.createConsumer(), consumer);
+
+        Message receivedMessage = consumer.receive(CitrusVertxMessageHeaders.VERTX_REPLY_ADDRESS + " = 'otherReplyAddress'", context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello again from Vertx!");
+
+        receivedMessage = consumer.receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+        Assert.assertEquals(receivedMessage.getHeader(CitrusVertxMessageHeaders.VERTX_REPLY_ADDRESS), "replyAddress");
+
+        try {
+            consumer.receive(context, 100L);
+            Assert.fail("Missing action timeout exception");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Action timeout while receiving message"));
+        }
+
+        verify(eventBus, times(1)).consumer(eq(eventBusAddress), any(Handler.class));
+        verify(messageConsumer, never()).unregister();
+    }
+
     @Test
     public void testVertxEndpointWithOutboundMessageListeners() {
         String eventBusAddress = "news-feed";
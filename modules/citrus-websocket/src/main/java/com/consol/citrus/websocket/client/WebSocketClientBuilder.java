@@ -74,6 +74,26 @@ public class WebSocketClientBuilder extends AbstractEndpointBuilder<WebSocketCli
         return this;
     }
 
+    /**
+     * Sets the inbound message buffer capacity.
+     * @param queueCapacity
+     * @return
+     */
+    public WebSocketClientBuilder queueCapacity(int queueCapacity) {
+        endpoint.getEndpointConfiguration().setQueueCapacity(queueCapacity);
+        return this;
+    }
+
+    /**
+     * Sets the time in milliseconds to wait for free inbound buffer space before messages get dropped.
+     * @param backPressureTimeout
+     * @return
+     */
+    public WebSocketClientBuilder backPressureTimeout(long backPressureTimeout) {
+        endpoint.getEndpointConfiguration().setBackPressureTimeout(backPressureTimeout);
+        return this;
+    }
+
     /**
      * Sets the default timeout.
      * @param timeout
@@ -53,6 +53,18 @@ public @interface WebSocketClientConfig {
      */
     int pollingInterval() default 500;
 
+    /**
+     * Inbound message buffer capacity.
+     * @return
+     */
+    int queueCapacity() default 1000;
+
+    /**
+     * Time to wait for free inbound buffer space before messages get dropped.
+     * @return
+     */
+    long backPressureTimeout() default 5000L;
+
     /**
      * Timeout.
      * @return
@@ -54,6 +54,8 @@ public class WebSocketClientConfigParser extends AbstractAnnotationConfigParser<
         }
 
         builder.pollingInterval(annotation.pollingInterval());
+        builder.queueCapacity(annotation.queueCapacity());
+        builder.backPressureTimeout(annotation.backPressureTimeout());
 
         builder.timeout(annotation.timeout());
 
@@ -45,4 +45,16 @@ public @interface WebSocketConfig {
      * @return
      */
     long timeout() default 5000L;
+
+    /**
+     * Inbound message buffer capacity per session.
+     * @return
+     */
+    int queueCapacity() default 1000;
+
+    /**
+     * Time in milliseconds to wait for free inbound buffer space before messages get dropped.
+     * @return
+     */
+    long backPressureTimeout() default 5000L;
 }
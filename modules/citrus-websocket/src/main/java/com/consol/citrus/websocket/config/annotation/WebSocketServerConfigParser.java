@@ -62,6 +62,8 @@ public class WebSocketServerConfigParser extends AbstractAnnotationConfigParser<
             }
 
             webSocketConfiguration.setTimeout(webSocketConfig.timeout());
+            webSocketConfiguration.setQueueCapacity(webSocketConfig.queueCapacity());
+            webSocketConfiguration.setBackPressureTimeout(webSocketConfig.backPressureTimeout());
 
             WebSocketEndpoint webSocket = new WebSocketEndpoint(webSocketConfiguration);
             webSocket.setName(webSocketConfig.id());
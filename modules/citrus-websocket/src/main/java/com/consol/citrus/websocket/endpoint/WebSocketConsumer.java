@@ -18,14 +18,20 @@ package com.consol.citrus.websocket.endpoint;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessageSelectorBuilder;
 import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
 import org.springframework.web.socket.WebSocketMessage;
 
+import java.util.Map;
+
 /**
- * Consumer polls for incoming messages on web socket handler.
+ * Consumer waits for incoming messages on web socket handler. Supports message selection by web socket session id.
  * @author Martin Maher
  * @since 2.3
  */
@@ -54,9 +60,14 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     public Message receive(String selector, TestContext context, long timeout) {
         LOG.info(String.format("Waiting %s ms for Web Socket message ...", timeout));
 
-        WebSocketMessage<?> message = receive(endpointConfiguration, timeout);
+        String sessionId = getSessionId(selector, context);
+        WebSocketMessage<?> message = receive(endpointConfiguration, sessionId, timeout);
         Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(message, endpointConfiguration, context);
 
+        if (StringUtils.hasText(sessionId)) {
+            receivedMessage.setHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID, sessionId);
+        }
+
         LOG.info("Received Web Socket message");
         context.onInboundMessage(receivedMessage);
 
@@ -64,31 +75,41 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     }
 
     /**
-     * Receive web socket message by polling on web socket handler for incoming message.
+     * Extracts web socket session id from message selector. Web socket consumers only support selecting messages by session id.
+     * @param selector
+     * @param context
+     * @return the session id or null when no selector is given.
+     */
+    private String getSessionId(String selector, TestContext context) {
+        if (!StringUtils.hasText(selector)) {
+            return null;
+        }
+
+        Map<String, String> selectorMap = MessageSelectorBuilder.withString(context.replaceDynamicContentInString(selector)).toKeyValueMap();
+        if (selectorMap.size() != 1 || !selectorMap.containsKey(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID)) {
+            throw new CitrusRuntimeException(String.format("Unsupported message selector '%s' - Web Socket consumer only supports selection by '%s'",
+                    selector, WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID));
+        }
+
+        return selectorMap.get(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID);
+    }
+
+    /**
+     * Receive web socket message by waiting on web socket handler for incoming message.
      * @param config
+     * @param sessionId
      * @param timeout
      * @return
      */
-    private WebSocketMessage<?> receive(WebSocketEndpointConfiguration config, long timeout) {
-        long timeLeft = timeout;
-
-        WebSocketMessage<?> message = config.getHandler().getMessage();
+    private WebSocketMessage<?> receive(WebSocketEndpointConfiguration config, String sessionId, long timeout) {
         String path = endpointConfiguration.getEndpointUri();
-        while (message == null && timeLeft > 0) {
-            timeLeft -= endpointConfiguration.getPollingInterval();
-            long sleep = timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft;
-            if (LOG.isDebugEnabled()) {
-                String msg = "Waiting for message on '%s' - retrying in %s ms";
-                LOG.debug(String.format(msg, path, (sleep)));
-            }
-
-            try {
-                Thread.sleep(sleep);
-            } catch (InterruptedException e) {
-                LOG.warn(String.format("Thread interrupted while waiting for message on '%s'", path), e);
-            }
-
-            message = config.getHandler().getMessage();
+
+        WebSocketMessage<?> message;
+        try {
+            message = config.getHandler().getMessage(sessionId, timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(String.format("Thread interrupted while waiting for message on '%s'", path), e);
         }
 
         if (message == null) {
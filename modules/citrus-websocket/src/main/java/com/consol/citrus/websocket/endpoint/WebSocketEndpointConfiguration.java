@@ -76,4 +76,28 @@ public interface WebSocketEndpointConfiguration extends PollableEndpointConfigur
      * @param endpointUriResolver the endpointUriResolver to set
      */
     void setEndpointUriResolver(EndpointUriResolver endpointUriResolver);
+
+    /**
+     * Gets the inbound message buffer capacity per web socket session.
+     * @return
+     */
+    int getQueueCapacity();
+
+    /**
+     * Sets the inbound message buffer capacity per web socket session.
+     * @param queueCapacity
+     */
+    void setQueueCapacity(int queueCapacity);
+
+    /**
+     * Gets the time in milliseconds to wait for free inbound buffer space before messages get dropped.
+     * @return
+     */
+    long getBackPressureTimeout();
+
+    /**
+     * Sets the time in milliseconds to wait for free inbound buffer space before messages get dropped.
+     * @param backPressureTimeout
+     */
+    void setBackPressureTimeout(long backPressureTimeout);
 }
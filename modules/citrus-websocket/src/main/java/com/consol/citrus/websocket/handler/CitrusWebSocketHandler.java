@@ -22,13 +22,16 @@ import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Queue;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Web Socket Handler for handling incoming and sending outgoing Web Socket messages
+ * Web Socket Handler for handling incoming and sending outgoing Web Socket messages. Inbound messages are buffered
+ * per session in bounded queues. Container threads delivering messages block when the session buffer is full
+ * (back-pressure) and drop the message when no space gets available within the back-pressure timeout.
  *
  * @author Martin Maher
  * @since 2.3
@@ -37,11 +40,56 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(CitrusWebSocketHandler.class);
 
-    /** Inbound message cache */
-    private final Queue<WebSocketMessage<?>> inboundMessages = new LinkedList<>();
+    /** Default capacity of inbound message buffer per session */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    /** Default time to wait for free buffer space before inbound messages are dropped */
+    public static final long DEFAULT_BACK_PRESSURE_TIMEOUT = 5000L;
+
+    /** Inbound message buffers per session */
+    private final Map<String, Deque<WebSocketMessage<?>>> inboundMessages = new HashMap<>();
+
+    /** Session ids in order of message arrival */
+    private final Deque<String> arrivals = new ArrayDeque<>();
+
+    /** Lock guarding inbound message buffers */
+    private final ReentrantLock inboundLock = new ReentrantLock();
+    private final Condition notEmpty = inboundLock.newCondition();
+    private final Condition notFull = inboundLock.newCondition();
 
     /** Web socket sessions */
-    private final Map<String, WebSocketSession> sessions = new HashMap<>();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    /** Maximum number of buffered inbound messages per session */
+    private final int queueCapacity;
+
+    /** Time to wait for free buffer space */
+    private long backPressureTimeout = DEFAULT_BACK_PRESSURE_TIMEOUT;
+
+    /**
+     * Default constructor.
+     */
+    public CitrusWebSocketHandler() {
+        this(DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructor using inbound message buffer capacity per session.
+     * @param queueCapacity
+     */
+    public CitrusWebSocketHandler(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Constructor using inbound message buffer capacity per session and back-pressure timeout in milliseconds.
+     * @param queueCapacity
+     * @param backPressureTimeout
+     */
+    public CitrusWebSocketHandler(int queueCapacity, long backPressureTimeout) {
+        this.queueCapacity = queueCapacity;
+        this.backPressureTimeout = backPressureTimeout;
+    }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -52,19 +100,19 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received text message", session.getId()));
-        inboundMessages.add(message);
+        addMessage(session.getId(), message);
     }
 
     @Override
     protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received binary message", session.getId()));
-        inboundMessages.add(message);
+        addMessage(session.getId(), message);
     }
 
     @Override
     protected void handlePongMessage(WebSocketSession session, PongMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received pong message", session.getId()));
-        inboundMessages.add(message);
+        addMessage(session.getId(), message);
     }
 
     @Override
@@ -76,6 +124,45 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
         LOG.debug(String.format("WebSocket session (%s) closed - status : %s", session.getId(), status));
         sessions.remove(session.getId());
+
+        inboundLock.lock();
+        try {
+            Deque<WebSocketMessage<?>> buffer = inboundMessages.get(session.getId());
+            if (buffer != null && buffer.isEmpty()) {
+                inboundMessages.remove(session.getId());
+            }
+        } finally {
+            inboundLock.unlock();
+        }
+    }
+
+    /**
+     * Adds inbound message to session buffer. Blocks while session buffer is full until back-pressure timeout is reached.
+     * @param sessionId
+     * @param message
+     * @throws InterruptedException
+     */
+    private void addMessage(String sessionId, WebSocketMessage<?> message) throws InterruptedException {
+        long nanos = TimeUnit.MILLISECONDS.toNanos(backPressureTimeout);
+
+        inboundLock.lockInterruptibly();
+        try {
+            Deque<WebSocketMessage<?>> buffer = inboundMessages.computeIfAbsent(sessionId, id -> new ArrayDeque<>());
+            while (buffer.size() >= queueCapacity) {
+                if (nanos <= 0) {
+                    LOG.warn(String.format("WebSocket session (%s) inbound buffer is full (capacity %s) - dropped message", sessionId, queueCapacity));
+                    return;
+                }
+
+                nanos = notFull.awaitNanos(nanos);
+            }
+
+            buffer.add(message);
+            arrivals.add(sessionId);
+            notEmpty.signalAll();
+        } finally {
+            inboundLock.unlock();
+        }
     }
 
     /**
@@ -83,7 +170,130 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
      * @return
      */
     public WebSocketMessage<?> getMessage() {
-        return inboundMessages.poll();
+        inboundLock.lock();
+        try {
+            return pollMessage(null);
+        } finally {
+            inboundLock.unlock();
+        }
+    }
+
+    /**
+     * Receives next message from any session waiting for given time in milliseconds.
+     * @param timeout
+     * @return the message or null when timeout is reached.
+     * @throws InterruptedException
+     */
+    public WebSocketMessage<?> getMessage(long timeout) throws InterruptedException {
+        return getMessage(null, timeout);
+    }
+
+    /**
+     * Receives next message from given session waiting for given time in milliseconds. When session id is empty
+     * next message of any session is returned.
+     * @param sessionId
+     * @param timeout
+     * @return the message or null when timeout is reached.
+     * @throws InterruptedException
+     */
+    public WebSocketMessage<?> getMessage(String sessionId, long timeout) throws InterruptedException {
+        long nanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        inboundLock.lockInterruptibly();
+        try {
+            WebSocketMessage<?> message = pollMessage(sessionId);
+            while (message == null) {
+                if (nanos <= 0) {
+                    return null;
+                }
+
+                nanos = notEmpty.awaitNanos(nanos);
+                message = pollMessage(sessionId);
+            }
+
+            return message;
+        } finally {
+            inboundLock.unlock();
+        }
+    }
+
+    /**
+     * Polls next message from given session or any session when session id is empty. Caller must hold the inbound lock.
+     * @param sessionId
+     * @return
+     */
+    private WebSocketMessage<?> pollMessage(String sessionId) {
+        while (true) {
+            String source = sessionId;
+            if (source == null) {
+                source = arrivals.poll();
+                if (source == null) {
+                    return null;
+                }
+            } else if (!arrivals.removeFirstOccurrence(source)) {
+                return null;
+            }
+
+            Deque<WebSocketMessage<?>> buffer = inboundMessages.get(source);
+            WebSocketMessage<?> message = buffer != null ? buffer.poll() : null;
+            if (buffer != null && buffer.isEmpty() && !sessions.containsKey(source)) {
+                inboundMessages.remove(source);
+            }
+
+            if (message != null) {
+                notFull.signalAll();
+                return message;
+            }
+
+            LOG.debug(String.format("Skip stale message arrival for WebSocket session (%s)", source));
+        }
+    }
+
+    /**
+     * Gets the number of buffered inbound messages for given session.
+     * @param sessionId
+     * @return
+     */
+    public int getBufferedMessageCount(String sessionId) {
+        inboundLock.lock();
+        try {
+            Deque<WebSocketMessage<?>> buffer = inboundMessages.get(sessionId);
+            return buffer != null ? buffer.size() : 0;
+        } finally {
+            inboundLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the ids of all open sessions known to this handler.
+     * @return
+     */
+    public Set<String> getSessionIds() {
+        return Collections.unmodifiableSet(sessions.keySet());
+    }
+
+    /**
+     * Sets the time in milliseconds to wait for free inbound buffer space before messages get dropped.
+     * @param backPressureTimeout
+     */
+    public void setBackPressureTimeout(long backPressureTimeout) {
+        this.backPressureTimeout = backPressureTimeout;
+    }
+
+    /**
+     * Gets the time in milliseconds to wait for free inbound buffer space before messages get dropped.
+     * @return
+     */
+    public long getBackPressureTimeout() {
+        return backPressureTimeout;
+    }
+
+    /**
+     * Gets the inbound message buffer capacity per session.
+     * @return
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
     }
 
     /**
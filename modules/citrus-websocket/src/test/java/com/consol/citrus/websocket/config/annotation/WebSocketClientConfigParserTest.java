@@ -52,6 +52,8 @@ public class WebSocketClientConfigParserTest extends AbstractTestNGUnitTest {
     @CitrusEndpoint
     @WebSocketClientConfig(requestUrl = "ws://localhost:8080/test",
             pollingInterval=250,
+            queueCapacity=50,
+            backPressureTimeout=1000L,
             actor="testActor")
     private WebSocketClient webSocketClient3;
 
@@ -97,5 +99,7 @@ public class WebSocketClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(webSocketClient3.getActor(), testActor);
         Assert.assertEquals(webSocketClient3.getEndpointConfiguration().getEndpointUri(), "ws://localhost:8080/test");
         Assert.assertEquals(webSocketClient3.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertEquals(webSocketClient3.getEndpointConfiguration().getQueueCapacity(), 50);
+        Assert.assertEquals(webSocketClient3.getEndpointConfiguration().getBackPressureTimeout(), 1000L);
     }
 }
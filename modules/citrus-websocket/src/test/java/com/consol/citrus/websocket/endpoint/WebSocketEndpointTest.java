@@ -19,9 +19,11 @@ package com.consol.citrus.websocket.endpoint;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.messaging.SelectiveConsumer;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
 import com.consol.citrus.websocket.message.WebSocketMessage;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import com.consol.citrus.websocket.server.WebSocketServerEndpointConfiguration;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
@@ -30,6 +32,8 @@ import org.springframework.web.socket.*;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.*;
+
 import static org.mockito.Mockito.*;
 
 public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
@@ -166,4 +170,80 @@ public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
         }
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testWebSocketEndpointSessionSelector() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+        endpointConfiguration.setTimeout(1000L);
+
+        reset(session, session2);
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+
+        handler.handleMessage(session, new TextMessage("Hello from 1"));
+        handler.handleMessage(session2, new TextMessage("Hello from 2"));
+        handler.handleMessage(session, new TextMessage("Bye from 1"));
+
+        Assert.assertEquals(handler.getBufferedMessageCount("test-socket-1"), 2L);
+        Assert.assertEquals(handler.getBufferedMessageCount("test-socket-2"), 1L);
+
+        SelectiveConsumer consumer = webSocketEndpoint.createConsumer();
+        Message received = consumer.receive(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID + " = 'test-socket-2'", context);
+        Assert.assertEquals(received.getPayload(String.class), "Hello from 2");
+        Assert.assertEquals(received.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-2");
+
+        received = consumer.receive(context);
+        Assert.assertEquals(received.getPayload(String.class), "Hello from 1");
+        received = consumer.receive(context);
+        Assert.assertEquals(received.getPayload(String.class), "Bye from 1");
+
+        try {
+            consumer.receive(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID + " = 'test-socket-2'", context, 200L);
+            Assert.fail("Missing timeout exception on web socket endpoint");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains("/test"));
+        }
+    }
+
+    @Test
+    public void testWebSocketEndpointBlockingReceive() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        final CitrusWebSocketHandler handler = new CitrusWebSocketHandler(1);
+        handler.setBackPressureTimeout(5000L);
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+        handler.afterConnectionEstablished(session);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> delivery = executor.submit(() -> {
+                for (int i = 1; i <= 3; i++) {
+                    handler.handleMessage(session, new TextMessage("Message " + i));
+                }
+                return null;
+            });
+
+            for (int i = 1; i <= 3; i++) {
+                Message received = webSocketEndpoint.createConsumer().receive(context, 5000L);
+                Assert.assertEquals(received.getPayload(String.class), "Message " + i);
+            }
+
+            delivery.get(5000L, TimeUnit.MILLISECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
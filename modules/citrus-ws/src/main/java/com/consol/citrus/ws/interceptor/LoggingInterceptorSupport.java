@@ -18,7 +18,7 @@ package com.consol.citrus.ws.interceptor;
 
 import com.consol.citrus.message.RawMessage;
 import com.consol.citrus.report.MessageListeners;
-import com.consol.citrus.util.XMLUtils;
+import com.consol.citrus.util.LogPayload;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +30,7 @@ import org.springframework.xml.transform.TransformerObjectSupport;
 import javax.xml.transform.*;
 import javax.xml.transform.stream.StreamResult;
 import java.io.*;
+import java.util.function.Supplier;
 
 /**
  * Abstract logging support class offers basic log methods for SOAP messages.
@@ -60,6 +61,10 @@ public abstract class LoggingInterceptorSupport extends TransformerObjectSupport
      * @throws TransformerException
      */
     protected void logRequest(String logMessage, MessageContext messageContext, boolean incoming) throws TransformerException {
+        if (!isLoggingEnabled()) {
+            return;
+        }
+
         if (messageContext.getRequest() instanceof SoapMessage) {
             logSoapMessage(logMessage, (SoapMessage) messageContext.getRequest(), incoming);
         } else {
@@ -77,7 +82,7 @@ public abstract class LoggingInterceptorSupport extends TransformerObjectSupport
      * @throws TransformerException
      */
     protected void logResponse(String logMessage, MessageContext messageContext, boolean incoming) throws TransformerException {
-        if (messageContext.hasResponse()) {
+        if (messageContext.hasResponse() && isLoggingEnabled()) {
             if (messageContext.getResponse() instanceof SoapMessage) {
                 logSoapMessage(logMessage, (SoapMessage) messageContext.getResponse(), incoming);
             } else {
@@ -87,7 +92,16 @@ public abstract class LoggingInterceptorSupport extends TransformerObjectSupport
     }
     
     /**
-     * Log SOAP message with transformer instance.
+     * Checks if message content is consumed by message listeners or debug logger. Skips message serialization otherwise.
+     * @return
+     */
+    protected boolean isLoggingEnabled() {
+        return (messageListener != null && !messageListener.isEmpty()) || log.isDebugEnabled();
+    }
+
+    /**
+     * Log SOAP message with transformer instance. Pretty printing is postponed until the message content is
+     * actually read by a listener or logger.
      * 
      * @param logMessage the customized log message.
      * @param soapMessage the message content as SOAP envelope source.
@@ -99,7 +113,9 @@ public abstract class LoggingInterceptorSupport extends TransformerObjectSupport
         StringWriter writer = new StringWriter();
         
         transformer.transform(soapMessage.getEnvelope().getSource(), new StreamResult(writer));
-        logMessage(logMessage, XMLUtils.prettyPrint(writer.toString()), incoming);
+
+        String content = writer.toString();
+        logMessage(logMessage, () -> LogPayload.formatXml(content), incoming);
     }
     
     /**
@@ -129,6 +145,17 @@ public abstract class LoggingInterceptorSupport extends TransformerObjectSupport
      * @param incoming
      */
     protected void logMessage(String logMessage, String message, boolean incoming) {
+        logMessage(logMessage, () -> message, incoming);
+    }
+
+    /**
+     * Performs the final logger call with dynamic message. Message content is created lazily by the given supplier.
+     *
+     * @param logMessage a custom log message entry.
+     * @param message the message content supplier.
+     * @param incoming
+     */
+    protected void logMessage(String logMessage, Supplier<String> message, boolean incoming) {
         if (messageListener != null) {
             log.debug(logMessage);
 
@@ -138,9 +165,7 @@ public abstract class LoggingInterceptorSupport extends TransformerObjectSupport
                 messageListener.onOutboundMessage(new RawMessage(message), null);
             }
         } else {
-            if (log.isDebugEnabled()) {
-                log.debug(logMessage + ":" + System.getProperty("line.separator") + message);
-            }
+            log.debug("{}:{}{}", logMessage, System.getProperty("line.separator"), LogPayload.of(message));
         }
     }
     
@@ -153,7 +178,7 @@ public abstract class LoggingInterceptorSupport extends TransformerObjectSupport
     private Transformer createIndentingTransformer() throws TransformerConfigurationException {
         Transformer transformer = createTransformer();
         transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.setOutputProperty(OutputKeys.INDENT, LogPayload.isFormattingEnabled() ? "yes" : "no");
         return transformer;
     }
 